@@ -10,10 +10,13 @@ import com.linkedin.venice.utils.ComplementSet;
 import com.linkedin.venice.utils.ConcurrentRef;
 import com.linkedin.venice.utils.ReferenceCounted;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -29,8 +32,11 @@ public class StoreBackend {
   private final ComplementSet<Integer> subscription = ComplementSet.emptySet();
   private final ConcurrentRef<VersionBackend> daVinciCurrentVersionRef = new ConcurrentRef<>(this::deleteVersion);
   private final AvroStoreDeserializerCache storeDeserializerCache;
+  private final List<BiConsumer<VersionBackend, VersionBackend>> preSwapHooks = new CopyOnWriteArrayList<>();
   private VersionBackend daVinciCurrentVersion;
   private VersionBackend daVinciFutureVersion;
+  // Completed once the pre-swap hooks of the Da Vinci future version have run, null if they have not been started yet
+  private CompletableFuture<Void> daVinciFutureVersionPreSwap;
 
   StoreBackend(DaVinciBackend backend, String storeName) {
     LOGGER.info("Opening local store {}", storeName);
@@ -119,8 +125,23 @@ public class StoreBackend {
     stats.recordCurrentVersion(version);
   }
 
+  /**
+   * Registers a hook which is invoked with the current and the future version once the future version is ready to
+   * serve, before it becomes the current one. The hooks run on the backend executor, without holding the lock of this
+   * store backend, and the swap happens once they have completed, so the current version keeps serving meanwhile. A
+   * failing hook does not prevent the swap.
+   */
+  public void addPreSwapHook(BiConsumer<VersionBackend, VersionBackend> hook) {
+    preSwapHooks.add(hook);
+  }
+
+  public void removePreSwapHook(BiConsumer<VersionBackend, VersionBackend> hook) {
+    preSwapHooks.remove(hook);
+  }
+
   private void setDaVinciFutureVersion(VersionBackend version) {
     daVinciFutureVersion = version;
+    daVinciFutureVersionPreSwap = null;
     stats.recordFutureVersion(version);
   }
 
@@ -314,6 +335,9 @@ public class StoreBackend {
        */
       if (daVinciFutureVersion.isReadyToServe(subscription) && !isDaVinciFutureVersionInvalid
           && daVinciFutureVersionNumber <= veniceCurrentVersionNumber) {
+        if (!tryRunPreSwapHooks()) {
+          return;
+        }
         LOGGER.info("Ready to serve partitions " + subscription + " of " + daVinciFutureVersion);
         swapCurrentVersion();
         trySubscribeDaVinciFutureVersion();
@@ -357,6 +381,44 @@ public class StoreBackend {
     version.delete();
   }
 
+  /**
+   * Starts running the pre-swap hooks of the future version on the backend executor, unless they have already been
+   * started, and tries the swap again once they have completed.
+   *
+   * @return whether the hooks of the future version have completed, meaning it can become the current version.
+   */
+  private boolean tryRunPreSwapHooks() {
+    if (preSwapHooks.isEmpty() || daVinciFutureVersionPreSwap != null && daVinciFutureVersionPreSwap.isDone()) {
+      return true;
+    }
+    if (daVinciFutureVersionPreSwap == null) {
+      VersionBackend currentVersion = daVinciCurrentVersion;
+      VersionBackend futureVersion = daVinciFutureVersion;
+      CompletableFuture<Void> preSwap = new CompletableFuture<>();
+      daVinciFutureVersionPreSwap = preSwap;
+      LOGGER.info("Running pre-swap hooks of " + futureVersion + ", currentVersion=" + currentVersion);
+      backend.getExecutor().execute(() -> {
+        try {
+          runPreSwapHooks(currentVersion, futureVersion);
+        } finally {
+          preSwap.complete(null);
+        }
+        trySwapDaVinciCurrentVersion(null);
+      });
+    }
+    return false;
+  }
+
+  private void runPreSwapHooks(VersionBackend currentVersion, VersionBackend futureVersion) {
+    for (BiConsumer<VersionBackend, VersionBackend> hook: preSwapHooks) {
+      try {
+        hook.accept(currentVersion, futureVersion);
+      } catch (Exception e) {
+        LOGGER.warn("Pre-swap hook failed for " + futureVersion + ", currentVersion=" + currentVersion, e);
+      }
+    }
+  }
+
   private void swapCurrentVersion() {
     VersionBackend version = daVinciFutureVersion;
     setDaVinciFutureVersion(null);
@@ -206,6 +206,50 @@ public class VersionBackend {
         compressor.get());
   }
 
+  /**
+   * Reads all the given keys, which must belong to {@param userPartition}, with one batched storage lookup.
+   *
+   * @return one entry per key, in the same order as {@param keyBytesList}, which is null when the key is absent.
+   */
+  public <V> List<V> multiRead(
+      int userPartition,
+      List<byte[]> keyBytesList,
+      AbstractAvroChunkingAdapter<V> chunkingAdaptor,
+      StoreDeserializerCache<V> storeDeserializerCache,
+      int readerSchemaId,
+      BinaryDecoder binaryDecoder,
+      ByteBuffer reusableRawValue) {
+    int amplificationFactor = version.getPartitionerConfig() == null
+        ? 1
+        : version.getPartitionerConfig().getAmplificationFactor();
+    if (amplificationFactor > 1) {
+      // Keys of the same user partition may live in different sub-partitions, so fall back to individual lookups
+      List<V> values = new ArrayList<>(keyBytesList.size());
+      for (byte[] keyBytes: keyBytesList) {
+        values.add(
+            read(
+                userPartition,
+                keyBytes,
+                chunkingAdaptor,
+                storeDeserializerCache,
+                readerSchemaId,
+                binaryDecoder,
+                reusableRawValue,
+                null));
+      }
+      return values;
+    }
+    return chunkingAdaptor.multiGet(
+        getStorageEngineOrThrow(),
+        userPartition,
+        keyBytesList,
+        binaryDecoder,
+        version.isChunkingEnabled(),
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor.get());
+  }
+
   public GenericRecord compute(
       int userPartition,
       byte[] keyBytes,
@@ -14,6 +14,9 @@ import static com.linkedin.venice.ConfigKeys.INGESTION_MEMORY_LIMIT;
 import static com.linkedin.venice.ConfigKeys.INGESTION_USE_DA_VINCI_CLIENT;
 import static com.linkedin.venice.ConfigKeys.KAFKA_ADMIN_CLASS;
 import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
+import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_MODE;
+import static com.linkedin.venice.ConfigKeys.SERVER_IN_MEMORY_OFF_HEAP_STORAGE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
 import static com.linkedin.venice.client.store.ClientFactory.getTransportClient;
 import static org.apache.avro.Schema.Type.RECORD;
@@ -45,6 +48,8 @@ import com.linkedin.venice.compute.ComputeUtils;
 import com.linkedin.venice.controllerapi.D2ServiceDiscoveryResponse;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
+import com.linkedin.venice.meta.IngestionMode;
+import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
@@ -72,12 +77,16 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -132,9 +141,13 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
   private StoreBackend storeBackend;
   private static ReferenceCounted<DaVinciBackend> daVinciBackend;
   private ObjectCacheBackend cacheBackend;
+  // Only set when the object cache is configured to warm up new versions, see ObjectCacheConfig#setWarmUpKeyCount
+  private BiConsumer<VersionBackend, VersionBackend> cacheWarmUpHook;
   private static final Map<CharSequence, Schema> computeResultSchemaCache = new VeniceConcurrentHashMap<>();
 
   private final AbstractAvroChunkingAdapter<V> chunkingAdapter;
+  // Only set when this client is configured with its own read executor, see DaVinciConfig#readExecutorThreadCount
+  private ExecutorService readChunkExecutor;
 
   public AvroGenericDaVinciClient(
       DaVinciConfig daVinciConfig,
@@ -261,30 +274,49 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
   // code.
   private CompletableFuture<V> readFromLocalStorage(K key, V reusableValue) {
     try (ReferenceCounted<VersionBackend> versionRef = storeBackend.getDaVinciCurrentVersion()) {
-      VersionBackend versionBackend = versionRef.get();
-      byte[] keyBytes = keySerializer.serialize(key);
-      int partition = versionBackend.getPartition(keyBytes);
+      return readFromVersion(versionRef.get(), key, reusableValue);
+    }
+  }
 
-      if (isPartitionReadyToServe(versionBackend, partition)) {
-        ReusableObjects reusableObjects = REUSABLE_OBJECTS.get();
-        V value = versionBackend.read(
-            partition,
-            keyBytes,
-            getAvroChunkingAdapter(),
-            this.storeDeserializerCache,
-            versionBackend.getSupersetOrLatestValueSchemaId(),
-            reusableObjects.binaryDecoder,
-            reusableObjects.rawValue,
-            reusableValue);
-        return CompletableFuture.completedFuture(value);
-      }
+  private CompletableFuture<V> readFromVersion(VersionBackend versionBackend, K key, V reusableValue) {
+    byte[] keyBytes = keySerializer.serialize(key);
+    int partition = versionBackend.getPartition(keyBytes);
 
-      if (!isPartitionSubscribed(versionBackend, partition)) {
-        storeBackend.getStats().recordBadRequest();
-        throw new NonLocalAccessException(versionBackend.toString(), partition);
-      }
-      return CompletableFuture.completedFuture(null);
+    if (isPartitionReadyToServe(versionBackend, partition)) {
+      ReusableObjects reusableObjects = REUSABLE_OBJECTS.get();
+      V value = versionBackend.read(
+          partition,
+          keyBytes,
+          getAvroChunkingAdapter(),
+          this.storeDeserializerCache,
+          versionBackend.getSupersetOrLatestValueSchemaId(),
+          reusableObjects.binaryDecoder,
+          reusableObjects.rawValue,
+          reusableValue);
+      return CompletableFuture.completedFuture(value);
+    }
+
+    if (!isPartitionSubscribed(versionBackend, partition)) {
+      storeBackend.getStats().recordBadRequest();
+      throw new NonLocalAccessException(versionBackend.toString(), partition);
     }
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Loads the hottest keys of the current version's cache from the future version into the future version's cache,
+   * so that the first reads after the swap are served from the cache.
+   */
+  private void warmUpCache(VersionBackend currentVersion, VersionBackend futureVersion) {
+    if (currentVersion == null || !isReady()) {
+      return;
+    }
+    cacheBackend.warmUp(
+        currentVersion.getVersion(),
+        futureVersion.getVersion(),
+        daVinciConfig.getCacheConfig().getWarmUpKeyCount(),
+        (K key) -> readFromVersion(futureVersion, key, null).join(),
+        (k, executor) -> this.readFromLocalStorage(k, null));
   }
 
   @Override
@@ -338,6 +370,118 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     return this.daVinciConfig;
   }
 
+  // Visible for testing
+  Executor getReadChunkExecutor() {
+    return readChunkExecutor == null ? READ_CHUNK_EXECUTOR : readChunkExecutor;
+  }
+
+  /**
+   * Keys of a batch request which belong to the same partition, along with their serialized form.
+   */
+  private static class PartitionKeyGroup<K> {
+    private final int partition;
+    private final List<K> keys = new ArrayList<>();
+    private final List<byte[]> keyBytesList = new ArrayList<>();
+
+    private PartitionKeyGroup(int partition) {
+      this.partition = partition;
+    }
+  }
+
+  /**
+   * Serializes the keys and groups them by partition, with at most {@param maxGroupSize} keys per group. Fails the
+   * whole request if any of the partitions is not ready to serve, so that no key is silently left out.
+   */
+  private List<PartitionKeyGroup<K>> groupKeysByPartition(
+      VersionBackend versionBackend,
+      Set<K> keys,
+      int maxGroupSize) {
+    Map<Integer, PartitionKeyGroup<K>> currentGroups = new HashMap<>();
+    List<PartitionKeyGroup<K>> groups = new ArrayList<>();
+    for (K key: keys) {
+      byte[] keyBytes = getKeySerializer().serialize(key);
+      int partition = versionBackend.getPartition(keyBytes);
+      PartitionKeyGroup<K> group = currentGroups.get(partition);
+      if (group == null) {
+        if (!isPartitionReadyToServe(versionBackend, partition)) {
+          if (!isPartitionSubscribed(versionBackend, partition)) {
+            getStoreBackend().getStats().recordBadRequest();
+            throw new NonLocalAccessException(versionBackend.toString(), partition);
+          }
+          throw new VeniceClientException(
+              "Partition: " + partition + " for store version: " + versionBackend + " is not ready to serve");
+        }
+        group = new PartitionKeyGroup<>(partition);
+        currentGroups.put(partition, group);
+        groups.add(group);
+      }
+      group.keys.add(key);
+      group.keyBytesList.add(keyBytes);
+      if (group.keys.size() == maxGroupSize) {
+        // Full group, the next key of this partition starts a new one
+        currentGroups.remove(partition);
+      }
+    }
+    return groups;
+  }
+
+  /**
+   * Partition-aware batch read engine: every group of keys belonging to the same partition is read with a single
+   * storage lookup, and the groups are executed concurrently on {@link #getReadChunkExecutor()} when there is more
+   * than one of them. The version is retained until every group has been read, since the async reads outlive the
+   * reference held by the caller.
+   *
+   * @param recordConsumerSupplier is invoked once per group, so that the returned consumer may hold state which is
+   *                               not thread-safe. The consumer receives a null value for the keys which do not exist,
+   *                               and is invoked as soon as the group of the key has been read.
+   */
+  private <T> CompletableFuture<Void> readByPartitionGroups(
+      ReferenceCounted<VersionBackend> versionRef,
+      Set<K> keys,
+      AbstractAvroChunkingAdapter<T> chunkingAdapter,
+      StoreDeserializerCache<T> deserializerCache,
+      int readerSchemaId,
+      Supplier<BiConsumer<K, T>> recordConsumerSupplier) {
+    VersionBackend versionBackend = versionRef.get();
+    List<PartitionKeyGroup<K>> groups =
+        groupKeysByPartition(versionBackend, keys, getDaVinciConfig().getLargeBatchRequestSplitThreshold());
+
+    Consumer<PartitionKeyGroup<K>> groupReader = group -> {
+      ReusableObjects reusableObjects = REUSABLE_OBJECTS.get();
+      List<T> values = versionBackend.multiRead(
+          group.partition,
+          group.keyBytesList,
+          chunkingAdapter,
+          deserializerCache,
+          readerSchemaId,
+          reusableObjects.binaryDecoder,
+          reusableObjects.rawValue);
+      BiConsumer<K, T> recordConsumer = recordConsumerSupplier.get();
+      for (int i = 0; i < values.size(); i++) {
+        recordConsumer.accept(group.keys.get(i), values.get(i));
+      }
+    };
+
+    if (groups.size() <= 1) {
+      // Not worth the thread hop
+      groups.forEach(groupReader);
+      return CompletableFuture.completedFuture(null);
+    }
+    versionRef.retain();
+    CompletableFuture[] groupFutures = new CompletableFuture[groups.size()];
+    for (int i = 0; i < groups.size(); ++i) {
+      PartitionKeyGroup<K> group = groups.get(i);
+      try {
+        groupFutures[i] = CompletableFuture.runAsync(() -> groupReader.accept(group), getReadChunkExecutor());
+      } catch (RuntimeException e) {
+        // The groups which were already scheduled may still be reading, so the version is released once they are done
+        groupFutures[i] = new CompletableFuture<>();
+        groupFutures[i].completeExceptionally(e);
+      }
+    }
+    return CompletableFuture.allOf(groupFutures).whenComplete((ignored, throwable) -> versionRef.release());
+  }
+
   CompletableFuture<Map<K, V>> batchGetFromLocalStorage(Iterable<K> keys) {
     // expose underlying getAll functionality.
     Map<K, V> result = new VeniceConcurrentHashMap<>();
@@ -349,6 +493,22 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
       }
       int readerSchemaId = versionBackend.getSupersetOrLatestValueSchemaId();
 
+      if (getDaVinciConfig().isPartitionAwareBatchReadEnabled() && keys instanceof Set) {
+        BiConsumer<K, V> resultCollector = (key, value) -> {
+          if (value != null) {
+            // The result should only contain entries for the keys that have a value associated with them
+            result.put(key, value);
+          }
+        };
+        return readByPartitionGroups(
+            versionRef,
+            (Set<K>) keys,
+            getAvroChunkingAdapter(),
+            getStoreDeserializerCache(),
+            readerSchemaId,
+            () -> resultCollector).thenApply(ignored -> result);
+      }
+
       Consumer<Iterable<K>> keyArrayConsumer = keyList -> {
         ReusableObjects reusableObjects = REUSABLE_OBJECTS.get();
 
@@ -388,7 +548,7 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
         for (int cur = 0; cur < splits.size(); ++cur) {
           List<K> currentSplit = splits.get(cur);
           splitFutures[cur] =
-              CompletableFuture.runAsync(() -> keyArrayConsumer.accept(currentSplit), READ_CHUNK_EXECUTOR);
+              CompletableFuture.runAsync(() -> keyArrayConsumer.accept(currentSplit), getReadChunkExecutor());
         }
         CompletableFuture<Map<K, V>> resultFuture = new CompletableFuture<>();
         CompletableFuture.allOf(splitFutures).whenComplete((ignored, throwable) -> {
@@ -432,9 +592,53 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     }
   }
 
+  /**
+   * Only supported with {@link DaVinciConfig#isPartitionAwareBatchReadEnabled()}, in which case the records of each
+   * partition group are streamed as soon as the group has been read. The callback may be invoked concurrently from
+   * multiple threads, and always reads from local storage, bypassing the object cache.
+   */
   @Override
   public void streamingBatchGet(Set<K> keys, StreamingCallback<K, V> callback) throws VeniceClientException {
-    throw new VeniceUnsupportedOperationException("streamingBatchGet for DaVinci client");
+    if (!daVinciConfig.isPartitionAwareBatchReadEnabled()) {
+      throw new VeniceUnsupportedOperationException("streamingBatchGet for DaVinci client");
+    }
+    if (handleCallbackForEmptyKeySet(keys, callback)) {
+      return;
+    }
+
+    throwIfNotReady();
+    try (ReferenceCounted<VersionBackend> versionRef = storeBackend.getDaVinciCurrentVersion()) {
+      VersionBackend versionBackend = versionRef.get();
+      if (versionBackend == null) {
+        storeBackend.getStats().recordBadRequest();
+        callback.onCompletion(
+            Optional.of(new VeniceClientException("Da Vinci client is not subscribed, storeName=" + getStoreName())));
+        return;
+      }
+
+      readByPartitionGroups(
+          versionRef,
+          keys,
+          getAvroChunkingAdapter(),
+          storeDeserializerCache,
+          versionBackend.getSupersetOrLatestValueSchemaId(),
+          () -> callback::onRecordReceived).whenComplete((ignored, throwable) -> completeCallback(callback, throwable));
+    } catch (VeniceException e) {
+      callback.onCompletion(Optional.of(e));
+    }
+  }
+
+  private static void completeCallback(StreamingCallback callback, Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      throwable = throwable.getCause();
+    }
+    if (throwable == null) {
+      callback.onCompletion(Optional.empty());
+    } else if (throwable instanceof Exception) {
+      callback.onCompletion(Optional.of((Exception) throwable));
+    } else {
+      callback.onCompletion(Optional.of(new VeniceClientException(throwable)));
+    }
   }
 
   @Override
@@ -507,15 +711,47 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
         return;
       }
 
-      ReusableObjects reusableObjects = REUSABLE_OBJECTS.get();
       Schema valueSchema = computeRequestWrapper.getValueSchema();
       int valueSchemaId =
           getValueSchemaIdForComputeRequest(getStoreName(), valueSchema, daVinciBackend.get().getSchemaRepository());
+      Schema computeResultSchema = getComputeResultSchema(computeRequestWrapper);
+
+      if (daVinciConfig.isPartitionAwareBatchReadEnabled()) {
+        try {
+          readByPartitionGroups(
+              versionRef,
+              keys,
+              getGenericRecordChunkingAdapter(),
+              genericRecordStoreDeserializerCache,
+              valueSchemaId,
+              () -> {
+                // The shared context of compute operators is not thread-safe, so each group gets its own
+                Map<String, Object> groupContext = new HashMap<>();
+                return (key, valueRecord) -> {
+                  if (valueRecord == null) {
+                    callback.onRecordReceived(key, null);
+                    return;
+                  }
+                  GenericRecord computeResultValue = ComputeUtils.computeResult(
+                      computeRequestWrapper.getOperations(),
+                      computeRequestWrapper.getOperationResultFields(),
+                      groupContext,
+                      valueRecord,
+                      computeResultSchema);
+                  callback.onRecordReceived(key, new ComputeGenericRecord(computeResultValue, valueSchema));
+                };
+              }).whenComplete((ignored, throwable) -> completeCallback(callback, throwable));
+        } catch (VeniceException e) {
+          callback.onCompletion(Optional.of(e));
+        }
+        return;
+      }
+
+      ReusableObjects reusableObjects = REUSABLE_OBJECTS.get();
       GenericRecord reuseValueRecord =
           reusableObjects.reuseValueRecordMap.computeIfAbsent(valueSchema, k -> new GenericData.Record(valueSchema));
 
       Map<String, Object> globalContext = new HashMap<>();
-      Schema computeResultSchema = getComputeResultSchema(computeRequestWrapper);
 
       for (K key: keys) {
         byte[] keyBytes = keySerializer.serialize(key);
@@ -714,6 +950,21 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
         .put(INGESTION_ISOLATION_CONFIG_PREFIX + "." + INGESTION_MEMORY_LIMIT, -1) // Explicitly disable memory limiter
                                                                                    // in Isolated Process
         .build();
+    if (daVinciConfig.getStorageClass() == StorageClass.MEMORY) {
+      /**
+       * The off-heap memory of the in-memory storage engine cannot be handed over from an isolated ingestion process.
+       */
+      if (IngestionMode.valueOf(config.getString(SERVER_INGESTION_MODE, IngestionMode.BUILT_IN.toString()))
+          .equals(IngestionMode.ISOLATED)) {
+        throw new VeniceClientException(
+            "Storage class " + StorageClass.MEMORY + " does not support ingestion isolation, storeName="
+                + getStoreName());
+      }
+      config = new PropertyBuilder().put(config.toProperties())
+          .put(PERSISTENCE_TYPE, PersistenceType.IN_MEMORY)
+          .put(SERVER_IN_MEMORY_OFF_HEAP_STORAGE_ENABLED, true)
+          .build();
+    }
     logger.info("backendConfig=" + config.toString(true));
     return new VeniceConfigLoader(config, config);
   }
@@ -790,10 +1041,20 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
       }
 
       storeBackend = getBackend().getStoreOrThrow(getStoreName());
+      if (daVinciConfig.isCacheEnabled() && daVinciConfig.getCacheConfig().getWarmUpKeyCount() > 0) {
+        cacheWarmUpHook = this::warmUpCache;
+        storeBackend.addPreSwapHook(cacheWarmUpHook);
+      }
       if (managedClients.isPresent()) {
         storeBackend.setManaged(daVinciConfig.isManaged());
       }
 
+      if (daVinciConfig.getReadExecutorThreadCount() > 0) {
+        readChunkExecutor = Executors.newFixedThreadPool(
+            daVinciConfig.getReadExecutorThreadCount(),
+            new DaemonThreadFactory("DaVinci_Read_Chunk_Executor_" + getStoreName()));
+      }
+
       Schema keySchema = getBackend().getSchemaRepository().getKeySchema(getStoreName()).getSchema();
       this.keySerializer = FastSerializerDeserializerFactory.getFastAvroGenericSerializer(keySchema, false);
       this.keyDeserializer = FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(keySchema, keySchema);
@@ -822,9 +1083,17 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     try {
       logger.info("Closing client, storeName=" + getStoreName());
       ready.set(false);
+      if (cacheWarmUpHook != null) {
+        storeBackend.removePreSwapHook(cacheWarmUpHook);
+        cacheWarmUpHook = null;
+      }
       if (cacheBackend != null) {
         cacheBackend.close();
       }
+      if (readChunkExecutor != null) {
+        readChunkExecutor.shutdown();
+        readChunkExecutor = null;
+      }
       daVinciBackend.release();
       logger.info("Client is closed successfully, storeName=" + getStoreName());
     } catch (Throwable e) {
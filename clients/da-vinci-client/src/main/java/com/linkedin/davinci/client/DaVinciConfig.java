@@ -48,6 +48,20 @@ public class DaVinciConfig {
    */
   private int largeBatchRequestSplitThreshold = AvroGenericDaVinciClient.DEFAULT_CHUNK_SPLIT_THRESHOLD;
 
+  /**
+   * When enabled, the keys of batch-get, streaming batch-get and compute requests are grouped by partition, each group
+   * is looked up with a single multi-get against the storage engine, and the groups are executed concurrently.
+   * Groups are still capped at {@link #largeBatchRequestSplitThreshold} keys.
+   */
+  private boolean partitionAwareBatchReadEnabled = false;
+
+  /**
+   * Number of threads of the executor used to run the chunks of large batch requests. By default, all the clients in
+   * the process share a single executor sized by the number of available processors. A positive value gives this
+   * client its own executor, which isolates its batch requests from the ones of other stores.
+   */
+  private int readExecutorThreadCount = 0;
+
   public DaVinciConfig() {
   }
 
@@ -71,6 +85,10 @@ public class DaVinciConfig {
         .append(cacheConfig)
         .append(", largeBatchRequestSplitThreshold=")
         .append(largeBatchRequestSplitThreshold)
+        .append(", partitionAwareBatchReadEnabled=")
+        .append(partitionAwareBatchReadEnabled)
+        .append(", readExecutorThreadCount=")
+        .append(readExecutorThreadCount)
         .append("}");
     return sb.toString();
   }
@@ -152,4 +170,25 @@ public class DaVinciConfig {
     this.largeBatchRequestSplitThreshold = largeBatchRequestSplitThreshold;
     return this;
   }
+
+  public boolean isPartitionAwareBatchReadEnabled() {
+    return partitionAwareBatchReadEnabled;
+  }
+
+  public DaVinciConfig setPartitionAwareBatchReadEnabled(boolean partitionAwareBatchReadEnabled) {
+    this.partitionAwareBatchReadEnabled = partitionAwareBatchReadEnabled;
+    return this;
+  }
+
+  public int getReadExecutorThreadCount() {
+    return readExecutorThreadCount;
+  }
+
+  public DaVinciConfig setReadExecutorThreadCount(int readExecutorThreadCount) {
+    if (readExecutorThreadCount < 0) {
+      throw new IllegalArgumentException("'readExecutorThreadCount' param cannot be negative");
+    }
+    this.readExecutorThreadCount = readExecutorThreadCount;
+    return this;
+  }
 }
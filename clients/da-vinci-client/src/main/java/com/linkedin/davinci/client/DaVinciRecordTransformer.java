@@ -1,10 +1,22 @@
 package com.linkedin.davinci.client;
 
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.venice.annotation.Experimental;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.serializer.AvroSerializer;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.utils.SparseConcurrentList;
 import com.linkedin.venice.utils.lazy.Lazy;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import org.apache.avro.Schema;
+import org.apache.avro.generic.DeterministicMapOrderGenericDatumWriter;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.specific.DeterministicMapOrderSpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
 
 
 /**
@@ -18,6 +30,10 @@ import org.apache.avro.Schema;
  * N.B.: The inputs are wrapped inside {@link Lazy} so that if the implementation need not look at
  * them, the deserialization cost is not paid.
  *
+ * Implementations which only need a few fields of each record can avoid materializing Avro objects altogether by
+ * enabling {@link #isRawValueTransformationEnabled()}, in which case {@link #transformRawValue} is called with the
+ * raw value bytes instead of {@link #put}.
+ *
  * @param <K> type of the input key
  * @param <V> type of the input value
  * @param <O> type of the output value
@@ -29,6 +45,23 @@ public abstract class DaVinciRecordTransformer<K, V, O> {
    */
   private final int storeVersion;
 
+  /**
+   * Writers for the output value schema, which is not expected to change during the lifetime of the transformer.
+   */
+  private final Lazy<DatumWriter<Object>> genericOutputValueWriter =
+      Lazy.of(() -> new DeterministicMapOrderGenericDatumWriter<>(getValueOutputSchema()));
+  private final Lazy<DatumWriter<Object>> specificOutputValueWriter =
+      Lazy.of(() -> new DeterministicMapOrderSpecificDatumWriter<>(getValueOutputSchema()));
+
+  /**
+   * Deserializers used by the default {@link #transformRawValue}, the value ones indexed by value schema id.
+   */
+  private final Lazy<RecordDeserializer<K>> keyDeserializer = Lazy.of(() -> {
+    Schema keySchema = getKeyOutputSchema();
+    return FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(keySchema, keySchema);
+  });
+  private final SparseConcurrentList<RecordDeserializer<V>> valueDeserializers = new SparseConcurrentList<>();
+
   public DaVinciRecordTransformer(int storeVersion) {
     this.storeVersion = storeVersion;
   }
@@ -59,6 +92,67 @@ public abstract class DaVinciRecordTransformer<K, V, O> {
     return null;
   }
 
+  /**
+   * By default, records are deserialized and handed over to {@link #put}. This can be overridden to receive the raw
+   * value bytes in {@link #transformRawValue} instead, and to be notified of deletes through {@link #onRawDelete}.
+   *
+   * @return whether {@link #transformRawValue} should be used instead of {@link #put}
+   */
+  public boolean isRawValueTransformationEnabled() {
+    return false;
+  }
+
+  /**
+   * Transforms a record without deserializing it. This is only called if {@link #isRawValueTransformationEnabled()}
+   * returns true.
+   *
+   * By default, it deserializes the key with {@link #getKeyOutputSchema()} and the value with {@param valueSchema},
+   * hands them over to {@link #put}, and writes the returned object into {@param output}, so that an implementation
+   * only needs to override this for the records it can transform without deserializing them.
+   *
+   * None of the parameters may be retained after this function returns, since they are reused for the next record.
+   *
+   * @param key the serialized key
+   * @param value the decompressed and fully assembled value, without the schema header
+   * @param valueSchemaId the id of the schema the value was written with
+   * @param valueSchema the schema the value was written with
+   * @param decoder a reusable decoder, positioned at the beginning of {@param value}
+   * @param output an empty buffer into which the Avro binary encoding of the output value should be written, for
+   *               instance through {@link TransformedValueOutputBuffer#getEncoder()}
+   * @return true if the content of {@param output} should be kept in storage, or false if the put should be skipped
+   */
+  public boolean transformRawValue(
+      ByteBuffer key,
+      ByteBuffer value,
+      int valueSchemaId,
+      Schema valueSchema,
+      BinaryDecoder decoder,
+      TransformedValueOutputBuffer output) {
+    RecordDeserializer<V> valueDeserializer = valueDeserializers.computeIfAbsent(
+        valueSchemaId,
+        id -> FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(valueSchema, valueSchema));
+    O transformedValue = put(
+        Lazy.of(() -> keyDeserializer.get().deserialize(newBinaryDecoder(key))),
+        Lazy.of(() -> valueDeserializer.deserialize(decoder)));
+    if (transformedValue == null) {
+      return false;
+    }
+    writeOutputValue(transformedValue, output);
+    return true;
+  }
+
+  /**
+   * This function is called for every delete if {@link #isRawValueTransformationEnabled()} returns true. The delete
+   * always proceeds in storage.
+   *
+   * By default, it performs no operation.
+   *
+   * @param key the serialized key, which may not be retained after this function returns
+   */
+  public void onRawDelete(ByteBuffer key) {
+    return;
+  }
+
   /**
    * This function is called as a lifecycle event at the beginning of an ingestion task.
    * 
@@ -84,17 +178,56 @@ public abstract class DaVinciRecordTransformer<K, V, O> {
    * 
    * @param schema the Avro schema defining the serialization format
    * @param value value the value to be serialized
+   * @param valueSchemaId the id of the value schema to prepend to the serialized value
    * @return a ByteBuffer containing the serialized value wrapped according to Avro specifications
    */
-  public final ByteBuffer getValueBytes(Schema schema, V value) {
+  public final ByteBuffer getValueBytes(Schema schema, V value, int valueSchemaId) {
+    if (schema.equals(getValueOutputSchema())) {
+      TransformedValueOutputBuffer output = new TransformedValueOutputBuffer();
+      writeOutputValue(value, output);
+      return output.toByteBuffer(valueSchemaId);
+    }
     ByteBuffer transformedBytes = ByteBuffer.wrap(new AvroSerializer(schema).serialize(value));
     ByteBuffer newBuffer = ByteBuffer.allocate(Integer.BYTES + transformedBytes.remaining());
-    newBuffer.putInt(1);
+    newBuffer.putInt(valueSchemaId);
     newBuffer.put(transformedBytes);
     newBuffer.flip();
     return newBuffer;
   }
 
+  /**
+   * Serializes an output value with the {@link #getValueOutputSchema()} into a reusable buffer, without allocating a
+   * new serializer or an intermediate byte array.
+   *
+   * @param value the output value returned by {@link #put}
+   * @param output the buffer to append the serialized value to
+   */
+  public final void writeOutputValue(Object value, TransformedValueOutputBuffer output) {
+    DatumWriter<Object> writer =
+        value instanceof SpecificRecord ? specificOutputValueWriter.get() : genericOutputValueWriter.get();
+    BinaryEncoder encoder = output.getEncoder();
+    try {
+      writer.write(value, encoder);
+      encoder.flush();
+    } catch (IOException e) {
+      throw new VeniceException("Unable to serialize the transformed value", e);
+    }
+  }
+
+  /**
+   * @return a decoder positioned at the beginning of the remaining bytes of {@param buffer}, which are copied first
+   *         when the buffer has no accessible backing array, e.g. when it is direct.
+   */
+  private static BinaryDecoder newBinaryDecoder(ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      return AvroCompatibilityHelper
+          .newBinaryDecoder(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), null);
+    }
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return AvroCompatibilityHelper.newBinaryDecoder(bytes, 0, bytes.length, null);
+  }
+
   /**
    * 
    * @return the storeVersion
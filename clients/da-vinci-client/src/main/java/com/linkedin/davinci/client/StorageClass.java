@@ -20,5 +20,15 @@ public enum StorageClass {
    * 4. At serving time, all the read request will be served out of memory and internally, RocksDB in DaVinci is using
    * mmap to bring the on-disk data files into RAM.
    */
-  MEMORY_BACKED_BY_DISK
+  MEMORY_BACKED_BY_DISK,
+  /**
+   * The mode has the following implications:
+   * 1. Keep all the data in off-heap memory only, sorted by key, so nothing is kept on disk and the data has to be
+   * ingested again after each restart.
+   * 2. Application needs to have enough RAM to keep DaVinci databases fully in RAM, the same as
+   * {@link #MEMORY_BACKED_BY_DISK}, but the data doesn't add to the heap.
+   * 3. Point lookups don't go through any storage library, and key prefix scans only visit the matching entries.
+   * 4. This mode doesn't support ingestion isolation.
+   */
+  MEMORY
 }
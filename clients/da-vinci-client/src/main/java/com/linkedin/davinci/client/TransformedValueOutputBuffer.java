@@ -0,0 +1,108 @@
+package com.linkedin.davinci.client;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.apache.avro.io.BinaryEncoder;
+
+
+/**
+ * A growable, reusable buffer into which a {@link DaVinciRecordTransformer} writes the value to keep in storage.
+ *
+ * The buffer reserves room for the schema header at its beginning, so that its content can be handed over to the
+ * storage engine without any further copy. An instance is owned by a single ingestion thread and is reset before each
+ * record, so transformers must neither share it nor hold on to it, or to the {@link ByteBuffer} it returns, once
+ * the transformation call has returned.
+ */
+public class TransformedValueOutputBuffer extends OutputStream {
+  private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+  private byte[] buffer;
+  private int size;
+  private BinaryEncoder reusedEncoder;
+
+  public TransformedValueOutputBuffer() {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  public TransformedValueOutputBuffer(int initialCapacity) {
+    this.buffer = new byte[Math.max(initialCapacity, ValueRecord.SCHEMA_HEADER_LENGTH)];
+    this.size = ValueRecord.SCHEMA_HEADER_LENGTH;
+  }
+
+  /**
+   * Discards the content written so far, while keeping the underlying byte array for the next value.
+   */
+  public void reset() {
+    this.size = ValueRecord.SCHEMA_HEADER_LENGTH;
+  }
+
+  /**
+   * @return the number of value bytes written so far, excluding the schema header.
+   */
+  public int getValueSize() {
+    return size - ValueRecord.SCHEMA_HEADER_LENGTH;
+  }
+
+  /**
+   * @return a {@link BinaryEncoder} writing straight into this buffer, which is reused across records.
+   */
+  public BinaryEncoder getEncoder() {
+    reusedEncoder = AvroCompatibilityHelper.newBinaryEncoder(this, false, reusedEncoder);
+    return reusedEncoder;
+  }
+
+  @Override
+  public void write(int b) {
+    ensureCapacity(1);
+    buffer[size++] = (byte) b;
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) {
+    ensureCapacity(length);
+    System.arraycopy(bytes, offset, buffer, size, length);
+    size += length;
+  }
+
+  /**
+   * Copies the remaining bytes of {@param bytes} without changing its position.
+   */
+  public void write(ByteBuffer bytes) {
+    int length = bytes.remaining();
+    ensureCapacity(length);
+    if (bytes.hasArray()) {
+      System.arraycopy(bytes.array(), bytes.arrayOffset() + bytes.position(), buffer, size, length);
+    } else {
+      bytes.duplicate().get(buffer, size, length);
+    }
+    size += length;
+  }
+
+  /**
+   * @return a {@link ByteBuffer} backed by this buffer, starting with the schema header followed by the value bytes.
+   */
+  public ByteBuffer toByteBuffer(int schemaId) {
+    if (reusedEncoder != null) {
+      try {
+        reusedEncoder.flush();
+      } catch (IOException e) {
+        throw new VeniceException("Unable to flush the transformed value encoder", e);
+      }
+    }
+    ByteUtils.writeInt(buffer, schemaId, 0);
+    return ByteBuffer.wrap(buffer, 0, size);
+  }
+
+  private void ensureCapacity(int extraBytes) {
+    int requiredCapacity = size + extraBytes;
+    if (requiredCapacity > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(requiredCapacity, buffer.length * 2));
+    }
+  }
+}
@@ -37,10 +37,13 @@ import static com.linkedin.venice.ConfigKeys.META_STORE_WRITER_CLOSE_TIMEOUT_MS;
 import static com.linkedin.venice.ConfigKeys.MIN_CONSUMER_IN_CONSUMER_POOL_PER_KAFKA_CLUSTER;
 import static com.linkedin.venice.ConfigKeys.OFFSET_LAG_DELTA_RELAX_FACTOR_FOR_FAST_ONLINE_TRANSITION_IN_RESTART;
 import static com.linkedin.venice.ConfigKeys.PARTICIPANT_MESSAGE_CONSUMPTION_DELAY_MS;
+import static com.linkedin.venice.ConfigKeys.PUBSUB_TOPIC_MANAGER_BULK_OFFSET_REFRESH_ENABLED;
 import static com.linkedin.venice.ConfigKeys.PUBSUB_TOPIC_MANAGER_METADATA_FETCHER_CONSUMER_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.PUBSUB_TOPIC_MANAGER_METADATA_FETCHER_THREAD_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PRINCIPAL_NAME;
+import static com.linkedin.venice.ConfigKeys.SERVER_AA_BATCH_DCR_PREFETCH_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_BLOCKING_QUEUE_TYPE;
+import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_CONCURRENCY_LIMIT;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_FAST_AVRO_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_QUEUE_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_THREAD_NUM;
@@ -74,6 +77,8 @@ import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_APPLICAT
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_SERVICE_PORT;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_MODE;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_TASK_MAX_IDLE_COUNT;
+import static com.linkedin.venice.ConfigKeys.SERVER_IN_MEMORY_OFF_HEAP_CHUNK_SIZE_BYTES;
+import static com.linkedin.venice.ConfigKeys.SERVER_IN_MEMORY_OFF_HEAP_STORAGE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_CONSUMER_OFFSET_COLLECTION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_MAX_POLL_RECORDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_LEADER_COMPLETE_STATE_CHECK_IN_FOLLOWER_ENABLED;
@@ -83,6 +88,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_LEAKED_RESOURCE_CLEAN_UP_INT
 import static com.linkedin.venice.ConfigKeys.SERVER_LOCAL_CONSUMER_CONFIG_PREFIX;
 import static com.linkedin.venice.ConfigKeys.SERVER_MAX_REQUEST_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_MAX_WAIT_FOR_VERSION_INFO_MS_CONFIG;
+import static com.linkedin.venice.ConfigKeys.SERVER_MULTI_GET_CONCURRENCY_LIMIT;
 import static com.linkedin.venice.ConfigKeys.SERVER_NETTY_GRACEFUL_SHUTDOWN_PERIOD_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_NETTY_IDLE_TIME_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_NETTY_WORKER_THREADS;
@@ -99,10 +105,12 @@ import static com.linkedin.venice.ConfigKeys.SERVER_PROMOTION_TO_LEADER_REPLICA_
 import static com.linkedin.venice.ConfigKeys.SERVER_PUBSUB_CONSUMER_POLL_RETRY_BACKOFF_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_PUBSUB_CONSUMER_POLL_RETRY_TIMES;
 import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_EXECUTION_MODE;
 import static com.linkedin.venice.ConfigKeys.SERVER_RECORD_LEVEL_METRICS_WHEN_BOOTSTRAPPING_CURRENT_VERSION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_CONSUMER_CONFIG_PREFIX;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_INGESTION_REPAIR_SLEEP_INTERVAL_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_REST_SERVICE_EPOLL_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_REST_SERVICE_IO_URING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_REST_SERVICE_STORAGE_THREAD_NUM;
 import static com.linkedin.venice.ConfigKeys.SERVER_ROCKSDB_STORAGE_CONFIG_CHECK_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_ROUTER_CONNECTION_WARMING_DELAY_MS;
@@ -111,6 +119,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_SCHEMA_PRESENCE_CHECK_ENABLE
 import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_CONSUMER_ASSIGNMENT_STRATEGY;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_CONSUMER_NON_EXISTING_TOPIC_CLEANUP_DELAY_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHUTDOWN_DISK_UNHEALTHY_TIME_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_SINGLE_GET_CONCURRENCY_LIMIT;
 import static com.linkedin.venice.ConfigKeys.SERVER_SOURCE_TOPIC_OFFSET_CHECK_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SSL_HANDSHAKE_QUEUE_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.SERVER_SSL_HANDSHAKE_THREAD_POOL_SIZE;
@@ -149,6 +158,7 @@ import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.BlockingQueueType;
+import com.linkedin.venice.utils.concurrent.ReadExecutionMode;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Arrays;
@@ -271,6 +281,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final int topicManagerMetadataFetcherConsumerPoolSize;
   private final int topicManagerMetadataFetcherThreadPoolSize;
+  private final boolean topicManagerBulkOffsetRefreshEnabled;
 
   /**
    * Graceful shutdown period.
@@ -357,7 +368,12 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final int databaseLookupQueueCapacity;
   private final int computeQueueCapacity;
   private final BlockingQueueType blockingQueueType;
+  private final ReadExecutionMode readExecutionMode;
+  private final int singleGetConcurrencyLimit;
+  private final int multiGetConcurrencyLimit;
+  private final int computeConcurrencyLimit;
   private final boolean restServiceEpollEnabled;
+  private final boolean restServiceIoUringEnabled;
   private final String kafkaAdminClass;
   private final String kafkaWriteOnlyClass;
   private final String kafkaReadOnlyClass;
@@ -369,6 +385,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final boolean leakedResourceCleanupEnabled;
 
   private final IngestionMode ingestionMode;
+  private final boolean inMemoryOffHeapStorageEnabled;
+  private final int inMemoryOffHeapChunkSizeBytes;
   private final int ingestionServicePort;
   private final int ingestionApplicationPort;
   private final boolean databaseChecksumVerificationEnabled;
@@ -461,6 +479,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final int nonExistingTopicIngestionTaskKillThresholdSecond;
   private final int nonExistingTopicCheckRetryIntervalSecond;
   private final boolean dedicatedConsumerPoolForAAWCLeaderEnabled;
+  private final boolean aaBatchDcrPrefetchEnabled;
   private final int dedicatedConsumerPoolSizeForAAWCLeader;
   private final boolean useDaVinciSpecificExecutionStatusForError;
   private final boolean recordLevelMetricWhenBootstrappingCurrentVersionEnabled;
@@ -520,6 +539,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         PUBSUB_TOPIC_MANAGER_METADATA_FETCHER_CONSUMER_POOL_SIZE_DEFAULT_VALUE);
     this.topicManagerMetadataFetcherThreadPoolSize = serverProperties
         .getInt(PUBSUB_TOPIC_MANAGER_METADATA_FETCHER_THREAD_POOL_SIZE, topicManagerMetadataFetcherConsumerPoolSize);
+    this.topicManagerBulkOffsetRefreshEnabled =
+        serverProperties.getBoolean(PUBSUB_TOPIC_MANAGER_BULK_OFFSET_REFRESH_ENABLED, false);
     nettyGracefulShutdownPeriodSeconds = serverProperties.getInt(SERVER_NETTY_GRACEFUL_SHUTDOWN_PERIOD_SECONDS, 30);
     nettyWorkerThreadCount = serverProperties.getInt(SERVER_NETTY_WORKER_THREADS, 0);
     grpcWorkerThreadCount =
@@ -595,8 +616,24 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     } catch (IllegalArgumentException e) {
       throw new VeniceException("Valid blocking queue options: " + Arrays.toString(BlockingQueueType.values()));
     }
+    String readExecutionModeStr =
+        serverProperties.getString(SERVER_READ_EXECUTION_MODE, ReadExecutionMode.THREAD_POOL.name());
+    try {
+      readExecutionMode = ReadExecutionMode.valueOf(readExecutionModeStr);
+    } catch (IllegalArgumentException e) {
+      throw new VeniceException("Valid read execution modes: " + Arrays.toString(ReadExecutionMode.values()));
+    }
+    // By default, single gets and multi gets split the storage threads they share in the THREAD_POOL mode
+    int defaultSingleGetConcurrencyLimit = Math.max(1, restServiceStorageThreadNum / 2);
+    singleGetConcurrencyLimit =
+        serverProperties.getInt(SERVER_SINGLE_GET_CONCURRENCY_LIMIT, defaultSingleGetConcurrencyLimit);
+    multiGetConcurrencyLimit = serverProperties.getInt(
+        SERVER_MULTI_GET_CONCURRENCY_LIMIT,
+        Math.max(1, restServiceStorageThreadNum - defaultSingleGetConcurrencyLimit));
+    computeConcurrencyLimit = serverProperties.getInt(SERVER_COMPUTE_CONCURRENCY_LIMIT, serverComputeThreadNum);
 
     restServiceEpollEnabled = serverProperties.getBoolean(SERVER_REST_SERVICE_EPOLL_ENABLED, false);
+    restServiceIoUringEnabled = serverProperties.getBoolean(SERVER_REST_SERVICE_IO_URING_ENABLED, false);
     kafkaAdminClass = serverProperties.getString(KAFKA_ADMIN_CLASS, ApacheKafkaAdminAdapter.class.getName());
     kafkaWriteOnlyClass = serverProperties.getString(KAFKA_WRITE_ONLY_ADMIN_CLASS, kafkaAdminClass);
     kafkaReadOnlyClass = serverProperties.getString(KAFKA_READ_ONLY_ADMIN_CLASS, kafkaAdminClass);
@@ -628,6 +665,9 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
     ingestionMode =
         IngestionMode.valueOf(serverProperties.getString(SERVER_INGESTION_MODE, IngestionMode.BUILT_IN.toString()));
+    inMemoryOffHeapStorageEnabled = serverProperties.getBoolean(SERVER_IN_MEMORY_OFF_HEAP_STORAGE_ENABLED, false);
+    inMemoryOffHeapChunkSizeBytes =
+        (int) serverProperties.getSizeInBytes(SERVER_IN_MEMORY_OFF_HEAP_CHUNK_SIZE_BYTES, 1024 * 1024);
     ingestionServicePort = serverProperties.getInt(SERVER_INGESTION_ISOLATION_SERVICE_PORT, 27015);
     ingestionApplicationPort = serverProperties.getInt(SERVER_INGESTION_ISOLATION_APPLICATION_PORT, 27016);
     databaseChecksumVerificationEnabled =
@@ -759,6 +799,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         .getLong(SERVER_LEADER_COMPLETE_STATE_CHECK_IN_FOLLOWER_VALID_INTERVAL_MS, TimeUnit.MINUTES.toMillis(5));
     dedicatedConsumerPoolForAAWCLeaderEnabled =
         serverProperties.getBoolean(SERVER_DEDICATED_CONSUMER_POOL_FOR_AA_WC_LEADER_ENABLED, false);
+    aaBatchDcrPrefetchEnabled = serverProperties.getBoolean(SERVER_AA_BATCH_DCR_PREFETCH_ENABLED, false);
     dedicatedConsumerPoolSizeForAAWCLeader =
         serverProperties.getInt(SERVER_DEDICATED_CONSUMER_POOL_SIZE_FOR_AA_WC_LEADER, 5);
     useDaVinciSpecificExecutionStatusForError =
@@ -1004,6 +1045,22 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return blockingQueueType;
   }
 
+  public ReadExecutionMode getReadExecutionMode() {
+    return readExecutionMode;
+  }
+
+  public int getSingleGetConcurrencyLimit() {
+    return singleGetConcurrencyLimit;
+  }
+
+  public int getMultiGetConcurrencyLimit() {
+    return multiGetConcurrencyLimit;
+  }
+
+  public int getComputeConcurrencyLimit() {
+    return computeConcurrencyLimit;
+  }
+
   public boolean isComputeFastAvroEnabled() {
     return computeFastAvroEnabled;
   }
@@ -1056,6 +1113,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return restServiceEpollEnabled;
   }
 
+  public boolean isRestServiceIoUringEnabled() {
+    return restServiceIoUringEnabled;
+  }
+
   public String getKafkaAdminClass() {
     return kafkaAdminClass;
   }
@@ -1096,6 +1157,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return ingestionMode;
   }
 
+  public boolean isInMemoryOffHeapStorageEnabled() {
+    return inMemoryOffHeapStorageEnabled;
+  }
+
+  public int getInMemoryOffHeapChunkSizeBytes() {
+    return inMemoryOffHeapChunkSizeBytes;
+  }
+
   public int getIngestionServicePort() {
     return ingestionServicePort;
   }
@@ -1340,6 +1409,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return dedicatedConsumerPoolForAAWCLeaderEnabled;
   }
 
+  public boolean isAaBatchDcrPrefetchEnabled() {
+    return aaBatchDcrPrefetchEnabled;
+  }
+
   public int getDedicatedConsumerPoolSizeForAAWCLeader() {
     return dedicatedConsumerPoolSizeForAAWCLeader;
   }
@@ -1352,6 +1425,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return topicManagerMetadataFetcherThreadPoolSize;
   }
 
+  public boolean isTopicManagerBulkOffsetRefreshEnabled() {
+    return topicManagerBulkOffsetRefreshEnabled;
+  }
+
   public boolean useDaVinciSpecificExecutionStatusForError() {
     return useDaVinciSpecificExecutionStatusForError;
   }
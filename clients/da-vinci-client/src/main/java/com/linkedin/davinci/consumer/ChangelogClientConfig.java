@@ -34,6 +34,26 @@ public class ChangelogClientConfig<T extends SpecificRecord> {
    */
   private long rocksDBBlockCacheSizeInBytes = 1024 * 1024L;
 
+  /**
+   * When enabled, BootstrappingVeniceChangelogConsumer bootstraps a partition without local state from a sorted version
+   * topic by writing the batch data into SST files, which are ingested into the local RocksDB at the end of push,
+   * instead of writing the records one at a time. Default is false.
+   */
+  private boolean sstBootstrapEnabled = false;
+
+  /**
+   * When enabled, the keys and the values of the change events returned by poll are only deserialized when they are
+   * first accessed, which saves the deserialization of events that the caller filters out. Default is false.
+   */
+  private boolean lazyDecodingEnabled = false;
+
+  /**
+   * Number of threads deserializing the keys and values of the polled change events before poll returns them, with
+   * the events of each partition deserialized in order by a single thread. Zero means the events are deserialized by
+   * the thread calling poll, or by the thread accessing them with lazy decoding. Default is 0.
+   */
+  private int decodeThreadCount = 0;
+
   public ChangelogClientConfig(String storeName) {
     this.innerClientConfig = new ClientConfig<>(storeName);
   }
@@ -187,6 +207,37 @@ public class ChangelogClientConfig<T extends SpecificRecord> {
     return this;
   }
 
+  public boolean isSstBootstrapEnabled() {
+    return sstBootstrapEnabled;
+  }
+
+  public ChangelogClientConfig setSstBootstrapEnabled(boolean sstBootstrapEnabled) {
+    this.sstBootstrapEnabled = sstBootstrapEnabled;
+    return this;
+  }
+
+  public boolean isLazyDecodingEnabled() {
+    return lazyDecodingEnabled;
+  }
+
+  public ChangelogClientConfig setLazyDecodingEnabled(boolean lazyDecodingEnabled) {
+    this.lazyDecodingEnabled = lazyDecodingEnabled;
+    return this;
+  }
+
+  public int getDecodeThreadCount() {
+    return decodeThreadCount;
+  }
+
+  /**
+   * Sets the number of threads of the parallel decode stage, e.g. {@code Runtime.getRuntime().availableProcessors()}
+   * to size it to the host. It requires lazy decoding to be enabled.
+   */
+  public ChangelogClientConfig setDecodeThreadCount(int decodeThreadCount) {
+    this.decodeThreadCount = decodeThreadCount;
+    return this;
+  }
+
   public ChangelogClientConfig setSpecificValue(Class<T> specificValue) {
     this.innerClientConfig.setSpecificValueClass(specificValue);
     return this;
@@ -207,7 +258,10 @@ public class ChangelogClientConfig<T extends SpecificRecord> {
         .setVersionSwapDetectionIntervalTimeInMs(config.getVersionSwapDetectionIntervalTimeInMs())
         .setRocksDBBlockCacheSizeInBytes(config.getRocksDBBlockCacheSizeInBytes())
         .setConsumerName(config.consumerName)
-        .setDatabaseSyncBytesInterval(config.getDatabaseSyncBytesInterval());
+        .setDatabaseSyncBytesInterval(config.getDatabaseSyncBytesInterval())
+        .setSstBootstrapEnabled(config.isSstBootstrapEnabled())
+        .setLazyDecodingEnabled(config.isLazyDecodingEnabled())
+        .setDecodeThreadCount(config.getDecodeThreadCount());
     return newConfig;
   }
 }
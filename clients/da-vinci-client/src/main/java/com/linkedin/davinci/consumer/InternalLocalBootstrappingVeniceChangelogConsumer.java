@@ -20,12 +20,14 @@ import com.linkedin.davinci.storage.StorageEngineMetadataService;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.storage.StorageService;
 import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.client.change.capture.protocol.RecordChangeEvent;
 import com.linkedin.venice.client.store.ClientConfig;
 import com.linkedin.venice.client.store.ClientFactory;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.ControlMessage;
+import com.linkedin.venice.kafka.protocol.StartOfPush;
 import com.linkedin.venice.kafka.protocol.VersionSwap;
 import com.linkedin.venice.kafka.protocol.enums.ControlMessageType;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
@@ -53,6 +55,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -72,6 +75,9 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
   // make decisions about easily about weather or not to clear out the local state data or not across version for a
   // store (we'll keep the local data in the event of a repush, but clear out if a user push comes through)
   private static final String LOCAL_STATE_TOPIC_SUFFIX = "_Bootstrap_v1";
+  // Marks in the local offset record that the partition is being bootstrapped through SST files, so that an interrupted
+  // bootstrap resumes writing SST files from the last checkpointed one.
+  private static final String SST_BOOTSTRAP_IN_PROGRESS = "SstBootstrapInProgress";
 
   private final MetricsRepository metricsRepository;
   private final String localStateTopicName;
@@ -79,6 +85,7 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
   private final InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer;
   private final VeniceConfigLoader configLoader;
   private final long syncBytesInterval;
+  private final boolean sstBootstrapEnabled;
 
   private StorageService storageService;
   private StorageMetadataService storageMetadataService;
@@ -92,6 +99,7 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
     super(changelogClientConfig, pubSubConsumer);
     bootstrapStateMap = new VeniceConcurrentHashMap<>();
     syncBytesInterval = changelogClientConfig.getDatabaseSyncBytesInterval();
+    sstBootstrapEnabled = changelogClientConfig.isSstBootstrapEnabled();
     metricsRepository = changelogClientConfig.getInnerClientConfig().getMetricsRepository();
     String localStateTopicNameTemp = changelogClientConfig.getStoreName() + LOCAL_STATE_TOPIC_SUFFIX;
     String bootstrapFileSystemPath = changelogClientConfig.getBootstrapFileSystemPath();
@@ -197,6 +205,63 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
     return false;
   }
 
+  @Override
+  protected boolean handleControlMessage(
+      ControlMessage controlMessage,
+      PubSubTopicPartition pubSubTopicPartition,
+      String topicSuffix,
+      byte[] key,
+      long timestamp) {
+    ControlMessageType controlMessageType = ControlMessageType.valueOf(controlMessage);
+    int partition = pubSubTopicPartition.getPartitionNumber();
+    BootstrapState bootstrapState = bootstrapStateMap.get(partition);
+    if (bootstrapState != null) {
+      if (controlMessageType.equals(ControlMessageType.START_OF_PUSH)) {
+        StartOfPush startOfPush = (StartOfPush) controlMessage.controlMessageUnion;
+        if (startOfPush.sorted && bootstrapState.sstBootstrapEligible
+            && bootstrapState.bootstrapState == PollState.CATCHING_UP) {
+          beginSstBootstrap(partition, bootstrapState, Collections.emptyMap());
+        }
+      } else if (controlMessageType.equals(ControlMessageType.END_OF_PUSH) && bootstrapState.sstBootstrapInProgress) {
+        // Right now, we assume there are no sorted messages after the end of push, like the ingestion of the servers.
+        endSstBootstrap(partition, bootstrapState);
+      }
+    }
+    return super.handleControlMessage(controlMessage, pubSubTopicPartition, topicSuffix, key, timestamp);
+  }
+
+  /**
+   * Switches the local partition to deferred write, in which the records are written into SST files that are only
+   * ingested into the database by {@link #endSstBootstrap}. It relies on the version topic being sorted until the end
+   * of push, like batch pushes and repushes are, since each SST file must be written in key order.
+   */
+  private void beginSstBootstrap(int partition, BootstrapState bootstrapState, Map<String, String> checkpointedInfo) {
+    LOGGER.info("Start bootstrapping partition: {} of {} through SST files", partition, localStateTopicName);
+    storageService.getStorageEngine(localStateTopicName)
+        .beginBatchWrite(getStoragePartitionConfig(partition, true), checkpointedInfo, Optional.empty());
+    bootstrapState.sstBootstrapInProgress = true;
+    bootstrapState.sstBootstrapEligible = false;
+    bootstrapState.lastSstBootstrapKey = null;
+  }
+
+  /**
+   * Ingests the SST files written since {@link #beginSstBootstrap} into the local partition, switches it back to
+   * regular writes, and checkpoints the position reached.
+   */
+  private void endSstBootstrap(int partition, BootstrapState bootstrapState) {
+    LOGGER.info("Ingesting the SST files bootstrapped for partition: {} of {}", partition, localStateTopicName);
+    storageService.getStorageEngine(localStateTopicName).endBatchWrite(getStoragePartitionConfig(partition, false));
+    bootstrapState.sstBootstrapInProgress = false;
+    bootstrapState.lastSstBootstrapKey = null;
+    syncOffset(partition, bootstrapState);
+  }
+
+  private StoragePartitionConfig getStoragePartitionConfig(int partition, boolean deferredWrite) {
+    StoragePartitionConfig storagePartitionConfig = new StoragePartitionConfig(localStateTopicName, partition);
+    storagePartitionConfig.setDeferredWrite(deferredWrite);
+    return storagePartitionConfig;
+  }
+
   private VeniceConfigLoader buildVeniceConfig(String bootstrapFileSystemPath) {
     VeniceProperties config = new PropertyBuilder().put(ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER, 4) // RocksDB
         // default config
@@ -278,6 +343,12 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
       LOGGER.error("Failed to update change capture coordinate position: {}", bootstrapState.currentPubSubPosition);
     }
 
+    if (bootstrapState.sstBootstrapInProgress) {
+      dbInfo.put(SST_BOOTSTRAP_IN_PROGRESS, Boolean.TRUE.toString());
+    } else {
+      dbInfo.remove(SST_BOOTSTRAP_IN_PROGRESS);
+    }
+
     lastOffset.setDatabaseInfo(dbInfo);
     storageMetadataService.put(localStateTopicName, partitionId, lastOffset);
     bootstrapState.resetProcessedRecordSizeSinceLastSync();
@@ -358,6 +429,10 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
               "pollAndCatchup completed for partition: {} with offset: {}",
               record.getPartition(),
               getOffset(record.getOffset()));
+          if (currentPartitionState.sstBootstrapInProgress) {
+            // The version topic has no end of push yet, so ingest what has been written so far.
+            endSstBootstrap(record.getPartition(), currentPartitionState);
+          }
           currentPartitionState.bootstrapState = PollState.BOOTSTRAPPING;
           // Save records in bootstrapTempDataCache to underlying storage
           for (Map.Entry<byte[], BootstrapCacheRecord> entry: currentPartitionState.bootstrapTempDataCache.entrySet()) {
@@ -385,10 +460,23 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
       int readerSchemaId,
       long recordOffset) {
     BootstrapState bootstrapState = bootstrapStateMap.get(partition.getPartitionNumber());
-    // In CATCHING_UP phase, there can be lots of updates to the same key.
-    // To improve bootstrapping performance, we'll put raw data in a temp cache (hashmap) and will
-    // process save to underlying storage on CATCHING_UP completion. Besides, we'll also skip RocksDB syncOffset.
-    if (bootstrapState.bootstrapState == PollState.CATCHING_UP) {
+    if (bootstrapState.sstBootstrapInProgress && bootstrapState.lastSstBootstrapKey != null
+        && ByteUtils.compare(key, bootstrapState.lastSstBootstrapKey) <= 0) {
+      // The records are not sorted after all, or are redelivered, so they can't go into SST files anymore.
+      LOGGER.warn(
+          "Got an out of order key at offset: {} for partition: {}, falling back to regular bootstrap",
+          recordOffset,
+          partition.getPartitionNumber());
+      endSstBootstrap(partition.getPartitionNumber(), bootstrapState);
+    }
+    if (bootstrapState.sstBootstrapInProgress) {
+      // Sorted batch data are written straight into SST files, and checkpointed along with them.
+      saveRecordInStorage(decompressedBytes, deserializedValue, key, partition.getPartitionNumber(), readerSchemaId);
+      bootstrapState.lastSstBootstrapKey = key;
+    } else if (bootstrapState.bootstrapState == PollState.CATCHING_UP) {
+      // In CATCHING_UP phase, there can be lots of updates to the same key.
+      // To improve bootstrapping performance, we'll put raw data in a temp cache (hashmap) and will
+      // process save to underlying storage on CATCHING_UP completion. Besides, we'll also skip RocksDB syncOffset.
       bootstrapState
           .putBootstrapRecord(key, new BootstrapCacheRecord(decompressedBytes, deserializedValue, readerSchemaId));
     } else {
@@ -402,7 +490,7 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
         new ApacheKafkaOffsetPosition(recordOffset),
         currentPubSubPosition.getPartition());
 
-    if (bootstrapState.bootstrapState != PollState.CATCHING_UP) {
+    if (bootstrapState.bootstrapState != PollState.CATCHING_UP || bootstrapState.sstBootstrapInProgress) {
       bootstrapState.incrementProcessedRecordSizeSinceLastSync(value.array().length);
       if (bootstrapState.getProcessedRecordSizeSinceLastSync() >= syncBytesInterval) {
         syncOffset(partition.getPartitionNumber(), bootstrapState);
@@ -458,8 +546,23 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
             () -> null);
         // Get the last persisted Offset record from metadata service
         OffsetRecord offsetRecord = storageMetadataService.getLastOffset(localStateTopicName, partition);
+        Map<String, String> checkpointedInfo = offsetRecord.getDatabaseInfo();
+        boolean resumeSstBootstrap = Boolean.parseBoolean(checkpointedInfo.get(SST_BOOTSTRAP_IN_PROGRESS));
+        if (resumeSstBootstrap && !storageService.getStorageEngine(localStateTopicName)
+            .checkDatabaseIntegrity(partition, checkpointedInfo, getStoragePartitionConfig(partition, true))) {
+          LOGGER.warn(
+              "Local SST files don't match the checkpoint of partition: {}, will bootstrap it from the beginning",
+              partition);
+          resumeSstBootstrap = false;
+          checkpointedInfo.clear();
+          offsetRecord.setDatabaseInfo(checkpointedInfo);
+          storageMetadataService.put(localStateTopicName, partition, offsetRecord);
+          // The integrity check switched the partition to deferred write, which only the start of push may turn on.
+          storageService.getStorageEngine(localStateTopicName)
+              .adjustStoragePartition(getStoragePartitionConfig(partition, false));
+        }
         // Where we're at now
-        String offsetString = offsetRecord.getDatabaseInfo().get(CHANGE_CAPTURE_COORDINATE);
+        String offsetString = checkpointedInfo.get(CHANGE_CAPTURE_COORDINATE);
         VeniceChangeCoordinate localCheckpoint;
         try {
           if (StringUtils.isEmpty(offsetString)) {
@@ -496,6 +599,11 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
           newState.currentPubSubPosition = localCheckpoint;
           newState.targetPubSubPosition = targetCheckpoint;
           newState.bootstrapState = newState.isCaughtUp() ? PollState.BOOTSTRAPPING : PollState.CATCHING_UP;
+          // Only a partition without local state can be bootstrapped through SST files, from the start of push.
+          newState.sstBootstrapEligible = sstBootstrapEnabled && StringUtils.isEmpty(offsetString);
+          if (resumeSstBootstrap) {
+            beginSstBootstrap(partition, newState, checkpointedInfo);
+          }
           bootstrapStateMap.put(partition, newState);
         }
       }
@@ -583,6 +691,11 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
     VeniceChangeCoordinate targetPubSubPosition;
     long processedRecordSizeSinceLastSync;
     Map<byte[], BootstrapCacheRecord> bootstrapTempDataCache;
+    // Whether the partition will be bootstrapped through SST files if the version topic turns out to be sorted.
+    boolean sstBootstrapEligible;
+    // Whether the records are currently written into SST files, and the last key written into them if so.
+    boolean sstBootstrapInProgress;
+    byte[] lastSstBootstrapKey;
 
     public BootstrapState() {
       bootstrapTempDataCache = new HashMap<>();
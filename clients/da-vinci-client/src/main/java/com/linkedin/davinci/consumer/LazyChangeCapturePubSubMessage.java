@@ -0,0 +1,28 @@
+package com.linkedin.davinci.consumer;
+
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.utils.lazy.Lazy;
+
+
+/**
+ * An {@link ImmutableChangeCapturePubSubMessage} whose key is deserialized when it is first accessed.
+ */
+class LazyChangeCapturePubSubMessage<K, V> extends ImmutableChangeCapturePubSubMessage<K, V> {
+  private final Lazy<K> lazyKey;
+
+  LazyChangeCapturePubSubMessage(
+      Lazy<K> lazyKey,
+      V value,
+      PubSubTopicPartition topicPartition,
+      long offset,
+      long timestamp,
+      int payloadSize) {
+    super(null, value, topicPartition, offset, timestamp, payloadSize, false);
+    this.lazyKey = lazyKey;
+  }
+
+  @Override
+  public K getKey() {
+    return lazyKey.get();
+  }
+}
@@ -0,0 +1,28 @@
+package com.linkedin.davinci.consumer;
+
+import com.linkedin.venice.utils.lazy.Lazy;
+
+
+/**
+ * A {@link ChangeEvent} whose previous and current values are deserialized when they are first accessed.
+ */
+class LazyChangeEvent<T> extends ChangeEvent<T> {
+  private final Lazy<T> lazyPreviousValue;
+  private final Lazy<T> lazyCurrentValue;
+
+  LazyChangeEvent(Lazy<T> lazyPreviousValue, Lazy<T> lazyCurrentValue) {
+    super(null, null);
+    this.lazyPreviousValue = lazyPreviousValue;
+    this.lazyCurrentValue = lazyCurrentValue;
+  }
+
+  @Override
+  public T getPreviousValue() {
+    return lazyPreviousValue.get();
+  }
+
+  @Override
+  public T getCurrentValue() {
+    return lazyCurrentValue.get();
+  }
+}
@@ -11,6 +11,7 @@ import com.linkedin.davinci.storage.chunking.GenericChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.SpecificRecordChunkingAdapter;
 import com.linkedin.davinci.utils.ChunkAssembler;
 import com.linkedin.venice.client.change.capture.protocol.RecordChangeEvent;
+import com.linkedin.venice.client.change.capture.protocol.ValueBytes;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
 import com.linkedin.venice.compression.NoopCompressor;
@@ -47,6 +48,7 @@ import com.linkedin.venice.serialization.avro.AvroSpecificStoreDeserializerCache
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.DictionaryUtils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.lazy.Lazy;
@@ -59,12 +61,16 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.avro.Schema;
@@ -115,6 +121,17 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
   protected final BasicConsumerStats changeCaptureStats;
   protected final HeartbeatReporterThread heartbeatReporterThread;
 
+  /**
+   * Whether the keys and values of the returned change events are deserialized on first access, see
+   * {@link ChangelogClientConfig#isLazyDecodingEnabled()}.
+   */
+  private final boolean lazyDecodingEnabled;
+  /**
+   * Deserializes the polled change events in parallel before poll returns them, or null if there is no parallel decode
+   * stage.
+   */
+  private final ExecutorService decodeExecutor;
+
   public VeniceChangelogConsumerImpl(
       ChangelogClientConfig changelogClientConfig,
       PubSubConsumerAdapter pubSubConsumer) {
@@ -144,6 +161,14 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
     Schema keySchema = schemaReader.getKeySchema();
     this.keyDeserializer = FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(keySchema, keySchema);
     this.chunkAssembler = new ChunkAssembler(storeName);
+    this.lazyDecodingEnabled = changelogClientConfig.isLazyDecodingEnabled();
+    if (lazyDecodingEnabled && changelogClientConfig.getDecodeThreadCount() > 0) {
+      this.decodeExecutor = Executors.newFixedThreadPool(
+          changelogClientConfig.getDecodeThreadCount(),
+          new DaemonThreadFactory("vcc-decode-" + storeName));
+    } else {
+      this.decodeExecutor = null;
+    }
 
     this.storeRepository = new ThinClientMetaStoreBasedRepository(
         changelogClientConfig.getInnerClientConfig(),
@@ -546,6 +571,9 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
         }
       }
     }
+    if (decodeExecutor != null) {
+      decodeInParallel(pubSubMessages);
+    }
     if (changeCaptureStats != null) {
       changeCaptureStats.recordRecordsConsumed(pubSubMessages.size());
     }
@@ -558,6 +586,40 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
     return internalPoll(timeoutInMs, topicSuffix, false);
   }
 
+  /**
+   * Deserializes the keys and values of the given lazily decoded messages with {@link #decodeExecutor}, one task per
+   * partition, so that the records of a partition are decoded in order. The order of the messages is left unchanged.
+   */
+  private void decodeInParallel(List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> pubSubMessages) {
+    Map<Integer, List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>>> messagesByPartition =
+        new LinkedHashMap<>();
+    for (PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate> message: pubSubMessages) {
+      if (message.getValue() != null) {
+        messagesByPartition.computeIfAbsent(message.getPartition(), p -> new ArrayList<>()).add(message);
+      }
+    }
+    List<Future<?>> futures = new ArrayList<>(messagesByPartition.size());
+    for (List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> messages: messagesByPartition.values()) {
+      futures.add(decodeExecutor.submit(() -> {
+        for (PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate> message: messages) {
+          message.getKey();
+          message.getValue().getPreviousValue();
+          message.getValue().getCurrentValue();
+        }
+      }));
+    }
+    try {
+      for (Future<?> future: futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VeniceException("Interrupted while decoding change events for store: " + storeName, e);
+    } catch (ExecutionException e) {
+      throw new VeniceException("Failed to decode change events for store: " + storeName, e.getCause());
+    }
+  }
+
   /**
    * Handle control message from the given topic. Returns true if a topic switch should occur and records should be returned
    *
@@ -625,14 +687,13 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
       // Deletes have a previous and current value of null. So just fill it in!
       ChangeEvent<V> changeEvent = new ChangeEvent<>(null, null);
       pubSubChangeEventMessage = Optional.of(
-          new ImmutableChangeCapturePubSubMessage<>(
-              keyDeserializer.deserialize(keyBytes),
+          createChangeEventMessage(
+              keyBytes,
               changeEvent,
               pubSubTopicPartition,
               message.getOffset(),
               message.getPubSubMessageTime(),
-              message.getPayloadSize(),
-              false));
+              message.getPayloadSize()));
 
       replicationCheckpoint = extractOffsetVectorFromMessage(
           delete.getReplicationMetadataVersionId(),
@@ -705,7 +766,7 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
         pubSubChangeEventMessage = Optional.of(
             convertChangeEventToPubSubMessage(
                 recordChangeEvent,
-                keyDeserializer.deserialize(keyBytes),
+                keyBytes,
                 pubSubTopicPartition,
                 message.getOffset(),
                 message.getPubSubMessageTime(),
@@ -713,14 +774,13 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
       } else {
         ChangeEvent<V> changeEvent = new ChangeEvent<>(null, (V) assembledObject);
         pubSubChangeEventMessage = Optional.of(
-            new ImmutableChangeCapturePubSubMessage<>(
-                keyDeserializer.deserialize(keyBytes),
+            createChangeEventMessage(
+                keyBytes,
                 changeEvent,
                 pubSubTopicPartition,
                 message.getOffset(),
                 message.getPubSubMessageTime(),
-                payloadSize,
-                false));
+                payloadSize));
       }
     }
 
@@ -787,28 +847,46 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
 
   private PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate> convertChangeEventToPubSubMessage(
       RecordChangeEvent recordChangeEvent,
-      K currentKey,
+      byte[] keyBytes,
       PubSubTopicPartition pubSubTopicPartition,
       Long offset,
       Long timestamp,
       int payloadSize) {
-    V currentValue = null;
     if (recordChangeEvent.currentValue != null && recordChangeEvent.currentValue.getSchemaId() > 0) {
       currentValuePayloadSize[pubSubTopicPartition.getPartitionNumber()] =
           recordChangeEvent.currentValue.getValue().array().length;
-      currentValue = deserializeValueFromBytes(
-          recordChangeEvent.currentValue.getValue(),
-          recordChangeEvent.currentValue.getSchemaId());
     }
-    V previousValue = null;
-    if (recordChangeEvent.previousValue != null && recordChangeEvent.previousValue.getSchemaId() > 0) {
-      previousValue = deserializeValueFromBytes(
-          recordChangeEvent.previousValue.getValue(),
-          recordChangeEvent.previousValue.getSchemaId());
+    ChangeEvent<V> changeEvent;
+    if (lazyDecodingEnabled) {
+      changeEvent = new LazyChangeEvent<>(
+          Lazy.of(() -> deserializeValue(recordChangeEvent.previousValue)),
+          Lazy.of(() -> deserializeValue(recordChangeEvent.currentValue)));
+    } else {
+      changeEvent = new ChangeEvent<>(
+          deserializeValue(recordChangeEvent.previousValue),
+          deserializeValue(recordChangeEvent.currentValue));
+    }
+    return createChangeEventMessage(keyBytes, changeEvent, pubSubTopicPartition, offset, timestamp, payloadSize);
+  }
+
+  private PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate> createChangeEventMessage(
+      byte[] keyBytes,
+      ChangeEvent<V> changeEvent,
+      PubSubTopicPartition pubSubTopicPartition,
+      long offset,
+      long timestamp,
+      int payloadSize) {
+    if (lazyDecodingEnabled) {
+      return new LazyChangeCapturePubSubMessage<>(
+          Lazy.of(() -> keyDeserializer.deserialize(keyBytes)),
+          changeEvent,
+          pubSubTopicPartition,
+          offset,
+          timestamp,
+          payloadSize);
     }
-    ChangeEvent<V> changeEvent = new ChangeEvent<>(previousValue, currentValue);
     return new ImmutableChangeCapturePubSubMessage<>(
-        currentKey,
+        keyDeserializer.deserialize(keyBytes),
         changeEvent,
         pubSubTopicPartition,
         offset,
@@ -817,6 +895,13 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
         false);
   }
 
+  private V deserializeValue(ValueBytes valueBytes) {
+    if (valueBytes == null || valueBytes.getSchemaId() <= 0) {
+      return null;
+    }
+    return deserializeValueFromBytes(valueBytes.getValue(), valueBytes.getSchemaId());
+  }
+
   private V deserializeValueFromBytes(ByteBuffer byteBuffer, int valueSchemaId) {
     RecordDeserializer<V> valueDeserializer = storeDeserializerCache.getDeserializer(valueSchemaId, valueSchemaId);
     if (byteBuffer != null) {
@@ -862,6 +947,9 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
   public void close() {
     this.unsubscribeAll();
     pubSubConsumer.close();
+    if (decodeExecutor != null) {
+      decodeExecutor.shutdownNow();
+    }
   }
 
   @VisibleForTesting
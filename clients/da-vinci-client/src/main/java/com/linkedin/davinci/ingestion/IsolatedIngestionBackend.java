@@ -362,6 +362,7 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend
               config.setRestoreDataPartitions(false);
               config.setRestoreMetadataPartition(false);
               startConsumptionLocally(config, partition, leaderState);
+              getMainIngestionMonitorService().recordHandoverCompleted(kafkaTopic, partition);
             } catch (Exception e) {
               notifier.error(
                   kafkaTopic,
@@ -22,6 +22,17 @@ public interface ConsumedDataReceiver<MESSAGE> {
    */
   void write(MESSAGE consumedData) throws Exception;
 
+  /**
+   * Same as {@link #write(Object)}, for the receivers which keep track of the latency of the poll which returned the
+   * consumed data.
+   *
+   * @param consumedData Consumed data.
+   * @param pollLatencyInNs Latency of the poll which returned the consumed data.
+   */
+  default void write(MESSAGE consumedData, long pollLatencyInNs) throws Exception {
+    write(consumedData);
+  }
+
   /**
    * N.B.: Used for defensive coding. Today, this is exclusively used to return the version-topic name. If this is to
    * be expanded to other usages in the future, we should consider carefully if it needs refactoring.
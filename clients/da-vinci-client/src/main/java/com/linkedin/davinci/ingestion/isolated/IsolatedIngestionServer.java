@@ -18,6 +18,7 @@ import com.linkedin.davinci.ingestion.DefaultIngestionBackend;
 import com.linkedin.davinci.ingestion.IsolatedIngestionBackend;
 import com.linkedin.davinci.ingestion.main.MainIngestionMonitorService;
 import com.linkedin.davinci.ingestion.main.MainIngestionRequestClient;
+import com.linkedin.davinci.ingestion.utils.IsolatedIngestionStatusFile;
 import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
 import com.linkedin.davinci.kafka.consumer.KafkaStoreIngestionService;
 import com.linkedin.davinci.kafka.consumer.LeaderFollowerStateType;
@@ -150,6 +151,11 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
   private boolean isInitiated = false;
   private IsolatedIngestionRequestClient reportClient;
   private IsolatedIngestionRequestClient metricClient;
+  /**
+   * Memory-mapped file through which PROGRESS reports and partition readiness are published to the main process, or
+   * null if it is not enabled.
+   */
+  private IsolatedIngestionStatusFile statusFile;
   private volatile long heartbeatTimeInMs = System.currentTimeMillis();
   private int stopConsumptionTimeoutInSeconds;
   private DefaultIngestionBackend ingestionBackend;
@@ -270,6 +276,9 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
     } catch (InterruptedException e) {
       currentThread().interrupt();
     }
+    if (statusFile != null) {
+      statusFile.close();
+    }
     repairService.stop();
   }
 
@@ -323,6 +332,9 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
   }
 
   public void cleanupTopicPartitionState(String topicName, int partitionId) {
+    if (statusFile != null) {
+      statusFile.remove(topicName, partitionId);
+    }
     Map<Integer, AtomicBoolean> partitionSubscriptionMap = topicPartitionSubscriptionMap.get(topicName);
     if (partitionSubscriptionMap != null) {
       partitionSubscriptionMap.remove(partitionId);
@@ -334,6 +346,9 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
   }
 
   public void cleanupTopicState(String topicName) {
+    if (statusFile != null) {
+      statusFile.remove(topicName);
+    }
     topicPartitionSubscriptionMap.remove(topicName);
     leaderSessionIdMap.remove(topicName);
   }
@@ -352,6 +367,10 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
    * This status reporting executor is designed to be single thread to respect the reporting order inside child process.
    * For time-consuming action like stopConsumptionAndWait, we introduced an extra multi-thread executors to improve the
    * performance.
+   * When the status file is enabled, PROGRESS reports are written into it instead of being sent to the main process,
+   * which coalesces them and saves one request per report, and the readiness of a COMPLETED partition is published
+   * into it right away so that the main process can measure the whole handover. The other reports supersede the
+   * PROGRESS report of their partition in the status file before being sent, so that it is not relayed after them.
    */
   public void reportIngestionStatus(IngestionTaskReport report) {
     IngestionReportType ingestionReportType = IngestionReportType.valueOf(report.reportType);
@@ -363,6 +382,9 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
 
       // Collect the latest OffsetRecord ByteBuffer array and store version state before consumption stops.
       if (ingestionReportType.equals(IngestionReportType.COMPLETED)) {
+        if (statusFile != null) {
+          statusFile.update(topicName, partitionId, ingestionReportType, offset);
+        }
         // Force sync topic partition offsets before shutting down RocksDB and reopen in main process.
         getStoreIngestionService().syncTopicPartitionOffset(topicName, partitionId);
         // Set offset record in ingestion report.
@@ -387,6 +409,9 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
             leaderState);
         report.leaderFollowerState = leaderState.getValue();
       } else {
+        if (statusFile != null) {
+          statusFile.supersede(topicName, partitionId, ingestionReportType, offset);
+        }
         LOGGER.error(
             "Ingestion error for topic: {}, partition: {}, error message: {}",
             topicName,
@@ -395,6 +420,18 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
       }
 
       stopConsumptionAndReport(report);
+    } else if (statusFile != null && ingestionReportType.equals(IngestionReportType.PROGRESS)) {
+      // Still go through the reporting executor, so that the report is not published before the previous ones.
+      statusReportingExecutor.execute(() -> {
+        if (!statusFile.update(report.topicName.toString(), report.partitionId, ingestionReportType, report.offset)) {
+          reportClient.reportIngestionStatus(report);
+        }
+      });
+    } else if (statusFile != null) {
+      statusReportingExecutor.execute(() -> {
+        statusFile.supersede(report.topicName.toString(), report.partitionId, ingestionReportType, report.offset);
+        reportClient.reportIngestionStatus(report);
+      });
     } else {
       statusReportingExecutor.execute(() -> reportClient.reportIngestionStatus(report));
     }
@@ -767,6 +804,12 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
     reportClient = new IsolatedIngestionRequestClient(configLoader);
     // Create Netty client to report metrics update back to main process.
     metricClient = new IsolatedIngestionRequestClient(configLoader);
+    if (IsolatedIngestionUtils.isolatedIngestionStatusFileEnabled(configLoader)) {
+      statusFile = IsolatedIngestionStatusFile.openForWrite(
+          IsolatedIngestionUtils.getIsolatedIngestionStatusFile(configLoader),
+          IsolatedIngestionStatusFile.DEFAULT_SLOT_COUNT);
+      LOGGER.info("Publishing ingestion progress through status file: {}", statusFile.getFile());
+    }
     // Mark the isolated ingestion service as initiated.
     isInitiated = true;
   }
@@ -5,11 +5,14 @@ import static java.lang.Thread.currentThread;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
 import com.linkedin.davinci.ingestion.IsolatedIngestionBackend;
+import com.linkedin.davinci.ingestion.utils.IsolatedIngestionStatusFile;
 import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
 import com.linkedin.davinci.kafka.consumer.KafkaStoreIngestionService;
 import com.linkedin.davinci.notifier.VeniceNotifier;
+import com.linkedin.davinci.stats.IsolatedIngestionHandoverStats;
 import com.linkedin.davinci.stats.IsolatedIngestionProcessHeartbeatStats;
 import com.linkedin.davinci.stats.IsolatedIngestionProcessStats;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionReportType;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.service.AbstractVeniceService;
 import com.linkedin.venice.utils.Time;
@@ -46,22 +49,32 @@ import org.apache.logging.log4j.Logger;
  * child process. Also, it maintains status for all the ongoing/completed topic partition ingestion tasks, which helps
  * {@link IsolatedIngestionBackend} to check which process a topic partition storage is located, as well as status recovery
  * when child process crashed and restarted.
+ * When the status file is enabled, it also polls {@link IsolatedIngestionStatusFile} to relay the PROGRESS reports
+ * published there by the child process, and to learn when a partition is ready to be handed over, so that the whole
+ * handover time can be measured.
  */
 public class MainIngestionMonitorService extends AbstractVeniceService {
   private static final Logger LOGGER = LogManager.getLogger(MainIngestionMonitorService.class);
+  private static final long STATUS_FILE_POLL_INTERVAL_MS = 100;
   private final ServerBootstrap bootstrap;
   private final EventLoopGroup bossGroup;
   private final EventLoopGroup workerGroup;
   private final IsolatedIngestionBackend ingestionBackend;
   private final ScheduledExecutorService heartbeatCheckScheduler = Executors.newScheduledThreadPool(1);
   private final ExecutorService longRunningTaskExecutor = Executors.newSingleThreadExecutor();
+  private final ScheduledExecutorService statusFilePollingScheduler = Executors.newScheduledThreadPool(1);
   private final MainIngestionRequestClient heartbeatClient;
   private final Map<String, MainTopicIngestionStatus> topicIngestionStatusMap = new VeniceConcurrentHashMap<>();
   private final Map<String, Map<Integer, Boolean>> topicPartitionLeaderStatusMap = new VeniceConcurrentHashMap<>();
   private final List<VeniceNotifier> ingestionNotifierList = new ArrayList<>();
   private final List<VeniceNotifier> pushStatusNotifierList = new ArrayList<>();
+  // Time at which each topic partition became ready to be handed over from child process to main process.
+  private final Map<String, Map<Integer, Long>> topicPartitionHandoverStartTimeMap = new VeniceConcurrentHashMap<>();
 
   private IsolatedIngestionProcessHeartbeatStats heartbeatStats;
+  private IsolatedIngestionHandoverStats handoverStats;
+  private IsolatedIngestionStatusFile statusFile;
+  private MainIngestionReportHandler statusFileReportHandler;
   private ChannelFuture serverFuture;
   private MetricsRepository metricsRepository;
   private IsolatedIngestionProcessStats isolatedIngestionProcessStats;
@@ -113,6 +126,15 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
         configLoader.getCombinedProperties().getLong(SERVER_INGESTION_ISOLATION_CONNECTION_TIMEOUT_SECONDS, 180)
             * Time.MS_PER_SECOND;
     setupMetricsCollection();
+    if (IsolatedIngestionUtils.isolatedIngestionStatusFileEnabled(configLoader)) {
+      statusFile = IsolatedIngestionStatusFile.openForRead(
+          IsolatedIngestionUtils.getIsolatedIngestionStatusFile(configLoader),
+          IsolatedIngestionStatusFile.DEFAULT_SLOT_COUNT);
+      statusFileReportHandler = new MainIngestionReportHandler(this);
+      statusFilePollingScheduler
+          .scheduleWithFixedDelay(this::pollStatusFile, 0, STATUS_FILE_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+      LOGGER.info("Polling ingestion status file: {}", statusFile.getFile());
+    }
 
     // There is no async process in this function, so we are completely finished with the start-up process.
     return true;
@@ -122,6 +144,10 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
   public void stopInner() throws Exception {
     shutdownScheduler(heartbeatCheckScheduler, "Heartbeat check");
     shutdownScheduler(longRunningTaskExecutor, "Long running task");
+    shutdownScheduler(statusFilePollingScheduler, "Status file polling");
+    if (statusFile != null) {
+      statusFile.close();
+    }
     heartbeatClient.close();
 
     ChannelFuture shutdown = serverFuture.channel().closeFuture();
@@ -216,12 +242,17 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
     if (partitionLeaderStatus != null) {
       partitionLeaderStatus.remove(partitionId);
     }
+    Map<Integer, Long> partitionHandoverStartTime = topicPartitionHandoverStartTimeMap.get(topicName);
+    if (partitionHandoverStartTime != null) {
+      partitionHandoverStartTime.remove(partitionId);
+    }
     LOGGER.info("Ingestion status removed from main process for topic: {}, partition: {}", topicName, partitionId);
   }
 
   public void cleanupTopicState(String topicName) {
     getTopicIngestionStatusMap().remove(topicName);
     getTopicPartitionLeaderStatusMap().remove(topicName);
+    topicPartitionHandoverStartTimeMap.remove(topicName);
     LOGGER.info("Ingestion status removed from main process for topic: {}", topicName);
   }
 
@@ -233,6 +264,83 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
     return 0;
   }
 
+  /**
+   * Marks the beginning of the handover of a topic partition, when its COMPLETED report is received. If the child
+   * process already published the readiness of the partition in the status file, which is flushed before the report
+   * is handled, the handover is considered to have started at that time instead, which also covers the time spent
+   * closing the partition in child process.
+   */
+  public void markHandoverStarted(String topicName, int partitionId) {
+    topicPartitionHandoverStartTimeMap.computeIfAbsent(topicName, x -> new VeniceConcurrentHashMap<>())
+        .putIfAbsent(partitionId, System.currentTimeMillis());
+  }
+
+  /**
+   * Records the handover time of a topic partition once its consumption has been resumed in main process.
+   */
+  public void recordHandoverCompleted(String topicName, int partitionId) {
+    Map<Integer, Long> partitionHandoverStartTime = topicPartitionHandoverStartTimeMap.get(topicName);
+    Long handoverStartTimeMs =
+        partitionHandoverStartTime == null ? null : partitionHandoverStartTime.remove(partitionId);
+    if (handoverStartTimeMs == null) {
+      return;
+    }
+    long handoverLatencyMs = System.currentTimeMillis() - handoverStartTimeMs;
+    LOGGER.info("Handed over topic: {}, partition: {} in {} ms.", topicName, partitionId, handoverLatencyMs);
+    if (handoverStats != null) {
+      handoverStats.recordHandoverLatency(handoverLatencyMs);
+    }
+  }
+
+  /**
+   * Relays the reports pending in the status file, if any. This is called before handling a state transition reported
+   * through HTTP, so that a PROGRESS report published before the transition is not relayed after it.
+   */
+  public void flushStatusFile() {
+    if (statusFile != null) {
+      pollStatusFile();
+    }
+  }
+
+  void pollStatusFile() {
+    try {
+      int reportCount = statusFile.poll(this::handleStatusFileReport);
+      if (reportCount > 0 && handoverStats != null) {
+        handoverStats.recordStatusFileReports(reportCount);
+      }
+    } catch (Exception e) {
+      LOGGER.warn("Failed to poll ingestion status file: {}", statusFile.getFile(), e);
+    }
+  }
+
+  private void handleStatusFileReport(
+      String topicName,
+      int partitionId,
+      IngestionReportType reportType,
+      long offset,
+      long timestampMs) {
+    /**
+     * Only relay the reports of partitions which are still ingested in child process, so that a report published before
+     * the handover, or by a previous child process, is not delivered after it.
+     */
+    if (!getTopicPartitionIngestionStatus(topicName, partitionId).equals(MainPartitionIngestionStatus.ISOLATED)) {
+      return;
+    }
+    switch (reportType) {
+      case COMPLETED:
+        topicPartitionHandoverStartTimeMap.computeIfAbsent(topicName, x -> new VeniceConcurrentHashMap<>())
+            .putIfAbsent(partitionId, timestampMs);
+        break;
+      case PROGRESS:
+        statusFileReportHandler.handleIngestionReport(
+            IsolatedIngestionUtils.createIngestionTaskReport(reportType, topicName, partitionId, offset, ""));
+        break;
+      default:
+        // The state transitions superseding a PROGRESS report are delivered through HTTP.
+        break;
+    }
+  }
+
   private void setupMetricsCollection() {
     if (metricsRepository == null) {
       LOGGER.warn("No metrics repository is set up in ingestion report listener, skipping metrics collection");
@@ -240,6 +348,7 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
     }
     heartbeatStats = new IsolatedIngestionProcessHeartbeatStats(metricsRepository);
     isolatedIngestionProcessStats = new IsolatedIngestionProcessStats(metricsRepository);
+    handoverStats = new IsolatedIngestionHandoverStats(metricsRepository);
     heartbeatCheckScheduler.scheduleAtFixedRate(this::checkHeartbeatTimeout, 0, 10, TimeUnit.SECONDS);
   }
 
@@ -107,10 +107,15 @@ public class MainIngestionReportHandler extends SimpleChannelInboundHandler<Full
         reportType.name(),
         topicName,
         partitionId);
+    if (reportType != IngestionReportType.PROGRESS) {
+      // Relay the PROGRESS reports published in the status file before this one first.
+      mainIngestionMonitorService.flushStatusFile();
+    }
     updateLocalStorageMetadata(report);
     // Relay the notification to parent service's listener.
     switch (reportType) {
       case COMPLETED:
+        mainIngestionMonitorService.markHandoverStarted(topicName, partitionId);
         // Set LeaderState passed from child process to cache.
         LeaderFollowerStateType leaderFollowerStateType = LeaderFollowerStateType.valueOf(report.leaderFollowerState);
         notifierHelper(
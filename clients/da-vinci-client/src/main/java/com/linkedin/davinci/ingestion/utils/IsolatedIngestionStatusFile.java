@@ -0,0 +1,342 @@
+package com.linkedin.davinci.ingestion.utils;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionReportType;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * A memory-mapped file shared by the isolated ingestion process and the main process, through which the isolated
+ * process publishes the latest ingestion status of each topic partition without going through a HTTP request.
+ *
+ * The file is made of a header followed by fixed-size slots, and each topic partition owns one slot for as long as it
+ * is ingested in the isolated process. Every slot only holds the latest report written into it, so high frequency
+ * reports like PROGRESS are coalesced, and the reader only sees the most recent one at each poll. This is why only
+ * reports whose latest value supersedes the previous ones should go through this file, while state transitions must
+ * still be delivered one by one through {@link com.linkedin.davinci.ingestion.isolated.IsolatedIngestionRequestClient}.
+ *
+ * Since the two channels are not ordered with each other, the writer {@link #supersede}s the PROGRESS report of a
+ * partition before sending a state transition through HTTP, and the reader polls the file before relaying such a
+ * transition, so that a PROGRESS report is never relayed after a state transition which was reported after it. A
+ * PROGRESS report also never overwrites the COMPLETED or ERROR report of a partition, which are final in the writer.
+ *
+ * Layout of the header: magic (int), slot count (int), epoch (long), allocated slot count (int).
+ * Layout of a slot: version (long), checksum (long), report type (int), partition (int), offset (long),
+ * timestamp (long), topic length (int), topic bytes.
+ *
+ * Writes are serialized within the writer process. The version of a slot is made odd while it is being written and
+ * even once it is complete, and the checksum covers the whole content, so that the reader can detect and skip a torn
+ * slot, and read it again at the next poll. The writer resets the file and bumps the epoch when it opens
+ * it, which tells the reader that the slots it has seen so far belong to a previous isolated process.
+ */
+public class IsolatedIngestionStatusFile implements Closeable {
+  public static final int DEFAULT_SLOT_COUNT = 8192;
+
+  private static final int MAGIC = 0x56495346;
+  static final int SLOT_SIZE = 256;
+  private static final int HEADER_SIZE = 64;
+  private static final int MAGIC_OFFSET = 0;
+  private static final int SLOT_COUNT_OFFSET = 4;
+  private static final int EPOCH_OFFSET = 8;
+  private static final int ALLOCATED_SLOT_COUNT_OFFSET = 16;
+
+  private static final int VERSION_OFFSET = 0;
+  private static final int CHECKSUM_OFFSET = 8;
+  private static final int REPORT_TYPE_OFFSET = 16;
+  private static final int PARTITION_OFFSET = 20;
+  private static final int REPORT_OFFSET_OFFSET = 24;
+  private static final int TIMESTAMP_OFFSET = 32;
+  private static final int TOPIC_LENGTH_OFFSET = 40;
+  private static final int TOPIC_OFFSET = 44;
+  static final int MAX_TOPIC_LENGTH = SLOT_SIZE - TOPIC_OFFSET;
+
+  /**
+   * Callback of {@link #poll(StatusConsumer)}.
+   */
+  public interface StatusConsumer {
+    void accept(String topicName, int partitionId, IngestionReportType reportType, long offset, long timestampMs);
+  }
+
+  private final File file;
+  private final RandomAccessFile randomAccessFile;
+  private final MappedByteBuffer buffer;
+  private final int slotCount;
+
+  // Writer state
+  private final Map<String, Map<Integer, Integer>> slotByTopicPartition = new HashMap<>();
+  private int[] freeSlots = new int[16];
+  private int freeSlotCount = 0;
+  private int allocatedSlotCount = 0;
+
+  // Reader state
+  private long lastSeenEpoch = -1;
+  private long[] lastSeenVersions;
+
+  private IsolatedIngestionStatusFile(File file, int slotCount) {
+    this.file = file;
+    this.slotCount = slotCount;
+    long fileSize = HEADER_SIZE + (long) slotCount * SLOT_SIZE;
+    try {
+      this.randomAccessFile = new RandomAccessFile(file, "rw");
+      if (randomAccessFile.length() != fileSize) {
+        randomAccessFile.setLength(fileSize);
+      }
+      this.buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+    } catch (IOException e) {
+      throw new VeniceException("Unable to map ingestion status file: " + file, e);
+    }
+    this.lastSeenVersions = new long[slotCount];
+  }
+
+  /**
+   * Opens the file on the writer side, which discards all the slots left by a previous writer.
+   */
+  public static IsolatedIngestionStatusFile openForWrite(File file, int slotCount) {
+    IsolatedIngestionStatusFile statusFile = new IsolatedIngestionStatusFile(file, slotCount);
+    statusFile.reset();
+    return statusFile;
+  }
+
+  /**
+   * Opens the file on the reader side. The file is created if the writer did not create it yet, and the reader will
+   * pick up the slots once the writer has opened it.
+   */
+  public static IsolatedIngestionStatusFile openForRead(File file, int slotCount) {
+    return new IsolatedIngestionStatusFile(file, slotCount);
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  /**
+   * Publishes the latest report of a topic partition.
+   *
+   * @return false if the report could not be written, either because the topic name is too long or because there is
+   *         no free slot left, in which case the caller should deliver the report through another channel.
+   */
+  public synchronized boolean update(String topicName, int partitionId, IngestionReportType reportType, long offset) {
+    byte[] topicBytes = topicName.getBytes(StandardCharsets.UTF_8);
+    if (topicBytes.length > MAX_TOPIC_LENGTH) {
+      return false;
+    }
+    Integer slot = getSlot(topicName, partitionId);
+    if (slot == null) {
+      slot = allocateSlot();
+      if (slot < 0) {
+        return false;
+      }
+      slotByTopicPartition.computeIfAbsent(topicName, t -> new HashMap<>()).put(partitionId, slot);
+    } else if (reportType == IngestionReportType.PROGRESS && isFinalReport(slot)) {
+      // A stale report queued before the partition completed or failed, which must not hide its final report.
+      return true;
+    }
+    writeSlot(slot, topicBytes, partitionId, reportType.getValue(), offset, System.currentTimeMillis());
+    return true;
+  }
+
+  /**
+   * Replaces the report previously published for a topic partition, if any, with a state transition which is about to
+   * be delivered through another channel, so that the reader does not relay the previous report after the transition.
+   */
+  public synchronized void supersede(String topicName, int partitionId, IngestionReportType reportType, long offset) {
+    Integer slot = getSlot(topicName, partitionId);
+    if (slot != null && !isFinalReport(slot)) {
+      byte[] topicBytes = topicName.getBytes(StandardCharsets.UTF_8);
+      writeSlot(slot, topicBytes, partitionId, reportType.getValue(), offset, System.currentTimeMillis());
+    }
+  }
+
+  private Integer getSlot(String topicName, int partitionId) {
+    Map<Integer, Integer> partitionSlots = slotByTopicPartition.get(topicName);
+    return partitionSlots == null ? null : partitionSlots.get(partitionId);
+  }
+
+  private boolean isFinalReport(int slot) {
+    int reportTypeValue = buffer.getInt(slotPosition(slot) + REPORT_TYPE_OFFSET);
+    return reportTypeValue == IngestionReportType.COMPLETED.getValue()
+        || reportTypeValue == IngestionReportType.ERROR.getValue();
+  }
+
+  /**
+   * Releases the slot of a topic partition, which is no longer ingested by the writer.
+   */
+  public synchronized void remove(String topicName, int partitionId) {
+    Map<Integer, Integer> partitionSlots = slotByTopicPartition.get(topicName);
+    if (partitionSlots == null) {
+      return;
+    }
+    Integer slot = partitionSlots.remove(partitionId);
+    if (partitionSlots.isEmpty()) {
+      slotByTopicPartition.remove(topicName);
+    }
+    if (slot != null) {
+      releaseSlot(slot);
+    }
+  }
+
+  /**
+   * Releases the slots of all the partitions of a topic.
+   */
+  public synchronized void remove(String topicName) {
+    Map<Integer, Integer> partitionSlots = slotByTopicPartition.remove(topicName);
+    if (partitionSlots != null) {
+      partitionSlots.values().forEach(this::releaseSlot);
+    }
+  }
+
+  private void releaseSlot(int slot) {
+    writeSlot(slot, new byte[0], 0, 0, 0, 0);
+    if (freeSlotCount == freeSlots.length) {
+      freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+    }
+    freeSlots[freeSlotCount++] = slot;
+  }
+
+  /**
+   * Reads all the slots which changed since the previous poll, and hands their content over to {@param consumer}.
+   * Slots which are being written are skipped and will be read again at the next poll.
+   *
+   * @return the number of reports handed over.
+   */
+  public synchronized int poll(StatusConsumer consumer) {
+    if (buffer.getInt(MAGIC_OFFSET) != MAGIC || buffer.getInt(SLOT_COUNT_OFFSET) != slotCount) {
+      // The writer did not open the file yet.
+      return 0;
+    }
+    long epoch = buffer.getLong(EPOCH_OFFSET);
+    if (epoch != lastSeenEpoch) {
+      lastSeenEpoch = epoch;
+      lastSeenVersions = new long[slotCount];
+    }
+    int allocatedSlots = Math.min(buffer.getInt(ALLOCATED_SLOT_COUNT_OFFSET), slotCount);
+    int reportCount = 0;
+    byte[] topicBytes = new byte[MAX_TOPIC_LENGTH];
+    for (int slot = 0; slot < allocatedSlots; slot++) {
+      int base = slotPosition(slot);
+      long version = buffer.getLong(base + VERSION_OFFSET);
+      if (version == lastSeenVersions[slot] || (version & 1) != 0) {
+        continue;
+      }
+      long checksum = buffer.getLong(base + CHECKSUM_OFFSET);
+      int reportTypeValue = buffer.getInt(base + REPORT_TYPE_OFFSET);
+      int partitionId = buffer.getInt(base + PARTITION_OFFSET);
+      long offset = buffer.getLong(base + REPORT_OFFSET_OFFSET);
+      long timestampMs = buffer.getLong(base + TIMESTAMP_OFFSET);
+      int topicLength = buffer.getInt(base + TOPIC_LENGTH_OFFSET);
+      if (topicLength < 0 || topicLength > MAX_TOPIC_LENGTH) {
+        continue;
+      }
+      for (int i = 0; i < topicLength; i++) {
+        topicBytes[i] = buffer.get(base + TOPIC_OFFSET + i);
+      }
+      if (buffer.getLong(base + VERSION_OFFSET) != version || checksum != computeChecksum(
+          version,
+          reportTypeValue,
+          partitionId,
+          offset,
+          timestampMs,
+          topicBytes,
+          topicLength)) {
+        continue;
+      }
+      lastSeenVersions[slot] = version;
+      if (topicLength == 0) {
+        // Released slot.
+        continue;
+      }
+      consumer.accept(
+          new String(topicBytes, 0, topicLength, StandardCharsets.UTF_8),
+          partitionId,
+          IngestionReportType.valueOf(reportTypeValue),
+          offset,
+          timestampMs);
+      reportCount++;
+    }
+    return reportCount;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    randomAccessFile.close();
+  }
+
+  private void reset() {
+    for (int position = HEADER_SIZE; position < buffer.capacity(); position += Long.BYTES) {
+      buffer.putLong(position, 0);
+    }
+    buffer.putInt(ALLOCATED_SLOT_COUNT_OFFSET, 0);
+    buffer.putInt(SLOT_COUNT_OFFSET, slotCount);
+    buffer.putLong(EPOCH_OFFSET, System.nanoTime());
+    buffer.putInt(MAGIC_OFFSET, MAGIC);
+  }
+
+  private int allocateSlot() {
+    if (freeSlotCount > 0) {
+      return freeSlots[--freeSlotCount];
+    }
+    if (allocatedSlotCount == slotCount) {
+      return -1;
+    }
+    int slot = allocatedSlotCount++;
+    buffer.putInt(ALLOCATED_SLOT_COUNT_OFFSET, allocatedSlotCount);
+    return slot;
+  }
+
+  private void writeSlot(
+      int slot,
+      byte[] topicBytes,
+      int partitionId,
+      int reportTypeValue,
+      long offset,
+      long timestampMs) {
+    int base = slotPosition(slot);
+    long version = buffer.getLong(base + VERSION_OFFSET);
+    buffer.putLong(base + VERSION_OFFSET, version + 1);
+    buffer.putInt(base + REPORT_TYPE_OFFSET, reportTypeValue);
+    buffer.putInt(base + PARTITION_OFFSET, partitionId);
+    buffer.putLong(base + REPORT_OFFSET_OFFSET, offset);
+    buffer.putLong(base + TIMESTAMP_OFFSET, timestampMs);
+    buffer.putInt(base + TOPIC_LENGTH_OFFSET, topicBytes.length);
+    for (int i = 0; i < topicBytes.length; i++) {
+      buffer.put(base + TOPIC_OFFSET + i, topicBytes[i]);
+    }
+    long newVersion = version + 2;
+    buffer.putLong(
+        base + CHECKSUM_OFFSET,
+        computeChecksum(newVersion, reportTypeValue, partitionId, offset, timestampMs, topicBytes, topicBytes.length));
+    buffer.putLong(base + VERSION_OFFSET, newVersion);
+  }
+
+  private static int slotPosition(int slot) {
+    return HEADER_SIZE + slot * SLOT_SIZE;
+  }
+
+  private static long computeChecksum(
+      long version,
+      int reportTypeValue,
+      int partitionId,
+      long offset,
+      long timestampMs,
+      byte[] topicBytes,
+      int topicLength) {
+    long checksum = version;
+    checksum = checksum * 31 + reportTypeValue;
+    checksum = checksum * 31 + partitionId;
+    checksum = checksum * 31 + offset;
+    checksum = checksum * 31 + timestampMs;
+    for (int i = 0; i < topicLength; i++) {
+      checksum = checksum * 31 + topicBytes[i];
+    }
+    return checksum;
+  }
+}
@@ -9,6 +9,7 @@ import static com.linkedin.venice.ConfigKeys.LOCAL_REGION_NAME;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_ACL_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_PRINCIPAL_NAME;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_SSL_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_STATUS_FILE_ENABLED;
 import static com.linkedin.venice.ingestion.protocol.enums.IngestionAction.COMMAND;
 import static com.linkedin.venice.ingestion.protocol.enums.IngestionAction.GET_LOADED_STORE_USER_PARTITION_MAPPING;
 import static com.linkedin.venice.ingestion.protocol.enums.IngestionAction.HEARTBEAT;
@@ -96,6 +97,7 @@ public class IsolatedIngestionUtils {
   public static final String ISOLATED_INGESTION_CONFIG_FILENAME = "IsolatedIngestionConfig.conf";
   public static final String ISOLATED_INGESTION_KAFKA_CLUSTER_MAP_FILENAME = "IsolatedIngestionKafkaClusterMap.conf";
   public static final String FORKED_PROCESS_METADATA_FILENAME = "ForkedProcessMetadata.conf";
+  public static final String ISOLATED_INGESTION_STATUS_FILENAME = "IsolatedIngestionStatus.mmap";
 
   public static final String PID = "pid";
 
@@ -577,6 +579,15 @@ public class IsolatedIngestionUtils {
     return configLoader.getCombinedProperties().getBoolean(SERVER_INGESTION_ISOLATION_ACL_ENABLED, false);
   }
 
+  public static boolean isolatedIngestionStatusFileEnabled(VeniceConfigLoader configLoader) {
+    return configLoader.getCombinedProperties().getBoolean(SERVER_INGESTION_ISOLATION_STATUS_FILE_ENABLED, false);
+  }
+
+  public static File getIsolatedIngestionStatusFile(VeniceConfigLoader configLoader) {
+    return Paths.get(configLoader.getVeniceServerConfig().getDataBasePath(), ISOLATED_INGESTION_STATUS_FILENAME)
+        .toFile();
+  }
+
   public static boolean sslEnabled(VeniceConfigLoader configLoader) {
     return configLoader.getCombinedProperties().getBoolean(SSL_ENABLED, false);
   }
@@ -16,6 +16,7 @@ import com.linkedin.davinci.replication.merge.RmdSerDe;
 import com.linkedin.davinci.replication.merge.StringAnnotatedStoreSchemaCache;
 import com.linkedin.davinci.stats.AggVersionedIngestionStats;
 import com.linkedin.davinci.storage.chunking.ChunkedValueManifestContainer;
+import com.linkedin.davinci.storage.chunking.ChunkingUtils;
 import com.linkedin.davinci.storage.chunking.RawBytesChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheBackend;
@@ -62,6 +63,7 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -92,12 +94,16 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
   private final Lazy<KeyLevelLocksManager> keyLevelLocksManager;
   private final AggVersionedIngestionStats aggVersionedIngestionStats;
   private final RemoteIngestionRepairService remoteIngestionRepairService;
+  private final boolean batchDcrPrefetchEnabled;
 
   private static class ReusableObjects {
     // reuse buffer for rocksDB value object
     final ByteBuffer reusedByteBuffer = ByteBuffer.allocate(1024 * 1024);
     final BinaryDecoder binaryDecoder =
         AvroCompatibilityHelper.newBinaryDecoder(BINARY_DECODER_PARAM, 0, BINARY_DECODER_PARAM.length, null);
+    // the records prefetched for the poll batch being processed by this thread, and the partition they belong to
+    BatchPrefetchedRecords batchPrefetchedRecords;
+    PartitionConsumptionState batchPrefetchedRecordsOwner;
   }
 
   private final ThreadLocal<ReusableObjects> threadLocalReusableObjects = ThreadLocal.withInitial(ReusableObjects::new);
@@ -153,6 +159,95 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
             isWriteComputationEnabled,
             getServerConfig().isComputeFastAvroEnabled());
     this.remoteIngestionRepairService = builder.getRemoteIngestionRepairService();
+    this.batchDcrPrefetchEnabled = getServerConfig().isAaBatchDcrPrefetchEnabled();
+  }
+
+  /**
+   * When the leader consumes a poll batch from the real-time topic, the existing values and RMDs of the distinct keys
+   * of the batch which have no transient record are looked up with a single batched lookup against both the value and
+   * the RMD column families, instead of two lookups per record. The records are then still resolved one by one, in
+   * offset order and under their key-level lock, in {@link #processMessageAndMaybeProduceToKafka}, which picks up the
+   * prefetched entries when the key has no transient record. See {@link BatchPrefetchedRecords} for why the entries
+   * cannot go stale while the batch is processed.
+   */
+  @Override
+  protected void beforeProcessingBatch(
+      Iterable<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records,
+      PubSubTopicPartition topicPartition,
+      int subPartition) {
+    if (!batchDcrPrefetchEnabled || amplificationFactor != 1 || !topicPartition.getPubSubTopic().isRealTime()) {
+      return;
+    }
+    PartitionConsumptionState partitionConsumptionState = partitionConsumptionStateMap.get(subPartition);
+    // Same conditions as the ones to perform DCR in processMessageAndMaybeProduceToKafka
+    if (partitionConsumptionState == null || !partitionConsumptionState.isEndOfPushReceived()
+        || isDataRecovery && partitionConsumptionState.getTopicSwitch() != null) {
+      return;
+    }
+    List<byte[]> keys = new ArrayList<>();
+    Set<ByteArrayKey> distinctKeys = new HashSet<>();
+    for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: records) {
+      byte[] key = record.getKey().getKey();
+      if (!record.getKey().isControlMessage() && partitionConsumptionState.getTransientRecord(key) == null
+          && distinctKeys.add(ByteArrayKey.wrap(key))) {
+        keys.add(key);
+      }
+    }
+    if (keys.size() < 2) {
+      // Nothing to gain over the per-record lookups.
+      return;
+    }
+
+    BatchPrefetchedRecords batchPrefetchedRecords = new BatchPrefetchedRecords();
+    // The keys must be registered before the lookup, so that the writes persisted meanwhile invalidate them.
+    batchPrefetchedRecords.addPendingKeys(keys);
+    partitionConsumptionState.registerBatchPrefetchedRecords(batchPrefetchedRecords);
+    long lookupStartTimeInNS = System.nanoTime();
+    List<byte[]> values = new ArrayList<>(keys.size());
+    List<byte[]> replicationMetadata = new ArrayList<>(keys.size());
+    try {
+      List<byte[]> lookupKeys = keys;
+      if (isChunked) {
+        lookupKeys = new ArrayList<>(keys.size());
+        for (byte[] key: keys) {
+          lookupKeys.add(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key));
+        }
+      }
+      storageEngine.multiGetWithReplicationMetadata(subPartition, lookupKeys, values, replicationMetadata);
+    } catch (Exception e) {
+      partitionConsumptionState.unregisterBatchPrefetchedRecords(batchPrefetchedRecords);
+      throw e;
+    }
+    for (int i = 0; i < keys.size(); i++) {
+      batchPrefetchedRecords.complete(keys.get(i), values.get(i), replicationMetadata.get(i));
+    }
+    ReusableObjects reusableObjects = threadLocalReusableObjects.get();
+    reusableObjects.batchPrefetchedRecords = batchPrefetchedRecords;
+    reusableObjects.batchPrefetchedRecordsOwner = partitionConsumptionState;
+    hostLevelIngestionStats.recordIngestionBatchPrefetch(
+        keys.size(),
+        LatencyUtils.getLatencyInMS(lookupStartTimeInNS),
+        System.currentTimeMillis());
+  }
+
+  @Override
+  protected void afterProcessingBatch(int subPartition) {
+    ReusableObjects reusableObjects = threadLocalReusableObjects.get();
+    if (reusableObjects.batchPrefetchedRecords != null) {
+      reusableObjects.batchPrefetchedRecordsOwner.unregisterBatchPrefetchedRecords(
+          reusableObjects.batchPrefetchedRecords);
+      reusableObjects.batchPrefetchedRecords = null;
+      reusableObjects.batchPrefetchedRecordsOwner = null;
+    }
+  }
+
+  /**
+   * @return the entry of the key prefetched for the poll batch being processed by the current thread, if any. It must
+   *         only be used when the key has no transient record.
+   */
+  private BatchPrefetchedRecords.Entry getBatchPrefetchedEntry(byte[] key) {
+    BatchPrefetchedRecords batchPrefetchedRecords = threadLocalReusableObjects.get().batchPrefetchedRecords;
+    return batchPrefetchedRecords == null ? null : batchPrefetchedRecords.get(key);
   }
 
   @Override
@@ -323,16 +418,30 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
           cachedRecord.getRmdManifest());
     }
     ChunkedValueManifestContainer rmdManifestContainer = new ChunkedValueManifestContainer();
-    byte[] replicationMetadataWithValueSchemaBytes =
-        getRmdWithValueSchemaByteBufferFromStorage(subPartition, key, rmdManifestContainer, currentTimeForMetricsMs);
+    byte[] replicationMetadataWithValueSchemaBytes;
+    BatchPrefetchedRecords.Entry prefetchedEntry = getBatchPrefetchedEntry(key);
+    if (prefetchedEntry != null) {
+      getHostLevelIngestionStats().recordIngestionBatchPrefetchHitCount(currentTimeForMetricsMs);
+      ValueRecord result = SingleGetChunkingAdapter.getReplicationMetadataFromRawBytes(
+          getStorageEngine(),
+          subPartition,
+          prefetchedEntry.getReplicationMetadata(),
+          rmdManifestContainer);
+      replicationMetadataWithValueSchemaBytes = result == null ? null : result.serialize();
+    } else {
+      replicationMetadataWithValueSchemaBytes =
+          getRmdWithValueSchemaByteBufferFromStorage(subPartition, key, rmdManifestContainer, currentTimeForMetricsMs);
+    }
     if (replicationMetadataWithValueSchemaBytes == null) {
       return null; // No RMD for this key
     }
     RmdWithValueSchemaId rmdWithValueSchemaId = new RmdWithValueSchemaId();
     // Get old RMD manifest value from RMD Manifest container object.
     rmdWithValueSchemaId.setRmdManifest(rmdManifestContainer.getManifest());
-    getRmdSerDe()
-        .deserializeValueSchemaIdPrependedRmdBytes(replicationMetadataWithValueSchemaBytes, rmdWithValueSchemaId);
+    // The RMD record is only deserialized if conflict resolution cannot be decided from its serialized timestamp.
+    getRmdSerDe().deserializeValueSchemaIdPrependedRmdBytesLazily(
+        replicationMetadataWithValueSchemaBytes,
+        rmdWithValueSchemaId);
     return rmdWithValueSchemaId;
   }
 
@@ -427,9 +536,22 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
         getReplicationMetadataAndSchemaId(partitionConsumptionState, keyBytes, subPartition, currentTimeForMetricsMs);
 
     final long writeTimestamp = getWriteTimestampFromKME(kafkaValue);
+    /**
+     * When a PUT or DELETE is known to lose from the serialized RMD timestamp alone, it is ignored without ever
+     * deserializing the RMD record. The serialized timestamp is only read here: otherwise the RMD record gets
+     * deserialized below, so that the merge does not look at the serialized timestamp a second time. UPDATE always
+     * needs the RMD record, so it is left out of the fast path hit ratio.
+     */
+    final boolean rmdTimestampFastPathApplicable = rmdWithValueSchemaID != null && msgType != MessageType.UPDATE;
+    final boolean ignoredByRmdTimestamp = rmdTimestampFastPathApplicable
+        && mergeConflictResolver.isIgnoredByValueLevelTimestamp(rmdWithValueSchemaID, writeTimestamp);
+    if (rmdTimestampFastPathApplicable) {
+      hostLevelIngestionStats.recordRmdTimestampFastPath(ignoredByRmdTimestamp, currentTimeForMetricsMs);
+    }
+    final boolean readPreOperationRmd = rmdWithValueSchemaID != null && !ignoredByRmdTimestamp;
     final long offsetSumPreOperation =
-        rmdWithValueSchemaID != null ? RmdUtils.extractOffsetVectorSumFromRmd(rmdWithValueSchemaID.getRmdRecord()) : 0;
-    List<Long> recordTimestampsPreOperation = rmdWithValueSchemaID != null
+        readPreOperationRmd ? RmdUtils.extractOffsetVectorSumFromRmd(rmdWithValueSchemaID.getRmdRecord()) : 0;
+    List<Long> recordTimestampsPreOperation = readPreOperationRmd
         ? RmdUtils.extractTimestampFromRmd(rmdWithValueSchemaID.getRmdRecord())
         : Collections.singletonList(0L);
     // get the source offset and the id
@@ -443,30 +565,34 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
     long beforeDCRTimestampInNs = System.nanoTime();
     switch (msgType) {
       case PUT:
-        mergeConflictResult = mergeConflictResolver.put(
-            unwrapByteBufferFromOldValueProvider(oldValueProvider),
-            rmdWithValueSchemaID,
-            ((Put) kafkaValue.payloadUnion).putValue,
-            writeTimestamp,
-            incomingValueSchemaId,
-            sourceOffset,
-            kafkaClusterId,
-            kafkaClusterId // Use the kafka cluster ID as the colo ID for now because one colo/fabric has only one
-                           // Kafka cluster. TODO: evaluate whether it is enough this way, or we need to add a new
-                           // config to represent the mapping from Kafka server URLs to colo ID.
-        );
+        mergeConflictResult = ignoredByRmdTimestamp
+            ? MergeConflictResult.getIgnoredResult()
+            : mergeConflictResolver.put(
+                unwrapByteBufferFromOldValueProvider(oldValueProvider),
+                rmdWithValueSchemaID,
+                ((Put) kafkaValue.payloadUnion).putValue,
+                writeTimestamp,
+                incomingValueSchemaId,
+                sourceOffset,
+                kafkaClusterId,
+                kafkaClusterId // Use the kafka cluster ID as the colo ID for now because one colo/fabric has only one
+                               // Kafka cluster. TODO: evaluate whether it is enough this way, or we need to add a new
+                               // config to represent the mapping from Kafka server URLs to colo ID.
+            );
         getHostLevelIngestionStats()
             .recordIngestionActiveActivePutLatency(LatencyUtils.getLatencyInMS(beforeDCRTimestampInNs));
         break;
 
       case DELETE:
-        mergeConflictResult = mergeConflictResolver.delete(
-            oldValueByteBufferProvider,
-            rmdWithValueSchemaID,
-            writeTimestamp,
-            sourceOffset,
-            kafkaClusterId,
-            kafkaClusterId);
+        mergeConflictResult = ignoredByRmdTimestamp
+            ? MergeConflictResult.getIgnoredResult()
+            : mergeConflictResolver.delete(
+                oldValueByteBufferProvider,
+                rmdWithValueSchemaID,
+                writeTimestamp,
+                sourceOffset,
+                kafkaClusterId,
+                kafkaClusterId);
         getHostLevelIngestionStats()
             .recordIngestionActiveActiveDeleteLatency(LatencyUtils.getLatencyInMS(beforeDCRTimestampInNs));
         break;
@@ -489,6 +615,10 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
         throw new VeniceMessageException(
             ingestionTaskName + " : Invalid/Unrecognized operation type submitted: " + kafkaValue.messageType);
     }
+    IngestionStageTimer stageTimer = getIngestionStageTimer(subPartition);
+    if (stageTimer != null) {
+      stageTimer.recordSince(IngestionStageTimer.Stage.DCR, beforeDCRTimestampInNs);
+    }
 
     if (mergeConflictResult.isUpdateIgnored()) {
       hostLevelIngestionStats.recordUpdateIgnoredDCR();
@@ -646,10 +776,23 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
     // get it from DB.
     PartitionConsumptionState.TransientRecord transientRecord = partitionConsumptionState.getTransientRecord(key);
     if (transientRecord == null) {
-      long lookupStartTimeInNS = System.nanoTime();
       ReusableObjects reusableObjects = threadLocalReusableObjects.get();
       ByteBuffer reusedRawValue = reusableObjects.reusedByteBuffer;
       BinaryDecoder binaryDecoder = reusableObjects.binaryDecoder;
+      BatchPrefetchedRecords.Entry prefetchedEntry = getBatchPrefetchedEntry(key);
+      if (prefetchedEntry != null) {
+        hostLevelIngestionStats.recordIngestionBatchPrefetchHitCount(currentTimeForMetricsMs);
+        return RawBytesChunkingAdapter.INSTANCE.getWithSchemaIdFromRawBytes(
+            storageEngine,
+            getSubPartitionId(key, topicPartition),
+            prefetchedEntry.getValue(),
+            reusedRawValue,
+            binaryDecoder,
+            RawBytesStoreDeserializerCache.getInstance(),
+            compressor.get(),
+            valueManifestContainer);
+      }
+      long lookupStartTimeInNS = System.nanoTime();
       originalValue = RawBytesChunkingAdapter.INSTANCE.getWithSchemaId(
           storageEngine,
           getSubPartitionId(key, topicPartition),
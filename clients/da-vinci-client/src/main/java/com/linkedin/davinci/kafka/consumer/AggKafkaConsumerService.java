@@ -474,7 +474,14 @@ public class AggKafkaConsumerService extends AbstractVeniceService {
     return kafkaUrls;
   }
 
-  byte[] getIngestionInfoFor(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) throws IOException {
+  /**
+   * @param ingestionStageLatencies the per-stage breakdown of the requested partition, if its sampling is enabled,
+   *                                which is attached to the ingestion info of {@param pubSubTopicPartition}.
+   */
+  byte[] getIngestionInfoFor(
+      PubSubTopic versionTopic,
+      PubSubTopicPartition pubSubTopicPartition,
+      Map<String, IngestionStageLatency> ingestionStageLatencies) throws IOException {
     Map<String, Map<String, TopicPartitionIngestionInfo>> topicPartitionIngestionContext = new HashMap<>();
     for (String kafkaUrl: kafkaServerToConsumerServiceMap.keySet()) {
       AbstractKafkaConsumerService consumerService = getKafkaConsumerService(kafkaUrl);
@@ -484,6 +491,9 @@ public class AggKafkaConsumerService extends AbstractVeniceService {
           .entrySet()) {
         PubSubTopicPartition topicPartition = entry.getKey();
         TopicPartitionIngestionInfo topicPartitionIngestionInfo = entry.getValue();
+        if (topicPartition.equals(pubSubTopicPartition)) {
+          topicPartitionIngestionInfo.setIngestionStageLatencies(ingestionStageLatencies);
+        }
         topicPartitionIngestionContext.computeIfAbsent(kafkaUrl, k -> new HashMap<>())
             .put(topicPartition.toString(), topicPartitionIngestionInfo);
       }
@@ -0,0 +1,82 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.davinci.utils.ByteArrayKey;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * The values and RMDs of the keys of a poll batch, which {@link ActiveActiveStoreIngestionTask} reads from the storage
+ * engine with a single batched lookup before resolving the conflicts of the records of the batch one by one.
+ *
+ * An entry is only up-to-date as long as the storage engine holds the latest state of its key, which is the case when
+ * there is no {@link PartitionConsumptionState.TransientRecord} for that key. The batch is registered in the
+ * {@link PartitionConsumptionState} before the lookup, and {@link PartitionConsumptionState#mayRemoveTransientRecord}
+ * invalidates the entry of a key right before removing its transient record, so that a write persisted by another
+ * ingestion thread after the lookup can never be shadowed by a prefetched entry.
+ */
+class BatchPrefetchedRecords {
+  /**
+   * Placeholder of a key whose lookup has not completed yet.
+   */
+  private static final Entry PENDING = new Entry(null, null);
+
+  static class Entry {
+    private final byte[] value;
+    private final byte[] replicationMetadata;
+
+    Entry(byte[] value, byte[] replicationMetadata) {
+      this.value = value;
+      this.replicationMetadata = replicationMetadata;
+    }
+
+    /**
+     * @return the raw bytes of the value as stored in the storage engine, or null if the key is absent.
+     */
+    byte[] getValue() {
+      return value;
+    }
+
+    /**
+     * @return the raw bytes of the RMD as stored in the storage engine, or null if the key has no RMD.
+     */
+    byte[] getReplicationMetadata() {
+      return replicationMetadata;
+    }
+  }
+
+  private final Map<ByteArrayKey, Entry> entries = new VeniceConcurrentHashMap<>();
+
+  /**
+   * Marks the keys which are about to be looked up, which must be done before the lookup starts.
+   */
+  void addPendingKeys(List<byte[]> keys) {
+    for (byte[] key: keys) {
+      entries.put(ByteArrayKey.wrap(key), PENDING);
+    }
+  }
+
+  /**
+   * Fills in the result of the lookup of a key, unless the key got invalidated in the meantime.
+   */
+  void complete(byte[] key, byte[] value, byte[] replicationMetadata) {
+    entries.replace(ByteArrayKey.wrap(key), PENDING, new Entry(value, replicationMetadata));
+  }
+
+  /**
+   * @return the prefetched entry of the key, or null if the key was not prefetched or got invalidated.
+   */
+  Entry get(byte[] key) {
+    Entry entry = entries.get(ByteArrayKey.wrap(key));
+    return entry == PENDING ? null : entry;
+  }
+
+  void invalidate(byte[] key) {
+    entries.remove(ByteArrayKey.wrap(key));
+  }
+
+  int size() {
+    return entries.size();
+  }
+}
@@ -103,6 +103,8 @@ class ConsumptionTask implements Runnable {
 
     // Pre-allocate some variables to clobber in the loop
     long beforePollingTimeStamp;
+    long beforePollingTimeNs;
+    long pollLatencyInNs;
     Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> polledPubSubMessages;
     long beforeProducingToWriteBufferTimestamp;
     ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> consumedDataReceiver;
@@ -139,7 +141,9 @@ class ConsumptionTask implements Runnable {
            * JavaDoc, about how this class could become the sole entry point for all consumer-related interactions,
            * and thus be capable of operating on a non-threadsafe consumer.
            */
+          beforePollingTimeNs = System.nanoTime();
           polledPubSubMessages = pollFunction.get();
+          pollLatencyInNs = System.nanoTime() - beforePollingTimeNs;
           lastSuccessfulPollTimestamp = System.currentTimeMillis();
           aggStats.recordTotalPollRequestLatency(lastSuccessfulPollTimestamp - beforePollingTimeStamp);
           if (!polledPubSubMessages.isEmpty()) {
@@ -179,7 +183,7 @@ class ConsumptionTask implements Runnable {
                   .computeIfAbsent(pubSubTopicPartition, tp -> createRate(lastSuccessfulPollTimestamp))
                   .record(payloadSizePerTopicPartition, lastSuccessfulPollTimestamp);
 
-              consumedDataReceiver.write(topicPartitionMessages);
+              consumedDataReceiver.write(topicPartitionMessages, pollLatencyInNs);
             }
             aggStats.recordTotalConsumerRecordsProducingToWriterBufferLatency(
                 LatencyUtils.getElapsedTimeInMs(beforeProducingToWriteBufferTimestamp));
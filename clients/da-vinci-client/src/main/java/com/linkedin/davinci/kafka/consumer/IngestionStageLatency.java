@@ -0,0 +1,65 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+
+/**
+ * The latency of one stage of the ingestion path of a partition, as accumulated by {@link IngestionStageTimer} since
+ * the sampling of the partition got enabled.
+ */
+public class IngestionStageLatency {
+  private final long count;
+  private final double totalLatencyInMs;
+  private final double maxLatencyInMs;
+
+  @JsonCreator
+  public IngestionStageLatency(
+      @JsonProperty("count") long count,
+      @JsonProperty("totalLatencyInMs") double totalLatencyInMs,
+      @JsonProperty("maxLatencyInMs") double maxLatencyInMs) {
+    this.count = count;
+    this.totalLatencyInMs = totalLatencyInMs;
+    this.maxLatencyInMs = maxLatencyInMs;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public double getTotalLatencyInMs() {
+    return totalLatencyInMs;
+  }
+
+  public double getMaxLatencyInMs() {
+    return maxLatencyInMs;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    IngestionStageLatency that = (IngestionStageLatency) o;
+    return this.count == that.count
+        && Double.doubleToLongBits(this.totalLatencyInMs) == Double.doubleToLongBits(that.totalLatencyInMs)
+        && Double.doubleToLongBits(this.maxLatencyInMs) == Double.doubleToLongBits(that.maxLatencyInMs);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Long.hashCode(count);
+    result = 31 * result + Double.hashCode(totalLatencyInMs);
+    result = 31 * result + Double.hashCode(maxLatencyInMs);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return "IngestionStageLatency{count=" + count + ", totalLatencyInMs=" + totalLatencyInMs + ", maxLatencyInMs="
+        + maxLatencyInMs + '}';
+  }
+}
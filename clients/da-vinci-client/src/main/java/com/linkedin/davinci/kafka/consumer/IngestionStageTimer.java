@@ -0,0 +1,85 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.venice.meta.ServerAdminAction;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Accumulates the time spent by the records of a partition in each {@link Stage} of the ingestion path, to tell which
+ * stage a lagging partition is bound by.
+ *
+ * A timer only exists for the partitions whose sampling got enabled through
+ * {@link ServerAdminAction#ENABLE_INGESTION_STAGE_SAMPLING}, so that the other partitions only pay for a map lookup
+ * per stage. The stages are recorded by the consumer, drainer and producer callback threads concurrently.
+ */
+class IngestionStageTimer {
+  enum Stage {
+    /** The poll of the shared consumer which returned records of the partition */
+    CONSUMER_POLL,
+    /** The wait of a record in the drainer queue of the {@link StoreBufferService} */
+    QUEUE_WAIT,
+    /** The data integrity validation, by the leader and by the drainer */
+    DIV,
+    /** The deterministic conflict resolution of active/active replication */
+    DCR,
+    /** The compression of the values produced by the leader */
+    COMPRESSION,
+    /** The write or delete in the storage engine, including the record transformer if any */
+    STORAGE_ENGINE_WRITE,
+    /** From producing a record to the version topic until the producer callback */
+    VERSION_TOPIC_PRODUCE
+  }
+
+  private static final Stage[] STAGES = Stage.values();
+
+  private final LongAdder[] counts = new LongAdder[STAGES.length];
+  private final LongAdder[] totalLatenciesInNs = new LongAdder[STAGES.length];
+  private final LongAccumulator[] maxLatenciesInNs = new LongAccumulator[STAGES.length];
+
+  IngestionStageTimer() {
+    for (int i = 0; i < STAGES.length; i++) {
+      counts[i] = new LongAdder();
+      totalLatenciesInNs[i] = new LongAdder();
+      maxLatenciesInNs[i] = new LongAccumulator(Math::max, 0);
+    }
+  }
+
+  void record(Stage stage, long latencyInNs) {
+    int i = stage.ordinal();
+    counts[i].increment();
+    totalLatenciesInNs[i].add(latencyInNs);
+    maxLatenciesInNs[i].accumulate(latencyInNs);
+  }
+
+  void recordSince(Stage stage, long startTimeInNs) {
+    record(stage, System.nanoTime() - startTimeInNs);
+  }
+
+  /**
+   * @return the latency of each stage recorded at least once, in the order of the ingestion path.
+   */
+  Map<String, IngestionStageLatency> getStageLatencies() {
+    Map<String, IngestionStageLatency> stageLatencies = new LinkedHashMap<>();
+    for (Stage stage: STAGES) {
+      int i = stage.ordinal();
+      long count = counts[i].sum();
+      if (count > 0) {
+        stageLatencies.put(
+            stage.name(),
+            new IngestionStageLatency(
+                count,
+                toMs(totalLatenciesInNs[i].sum()),
+                toMs(maxLatenciesInNs[i].get())));
+      }
+    }
+    return stageLatencies;
+  }
+
+  private static double toMs(long latencyInNs) {
+    return (double) latencyInNs / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+}
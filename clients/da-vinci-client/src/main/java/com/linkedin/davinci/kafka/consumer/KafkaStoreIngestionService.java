@@ -282,6 +282,7 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
             .setPubSubConsumerAdapterFactory(pubSubClientsFactory.getConsumerAdapterFactory())
             .setTopicMetadataFetcherThreadPoolSize(serverConfig.getTopicManagerMetadataFetcherThreadPoolSize())
             .setTopicMetadataFetcherConsumerPoolSize(serverConfig.getTopicManagerMetadataFetcherConsumerPoolSize())
+            .setTopicOffsetBulkRefreshEnabled(serverConfig.isTopicManagerBulkOffsetRefreshEnabled())
             .build();
     this.topicManagerRepository =
         new TopicManagerRepository(topicManagerContext, serverConfig.getKafkaBootstrapServers());
@@ -1161,6 +1162,25 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     return response;
   }
 
+  @Override
+  public AdminResponse setIngestionStageSampling(String topicName, ComplementSet<Integer> partitions, boolean enabled) {
+    AdminResponse response = new AdminResponse();
+    StoreIngestionTask ingestionTask = getStoreIngestionTask(topicName);
+    if (ingestionTask != null) {
+      ingestionTask.setIngestionStageSampling(partitions, enabled);
+    } else {
+      String msg = "Ingestion task for " + topicName + " doesn't exist for "
+          + (enabled
+              ? ServerAdminAction.ENABLE_INGESTION_STAGE_SAMPLING
+              : ServerAdminAction.DISABLE_INGESTION_STAGE_SAMPLING)
+          + " admin command";
+      LOGGER.warn(msg);
+      response.setError(true);
+      response.setMessage(msg);
+    }
+    return response;
+  }
+
   public TopicPartitionIngestionContextResponse getTopicPartitionIngestionContext(
       String versionTopic,
       String topicName,
@@ -1171,7 +1191,11 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     PubSubTopic requestTopic = pubSubTopicRepository.getTopic(topicName);
     PubSubTopicPartition pubSubTopicPartition = new PubSubTopicPartitionImpl(requestTopic, partitionNum);
     try {
-      byte[] topicPartitionInfo = aggKafkaConsumerService.getIngestionInfoFor(pubSubVersionTopic, pubSubTopicPartition);
+      StoreIngestionTask ingestionTask = getStoreIngestionTask(versionTopic);
+      Map<String, IngestionStageLatency> ingestionStageLatencies =
+          ingestionTask == null ? null : ingestionTask.getIngestionStageLatencies(partitionNum);
+      byte[] topicPartitionInfo = aggKafkaConsumerService
+          .getIngestionInfoFor(pubSubVersionTopic, pubSubTopicPartition, ingestionStageLatencies);
       topicPartitionIngestionContextResponse.setTopicPartitionIngestionContext(topicPartitionInfo);
     } catch (Exception e) {
       topicPartitionIngestionContextResponse.setError(true);
@@ -2926,9 +2926,15 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
       return null;
     }
     if (shouldCompressData(partitionConsumptionState)) {
+      IngestionStageTimer stageTimer = getIngestionStageTimer(partitionConsumptionState.getPartition());
+      long compressionStartTimeInNs = stageTimer == null ? 0 : System.nanoTime();
       try {
         // We need to expand the front of the returned bytebuffer to make room for schema header insertion
-        return compressor.get().compress(data, ByteUtils.SIZE_OF_INT);
+        ByteBuffer compressedData = compressor.get().compress(data, ByteUtils.SIZE_OF_INT);
+        if (stageTimer != null) {
+          stageTimer.recordSince(IngestionStageTimer.Stage.COMPRESSION, compressionStartTimeInNs);
+        }
+        return compressedData;
       } catch (IOException e) {
         // throw a loud exception if something goes wrong here
         throw new RuntimeException(
@@ -3148,15 +3154,19 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
       long writeComputeStartTimeInNS = System.nanoTime();
       // Leader nodes are the only ones which process UPDATES, so it's valid to always compress and not call
       // 'maybeCompress'.
-      updatedValueBytes = compressor.get()
-          .compress(
-              storeWriteComputeHandler.applyWriteCompute(
-                  currValue,
-                  update.schemaId,
-                  readerValueSchemaId,
-                  update.updateValue,
-                  update.updateSchemaId,
-                  readerUpdateProtocolVersion));
+      byte[] uncompressedValueBytes = storeWriteComputeHandler.applyWriteCompute(
+          currValue,
+          update.schemaId,
+          readerValueSchemaId,
+          update.updateValue,
+          update.updateSchemaId,
+          readerUpdateProtocolVersion);
+      IngestionStageTimer stageTimer = getIngestionStageTimer(subPartition);
+      long compressionStartTimeInNs = stageTimer == null ? 0 : System.nanoTime();
+      updatedValueBytes = compressor.get().compress(uncompressedValueBytes);
+      if (stageTimer != null) {
+        stageTimer.recordSince(IngestionStageTimer.Stage.COMPRESSION, compressionStartTimeInNs);
+      }
       hostLevelIngestionStats.recordWriteComputeUpdateLatency(LatencyUtils.getLatencyInMS(writeComputeStartTimeInNS));
     } catch (Exception e) {
       writeComputeFailureCode = StatsErrorCode.WRITE_COMPUTE_UPDATE_FAILURE.code;
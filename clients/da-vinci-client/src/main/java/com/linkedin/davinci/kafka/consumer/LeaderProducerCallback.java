@@ -141,6 +141,10 @@ public class LeaderProducerCallback implements ChunkAwareCallback {
                   currentTimeForMetricsMs);
         }
       }
+      IngestionStageTimer stageTimer = ingestionTask.getIngestionStageTimer(subPartition);
+      if (stageTimer != null && produceTimeNs != 0) {
+        stageTimer.recordSince(IngestionStageTimer.Stage.VERSION_TOPIC_PRODUCE, produceTimeNs);
+      }
       // update the keyBytes for the ProducedRecord in case it was changed due to isChunkingEnabled flag in
       // VeniceWriter.
       if (key != null) {
@@ -19,10 +19,12 @@ import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.writer.LeaderCompleteState;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
 import org.apache.avro.generic.GenericRecord;
 
@@ -132,6 +134,12 @@ public class PartitionConsumptionState {
    */
   private final ConcurrentMap<ByteArrayKey, TransientRecord> transientRecordMap = new VeniceConcurrentHashMap<>();
 
+  /**
+   * The poll batches whose records are being looked up or processed by {@link ActiveActiveStoreIngestionTask} with
+   * values and RMDs prefetched from the storage engine. Their entries are invalidated along with the transient records.
+   */
+  private final List<BatchPrefetchedRecords> batchPrefetchedRecordsList = new CopyOnWriteArrayList<>();
+
   /**
    * In-memory hash set which keeps track of all previous status this sub-partition has reported. It is the in-memory
    * cache of the previousStatuses field in {@link com.linkedin.venice.kafka.protocol.state.PartitionState} inside
@@ -580,6 +588,10 @@ public class PartitionConsumptionState {
    * @return
    */
   public TransientRecord mayRemoveTransientRecord(int kafkaClusterId, long kafkaConsumedOffset, byte[] key) {
+    // The prefetched entries must be invalidated before the transient record goes away, see BatchPrefetchedRecords.
+    for (BatchPrefetchedRecords batchPrefetchedRecords: batchPrefetchedRecordsList) {
+      batchPrefetchedRecords.invalidate(key);
+    }
     TransientRecord removed = transientRecordMap.computeIfPresent(ByteArrayKey.wrap(key), (k, v) -> {
       if (v.kafkaClusterId == kafkaClusterId && v.kafkaConsumedOffset == kafkaConsumedOffset) {
         return null;
@@ -590,6 +602,14 @@ public class PartitionConsumptionState {
     return removed;
   }
 
+  void registerBatchPrefetchedRecords(BatchPrefetchedRecords batchPrefetchedRecords) {
+    batchPrefetchedRecordsList.add(batchPrefetchedRecords);
+  }
+
+  void unregisterBatchPrefetchedRecords(BatchPrefetchedRecords batchPrefetchedRecords) {
+    batchPrefetchedRecordsList.remove(batchPrefetchedRecords);
+  }
+
   public int getSourceTopicPartitionNumber(PubSubTopic topic) {
     if (topic.isRealTime()) {
       return getUserPartition();
@@ -147,6 +147,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
               ingestionTask,
               kafkaUrl,
               beforeProcessingRecordTimestampNs,
+              getQueuedTimestampNs(ingestionTask, subPartition),
               recordFuture));
 
       // Setup the last queued record's future
@@ -189,9 +190,17 @@ public class StoreBufferService extends AbstractStoreBufferService {
             ingestionTask,
             kafkaUrl,
             beforeProcessingRecordTimestamp,
+            getQueuedTimestampNs(ingestionTask, subPartition),
             leaderProducedRecordContext));
   }
 
+  /**
+   * @return the time at which the record is queued, only taken for the partitions whose ingestion stages are sampled.
+   */
+  private static long getQueuedTimestampNs(StoreIngestionTask ingestionTask, int subPartition) {
+    return ingestionTask.getIngestionStageTimer(subPartition) == null ? 0 : System.nanoTime();
+  }
+
   private static void processRecord(
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
       StoreIngestionTask ingestionTask,
@@ -238,7 +247,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
               + topicPartition.getPubSubTopic().getName());
     }
 
-    QueueNode fakeNode = new QueueNode(fakeRecord, null, "dummyKafkaUrl", 0);
+    QueueNode fakeNode = new QueueNode(fakeRecord, null, "dummyKafkaUrl", 0, 0);
 
     int cur = 0;
     while (cur++ < retryNum) {
@@ -362,16 +371,19 @@ public class StoreBufferService extends AbstractStoreBufferService {
     private final StoreIngestionTask ingestionTask;
     private final String kafkaUrl;
     private final long beforeProcessingRecordTimestampNs;
+    private final long queuedTimestampNs;
 
     public QueueNode(
         PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
         StoreIngestionTask ingestionTask,
         String kafkaUrl,
-        long beforeProcessingRecordTimestampNs) {
+        long beforeProcessingRecordTimestampNs,
+        long queuedTimestampNs) {
       this.consumerRecord = consumerRecord;
       this.ingestionTask = ingestionTask;
       this.kafkaUrl = kafkaUrl;
       this.beforeProcessingRecordTimestampNs = beforeProcessingRecordTimestampNs;
+      this.queuedTimestampNs = queuedTimestampNs;
     }
 
     public PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> getConsumerRecord() {
@@ -398,6 +410,10 @@ public class StoreBufferService extends AbstractStoreBufferService {
       return this.beforeProcessingRecordTimestampNs;
     }
 
+    public long getQueuedTimestampNs() {
+      return this.queuedTimestampNs;
+    }
+
     /**
      * This function is being used by {@link BlockingQueue#contains(Object)}.
      * The goal is to find out whether the buffered queue still has any records belonging to the specified topic+partition.
@@ -467,8 +483,9 @@ public class StoreBufferService extends AbstractStoreBufferService {
         StoreIngestionTask ingestionTask,
         String kafkaUrl,
         long beforeProcessingRecordTimestampNs,
+        long queuedTimestampNs,
         CompletableFuture<Void> queuedRecordPersistedFuture) {
-      super(consumerRecord, ingestionTask, kafkaUrl, beforeProcessingRecordTimestampNs);
+      super(consumerRecord, ingestionTask, kafkaUrl, beforeProcessingRecordTimestampNs, queuedTimestampNs);
       this.queuedRecordPersistedFuture = queuedRecordPersistedFuture;
     }
 
@@ -496,8 +513,9 @@ public class StoreBufferService extends AbstractStoreBufferService {
         StoreIngestionTask ingestionTask,
         String kafkaUrl,
         long beforeProcessingRecordTimestampNs,
+        long queuedTimestampNs,
         LeaderProducedRecordContext leaderProducedRecordContext) {
-      super(consumerRecord, ingestionTask, kafkaUrl, beforeProcessingRecordTimestampNs);
+      super(consumerRecord, ingestionTask, kafkaUrl, beforeProcessingRecordTimestampNs, queuedTimestampNs);
       this.leaderProducedRecordContext = leaderProducedRecordContext;
     }
 
@@ -560,6 +578,11 @@ public class StoreBufferService extends AbstractStoreBufferService {
 
           int subPartition = PartitionUtils
               .getSubPartition(consumerRecord.getTopicPartition(), ingestionTask.getAmplificationFactor());
+          IngestionStageTimer stageTimer = ingestionTask.getIngestionStageTimer(subPartition);
+          // The sampling may have been enabled after the record got queued
+          if (stageTimer != null && node.getQueuedTimestampNs() != 0) {
+            stageTimer.recordSince(IngestionStageTimer.Stage.QUEUE_WAIT, node.getQueuedTimestampNs());
+          }
 
           processRecord(
               consumerRecord,
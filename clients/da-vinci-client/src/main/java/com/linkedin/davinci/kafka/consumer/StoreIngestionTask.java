@@ -15,7 +15,9 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.MINUTES;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.davinci.client.DaVinciRecordTransformer;
+import com.linkedin.davinci.client.TransformedValueOutputBuffer;
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
@@ -83,11 +85,14 @@ import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.pubsub.api.exceptions.PubSubUnsubscribedTopicPartitionException;
 import com.linkedin.venice.pubsub.manager.TopicManager;
 import com.linkedin.venice.pubsub.manager.TopicManagerRepository;
+import com.linkedin.venice.schema.SchemaData;
 import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.serialization.IdentityRecordDeserializer;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.serializer.AvroGenericDeserializer;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.system.store.MetaStoreWriter;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.ComplementSet;
@@ -137,6 +142,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
 import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -220,6 +226,11 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
    * flushed to the metadata partition of the storage engine regularly in {@link #syncOffset(String, PartitionConsumptionState)}
    */
   private final KafkaDataIntegrityValidator kafkaDataIntegrityValidator;
+  /**
+   * The stage timers of the partitions whose sampling is enabled by admin requests, keyed like
+   * {@link #partitionConsumptionStateMap}. Empty unless someone is looking into the ingestion of a partition.
+   */
+  private final Map<Integer, IngestionStageTimer> ingestionStageTimers = new VeniceConcurrentHashMap<>();
   protected final HostLevelIngestionStats hostLevelIngestionStats;
   protected final AggVersionedDIVStats versionedDIVStats;
   protected final AggVersionedIngestionStats versionedIngestionStats;
@@ -300,6 +311,21 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
   private final Optional<ObjectCacheBackend> cacheBackend;
   private final DaVinciRecordTransformer recordTransformer;
 
+  /**
+   * Schema id written in the header of the values produced by {@link #recordTransformer}, resolved once.
+   */
+  private final Lazy<Integer> transformedValueSchemaId = Lazy.of(this::resolveTransformedValueSchemaId);
+  private static final byte[] BINARY_DECODER_PARAM = new byte[16];
+
+  private static class TransformerReusableObjects {
+    final TransformedValueOutputBuffer outputBuffer = new TransformedValueOutputBuffer();
+    BinaryDecoder binaryDecoder =
+        AvroCompatibilityHelper.newBinaryDecoder(BINARY_DECODER_PARAM, 0, BINARY_DECODER_PARAM.length, null);
+  }
+
+  private final ThreadLocal<TransformerReusableObjects> threadLocalTransformerReusableObjects =
+      ThreadLocal.withInitial(TransformerReusableObjects::new);
+
   protected final String localKafkaServer;
   protected final int localKafkaClusterId;
   protected final Set<String> localKafkaServerSingletonSet;
@@ -1039,6 +1065,19 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     }
   }
 
+  /**
+   * Invoked by {@link #produceToStoreBufferServiceOrKafka} before the records of a poll batch are processed one by one.
+   * {@link #afterProcessingBatch(int)} is always invoked once they are all processed, even if the processing failed.
+   */
+  protected void beforeProcessingBatch(
+      Iterable<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records,
+      PubSubTopicPartition topicPartition,
+      int subPartition) {
+  }
+
+  protected void afterProcessingBatch(int subPartition) {
+  }
+
   /**
    * This function is in charge of producing the consumer records to the writer buffers maintained by {@link StoreBufferService}.
    *
@@ -1053,9 +1092,23 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
       PubSubTopicPartition topicPartition,
       String kafkaUrl,
       int kafkaClusterId) throws InterruptedException {
+    int subPartition = PartitionUtils.getSubPartition(topicPartition, amplificationFactor);
+    beforeProcessingBatch(records, topicPartition, subPartition);
+    try {
+      produceBatchToStoreBufferServiceOrKafka(records, topicPartition, subPartition, kafkaUrl, kafkaClusterId);
+    } finally {
+      afterProcessingBatch(subPartition);
+    }
+  }
+
+  private void produceBatchToStoreBufferServiceOrKafka(
+      Iterable<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records,
+      PubSubTopicPartition topicPartition,
+      int subPartition,
+      String kafkaUrl,
+      int kafkaClusterId) throws InterruptedException {
     long totalBytesRead = 0;
     double elapsedTimeForPuttingIntoQueue = 0;
-    int subPartition = PartitionUtils.getSubPartition(topicPartition, amplificationFactor);
     boolean metricsEnabled = emitMetrics.get();
     long beforeProcessingBatchRecordsTimestampMs = System.currentTimeMillis();
     for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: records) {
@@ -1876,6 +1929,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
          * two variables to avoid the race condition.
          */
         partitionConsumptionStateMap.remove(partition);
+        ingestionStageTimers.remove(partition);
         storageUtilizationManager.removePartition(partition);
         kafkaDataIntegrityValidator.clearPartition(partition);
         // Reset the error partition tracking
@@ -2951,6 +3005,8 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
                   .getTopicMinLogCompactionLagMs(pubSubTopic));
     });
 
+    IngestionStageTimer stageTimer = getIngestionStageTimer(partitionConsumptionState.getPartition());
+    long divStartTimeInNs = stageTimer == null ? 0 : System.nanoTime();
     try {
       validator.validateMessage(consumerRecord, endOfPushReceived, tolerateMissingMsgs);
     } catch (FatalDataValidationException fatalException) {
@@ -2980,6 +3036,10 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
          */
         validator.validateMessage(consumerRecord, true, Lazy.TRUE);
       }
+    } finally {
+      if (stageTimer != null) {
+        stageTimer.recordSince(IngestionStageTimer.Stage.DIV, divStartTimeInNs);
+      }
     }
   }
 
@@ -3171,7 +3231,8 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
 
     boolean metricsEnabled = emitMetrics.get();
     boolean traceEnabled = LOGGER.isTraceEnabled();
-    long startTimeNs = (metricsEnabled || traceEnabled) ? System.nanoTime() : 0;
+    IngestionStageTimer stageTimer = getIngestionStageTimer(producedPartition);
+    long startTimeNs = (metricsEnabled || traceEnabled || stageTimer != null) ? System.nanoTime() : 0;
 
     switch (messageType) {
       case PUT:
@@ -3197,6 +3258,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
           long recordTransformStartTime = System.currentTimeMillis();
           ByteBuffer valueBytes = put.getPutValue();
           Schema valueSchema = schemaRepository.getValueSchema(storeName, putSchemaId).getSchema();
+          boolean rawValueTransformation = recordTransformer.isRawValueTransformationEnabled();
 
           // Decompress/assemble record
           Object assembledObject = chunkAssembler.bufferAndAssembleRecord(
@@ -3205,7 +3267,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
               keyBytes,
               valueBytes,
               consumerRecord.getOffset(),
-              Lazy.of(() -> new AvroGenericDeserializer<>(valueSchema, valueSchema)),
+              Lazy.of(() -> getTransformerValueDeserializer(rawValueTransformation, valueSchema)),
               putSchemaId,
               compressor.get());
 
@@ -3214,29 +3276,57 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
             return 0;
           }
 
-          SchemaEntry keySchema = schemaRepository.getKeySchema(storeName);
-          Lazy<Object> lazyKey = Lazy.of(() -> deserializeAvroObjectAndReturn(ByteBuffer.wrap(keyBytes), keySchema));
-          Lazy<Object> lazyValue = Lazy.of(() -> assembledObject);
-
-          Object transformedRecord = null;
+          TransformerReusableObjects reusableObjects = threadLocalTransformerReusableObjects.get();
+          TransformedValueOutputBuffer output = reusableObjects.outputBuffer;
+          output.reset();
+          boolean keepRecord;
           try {
-            transformedRecord = recordTransformer.put(lazyKey, lazyValue);
+            if (rawValueTransformation) {
+              ByteBuffer rawValue = (ByteBuffer) assembledObject;
+              if (!rawValue.hasArray()) {
+                // The decoder needs a backing array, e.g. the decompressor may have produced a direct buffer.
+                rawValue = ByteBuffer.wrap(ByteUtils.extractByteArray(rawValue));
+              }
+              reusableObjects.binaryDecoder = AvroCompatibilityHelper.newBinaryDecoder(
+                  rawValue.array(),
+                  rawValue.arrayOffset() + rawValue.position(),
+                  rawValue.remaining(),
+                  reusableObjects.binaryDecoder);
+              keepRecord = recordTransformer.transformRawValue(
+                  ByteBuffer.wrap(keyBytes),
+                  rawValue,
+                  putSchemaId,
+                  valueSchema,
+                  reusableObjects.binaryDecoder,
+                  output);
+            } else {
+              Lazy<Object> lazyKey = Lazy.of(() -> deserializeTransformerKey(keyBytes));
+              Lazy<Object> lazyValue = Lazy.of(() -> assembledObject);
+              Object transformedRecord = recordTransformer.put(lazyKey, lazyValue);
+              keepRecord = true;
+              recordTransformer.writeOutputValue(transformedRecord, output);
+            }
           } catch (Exception e) {
             versionedIngestionStats.recordTransformerError(storeName, versionNumber, 1, currentTimeMs);
             String errorMessage = "Record transformer experienced an error when transforming value=" + assembledObject;
 
             throw new VeniceMessageException(errorMessage, e);
           }
-          ByteBuffer transformedBytes =
-              recordTransformer.getValueBytes(recordTransformer.getValueOutputSchema(), transformedRecord);
 
-          put.putValue = transformedBytes;
           versionedIngestionStats.recordTransformerLatency(
               storeName,
               versionNumber,
               LatencyUtils.getElapsedTimeInMs(recordTransformStartTime),
               currentTimeMs);
-          writeToStorageEngine(producedPartition, keyBytes, put);
+          if (keepRecord) {
+            // The output buffer is reused for the next record, so the original value is restored after the write.
+            put.putValue = output.toByteBuffer(transformedValueSchemaId.get());
+            try {
+              writeToStorageEngine(producedPartition, keyBytes, put);
+            } finally {
+              put.putValue = valueBytes;
+            }
+          }
         } else {
           prependHeaderAndWriteToStorageEngine(
               // Leaders might consume from a RT topic and immediately write into StorageEngine,
@@ -3255,6 +3345,9 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
           hostLevelIngestionStats
               .recordStorageEnginePutLatency(LatencyUtils.getLatencyInMS(startTimeNs), currentTimeMs);
         }
+        if (stageTimer != null) {
+          stageTimer.recordSince(IngestionStageTimer.Stage.STORAGE_ENGINE_WRITE, startTimeNs);
+        }
         break;
 
       case DELETE:
@@ -3267,11 +3360,17 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
           delete = ((Delete) leaderProducedRecordContext.getValueUnion());
         }
         keyLen = keyBytes.length;
+        if (recordTransformer != null && recordTransformer.isRawValueTransformationEnabled()) {
+          recordTransformer.onRawDelete(ByteBuffer.wrap(keyBytes));
+        }
         deleteFromStorageEngine(producedPartition, keyBytes, delete);
         if (metricsEnabled && recordLevelMetricEnabled.get()) {
           hostLevelIngestionStats
               .recordStorageEngineDeleteLatency(LatencyUtils.getLatencyInMS(startTimeNs), currentTimeMs);
         }
+        if (stageTimer != null) {
+          stageTimer.recordSince(IngestionStageTimer.Stage.STORAGE_ENGINE_WRITE, startTimeNs);
+        }
         break;
 
       case UPDATE:
@@ -3477,8 +3576,38 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     }
   }
 
-  private Object deserializeAvroObjectAndReturn(ByteBuffer input, SchemaEntry schemaEntry) {
-    return new AvroGenericDeserializer<>(schemaEntry.getSchema(), schemaEntry.getSchema()).deserialize(input);
+  @SuppressWarnings("unchecked")
+  private static RecordDeserializer<Object> getTransformerValueDeserializer(
+      boolean rawValueTransformation,
+      Schema valueSchema) {
+    if (rawValueTransformation) {
+      // Raw value transformers decode the value themselves, so only decompression and chunk assembly are needed.
+      return (RecordDeserializer<Object>) (RecordDeserializer<?>) IdentityRecordDeserializer.getInstance();
+    }
+    return FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(valueSchema, valueSchema);
+  }
+
+  /**
+   * @return the id under which the output value schema of {@link #recordTransformer} is registered in the store, so
+   *         that the transformed values can be read back with it.
+   * @throws VeniceException if the output value schema is not registered, rather than writing the transformed values
+   *         under the id of another schema.
+   */
+  private int resolveTransformedValueSchemaId() {
+    Schema outputValueSchema = recordTransformer.getValueOutputSchema();
+    int schemaId = schemaRepository.getValueSchemaId(storeName, outputValueSchema.toString());
+    if (schemaId == SchemaData.INVALID_VALUE_SCHEMA_ID) {
+      throw new VeniceException(
+          "Value output schema of the record transformer of " + kafkaVersionTopic
+              + " is not registered in the store: " + outputValueSchema);
+    }
+    return schemaId;
+  }
+
+  private Object deserializeTransformerKey(byte[] keyBytes) {
+    Schema keySchema = schemaRepository.getKeySchema(storeName).getSchema();
+    return FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(keySchema, keySchema)
+        .deserialize(ByteBuffer.wrap(keyBytes));
   }
 
   private void maybeCloseInactiveIngestionTask() {
@@ -3749,6 +3878,54 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     }
   }
 
+  /**
+   * Invoked by admin request to enable or disable the per-stage latency sampling of the requested partitions. Enabling
+   * the sampling of a partition resets its stage latencies.
+   */
+  public void setIngestionStageSampling(ComplementSet<Integer> partitions, boolean enabled) {
+    if (enabled) {
+      for (Integer partition: partitionConsumptionStateMap.keySet()) {
+        if (partitions.contains(partition)) {
+          ingestionStageTimers.put(partition, new IngestionStageTimer());
+        }
+      }
+    } else {
+      ingestionStageTimers.keySet().removeIf(partitions::contains);
+    }
+    LOGGER.info(
+        "Ingestion stage sampling of {} is now enabled for partitions: {}",
+        kafkaVersionTopic,
+        ingestionStageTimers.keySet());
+  }
+
+  /**
+   * @return the latency of each ingestion stage of the partition since its sampling got enabled, or null if the
+   *         sampling of the partition is disabled.
+   */
+  public Map<String, IngestionStageLatency> getIngestionStageLatencies(int partition) {
+    IngestionStageTimer stageTimer = ingestionStageTimers.get(partition);
+    return stageTimer == null ? null : stageTimer.getStageLatencies();
+  }
+
+  /**
+   * @return the stage timer of the partition, or null if its sampling is disabled, which is the common case that the
+   *         hot path checks first.
+   */
+  IngestionStageTimer getIngestionStageTimer(int partition) {
+    return ingestionStageTimers.isEmpty() ? null : ingestionStageTimers.get(partition);
+  }
+
+  /**
+   * Invoked by {@link StorePartitionDataReceiver} with the latency of the poll which returned records of the partition.
+   */
+  void recordConsumerPollLatency(PubSubTopicPartition topicPartition, long pollLatencyInNs) {
+    IngestionStageTimer stageTimer =
+        getIngestionStageTimer(PartitionUtils.getSubPartition(topicPartition, amplificationFactor));
+    if (stageTimer != null) {
+      stageTimer.record(IngestionStageTimer.Stage.CONSUMER_POLL, pollLatencyInNs);
+    }
+  }
+
   /**
    * Invoked by admin request to dump store version state metadata.
    */
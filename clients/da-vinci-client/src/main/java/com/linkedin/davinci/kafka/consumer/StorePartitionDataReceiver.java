@@ -81,6 +81,13 @@ public class StorePartitionDataReceiver
     }
   }
 
+  @Override
+  public void write(List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> consumedData, long pollLatencyInNs)
+      throws Exception {
+    storeIngestionTask.recordConsumerPollLatency(topicPartition, pollLatencyInNs);
+    write(consumedData);
+  }
+
   @Override
   public PubSubTopic destinationIdentifier() {
     return storeIngestionTask.getVersionTopic();
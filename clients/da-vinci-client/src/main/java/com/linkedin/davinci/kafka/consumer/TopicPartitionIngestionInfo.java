@@ -2,6 +2,8 @@ package com.linkedin.davinci.kafka.consumer;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+import java.util.Objects;
 
 
 public class TopicPartitionIngestionInfo {
@@ -11,6 +13,10 @@ public class TopicPartitionIngestionInfo {
   private double byteRate;
   private int consumerIdx;
   private long elapsedTimeSinceLastPollInMs;
+  /**
+   * The latency of each ingestion stage of the partition, only present while the sampling of the partition is enabled.
+   */
+  private Map<String, IngestionStageLatency> ingestionStageLatencies;
 
   @JsonCreator
   public TopicPartitionIngestionInfo(
@@ -72,6 +78,14 @@ public class TopicPartitionIngestionInfo {
     this.elapsedTimeSinceLastPollInMs = elapsedTimeSinceLastPollInMs;
   }
 
+  public Map<String, IngestionStageLatency> getIngestionStageLatencies() {
+    return ingestionStageLatencies;
+  }
+
+  public void setIngestionStageLatencies(Map<String, IngestionStageLatency> ingestionStageLatencies) {
+    this.ingestionStageLatencies = ingestionStageLatencies;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -86,7 +100,8 @@ public class TopicPartitionIngestionInfo {
         && Double.doubleToLongBits(this.msgRate) == Double.doubleToLongBits(topicPartitionIngestionInfo.getMsgRate())
         && Double.doubleToLongBits(this.byteRate) == Double.doubleToLongBits(topicPartitionIngestionInfo.getByteRate())
         && this.consumerIdx == topicPartitionIngestionInfo.getConsumerIdx()
-        && this.elapsedTimeSinceLastPollInMs == topicPartitionIngestionInfo.getElapsedTimeSinceLastPollInMs();
+        && this.elapsedTimeSinceLastPollInMs == topicPartitionIngestionInfo.getElapsedTimeSinceLastPollInMs()
+        && Objects.equals(this.ingestionStageLatencies, topicPartitionIngestionInfo.getIngestionStageLatencies());
   }
 
   @Override
@@ -97,6 +112,7 @@ public class TopicPartitionIngestionInfo {
     result = 31 * result + Double.hashCode(byteRate);
     result = 31 * result + consumerIdx;
     result = 31 * result + Long.hashCode(elapsedTimeSinceLastPollInMs);
+    result = 31 * result + Objects.hashCode(ingestionStageLatencies);
     return result;
   }
 }
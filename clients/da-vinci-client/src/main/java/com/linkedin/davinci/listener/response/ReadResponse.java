@@ -1,6 +1,7 @@
 package com.linkedin.davinci.listener.response;
 
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.read.ReadTrace;
 import io.netty.buffer.ByteBuf;
 import it.unimi.dsi.fastutil.ints.IntList;
 
@@ -13,7 +14,7 @@ public abstract class ReadResponse {
   private double readComputeLatency = -1;
   private double readComputeDeserializationLatency = -1;
   private double readComputeSerializationLatency = -1;
-  private double storageExecutionSubmissionWaitTime;
+  private double storageExecutionSubmissionWaitTime = -1;
   private int storageExecutionQueueLen = -1;
   private int multiChunkLargeValueCount = 0;
   private CompressionStrategy compressionStrategy = CompressionStrategy.NO_OP;
@@ -27,6 +28,7 @@ public abstract class ReadResponse {
   private int hadamardProductCount = 0;
   private int countOperatorCount = 0;
   private int rcu = 0;
+  private ReadTrace readTrace = null;
 
   public void setCompressionStrategy(CompressionStrategy compressionStrategy) {
     this.compressionStrategy = compressionStrategy;
@@ -156,6 +158,21 @@ public abstract class ReadResponse {
     return this.rcu;
   }
 
+  /**
+   * Set the trace of the request, if it asked for one, so that the stages which are not measured for every request
+   * are only measured for the traced ones.
+   */
+  public void setReadTrace(ReadTrace readTrace) {
+    this.readTrace = readTrace;
+  }
+
+  /**
+   * @return the trace of the request, or null if it did not ask for one
+   */
+  public ReadTrace getReadTrace() {
+    return readTrace;
+  }
+
   public int getStorageExecutionQueueLen() {
     return storageExecutionQueueLen;
   }
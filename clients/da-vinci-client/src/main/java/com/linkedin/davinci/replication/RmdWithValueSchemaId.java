@@ -1,6 +1,7 @@
 package com.linkedin.davinci.replication;
 
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.lazy.Lazy;
 import org.apache.avro.generic.GenericRecord;
 
 
@@ -9,11 +10,16 @@ import org.apache.avro.generic.GenericRecord;
  *    1. RMD record.
  *    2. RMD protocol version ID.
  *    3. Value schema ID used to generate the RMD schema.
+ *
+ * The RMD record can also be deserialized on demand, see {@link #setLazyRmdRecord(byte[], Lazy)}, so that conflict
+ * resolution can look at the serialized RMD first and skip the deserialization when it is not needed.
  */
 public class RmdWithValueSchemaId {
   private int valueSchemaId;
   private int rmdProtocolVersionId;
   private GenericRecord rmdRecord;
+  private byte[] valueSchemaIdPrependedRmdBytes;
+  private Lazy<GenericRecord> lazyRmdRecord;
 
   private ChunkedValueManifest rmdManifest;
 
@@ -47,6 +53,26 @@ public class RmdWithValueSchemaId {
 
   public void setRmdRecord(GenericRecord rmdRecord) {
     this.rmdRecord = rmdRecord;
+    this.valueSchemaIdPrependedRmdBytes = null;
+    this.lazyRmdRecord = null;
+  }
+
+  /**
+   * Sets the serialized RMD, with the value schema ID prepended, and the way to deserialize it on the first call to
+   * {@link #getRmdRecord()}.
+   */
+  public void setLazyRmdRecord(byte[] valueSchemaIdPrependedRmdBytes, Lazy<GenericRecord> lazyRmdRecord) {
+    this.rmdRecord = null;
+    this.valueSchemaIdPrependedRmdBytes = valueSchemaIdPrependedRmdBytes;
+    this.lazyRmdRecord = lazyRmdRecord;
+  }
+
+  /**
+   * @return the serialized RMD with the value schema ID prepended, as long as the RMD record has not been deserialized
+   *         yet, and null otherwise.
+   */
+  public byte[] getUndeserializedRmdBytes() {
+    return lazyRmdRecord == null || lazyRmdRecord.isPresent() ? null : valueSchemaIdPrependedRmdBytes;
   }
 
   public void setRmdManifest(ChunkedValueManifest rmdManifest) {
@@ -54,6 +80,9 @@ public class RmdWithValueSchemaId {
   }
 
   public GenericRecord getRmdRecord() {
+    if (rmdRecord == null && lazyRmdRecord != null) {
+      rmdRecord = lazyRmdRecord.get();
+    }
     return rmdRecord;
   }
 
@@ -134,6 +134,9 @@ public class MergeConflictResolver {
           "Invalid schema Id of old value found when replication metadata exists for store = " + storeName
               + "; schema ID = " + rmdWithValueSchemaID.getValueSchemaId());
     }
+    if (isIgnoredByValueLevelTimestamp(rmdWithValueSchemaID, putOperationTimestamp)) {
+      return MergeConflictResult.getIgnoredResult();
+    }
     final GenericRecord oldRmdRecord = rmdWithValueSchemaID.getRmdRecord();
     final Object oldTimestampObject = oldRmdRecord.get(TIMESTAMP_FIELD_POS);
 
@@ -197,7 +200,9 @@ public class MergeConflictResolver {
           "Invalid schema ID of old value found when replication metadata exists for store " + storeName
               + "; invalid value schema ID: " + oldValueSchemaID);
     }
-
+    if (isIgnoredByValueLevelTimestamp(rmdWithValueSchemaID, deleteOperationTimestamp)) {
+      return MergeConflictResult.getIgnoredResult();
+    }
     final GenericRecord oldRmdRecord = rmdWithValueSchemaID.getRmdRecord();
     final Object oldTimestampObject = oldRmdRecord.get(TIMESTAMP_FIELD_POS);
     /**
@@ -226,6 +231,29 @@ public class MergeConflictResolver {
         deleteOperationSourceBrokerID);
   }
 
+  /**
+   * Fast path of {@link #put} and {@link #delete} for value-level timestamps, which tells from the serialized RMD alone
+   * that an incoming PUT or DELETE loses against the existing record, without deserializing the RMD record. Both lose
+   * when their timestamp is lower than the existing one. Any other case, including a winning write which needs the
+   * existing offset vector to build its RMD, and a PUT which ties and needs the values to be compared, must go through
+   * the RMD record. Callers which check this up front, and deserialize the RMD record when it returns false, keep
+   * {@link #put} and {@link #delete} from reading the serialized timestamp a second time.
+   *
+   * @return true if the incoming write is known to be ignored, false if the RMD record must be looked at or has already
+   *         been deserialized.
+   */
+  public boolean isIgnoredByValueLevelTimestamp(RmdWithValueSchemaId rmdWithValueSchemaID, long operationTimestamp) {
+    if (useFieldLevelTimestamp) {
+      return false;
+    }
+    byte[] rmdBytes = rmdWithValueSchemaID.getUndeserializedRmdBytes();
+    if (rmdBytes == null) {
+      return false;
+    }
+    long oldTimestamp = rmdSerde.readValueLevelTimestamp(rmdBytes);
+    return oldTimestamp != RmdSerDe.NOT_VALUE_LEVEL_TIMESTAMP && oldTimestamp > operationTimestamp;
+  }
+
   public MergeConflictResult update(
       Lazy<ByteBuffer> oldValueBytesProvider,
       RmdWithValueSchemaId rmdWithValueSchemaId,
@@ -1,8 +1,11 @@
 package com.linkedin.davinci.replication.merge;
 
+import static com.linkedin.venice.schema.rmd.RmdConstants.TIMESTAMP_FIELD_POS;
+
 import com.linkedin.davinci.replication.RmdWithValueSchemaId;
 import com.linkedin.davinci.serializer.avro.MapOrderPreservingSerDeFactory;
 import com.linkedin.davinci.serializer.avro.fast.MapOrderPreservingFastSerDeFactory;
+import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.annotation.Threadsafe;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.schema.rmd.RmdSchemaEntry;
@@ -10,7 +13,9 @@ import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.SparseConcurrentList;
 import com.linkedin.venice.utils.collections.BiIntKeyCache;
+import com.linkedin.venice.utils.lazy.Lazy;
 import java.nio.ByteBuffer;
+import java.util.List;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.OptimizedBinaryDecoder;
@@ -26,12 +31,19 @@ import org.apache.commons.lang3.Validate;
  */
 @Threadsafe
 public class RmdSerDe {
+  /**
+   * Returned by {@link #readValueLevelTimestamp} when the RMD holds per-field timestamps.
+   */
+  public static final long NOT_VALUE_LEVEL_TIMESTAMP = Long.MIN_VALUE;
+  private static final int NOT_A_UNION = -1;
+
   private final StringAnnotatedStoreSchemaCache annotatedStoreSchemaCache;
   private final int rmdVersionId;
   private final SparseConcurrentList<Schema> rmdSchemaIndexedByValueSchemaId;
   private final SparseConcurrentList<RecordSerializer<GenericRecord>> rmdSerializerIndexedByValueSchemaId;
   private final BiIntKeyCache<RecordDeserializer<GenericRecord>> deserializerCache;
   private final boolean fastAvroEnabled;
+  private final SparseConcurrentList<Integer> timestampLongBranchIndexedByValueSchemaId = new SparseConcurrentList<>();
 
   public RmdSerDe(StringAnnotatedStoreSchemaCache annotatedStoreSchemaCache, int rmdVersionId) {
     this(annotatedStoreSchemaCache, rmdVersionId, true);
@@ -76,6 +88,87 @@ public class RmdSerDe {
     rmdWithValueSchemaId.setRmdRecord(rmdRecord);
   }
 
+  /**
+   * Same as {@link #deserializeValueSchemaIdPrependedRmdBytes}, except that the RMD record is only deserialized when
+   * {@link RmdWithValueSchemaId#getRmdRecord()} is first called, so that {@link #readValueLevelTimestamp} can be used
+   * in the meantime.
+   */
+  public void deserializeValueSchemaIdPrependedRmdBytesLazily(
+      byte[] valueSchemaIdPrependedBytes,
+      RmdWithValueSchemaId rmdWithValueSchemaId) {
+    Validate.notNull(valueSchemaIdPrependedBytes);
+    final int valueSchemaId = ByteBuffer.wrap(valueSchemaIdPrependedBytes).getInt();
+    rmdWithValueSchemaId.setValueSchemaId(valueSchemaId);
+    rmdWithValueSchemaId.setRmdProtocolVersionId(rmdVersionId);
+    rmdWithValueSchemaId.setLazyRmdRecord(valueSchemaIdPrependedBytes, Lazy.of(() -> {
+      OptimizedBinaryDecoder binaryDecoder = OptimizedBinaryDecoderFactory.defaultFactory()
+          .createOptimizedBinaryDecoder(
+              valueSchemaIdPrependedBytes,
+              ValueRecord.SCHEMA_HEADER_LENGTH,
+              valueSchemaIdPrependedBytes.length - ValueRecord.SCHEMA_HEADER_LENGTH);
+      return getRmdDeserializer(valueSchemaId, valueSchemaId).deserialize(binaryDecoder);
+    }));
+  }
+
+  /**
+   * Reads the value-level timestamp straight from the serialized RMD, without deserializing the RMD record. The
+   * timestamp is the first field of the RMD record, and is encoded as the branch index of its union, followed by the
+   * timestamp itself when the branch is the long one.
+   *
+   * @return the value-level timestamp, or {@link #NOT_VALUE_LEVEL_TIMESTAMP} if the RMD holds per-field timestamps.
+   */
+  public long readValueLevelTimestamp(byte[] valueSchemaIdPrependedBytes) {
+    ByteBuffer buffer = ByteBuffer.wrap(valueSchemaIdPrependedBytes);
+    final int valueSchemaId = buffer.getInt();
+    int longBranchIndex =
+        this.timestampLongBranchIndexedByValueSchemaId.computeIfAbsent(valueSchemaId, this::getTimestampLongBranch);
+    if (longBranchIndex != NOT_A_UNION) {
+      int branchIndex = (int) readZigZagVarLong(buffer);
+      if (branchIndex != longBranchIndex) {
+        return NOT_VALUE_LEVEL_TIMESTAMP;
+      }
+    }
+    return readZigZagVarLong(buffer);
+  }
+
+  /**
+   * @return the index of the long branch of the union of the timestamp field of the RMD schema, or {@link #NOT_A_UNION}
+   *         if the timestamp field is a plain long.
+   */
+  private int getTimestampLongBranch(int valueSchemaId) {
+    Schema timestampSchema = getRmdSchema(valueSchemaId).getFields().get(TIMESTAMP_FIELD_POS).schema();
+    if (timestampSchema.getType() == Schema.Type.LONG) {
+      return NOT_A_UNION;
+    }
+    if (timestampSchema.getType() == Schema.Type.UNION) {
+      List<Schema> branches = timestampSchema.getTypes();
+      for (int i = 0; i < branches.size(); i++) {
+        if (branches.get(i).getType() == Schema.Type.LONG) {
+          return i;
+        }
+      }
+    }
+    throw new VeniceException("Unexpected RMD timestamp schema for value schema id " + valueSchemaId);
+  }
+
+  /**
+   * Decodes an Avro int or long, which are both zig-zag encoded variable-length integers.
+   */
+  private static long readZigZagVarLong(ByteBuffer buffer) {
+    long rawValue = 0;
+    int shift = 0;
+    byte b;
+    do {
+      if (shift >= Long.SIZE) {
+        throw new VeniceException("Invalid variable-length long in serialized RMD");
+      }
+      b = buffer.get();
+      rawValue |= (long) (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return (rawValue >>> 1) ^ -(rawValue & 1);
+  }
+
   /**
    * Given a value schema ID {@param valueSchemaID} and RMD bytes {@param rmdBytes}, find the RMD schema that corresponds
    * to the given value schema ID and use that RMD schema to deserialize RMD bytes in a RMD record.
@@ -113,6 +113,25 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
    */
   private final Sensor leaderIngestionReplicationMetadataLookUpLatencySensor;
 
+  /**
+   * Measure the avg/max latency and key count of the batched value and replication metadata lookups of a poll batch
+   */
+  private final Sensor leaderIngestionBatchPrefetchLatencySensor;
+  private final Sensor leaderIngestionBatchPrefetchKeyCountSensor;
+
+  /**
+   * Measure the number of times value bytes or replication metadata were found among the prefetched records of a poll
+   * batch instead of being looked up one by one
+   */
+  private final Sensor leaderIngestionBatchPrefetchHitCount;
+
+  /**
+   * Measure the number of times, and the ratio of PUT and DELETE conflict resolutions against an existing RMD for
+   * which, the incoming write was ignored based on the serialized RMD timestamp, without deserializing the RMD
+   */
+  private final Sensor leaderIngestionRmdTimestampFastPathHitCount;
+  private final Sensor leaderIngestionRmdTimestampFastPathHitRatio;
+
   private final Sensor leaderIngestionActiveActivePutLatencySensor;
 
   private final Sensor leaderIngestionActiveActiveUpdateLatencySensor;
@@ -397,6 +416,36 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
         () -> totalStats.leaderIngestionReplicationMetadataLookUpLatencySensor,
         avgAndMax());
 
+    this.leaderIngestionBatchPrefetchLatencySensor = registerPerStoreAndTotalSensor(
+        "leader_ingestion_batch_prefetch_latency",
+        totalStats,
+        () -> totalStats.leaderIngestionBatchPrefetchLatencySensor,
+        avgAndMax());
+
+    this.leaderIngestionBatchPrefetchKeyCountSensor = registerPerStoreAndTotalSensor(
+        "leader_ingestion_batch_prefetch_key_count",
+        totalStats,
+        () -> totalStats.leaderIngestionBatchPrefetchKeyCountSensor,
+        avgAndMax());
+
+    this.leaderIngestionBatchPrefetchHitCount = registerPerStoreAndTotalSensor(
+        "leader_ingestion_batch_prefetch_hit_count",
+        totalStats,
+        () -> totalStats.leaderIngestionBatchPrefetchHitCount,
+        new Rate());
+
+    this.leaderIngestionRmdTimestampFastPathHitCount = registerPerStoreAndTotalSensor(
+        "leader_ingestion_rmd_timestamp_fast_path_hit_count",
+        totalStats,
+        () -> totalStats.leaderIngestionRmdTimestampFastPathHitCount,
+        new Rate());
+
+    this.leaderIngestionRmdTimestampFastPathHitRatio = registerPerStoreAndTotalSensor(
+        "leader_ingestion_rmd_timestamp_fast_path_hit_ratio",
+        totalStats,
+        () -> totalStats.leaderIngestionRmdTimestampFastPathHitRatio,
+        new Avg());
+
     this.leaderIngestionActiveActivePutLatencySensor = registerPerStoreAndTotalSensor(
         "leader_ingestion_active_active_put_latency",
         totalStats,
@@ -482,6 +531,22 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
     leaderIngestionReplicationMetadataLookUpLatencySensor.record(latency, currentTimeMs);
   }
 
+  public void recordIngestionBatchPrefetch(int keyCount, double latency, long currentTimeMs) {
+    leaderIngestionBatchPrefetchKeyCountSensor.record(keyCount, currentTimeMs);
+    leaderIngestionBatchPrefetchLatencySensor.record(latency, currentTimeMs);
+  }
+
+  public void recordIngestionBatchPrefetchHitCount(long currentTimeMs) {
+    leaderIngestionBatchPrefetchHitCount.record(1, currentTimeMs);
+  }
+
+  public void recordRmdTimestampFastPath(boolean hit, long currentTimeMs) {
+    if (hit) {
+      leaderIngestionRmdTimestampFastPathHitCount.record(1, currentTimeMs);
+    }
+    leaderIngestionRmdTimestampFastPathHitRatio.record(hit ? 1 : 0, currentTimeMs);
+  }
+
   public void recordIngestionActiveActivePutLatency(double latency) {
     leaderIngestionActiveActivePutLatencySensor.record(latency);
   }
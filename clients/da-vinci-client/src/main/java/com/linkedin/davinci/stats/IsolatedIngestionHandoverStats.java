@@ -0,0 +1,31 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Max;
+import io.tehuti.metrics.stats.Rate;
+
+
+public class IsolatedIngestionHandoverStats extends AbstractVeniceStats {
+  private static final String METRICS_PREFIX = "ingestion_isolation_handover";
+  // Time in millis between a partition completing in the forked process and its consumption resuming in main process.
+  private final Sensor handoverLatencySensor;
+  // Reports received through the memory-mapped status file instead of a HTTP request.
+  private final Sensor statusFileReportSensor;
+
+  public IsolatedIngestionHandoverStats(MetricsRepository metricsRepository) {
+    super(metricsRepository, METRICS_PREFIX);
+    handoverLatencySensor = registerSensor("handover_latency", new Avg(), new Max());
+    statusFileReportSensor = registerSensor("status_file_report", new Rate());
+  }
+
+  public void recordHandoverLatency(long latencyInMs) {
+    handoverLatencySensor.record(latencyInMs);
+  }
+
+  public void recordStatusFileReports(int reportCount) {
+    statusFileReportSensor.record(reportCount);
+  }
+}
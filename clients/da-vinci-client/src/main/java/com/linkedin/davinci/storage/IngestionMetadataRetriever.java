@@ -11,6 +11,12 @@ public interface IngestionMetadataRetriever {
 
   AdminResponse getConsumptionSnapshots(String topicName, ComplementSet<Integer> partitions);
 
+  /**
+   * Enables or disables the sampling of the per-stage ingestion latencies of the given partitions, which are then
+   * reported by {@link #getTopicPartitionIngestionContext}.
+   */
+  AdminResponse setIngestionStageSampling(String topicName, ComplementSet<Integer> partitions, boolean enabled);
+
   TopicPartitionIngestionContextResponse getTopicPartitionIngestionContext(
       String versionTopic,
       String topicName,
@@ -10,6 +10,7 @@ import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.PartitionerConfig;
 import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.read.ReadTrace;
 import com.linkedin.venice.serialization.StoreDeserializerCache;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
@@ -18,6 +19,8 @@ import com.linkedin.venice.utils.LatencyUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -153,6 +156,31 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         manifestContainer);
   }
 
+  /**
+   * Same as {@link #getWithSchemaId}, for a top-level value which was already read from the storage engine.
+   */
+  public ByteBufferValueRecord<T> getWithSchemaIdFromRawBytes(
+      AbstractStorageEngine store,
+      int partition,
+      byte[] rawValue,
+      T reusedValue,
+      BinaryDecoder reusedDecoder,
+      StoreDeserializerCache<T> storeDeserializerCache,
+      VeniceCompressor compressor,
+      ChunkedValueManifestContainer manifestContainer) {
+    return ChunkingUtils.getValueAndSchemaIdFromRawBytes(
+        this,
+        store,
+        partition,
+        rawValue,
+        reusedValue,
+        reusedDecoder,
+        storeDeserializerCache,
+        compressor,
+        false,
+        manifestContainer);
+  }
+
   public T get(
       AbstractStorageEngine store,
       int partition,
@@ -216,6 +244,38 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         compressor);
   }
 
+  /**
+   * Batched version of {@link #get(AbstractStorageEngine, int, byte[], ByteBuffer, Object, BinaryDecoder, boolean,
+   * ReadResponse, int, StoreDeserializerCache, VeniceCompressor)} for keys which all belong to the same partition.
+   * Value objects are not re-used, since every result is handed over to the caller.
+   */
+  public List<T> multiGet(
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      BinaryDecoder reusedDecoder,
+      boolean isChunked,
+      int readerSchemaId,
+      StoreDeserializerCache<T> storeDeserializerCache,
+      VeniceCompressor compressor) {
+    if (isChunked) {
+      List<byte[]> keysWithChunkingSuffix = new ArrayList<>(keys.size());
+      for (byte[] key: keys) {
+        keysWithChunkingSuffix.add(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key));
+      }
+      keys = keysWithChunkingSuffix;
+    }
+    return ChunkingUtils.multiGetFromStorage(
+        this,
+        store,
+        partition,
+        keys,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor);
+  }
+
   public void getByPartialKey(
       AbstractStorageEngine store,
       int userPartition,
@@ -291,14 +351,17 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         try {
           // Fetch the schema id.
           int schemaId = ByteUtils.readInt(bytes, 0);
-          return deserializer.deserialize(
-              reusedValue,
-              compressor.decompressAndPrependSchemaHeader(
-                  bytes,
-                  ValueRecord.SCHEMA_HEADER_LENGTH,
-                  inputBytesLength - ValueRecord.SCHEMA_HEADER_LENGTH,
-                  schemaId),
-              reusedDecoder);
+          ReadTrace readTrace = (readResponse != null) ? readResponse.getReadTrace() : null;
+          long decompressionStartTimeInNS = (readTrace != null) ? System.nanoTime() : 0;
+          ByteBuffer decompressedValue = compressor.decompressAndPrependSchemaHeader(
+              bytes,
+              ValueRecord.SCHEMA_HEADER_LENGTH,
+              inputBytesLength - ValueRecord.SCHEMA_HEADER_LENGTH,
+              schemaId);
+          if (readTrace != null) {
+            readTrace.add(ReadTrace.Stage.DECOMPRESSION, LatencyUtils.getLatencyInMS(decompressionStartTimeInNS));
+          }
+          return deserializer.deserialize(reusedValue, decompressedValue, reusedDecoder);
         } catch (IOException e) {
           throw new VeniceException(
               "Failed to decompress, compressionStrategy: " + compressor.getCompressionStrategy().name(),
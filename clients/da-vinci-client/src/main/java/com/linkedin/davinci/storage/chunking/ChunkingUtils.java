@@ -9,6 +9,7 @@ import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.read.ReadTrace;
 import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
 import com.linkedin.venice.serialization.StoreDeserializerCache;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
@@ -19,6 +20,8 @@ import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.writer.VeniceWriter;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -243,6 +246,44 @@ public class ChunkingUtils {
         manifestContainer);
   }
 
+  /**
+   * Fetches the values associated with the given keys with a single batched lookup against the storage engine, and
+   * re-assembles the ones which are chunked. The chunks of a large value are still fetched one at a time.
+   *
+   * @return one entry per key, in the same order as {@param keys}, which is null when the key is absent.
+   */
+  static <VALUE, CHUNKS_CONTAINER> List<VALUE> multiGetFromStorage(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaID,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor) {
+    List<byte[]> values = store.multiGet(partition, keys);
+    List<VALUE> results = new ArrayList<>(values.size());
+    for (byte[] value: values) {
+      results.add(
+          getFromStorage(
+              value,
+              (value == null ? 0 : value.length),
+              0,
+              adapter,
+              store,
+              partition,
+              null,
+              null,
+              reusedDecoder,
+              readerSchemaID,
+              storeDeserializerCache,
+              compressor,
+              false,
+              null));
+    }
+    return results;
+  }
+
   static <VALUE, CHUNKS_CONTAINER> ByteBufferValueRecord<VALUE> getValueAndSchemaIdFromStorage(
       ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
       AbstractStorageEngine store,
@@ -256,6 +297,35 @@ public class ChunkingUtils {
       ChunkedValueManifestContainer manifestContainer) {
     byte[] value =
         isRmdValue ? store.getReplicationMetadata(partition, keyBuffer.array()) : store.get(partition, keyBuffer);
+    return getValueAndSchemaIdFromRawBytes(
+        adapter,
+        store,
+        partition,
+        value,
+        reusedValue,
+        reusedDecoder,
+        storeDeserializerCache,
+        compressor,
+        isRmdValue,
+        manifestContainer);
+  }
+
+  /**
+   * Same as {@link #getValueAndSchemaIdFromStorage}, for a top-level value which was already read from the storage
+   * engine, e.g. with {@link AbstractStorageEngine#multiGetWithReplicationMetadata}. If the value is chunked, its chunks
+   * are still fetched from the storage engine.
+   */
+  static <VALUE, CHUNKS_CONTAINER> ByteBufferValueRecord<VALUE> getValueAndSchemaIdFromRawBytes(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      byte[] value,
+      VALUE reusedValue,
+      BinaryDecoder reusedDecoder,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor,
+      boolean isRmdValue,
+      ChunkedValueManifestContainer manifestContainer) {
     int writerSchemaId = value == null ? 0 : ValueRecord.parseSchemaId(value);
     return new ByteBufferValueRecord<>(
         getFromStorage(
@@ -332,6 +402,8 @@ public class ChunkingUtils {
 
     // End of initial sanity checks. We have a chunked value, so we need to fetch all chunks
 
+    ReadTrace readTrace = (response != null) ? response.getReadTrace() : null;
+    long chunkAssemblyStartTimeInNS = (readTrace != null) ? System.nanoTime() : 0;
     ChunkedValueManifest chunkedValueManifest = CHUNKED_VALUE_MANIFEST_SERIALIZER.deserialize(value, writerSchemaId);
     if (manifestContainer != null) {
       manifestContainer.setManifest(chunkedValueManifest);
@@ -371,6 +443,9 @@ public class ChunkingUtils {
     }
 
     if (response != null) {
+      if (readTrace != null) {
+        readTrace.add(ReadTrace.Stage.CHUNK_ASSEMBLY, LatencyUtils.getLatencyInMS(chunkAssemblyStartTimeInNS));
+      }
       response.addDatabaseLookupLatency(LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS));
       response.addValueSize(actualSize);
       response.incrementMultiChunkLargeValueCount();
@@ -69,4 +69,28 @@ public class SingleGetChunkingAdapter implements ChunkingAdapter<CompositeByteBu
         response,
         manifestContainer);
   }
+
+  /**
+   * Same as {@link #getReplicationMetadata}, for a top-level replication metadata which was already read from the
+   * storage engine.
+   */
+  public static ValueRecord getReplicationMetadataFromRawBytes(
+      AbstractStorageEngine store,
+      int partition,
+      byte[] rawReplicationMetadata,
+      ChunkedValueManifestContainer manifestContainer) {
+    return ChunkingUtils
+        .getValueAndSchemaIdFromRawBytes(
+            SINGLE_GET_CHUNKING_ADAPTER,
+            store,
+            partition,
+            rawReplicationMetadata,
+            null,
+            null,
+            null,
+            null,
+            true,
+            manifestContainer)
+        .value();
+  }
 }
@@ -510,6 +510,13 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  public List<byte[]> multiGet(int partitionId, List<byte[]> keys) throws VeniceException {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.multiGet(keys);
+    });
+  }
+
   public void getByKeyPrefix(int partitionId, byte[] partialKey, BytesStreamingCallback bytesStreamingCallback) {
     executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
@@ -539,6 +546,17 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  public void multiGetWithReplicationMetadata(
+      int partitionId,
+      List<byte[]> keys,
+      List<byte[]> valuesOut,
+      List<byte[]> replicationMetadataOut) {
+    executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      partition.multiGetWithReplicationMetadata(keys, valuesOut, replicationMetadataOut);
+    });
+  }
+
   /**
    * Put the offset associated with the partitionId into the metadata partition.
    */
@@ -4,6 +4,8 @@ import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -60,6 +62,19 @@ public abstract class AbstractStoragePartition {
 
   public abstract byte[] get(ByteBuffer key);
 
+  /**
+   * Get the values of multiple keys from the partition database.
+   * @return a list with one entry per key, in the same order as {@param keys}, which is null for absent keys.
+   */
+  public List<byte[]> multiGet(List<byte[]> keys) {
+    // Naive default impl... only storage engines that support batched lookups override it.
+    List<byte[]> values = new ArrayList<>(keys.size());
+    for (byte[] key: keys) {
+      values.add(get(key));
+    }
+    return values;
+  }
+
   /**
    * Populate provided callback with key-value pairs from the partition database where the keys have provided prefix.
    * If prefix is null, callback will be populated will all key-value pairs from the partition database.
@@ -163,6 +178,24 @@ public abstract class AbstractStoragePartition {
     throw new VeniceUnsupportedOperationException("getReplicationMetadata");
   }
 
+  /**
+   * Get the values and the replication metadata of multiple keys from the partition database. The entries for the i-th
+   * key are appended at the i-th position of {@param valuesOut} and {@param replicationMetadataOut}, and are null when
+   * the key is absent.
+   * Only {@link ReplicationMetadataRocksDBStoragePartition} will execute this method,
+   * other storage partition implementation will VeniceUnsupportedOperationException.
+   */
+  public void multiGetWithReplicationMetadata(
+      List<byte[]> keys,
+      List<byte[]> valuesOut,
+      List<byte[]> replicationMetadataOut) {
+    // Naive default impl... only storage engines that support batched lookups override it.
+    for (byte[] key: keys) {
+      replicationMetadataOut.add(getReplicationMetadata(key));
+      valuesOut.add(get(key));
+    }
+  }
+
   /**
    * This API deletes a record from RocksDB but updates the metadata in ByteBuffer format and puts it into RocksDB.
    * Only {@link ReplicationMetadataRocksDBStoragePartition} will execute this method,
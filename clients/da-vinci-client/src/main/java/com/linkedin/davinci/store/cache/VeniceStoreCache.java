@@ -1,6 +1,7 @@
 package com.linkedin.davinci.store.cache;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
@@ -120,4 +121,14 @@ public interface VeniceStoreCache {
    * @return the miss count
    */
   long missCount();
+
+  /**
+   * Returns up to {@code limit} keys of this cache, starting with the ones which are the most likely to be read again
+   * according to the access frequencies tracked by the implementation. Implementations which do not track access
+   * frequencies may return any of their keys.
+   *
+   * @param limit the maximum number of keys to return
+   * @return a snapshot of the hottest keys of this cache
+   */
+  <K> Set<K> getHottestKeys(int limit);
 }
@@ -9,6 +9,7 @@ import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.StoreDataChangedListener;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.stats.TehutiUtils;
+import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.HashMap;
@@ -103,15 +104,70 @@ public class ObjectCacheBackend {
     return null;
   }
 
+  /**
+   * Pre-populates the cache of a version which is about to start serving with the hottest keys of the cache of the
+   * version which is currently serving, so that the first reads after the swap do not all miss into local storage.
+   *
+   * This should be called right before the swap: from then on, the stats report the cache of {@param newVersion}.
+   *
+   * @param servingVersion the version currently serving reads
+   * @param newVersion the version about to serve reads
+   * @param maxKeyCount the maximum number of keys to load
+   * @param valueLoader reads the value of a key from {@param newVersion}, or returns null if it does not exist
+   * @param cacheLoader the loader used by the cache of {@param newVersion} for subsequent misses
+   * @return the number of keys loaded into the cache of {@param newVersion}
+   */
+  public <K, V> int warmUp(
+      Version servingVersion,
+      Version newVersion,
+      int maxKeyCount,
+      Function<K, V> valueLoader,
+      AsyncCacheLoader<K, V> cacheLoader) {
+    long startTimeNs = System.nanoTime();
+    VeniceStoreCacheStorageEngine newEngine = versionTopicToCacheEngineMap
+        .computeIfAbsent(newVersion.kafkaTopicName(), k -> createCacheEngine(newVersion, cacheLoader));
+    VeniceStoreCacheStorageEngine servingEngine = versionTopicToCacheEngineMap.get(servingVersion.kafkaTopicName());
+    int loadedKeyCount = 0;
+    if (servingEngine != null && servingEngine != newEngine) {
+      Set<K> hottestKeys = servingEngine.getCache().getHottestKeys(maxKeyCount);
+      for (K key: hottestKeys) {
+        try {
+          V value = valueLoader.apply(key);
+          if (value != null) {
+            newEngine.putDeserializedValue(key, value);
+            loadedKeyCount++;
+          }
+        } catch (Exception e) {
+          // Warm-up is best effort, the key will simply be loaded on its first read.
+          LOGGER.debug("Failed to warm up a key of {}", newVersion.kafkaTopicName(), e);
+        }
+      }
+    }
+    double latencyMs = LatencyUtils.getLatencyInMS(startTimeNs);
+    storeCacheStats.recordCacheWarmUp(loadedKeyCount, latencyMs);
+    storeCacheStats.registerServingCache(newEngine.getCache());
+    LOGGER.info(
+        "Warmed up the cache of {} with {} keys from {} in {} ms",
+        newVersion.kafkaTopicName(),
+        loadedKeyCount,
+        servingVersion.kafkaTopicName(),
+        latencyMs);
+    return loadedKeyCount;
+  }
+
   private VeniceStoreCacheStorageEngine buildCacheEngine(Version version, AsyncCacheLoader cacheLoader) {
-    VeniceStoreCacheStorageEngine cacheStorageEngine = new VeniceStoreCacheStorageEngine(
+    VeniceStoreCacheStorageEngine cacheStorageEngine = createCacheEngine(version, cacheLoader);
+    // register the stats for this engine as it's now serving traffic
+    storeCacheStats.registerServingCache(cacheStorageEngine.getCache());
+    return cacheStorageEngine;
+  }
+
+  private VeniceStoreCacheStorageEngine createCacheEngine(Version version, AsyncCacheLoader cacheLoader) {
+    return new VeniceStoreCacheStorageEngine(
         version.kafkaTopicName(),
         storeCacheConfig,
         schemaRepository.getKeySchema(version.getStoreName()).getSchema(),
         cacheLoader);
-    // register the stats for this engine as it's now serving traffic
-    storeCacheStats.registerServingCache(cacheStorageEngine.getCache());
-    return cacheStorageEngine;
   }
 
   public <K, V> void update(K key, V val, Version version, AsyncCacheLoader<K, V> cacheLoader) {
@@ -156,6 +212,11 @@ public class ObjectCacheBackend {
     return cacheInvalidatingStoreChangeListener;
   }
 
+  // Visible for testing
+  StoreCacheStats getStoreCacheStats() {
+    return storeCacheStats;
+  }
+
   public ObjectCacheConfig getStoreCacheConfig() {
     return this.storeCacheConfig;
   }
@@ -6,6 +6,7 @@ import java.util.Optional;
 public class ObjectCacheConfig {
   private Optional<Long> maxCacheSize = Optional.empty();
   private Optional<Long> ttlInMilliseconds = Optional.empty();
+  private int warmUpKeyCount = 0;
 
   public ObjectCacheConfig setMaxPerPartitionCacheSize(Long maxPerPartitionCacheSize) {
     this.maxCacheSize = Optional.of(maxPerPartitionCacheSize);
@@ -17,6 +18,15 @@ public class ObjectCacheConfig {
     return this;
   }
 
+  /**
+   * When positive, up to this many of the hottest keys of the serving version are loaded into the cache of a new
+   * version before it starts serving reads.
+   */
+  public ObjectCacheConfig setWarmUpKeyCount(int warmUpKeyCount) {
+    this.warmUpKeyCount = warmUpKeyCount;
+    return this;
+  }
+
   public Optional<Long> getMaxCacheSize() {
     return maxCacheSize;
   }
@@ -25,6 +35,10 @@ public class ObjectCacheConfig {
     return ttlInMilliseconds;
   }
 
+  public int getWarmUpKeyCount() {
+    return warmUpKeyCount;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (o == null) {
@@ -44,6 +58,9 @@ public class ObjectCacheConfig {
     if (!this.getMaxCacheSize().orElse(-1L).equals(c.getMaxCacheSize().orElse(-1L))) {
       return false;
     }
+    if (this.warmUpKeyCount != c.warmUpKeyCount) {
+      return false;
+    }
     return true;
   }
 
@@ -52,11 +69,13 @@ public class ObjectCacheConfig {
     int result = 1;
     result = result * 31 + maxCacheSize.hashCode();
     result = result * 31 + ttlInMilliseconds.hashCode();
+    result = result * 31 + warmUpKeyCount;
     return result;
   }
 
   @Override
   public String toString() {
-    return "ObjectCacheConfig{" + "maxCacheSize=" + maxCacheSize + ", ttlInMilliseconds=" + ttlInMilliseconds + "}";
+    return "ObjectCacheConfig{" + "maxCacheSize=" + maxCacheSize + ", ttlInMilliseconds=" + ttlInMilliseconds
+        + ", warmUpKeyCount=" + warmUpKeyCount + "}";
   }
 }
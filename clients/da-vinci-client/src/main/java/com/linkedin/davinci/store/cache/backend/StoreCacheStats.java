@@ -5,23 +5,47 @@ import com.linkedin.venice.stats.AbstractVeniceStats;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
 import io.tehuti.metrics.stats.AsyncGauge;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Max;
+import java.util.concurrent.TimeUnit;
 
 
 public class StoreCacheStats extends AbstractVeniceStats {
+  /**
+   * How long after a cache starts serving its hit rate keeps being sampled into {@link #getPostSwapHitRate()}.
+   */
+  static final long POST_SWAP_HIT_RATE_WINDOW_MS = TimeUnit.MINUTES.toMillis(1);
+
   private final Sensor cacheHitRate;
   private final Sensor cacheMissCount;
   private final Sensor cacheHitCount;
+  private final Sensor postSwapCacheHitRate;
+  private final Sensor cacheWarmUpLatencySensor;
+  private final Sensor cacheWarmUpKeyCountSensor;
   private VeniceStoreCache servingCache;
+  private long servingCacheRegistrationTimeMs;
+  private double postSwapHitRate;
 
   public StoreCacheStats(MetricsRepository metricsRepository, String name) {
     super(metricsRepository, name);
     cacheHitCount = registerSensor(new AsyncGauge((ignored, ignored2) -> this.getHitCount(), "cache_hit"));
     cacheMissCount = registerSensor(new AsyncGauge((ignored, ignored2) -> this.getMissCount(), "cache_miss"));
     cacheHitRate = registerSensor(new AsyncGauge((ignored, ignored2) -> this.getHitRate(), "cache_hit_rate"));
+    postSwapCacheHitRate = registerSensor(
+        new AsyncGauge((ignored, ignored2) -> this.getPostSwapHitRate(), "post_swap_cache_hit_rate"));
+    cacheWarmUpLatencySensor = registerSensor("cache_warm_up_latency", new Avg(), new Max());
+    cacheWarmUpKeyCountSensor = registerSensor("cache_warm_up_key_count", new Avg(), new Max());
   }
 
   public synchronized void registerServingCache(VeniceStoreCache cache) {
     servingCache = cache;
+    servingCacheRegistrationTimeMs = System.currentTimeMillis();
+    postSwapHitRate = 0;
+  }
+
+  public void recordCacheWarmUp(int keyCount, double latencyMs) {
+    cacheWarmUpKeyCountSensor.record(keyCount);
+    cacheWarmUpLatencySensor.record(latencyMs);
   }
 
   public final synchronized long getHitCount() {
@@ -35,4 +59,17 @@ public class StoreCacheStats extends AbstractVeniceStats {
   public final synchronized double getHitRate() {
     return servingCache == null ? 0 : servingCache.hitRate();
   }
+
+  /**
+   * Hit rate of the serving cache right after it started serving, which shows how well the warm-up worked. It follows
+   * the hit rate of the serving cache during {@link #POST_SWAP_HIT_RATE_WINDOW_MS}, and then keeps the last value
+   * measured within that window.
+   */
+  public final synchronized double getPostSwapHitRate() {
+    if (servingCache != null
+        && System.currentTimeMillis() - servingCacheRegistrationTimeMs < POST_SWAP_HIT_RATE_WINDOW_MS) {
+      postSwapHitRate = servingCache.hitRate();
+    }
+    return postSwapHitRate;
+  }
 }
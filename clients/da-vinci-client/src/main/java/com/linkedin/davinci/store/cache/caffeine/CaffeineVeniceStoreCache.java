@@ -3,9 +3,13 @@ package com.linkedin.davinci.store.cache.caffeine;
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
 import com.linkedin.davinci.store.cache.VeniceStoreCache;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheConfig;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -19,6 +23,8 @@ public class CaffeineVeniceStoreCache implements VeniceStoreCache {
     Caffeine builder = Caffeine.newBuilder();
     cacheConfig.getTtlInMilliseconds().ifPresent(aLong -> builder.expireAfterWrite(aLong, TimeUnit.MILLISECONDS));
     cacheConfig.getMaxCacheSize().ifPresent(builder::maximumSize);
+    // Needed for the hit and miss counts reported by StoreCacheStats
+    builder.recordStats();
     this.caffeineCache = builder.buildAsync(loadingFunction);
   }
 
@@ -88,4 +94,21 @@ public class CaffeineVeniceStoreCache implements VeniceStoreCache {
   public long missCount() {
     return caffeineCache.synchronous().stats().missCount();
   }
+
+  @Override
+  public <K> Set<K> getHottestKeys(int limit) {
+    Optional<Policy.Eviction> eviction = caffeineCache.synchronous().policy().eviction();
+    if (eviction.isPresent()) {
+      // Size bounded caches keep a frequency sketch of all the accesses, which drives this ordering.
+      return new LinkedHashSet<>(eviction.get().hottest(limit).keySet());
+    }
+    Set<K> keys = new LinkedHashSet<>();
+    for (Object key: caffeineCache.synchronous().asMap().keySet()) {
+      if (keys.size() >= limit) {
+        break;
+      }
+      keys.add((K) key);
+    }
+    return keys;
+  }
 }
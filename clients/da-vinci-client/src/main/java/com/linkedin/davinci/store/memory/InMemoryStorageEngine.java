@@ -2,6 +2,7 @@ package com.linkedin.davinci.store.memory;
 
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.AbstractStoragePartition;
 import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
@@ -12,17 +13,36 @@ import java.util.Set;
 
 /**
  * A simple non-persistent, in-memory store.
+ *
+ * The partitions are either {@link InMemoryStoragePartition}s, backed by on-heap hash maps, or
+ * {@link OffHeapSortedStoragePartition}s when the engine is given an off-heap chunk size.
  */
-public class InMemoryStorageEngine extends AbstractStorageEngine<InMemoryStoragePartition> {
+public class InMemoryStorageEngine extends AbstractStorageEngine<AbstractStoragePartition> {
+  private static final int ON_HEAP = -1;
+
+  private final int offHeapChunkSizeBytes;
+
   public InMemoryStorageEngine(VeniceStoreVersionConfig storeDef) {
     this(storeDef.getStoreVersionName());
   }
 
   public InMemoryStorageEngine(String versionVersionName) {
+    this(versionVersionName, ON_HEAP);
+  }
+
+  /**
+   * @param offHeapChunkSizeBytes the size of the off-heap chunks the partitions allocate their records from.
+   */
+  public static InMemoryStorageEngine offHeap(VeniceStoreVersionConfig storeDef, int offHeapChunkSizeBytes) {
+    return new InMemoryStorageEngine(storeDef.getStoreVersionName(), offHeapChunkSizeBytes);
+  }
+
+  private InMemoryStorageEngine(String versionVersionName, int offHeapChunkSizeBytes) {
     super(
         versionVersionName,
         AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
         AvroProtocolDefinition.PARTITION_STATE.getSerializer());
+    this.offHeapChunkSizeBytes = offHeapChunkSizeBytes;
     restoreStoragePartitions();
   }
 
@@ -38,13 +58,30 @@ public class InMemoryStorageEngine extends AbstractStorageEngine<InMemoryStorage
   }
 
   @Override
-  public InMemoryStoragePartition createStoragePartition(StoragePartitionConfig storagePartitionConfig) {
-    return new InMemoryStoragePartition(storagePartitionConfig.getPartitionId());
+  public AbstractStoragePartition createStoragePartition(StoragePartitionConfig storagePartitionConfig) {
+    if (offHeapChunkSizeBytes == ON_HEAP) {
+      return new InMemoryStoragePartition(storagePartitionConfig.getPartitionId());
+    }
+    return new OffHeapSortedStoragePartition(storagePartitionConfig.getPartitionId(), offHeapChunkSizeBytes);
+  }
+
+  public boolean isOffHeap() {
+    return offHeapChunkSizeBytes != ON_HEAP;
   }
 
+  /**
+   * @return the off-heap memory held by the partitions, which is only tracked by off-heap engines.
+   */
   @Override
   public long getStoreSizeInBytes() {
-    // Not supported
-    return StatsErrorCode.NOT_SUPPORTED.code;
+    if (!isOffHeap()) {
+      // Not supported
+      return StatsErrorCode.NOT_SUPPORTED.code;
+    }
+    long storeSizeInBytes = 0;
+    for (int partitionId: getPartitionIds()) {
+      storeSizeInBytes += getPartitionSizeInBytes(partitionId);
+    }
+    return storeSizeInBytes;
   }
 }
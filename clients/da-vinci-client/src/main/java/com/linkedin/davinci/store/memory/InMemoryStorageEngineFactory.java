@@ -12,9 +12,12 @@ import java.util.Set;
 
 public class InMemoryStorageEngineFactory extends StorageEngineFactory {
   private final Object lock = new Object();
+  private final boolean offHeapStorageEnabled;
+  private final int offHeapChunkSizeBytes;
 
   public InMemoryStorageEngineFactory(VeniceServerConfig serverConfig) {
-
+    this.offHeapStorageEnabled = serverConfig.isInMemoryOffHeapStorageEnabled();
+    this.offHeapChunkSizeBytes = serverConfig.getInMemoryOffHeapChunkSizeBytes();
   }
 
   @Override
@@ -23,7 +26,9 @@ public class InMemoryStorageEngineFactory extends StorageEngineFactory {
     verifyPersistenceType(storeConfig);
     synchronized (lock) {
       try {
-        return new InMemoryStorageEngine(storeConfig);
+        return offHeapStorageEnabled
+            ? InMemoryStorageEngine.offHeap(storeConfig, offHeapChunkSizeBytes)
+            : new InMemoryStorageEngine(storeConfig);
       } catch (Exception e) {
         throw new StorageInitializationException(e);
       }
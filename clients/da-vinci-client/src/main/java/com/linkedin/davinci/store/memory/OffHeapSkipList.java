@@ -0,0 +1,649 @@
+package com.linkedin.davinci.store.memory;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.StampedLock;
+
+
+/**
+ * A skip list of byte array keys and values, sorted by the unsigned lexicographic order of the keys, whose nodes and
+ * values live in direct {@link ByteBuffer} chunks.
+ *
+ * Assumptions:
+ * 1. There is a single writer at a time, as for the other storage partitions, and the writes are serialized by the
+ * write lock of a {@link StampedLock}.
+ * 2. Point lookups first run as optimistic reads, which neither block nor are blocked by the writer, and only fall back
+ * to the read lock when a write happened in the meantime. A lookup which is given a big enough buffer does not
+ * allocate anything.
+ * 3. Scans hold the read lock while they copy a batch of records, and never while the records are handed to the caller.
+ *
+ * The memory of the chunks is only reclaimed by {@link #clear()} and by compacting the list, which copies the live
+ * records to new chunks once the overwritten values and the deleted records account for more than half of the
+ * allocated memory. The copy only holds the read lock, so that lookups and scans keep going while it runs, and the
+ * write lock is only taken to swap the copy in, which is discarded if a write made it in between.
+ *
+ * Layout of a node: [level: int][key length: int][value address: long][next node address: long * level][key bytes]
+ * Layout of a value slot: [capacity: int][length: int][value bytes]
+ */
+class OffHeapSkipList {
+  interface RecordConsumer {
+    void accept(byte[] key, byte[] value);
+  }
+
+  static final int MAX_LEVEL = 16;
+  private static final long NULL = -1L;
+  /**
+   * Returned by the seeks running as optimistic reads when a write happened in the meantime.
+   */
+  private static final long RETRY_ADDRESS = -2L;
+
+  private static final int LEVEL_OFFSET = 0;
+  private static final int KEY_LENGTH_OFFSET = 4;
+  private static final int VALUE_ADDRESS_OFFSET = 8;
+  private static final int NEXT_OFFSET = 16;
+  private static final int SLOT_CAPACITY_OFFSET = 0;
+  private static final int SLOT_LENGTH_OFFSET = 4;
+  private static final int SLOT_HEADER_SIZE = 8;
+
+  private static final int SCAN_BATCH_SIZE = 256;
+  /**
+   * Number of nodes an optimistic lookup visits between two validations of its stamp, so that a lookup which follows
+   * pointers a concurrent write has torn cannot loop forever.
+   */
+  private static final int VALIDATION_INTERVAL = 64;
+  /**
+   * Returned by the lookups running as optimistic reads when a write happened in the meantime.
+   */
+  private static final ByteBuffer RETRY = ByteBuffer.allocate(0);
+  private static final byte[] RETRY_ARRAY = new byte[0];
+
+  private final int chunkSizeBytes;
+  private final StampedLock lock = new StampedLock();
+  /**
+   * The predecessors of the node being written at each level, only used by the writer.
+   */
+  private final long[] update = new long[MAX_LEVEL];
+  private volatile State state;
+
+  OffHeapSkipList(int chunkSizeBytes) {
+    if (chunkSizeBytes < NEXT_OFFSET + MAX_LEVEL * Long.BYTES) {
+      throw new IllegalArgumentException("Chunk size is too small: " + chunkSizeBytes);
+    }
+    this.chunkSizeBytes = chunkSizeBytes;
+    this.state = new State(new Arena(chunkSizeBytes));
+  }
+
+  /**
+   * The records of the list and the chunks holding them. Compaction swaps the whole state at once.
+   */
+  private static class State {
+    final Arena arena;
+    final long[] head = new long[MAX_LEVEL];
+    int level = 1;
+    long recordCount;
+    long recordBytes;
+    long garbageBytes;
+    /**
+     * Number of writes applied to this state, which tells whether a compacted copy of it is still up to date.
+     */
+    long writeCount;
+
+    State(Arena arena) {
+      this.arena = arena;
+      Arrays.fill(head, NULL);
+    }
+  }
+
+  /**
+   * Append-only allocator over direct buffers. An address is the index of the chunk in the upper 32 bits and the
+   * offset within the chunk in the lower 32 bits.
+   */
+  private static class Arena {
+    private final int chunkSizeBytes;
+    private volatile ByteBuffer[] chunks = new ByteBuffer[0];
+    private int position;
+    private long allocatedBytes;
+
+    Arena(int chunkSizeBytes) {
+      this.chunkSizeBytes = chunkSizeBytes;
+    }
+
+    long allocate(int size) {
+      // Keep the longs of the nodes aligned
+      int alignedSize = (size + 7) & ~7;
+      ByteBuffer[] current = chunks;
+      if (current.length == 0 || current[current.length - 1].capacity() - position < alignedSize) {
+        ByteBuffer[] grown = Arrays.copyOf(current, current.length + 1);
+        grown[current.length] = ByteBuffer.allocateDirect(Math.max(chunkSizeBytes, alignedSize));
+        allocatedBytes += grown[current.length].capacity();
+        chunks = grown;
+        current = grown;
+        position = 0;
+      }
+      long address = ((long) (current.length - 1) << 32) | position;
+      position += alignedSize;
+      return address;
+    }
+
+    ByteBuffer chunk(long address) {
+      return chunks[(int) (address >>> 32)];
+    }
+  }
+
+  private static int offset(long address) {
+    return (int) address;
+  }
+
+  private static int level(ByteBuffer chunk, int node) {
+    return chunk.getInt(node + LEVEL_OFFSET);
+  }
+
+  private static int keyLength(ByteBuffer chunk, int node) {
+    return chunk.getInt(node + KEY_LENGTH_OFFSET);
+  }
+
+  private static int keyOffset(ByteBuffer chunk, int node) {
+    return node + NEXT_OFFSET + level(chunk, node) * Long.BYTES;
+  }
+
+  private static long next(Arena arena, long node, int level) {
+    return arena.chunk(node).getLong(offset(node) + NEXT_OFFSET + level * Long.BYTES);
+  }
+
+  private static void setNext(Arena arena, long node, int level, long next) {
+    arena.chunk(node).putLong(offset(node) + NEXT_OFFSET + level * Long.BYTES, next);
+  }
+
+  private static long valueAddress(Arena arena, long node) {
+    return arena.chunk(node).getLong(offset(node) + VALUE_ADDRESS_OFFSET);
+  }
+
+  /**
+   * Compares the key of the node with the given key, as unsigned bytes.
+   */
+  private static int compare(Arena arena, long node, byte[] key, int keyOffset, int keyLength) {
+    ByteBuffer chunk = arena.chunk(node);
+    int nodeOffset = offset(node);
+    int nodeKeyOffset = keyOffset(chunk, nodeOffset);
+    int nodeKeyLength = keyLength(chunk, nodeOffset);
+    int length = Math.min(nodeKeyLength, keyLength);
+    for (int i = 0; i < length; i++) {
+      int diff = (chunk.get(nodeKeyOffset + i) & 0xff) - (key[keyOffset + i] & 0xff);
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return nodeKeyLength - keyLength;
+  }
+
+  private static boolean startsWith(Arena arena, long node, byte[] prefix) {
+    if (prefix == null) {
+      return true;
+    }
+    ByteBuffer chunk = arena.chunk(node);
+    int nodeOffset = offset(node);
+    if (keyLength(chunk, nodeOffset) < prefix.length) {
+      return false;
+    }
+    int nodeKeyOffset = keyOffset(chunk, nodeOffset);
+    for (int i = 0; i < prefix.length; i++) {
+      if (chunk.get(nodeKeyOffset + i) != prefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Copies bytes out of a chunk a long at a time, without going through an intermediate array.
+   */
+  private static void copy(ByteBuffer chunk, int from, byte[] destination, int destinationOffset, int length) {
+    int i = 0;
+    for (; i + Long.BYTES <= length; i += Long.BYTES) {
+      long word = chunk.getLong(from + i);
+      for (int b = 0; b < Long.BYTES; b++) {
+        destination[destinationOffset + i + b] = (byte) (word >>> (56 - 8 * b));
+      }
+    }
+    for (; i < length; i++) {
+      destination[destinationOffset + i] = chunk.get(from + i);
+    }
+  }
+
+  private static byte[] copyKey(Arena arena, long node) {
+    ByteBuffer chunk = arena.chunk(node);
+    int nodeOffset = offset(node);
+    byte[] key = new byte[keyLength(chunk, nodeOffset)];
+    copy(chunk, keyOffset(chunk, nodeOffset), key, 0, key.length);
+    return key;
+  }
+
+  private static byte[] copyValue(Arena arena, long node) {
+    long slot = valueAddress(arena, node);
+    ByteBuffer chunk = arena.chunk(slot);
+    byte[] value = new byte[chunk.getInt(offset(slot) + SLOT_LENGTH_OFFSET)];
+    copy(chunk, offset(slot) + SLOT_HEADER_SIZE, value, 0, value.length);
+    return value;
+  }
+
+  /**
+   * @param stamp the stamp of the optimistic read, or 0 when the read lock is held.
+   * @param inclusive whether a node whose key is equal to the given key qualifies.
+   * @return the first node whose key is greater than, or equal to if inclusive, the given key, {@link #NULL} if there
+   *         is none, or {@link #RETRY_ADDRESS} if the stamp got invalidated.
+   */
+  private long seek(State s, byte[] key, int keyOffset, int keyLength, boolean inclusive, long stamp) {
+    Arena arena = s.arena;
+    long node = NULL;
+    long next = NULL;
+    int steps = 0;
+    for (int i = s.level - 1; i >= 0; i--) {
+      next = node == NULL ? s.head[i] : next(arena, node, i);
+      while (next != NULL) {
+        if (stamp != 0 && ++steps % VALIDATION_INTERVAL == 0 && !lock.validate(stamp)) {
+          return RETRY_ADDRESS;
+        }
+        int cmp = compare(arena, next, key, keyOffset, keyLength);
+        if (cmp > 0 || (inclusive && cmp == 0)) {
+          break;
+        }
+        node = next;
+        next = next(arena, node, i);
+      }
+    }
+    return next;
+  }
+
+  private long find(State s, byte[] key, int keyOffset, int keyLength, long stamp) {
+    long node = seek(s, key, keyOffset, keyLength, true, stamp);
+    if (node == NULL || node == RETRY_ADDRESS) {
+      return node;
+    }
+    return compare(s.arena, node, key, keyOffset, keyLength) == 0 ? node : NULL;
+  }
+
+  byte[] get(byte[] key, int keyOffset, int keyLength) {
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      try {
+        byte[] value = readValue(state, key, keyOffset, keyLength, stamp);
+        if (value != RETRY_ARRAY && lock.validate(stamp)) {
+          return value;
+        }
+      } catch (RuntimeException e) {
+        // The pointers got torn by a concurrent write, retry under the read lock
+      }
+    }
+    stamp = lock.readLock();
+    try {
+      return readValue(state, key, keyOffset, keyLength, 0);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  private byte[] readValue(State s, byte[] key, int keyOffset, int keyLength, long stamp) {
+    long node = find(s, key, keyOffset, keyLength, stamp);
+    if (node == RETRY_ADDRESS) {
+      return RETRY_ARRAY;
+    }
+    if (node == NULL) {
+      return null;
+    }
+    long slot = valueAddress(s.arena, node);
+    ByteBuffer chunk = s.arena.chunk(slot);
+    int length = chunk.getInt(offset(slot) + SLOT_LENGTH_OFFSET);
+    // Make sure the length is not garbage before allocating anything
+    if (stamp != 0 && !lock.validate(stamp)) {
+      return RETRY_ARRAY;
+    }
+    byte[] value = new byte[length];
+    copy(chunk, offset(slot) + SLOT_HEADER_SIZE, value, 0, length);
+    return value;
+  }
+
+  /**
+   * Copies the value of the given key into the backing array of the given buffer, or into a new buffer if it is too
+   * small, and sets the position and the limit of the returned buffer around the value.
+   */
+  ByteBuffer get(byte[] key, int keyOffset, int keyLength, ByteBuffer valueToBePopulated) {
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      try {
+        ByteBuffer value = readValue(state, key, keyOffset, keyLength, valueToBePopulated, stamp);
+        if (value != RETRY && lock.validate(stamp)) {
+          return value;
+        }
+      } catch (RuntimeException e) {
+        // The pointers got torn by a concurrent write, retry under the read lock
+      }
+    }
+    stamp = lock.readLock();
+    try {
+      return readValue(state, key, keyOffset, keyLength, valueToBePopulated, 0);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  private ByteBuffer readValue(
+      State s,
+      byte[] key,
+      int keyOffset,
+      int keyLength,
+      ByteBuffer valueToBePopulated,
+      long stamp) {
+    long node = find(s, key, keyOffset, keyLength, stamp);
+    if (node == RETRY_ADDRESS) {
+      return RETRY;
+    }
+    if (node == NULL) {
+      return null;
+    }
+    long slot = valueAddress(s.arena, node);
+    ByteBuffer chunk = s.arena.chunk(slot);
+    int length = chunk.getInt(offset(slot) + SLOT_LENGTH_OFFSET);
+    if (stamp != 0 && !lock.validate(stamp)) {
+      return RETRY;
+    }
+    ByteBuffer value = valueToBePopulated;
+    if (value == null || !value.hasArray() || value.capacity() < length) {
+      value = ByteBuffer.allocate(length);
+    }
+    copy(chunk, offset(slot) + SLOT_HEADER_SIZE, value.array(), value.arrayOffset(), length);
+    value.position(0);
+    value.limit(length);
+    return value;
+  }
+
+  /**
+   * Hands the records whose key starts with the given prefix, or all the records if it is null, to the consumer in
+   * key order. The records are copied in batches under the read lock, so that the writer is only held back while a
+   * batch is being copied.
+   */
+  void scan(byte[] prefix, RecordConsumer consumer) {
+    List<byte[]> batch = new ArrayList<>(2 * SCAN_BATCH_SIZE);
+    byte[] lastKey = null;
+    boolean hasMore = true;
+    while (hasMore) {
+      long stamp = lock.readLock();
+      try {
+        State s = state;
+        long node;
+        if (lastKey != null) {
+          node = seek(s, lastKey, 0, lastKey.length, false, 0);
+        } else if (prefix != null) {
+          node = seek(s, prefix, 0, prefix.length, true, 0);
+        } else {
+          node = s.head[0];
+        }
+        while (node != NULL && batch.size() < 2 * SCAN_BATCH_SIZE && startsWith(s.arena, node, prefix)) {
+          batch.add(copyKey(s.arena, node));
+          batch.add(copyValue(s.arena, node));
+          node = next(s.arena, node, 0);
+        }
+        hasMore = node != NULL && startsWith(s.arena, node, prefix);
+      } finally {
+        lock.unlockRead(stamp);
+      }
+      for (int i = 0; i < batch.size(); i += 2) {
+        consumer.accept(batch.get(i), batch.get(i + 1));
+      }
+      if (!batch.isEmpty()) {
+        lastKey = batch.get(batch.size() - 2);
+      }
+      batch.clear();
+    }
+  }
+
+  void put(byte[] key, int keyOffset, int keyLength, byte[] value, int valueOffset, int valueLength) {
+    boolean compact;
+    long stamp = lock.writeLock();
+    try {
+      State s = state;
+      Arena arena = s.arena;
+      long node = findForUpdate(s, key, keyOffset, keyLength);
+      if (node != NULL) {
+        long slot = valueAddress(arena, node);
+        ByteBuffer chunk = arena.chunk(slot);
+        int capacity = chunk.getInt(offset(slot) + SLOT_CAPACITY_OFFSET);
+        s.recordBytes += valueLength - chunk.getInt(offset(slot) + SLOT_LENGTH_OFFSET);
+        if (capacity >= valueLength) {
+          writeBytes(chunk, offset(slot) + SLOT_HEADER_SIZE, value, valueOffset, valueLength);
+          chunk.putInt(offset(slot) + SLOT_LENGTH_OFFSET, valueLength);
+        } else {
+          long newSlot = writeValue(arena, value, valueOffset, valueLength);
+          arena.chunk(node).putLong(offset(node) + VALUE_ADDRESS_OFFSET, newSlot);
+          s.garbageBytes += SLOT_HEADER_SIZE + capacity;
+        }
+      } else {
+        int level = randomLevel();
+        if (level > s.level) {
+          for (int i = s.level; i < level; i++) {
+            update[i] = NULL;
+          }
+          s.level = level;
+        }
+        long slot = writeValue(arena, value, valueOffset, valueLength);
+        node = writeNode(arena, level, key, keyOffset, keyLength, slot);
+        // The node is fully written before it gets linked, from the bottom up
+        for (int i = 0; i < level; i++) {
+          long predecessor = update[i];
+          setNext(arena, node, i, predecessor == NULL ? s.head[i] : next(arena, predecessor, i));
+        }
+        for (int i = 0; i < level; i++) {
+          long predecessor = update[i];
+          if (predecessor == NULL) {
+            s.head[i] = node;
+          } else {
+            setNext(arena, predecessor, i, node);
+          }
+        }
+        s.recordCount++;
+        s.recordBytes += keyLength + valueLength;
+      }
+      s.writeCount++;
+      compact = needsCompaction(s);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+    if (compact) {
+      compact();
+    }
+  }
+
+  void delete(byte[] key, int keyOffset, int keyLength) {
+    boolean compact;
+    long stamp = lock.writeLock();
+    try {
+      State s = state;
+      Arena arena = s.arena;
+      long node = findForUpdate(s, key, keyOffset, keyLength);
+      if (node == NULL) {
+        return;
+      }
+      int level = level(arena.chunk(node), offset(node));
+      for (int i = 0; i < level; i++) {
+        long successor = next(arena, node, i);
+        long predecessor = update[i];
+        if (predecessor == NULL) {
+          s.head[i] = successor;
+        } else {
+          setNext(arena, predecessor, i, successor);
+        }
+      }
+      while (s.level > 1 && s.head[s.level - 1] == NULL) {
+        s.level--;
+      }
+      long slot = valueAddress(arena, node);
+      ByteBuffer slotChunk = arena.chunk(slot);
+      s.garbageBytes += NEXT_OFFSET + level * Long.BYTES + keyLength + SLOT_HEADER_SIZE
+          + slotChunk.getInt(offset(slot) + SLOT_CAPACITY_OFFSET);
+      s.recordBytes -= keyLength + slotChunk.getInt(offset(slot) + SLOT_LENGTH_OFFSET);
+      s.recordCount--;
+      s.writeCount++;
+      compact = needsCompaction(s);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+    if (compact) {
+      compact();
+    }
+  }
+
+  /**
+   * Drops all the records and releases the chunks holding them.
+   */
+  void clear() {
+    long stamp = lock.writeLock();
+    try {
+      state = new State(new Arena(chunkSizeBytes));
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  long getRecordCount() {
+    return state.recordCount;
+  }
+
+  /**
+   * @return the size of the keys and the values of the records.
+   */
+  long getRecordBytes() {
+    return state.recordBytes;
+  }
+
+  /**
+   * @return the off-heap memory held by the list, including the unused parts of the chunks and the garbage.
+   */
+  long getAllocatedBytes() {
+    return state.arena.allocatedBytes;
+  }
+
+  /**
+   * Fills {@link #update} with the last node of each level whose key is smaller than the given key.
+   */
+  private long findForUpdate(State s, byte[] key, int keyOffset, int keyLength) {
+    Arena arena = s.arena;
+    long node = NULL;
+    for (int i = s.level - 1; i >= 0; i--) {
+      long next = node == NULL ? s.head[i] : next(arena, node, i);
+      while (next != NULL && compare(arena, next, key, keyOffset, keyLength) < 0) {
+        node = next;
+        next = next(arena, node, i);
+      }
+      update[i] = node;
+    }
+    long candidate = node == NULL ? s.head[0] : next(arena, node, 0);
+    if (candidate != NULL && compare(arena, candidate, key, keyOffset, keyLength) == 0) {
+      return candidate;
+    }
+    return NULL;
+  }
+
+  private static int randomLevel() {
+    int level = 1;
+    // A quarter of the nodes of each level get promoted to the next one
+    while (level < MAX_LEVEL && (ThreadLocalRandom.current().nextInt() & 3) == 0) {
+      level++;
+    }
+    return level;
+  }
+
+  private static void writeBytes(ByteBuffer chunk, int offset, byte[] bytes, int bytesOffset, int length) {
+    ByteBuffer view = chunk.duplicate();
+    view.position(offset);
+    view.put(bytes, bytesOffset, length);
+  }
+
+  private static long writeValue(Arena arena, byte[] value, int valueOffset, int valueLength) {
+    long slot = arena.allocate(SLOT_HEADER_SIZE + valueLength);
+    ByteBuffer chunk = arena.chunk(slot);
+    int slotOffset = offset(slot);
+    chunk.putInt(slotOffset + SLOT_CAPACITY_OFFSET, valueLength);
+    chunk.putInt(slotOffset + SLOT_LENGTH_OFFSET, valueLength);
+    writeBytes(chunk, slotOffset + SLOT_HEADER_SIZE, value, valueOffset, valueLength);
+    return slot;
+  }
+
+  private static long writeNode(Arena arena, int level, byte[] key, int keyOffset, int keyLength, long slot) {
+    long node = arena.allocate(NEXT_OFFSET + level * Long.BYTES + keyLength);
+    ByteBuffer chunk = arena.chunk(node);
+    int nodeOffset = offset(node);
+    chunk.putInt(nodeOffset + LEVEL_OFFSET, level);
+    chunk.putInt(nodeOffset + KEY_LENGTH_OFFSET, keyLength);
+    chunk.putLong(nodeOffset + VALUE_ADDRESS_OFFSET, slot);
+    for (int i = 0; i < level; i++) {
+      chunk.putLong(nodeOffset + NEXT_OFFSET + i * Long.BYTES, NULL);
+    }
+    writeBytes(chunk, nodeOffset + NEXT_OFFSET + level * Long.BYTES, key, keyOffset, keyLength);
+    return node;
+  }
+
+  private boolean needsCompaction(State s) {
+    return s.garbageBytes >= chunkSizeBytes && s.garbageBytes >= s.arena.allocatedBytes / 2;
+  }
+
+  /**
+   * Copies the live records into new chunks, in key order and with the same levels, under the read lock, and then
+   * swaps the copy in under the write lock unless a write happened since it was taken, in which case the next write
+   * tries again.
+   */
+  private void compact() {
+    State s;
+    long writeCount;
+    State compacted;
+    long stamp = lock.readLock();
+    try {
+      s = state;
+      writeCount = s.writeCount;
+      if (!needsCompaction(s)) {
+        // Another writer compacted the list in the meantime
+        return;
+      }
+      compacted = copyLiveRecords(s);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+    stamp = lock.writeLock();
+    try {
+      if (state == s && s.writeCount == writeCount) {
+        state = compacted;
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  private State copyLiveRecords(State s) {
+    Arena oldArena = s.arena;
+    State compacted = new State(new Arena(chunkSizeBytes));
+    long[] tails = new long[MAX_LEVEL];
+    Arrays.fill(tails, NULL);
+    for (long node = s.head[0]; node != NULL; node = next(oldArena, node, 0)) {
+      ByteBuffer chunk = oldArena.chunk(node);
+      int nodeOffset = offset(node);
+      int level = level(chunk, nodeOffset);
+      byte[] key = copyKey(oldArena, node);
+      byte[] value = copyValue(oldArena, node);
+      long slot = writeValue(compacted.arena, value, 0, value.length);
+      long newNode = writeNode(compacted.arena, level, key, 0, key.length, slot);
+      for (int i = 0; i < level; i++) {
+        if (tails[i] == NULL) {
+          compacted.head[i] = newNode;
+        } else {
+          setNext(compacted.arena, tails[i], i, newNode);
+        }
+        tails[i] = newNode;
+      }
+    }
+    compacted.level = s.level;
+    compacted.recordCount = s.recordCount;
+    compacted.recordBytes = s.recordBytes;
+    return compacted;
+  }
+}
@@ -0,0 +1,133 @@
+package com.linkedin.davinci.store.memory;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.venice.exceptions.PersistenceFailureException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+
+
+/**
+ * An in-memory storage partition keeping its records sorted by key in off-heap memory, see {@link OffHeapSkipList}.
+ *
+ * Compared to {@link InMemoryStoragePartition}, the records do not add to the heap the garbage collector has to go
+ * through, lookups into a provided buffer do not allocate, and {@link #getByKeyPrefix} only visits the records
+ * matching the prefix, in key order.
+ */
+public class OffHeapSortedStoragePartition extends AbstractStoragePartition {
+  private final OffHeapSkipList records;
+
+  public OffHeapSortedStoragePartition(Integer partitionId, int chunkSizeBytes) {
+    super(partitionId);
+    this.records = new OffHeapSkipList(chunkSizeBytes);
+  }
+
+  @Override
+  public void put(byte[] key, byte[] value) {
+    records.put(key, 0, key.length, value, 0, value.length);
+  }
+
+  @Override
+  public void put(byte[] key, ByteBuffer valueBuffer) {
+    if (valueBuffer.hasArray()) {
+      records.put(
+          key,
+          0,
+          key.length,
+          valueBuffer.array(),
+          valueBuffer.arrayOffset() + valueBuffer.position(),
+          valueBuffer.remaining());
+    } else {
+      byte[] value = new byte[valueBuffer.remaining()];
+      valueBuffer.duplicate().get(value);
+      put(key, value);
+    }
+  }
+
+  @Override
+  public <K, V> void put(K key, V value) {
+    throw new UnsupportedOperationException("Method not implemented!!");
+  }
+
+  @Override
+  public byte[] get(byte[] key) throws PersistenceFailureException {
+    return records.get(key, 0, key.length);
+  }
+
+  @Override
+  public ByteBuffer get(byte[] key, ByteBuffer valueToBePopulated) {
+    return records.get(key, 0, key.length, valueToBePopulated);
+  }
+
+  @Override
+  public <K, V> V get(K key) {
+    throw new UnsupportedOperationException("Method not implemented!!");
+  }
+
+  @Override
+  public byte[] get(ByteBuffer key) {
+    if (key.hasArray()) {
+      return records.get(key.array(), key.arrayOffset() + key.position(), key.remaining());
+    }
+    byte[] keyBytes = new byte[key.remaining()];
+    key.duplicate().get(keyBytes);
+    return get(keyBytes);
+  }
+
+  @Override
+  public void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback) {
+    records.scan(keyPrefix, callback::onRecordReceived);
+    callback.onCompletion();
+  }
+
+  @Override
+  public void delete(byte[] key) {
+    records.delete(key, 0, key.length);
+  }
+
+  @Override
+  public Map<String, String> sync() {
+    // no-op
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public void drop() {
+    records.clear();
+  }
+
+  @Override
+  public void close() {
+    // Nothing to do here, since it is in memory implementation
+  }
+
+  @Override
+  public boolean verifyConfig(StoragePartitionConfig storagePartitionConfig) {
+    // no need to do any special check
+    return true;
+  }
+
+  /**
+   * @return the off-heap memory held by the partition, which is what the process has to account for, rather than the
+   *         size of the records.
+   */
+  @Override
+  public long getPartitionSizeInBytes() {
+    return records.getAllocatedBytes();
+  }
+
+  public long getRecordCount() {
+    return records.getRecordCount();
+  }
+
+  public long getRecordSizeInBytes() {
+    return records.getRecordBytes();
+  }
+
+  @Override
+  public void createSnapshot() {
+    throw new UnsupportedOperationException("Method not implemented!");
+  }
+}
@@ -10,12 +10,15 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.WriteBatch;
@@ -150,6 +153,41 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
     }
   }
 
+  /**
+   * Looks up the values and the replication metadata of all the keys with a single {@link RocksDB#multiGetAsList} call
+   * across both column families.
+   */
+  @Override
+  public void multiGetWithReplicationMetadata(
+      List<byte[]> keys,
+      List<byte[]> valuesOut,
+      List<byte[]> replicationMetadataOut) {
+    int keyCount = keys.size();
+    List<ColumnFamilyHandle> columnFamilyHandles = new ArrayList<>(keyCount * 2);
+    List<byte[]> lookupKeys = new ArrayList<>(keyCount * 2);
+    ColumnFamilyHandle valueColumnFamily = columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX);
+    ColumnFamilyHandle rmdColumnFamily = columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX);
+    for (byte[] key: keys) {
+      columnFamilyHandles.add(valueColumnFamily);
+      lookupKeys.add(key);
+    }
+    for (byte[] key: keys) {
+      columnFamilyHandles.add(rmdColumnFamily);
+      lookupKeys.add(key);
+    }
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      List<byte[]> results = rocksDB.multiGetAsList(columnFamilyHandles, lookupKeys);
+      valuesOut.addAll(results.subList(0, keyCount));
+      replicationMetadataOut.addAll(results.subList(keyCount, keyCount * 2));
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to get value from store: " + storeName + ", partition id: " + partitionId, e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
   /**
    * This API deletes a record from RocksDB but updates the metadata in ByteBuffer format and puts it into RocksDB.
    */
@@ -0,0 +1,285 @@
+package com.linkedin.davinci.transformer;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.client.DaVinciRecordTransformer;
+import com.linkedin.davinci.client.TransformedValueOutputBuffer;
+import com.linkedin.davinci.transformer.NumericColumnarStore.ColumnType;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import com.linkedin.venice.utils.lazy.Lazy;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+
+
+/**
+ * A built-in {@link DaVinciRecordTransformer} which keeps a set of numeric fields of each record in a
+ * {@link NumericColumnarStore}, where they can be scanned and aggregated without any deserialization.
+ *
+ * The numeric fields are decoded straight from the raw value bytes, and every other field is skipped, so no Avro
+ * record is materialized during ingestion. Optionally, the projected numeric fields are also kept in local storage,
+ * with {@link #getValueOutputSchema()} as the value schema, so that they remain readable through the
+ * {@link com.linkedin.davinci.client.DaVinciClient}.
+ *
+ * N.B.: the columnar copy only contains the records ingested by the current process, so it is only complete if the
+ * ingestion started from the beginning of the version.
+ */
+public class ColumnarNumericRecordTransformer extends DaVinciRecordTransformer<Object, GenericRecord, GenericRecord> {
+  private final Schema keySchema;
+  private final Schema outputValueSchema;
+  private final boolean keepInLocalStorage;
+  private final NumericColumnarStore columnarStore;
+  private final Map<Integer, DecodingPlan> decodingPlans = new VeniceConcurrentHashMap<>();
+  private final ThreadLocal<long[]> reusedRowBits;
+  private final Lazy<RecordSerializer<Object>> keySerializer;
+
+  /**
+   * @param storeVersion the version of the store
+   * @param keySchema the key schema of the store
+   * @param valueSchema the latest value schema of the store, which must be a record
+   * @param numericFieldNames the fields to keep, which must be int, long, float or double fields of
+   *                          {@param valueSchema}
+   * @param keepInLocalStorage whether to also keep the projected fields in local storage
+   */
+  public ColumnarNumericRecordTransformer(
+      int storeVersion,
+      Schema keySchema,
+      Schema valueSchema,
+      List<String> numericFieldNames,
+      boolean keepInLocalStorage) {
+    super(storeVersion);
+    if (valueSchema.getType() != Schema.Type.RECORD) {
+      throw new VeniceException("Value schema must be a record, got: " + valueSchema.getType());
+    }
+    List<ColumnType> columnTypes = new ArrayList<>(numericFieldNames.size());
+    List<Schema.Field> outputFields = new ArrayList<>(numericFieldNames.size());
+    for (String fieldName: numericFieldNames) {
+      Schema.Field field = valueSchema.getField(fieldName);
+      if (field == null) {
+        throw new VeniceException("Field " + fieldName + " does not exist in value schema: " + valueSchema);
+      }
+      ColumnType columnType = ColumnType.fromSchema(field.schema());
+      if (columnType == null) {
+        throw new VeniceException(
+            "Field " + fieldName + " must be an int, long, float or double, got: " + field.schema().getType());
+      }
+      columnTypes.add(columnType);
+      outputFields.add(AvroCompatibilityHelper.newField(field).build());
+    }
+    this.keySchema = keySchema;
+    this.outputValueSchema = Schema.createRecord(
+        valueSchema.getName() + "NumericProjection",
+        valueSchema.getDoc(),
+        valueSchema.getNamespace(),
+        false,
+        outputFields);
+    this.keepInLocalStorage = keepInLocalStorage;
+    this.columnarStore = new NumericColumnarStore(new ArrayList<>(numericFieldNames), columnTypes);
+    this.reusedRowBits = ThreadLocal.withInitial(() -> new long[numericFieldNames.size()]);
+    this.keySerializer = Lazy.of(() -> FastSerializerDeserializerFactory.getFastAvroGenericSerializer(keySchema));
+  }
+
+  public NumericColumnarStore getColumnarStore() {
+    return columnarStore;
+  }
+
+  @Override
+  public Schema getKeyOutputSchema() {
+    return keySchema;
+  }
+
+  @Override
+  public Schema getValueOutputSchema() {
+    return outputValueSchema;
+  }
+
+  @Override
+  public boolean isRawValueTransformationEnabled() {
+    return true;
+  }
+
+  /**
+   * Ingestion relies on {@link #transformRawValue}, but this allows already deserialized records to be added as well.
+   */
+  @Override
+  public GenericRecord put(Lazy<Object> key, Lazy<GenericRecord> value) {
+    GenericRecord record = value.get();
+    long[] rowBits = reusedRowBits.get();
+    GenericRecord projectedRecord = new GenericData.Record(outputValueSchema);
+    for (int column = 0; column < rowBits.length; column++) {
+      Number fieldValue = (Number) record.get(columnarStore.getColumnNames().get(column));
+      ColumnType columnType = columnarStore.getColumnType(column);
+      if (fieldValue instanceof Float || fieldValue instanceof Double) {
+        rowBits[column] = NumericColumnarStore.toBits(columnType, fieldValue.doubleValue());
+      } else {
+        rowBits[column] = NumericColumnarStore.toBits(columnType, fieldValue == null ? 0 : fieldValue.longValue());
+      }
+      projectedRecord.put(column, fieldValue);
+    }
+    columnarStore.put(ByteBuffer.wrap(keySerializer.get().serialize(key.get())), rowBits);
+    return projectedRecord;
+  }
+
+  @Override
+  public boolean transformRawValue(
+      ByteBuffer key,
+      ByteBuffer value,
+      int valueSchemaId,
+      Schema valueSchema,
+      BinaryDecoder decoder,
+      TransformedValueOutputBuffer output) {
+    DecodingPlan plan = decodingPlans.computeIfAbsent(valueSchemaId, id -> new DecodingPlan(valueSchema));
+    long[] rowBits = reusedRowBits.get();
+    try {
+      plan.decode(decoder, rowBits);
+    } catch (IOException e) {
+      throw new VeniceException("Unable to decode the numeric fields of value schema id " + valueSchemaId, e);
+    }
+    columnarStore.put(key, rowBits);
+    if (!keepInLocalStorage) {
+      return false;
+    }
+    BinaryEncoder encoder = output.getEncoder();
+    try {
+      for (int column = 0; column < rowBits.length; column++) {
+        ColumnType columnType = columnarStore.getColumnType(column);
+        switch (columnType) {
+          case INT:
+            encoder.writeInt((int) rowBits[column]);
+            break;
+          case LONG:
+            encoder.writeLong(rowBits[column]);
+            break;
+          case FLOAT:
+            encoder.writeFloat((float) NumericColumnarStore.fromBitsAsDouble(columnType, rowBits[column]));
+            break;
+          default:
+            encoder.writeDouble(NumericColumnarStore.fromBitsAsDouble(columnType, rowBits[column]));
+        }
+      }
+      encoder.flush();
+    } catch (IOException e) {
+      throw new VeniceException("Unable to encode the numeric projection", e);
+    }
+    return true;
+  }
+
+  @Override
+  public void onRawDelete(ByteBuffer key) {
+    columnarStore.delete(key);
+  }
+
+  /**
+   * Builds a {@link GenericRecord} of {@link #getValueOutputSchema()} for the given key from the columnar store, or
+   * returns null if the key is not present.
+   */
+  public GenericRecord getProjectedRecord(ByteBuffer key) {
+    int row = columnarStore.getRow(key);
+    if (row < 0) {
+      return null;
+    }
+    GenericRecord record = new GenericData.Record(outputValueSchema);
+    for (int column = 0; column < columnarStore.getColumnNames().size(); column++) {
+      switch (columnarStore.getColumnType(column)) {
+        case INT:
+          record.put(column, (int) columnarStore.getLong(row, column));
+          break;
+        case LONG:
+          record.put(column, columnarStore.getLong(row, column));
+          break;
+        case FLOAT:
+          record.put(column, (float) columnarStore.getDouble(row, column));
+          break;
+        default:
+          record.put(column, columnarStore.getDouble(row, column));
+      }
+    }
+    return record;
+  }
+
+  /**
+   * Describes, for a given writer schema, which of its fields map to which column, and which columns need to be
+   * filled with their default value since the writer schema does not have them.
+   */
+  private class DecodingPlan {
+    private final Schema[] writerFieldSchemas;
+    private final int[] writerFieldColumns;
+    private final ColumnType[] writerFieldTypes;
+    private final long[] defaultRowBits;
+
+    DecodingPlan(Schema writerSchema) {
+      List<Schema.Field> writerFields = writerSchema.getFields();
+      int columnCount = columnarStore.getColumnNames().size();
+      this.writerFieldSchemas = new Schema[writerFields.size()];
+      this.writerFieldColumns = new int[writerFields.size()];
+      this.writerFieldTypes = new ColumnType[writerFields.size()];
+      this.defaultRowBits = new long[columnCount];
+      boolean[] presentInWriter = new boolean[columnCount];
+
+      for (int i = 0; i < writerFields.size(); i++) {
+        Schema.Field writerField = writerFields.get(i);
+        writerFieldSchemas[i] = writerField.schema();
+        int column = columnarStore.getColumnIndex(writerField.name());
+        writerFieldColumns[i] = column;
+        if (column >= 0) {
+          writerFieldTypes[i] = ColumnType.fromSchema(writerField.schema());
+          if (writerFieldTypes[i] == null) {
+            throw new VeniceException(
+                "Field " + writerField.name() + " is not numeric in writer schema: " + writerField.schema());
+          }
+          presentInWriter[column] = true;
+        }
+      }
+      for (int column = 0; column < columnCount; column++) {
+        if (!presentInWriter[column]) {
+          Schema.Field readerField = outputValueSchema.getFields().get(column);
+          Object defaultValue = AvroCompatibilityHelper.fieldHasDefault(readerField)
+              ? AvroCompatibilityHelper.getGenericDefaultValue(readerField)
+              : null;
+          ColumnType columnType = columnarStore.getColumnType(column);
+          if (defaultValue instanceof Float || defaultValue instanceof Double) {
+            defaultRowBits[column] = NumericColumnarStore.toBits(columnType, ((Number) defaultValue).doubleValue());
+          } else {
+            long longValue = defaultValue == null ? 0 : ((Number) defaultValue).longValue();
+            defaultRowBits[column] = NumericColumnarStore.toBits(columnType, longValue);
+          }
+        }
+      }
+    }
+
+    void decode(BinaryDecoder decoder, long[] rowBits) throws IOException {
+      System.arraycopy(defaultRowBits, 0, rowBits, 0, defaultRowBits.length);
+      for (int i = 0; i < writerFieldSchemas.length; i++) {
+        int column = writerFieldColumns[i];
+        if (column < 0) {
+          GenericDatumReader.skip(writerFieldSchemas[i], decoder);
+          continue;
+        }
+        ColumnType columnType = columnarStore.getColumnType(column);
+        switch (writerFieldTypes[i]) {
+          case INT:
+            rowBits[column] = NumericColumnarStore.toBits(columnType, (long) decoder.readInt());
+            break;
+          case LONG:
+            rowBits[column] = NumericColumnarStore.toBits(columnType, decoder.readLong());
+            break;
+          case FLOAT:
+            rowBits[column] = NumericColumnarStore.toBits(columnType, (double) decoder.readFloat());
+            break;
+          default:
+            rowBits[column] = NumericColumnarStore.toBits(columnType, decoder.readDouble());
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,458 @@
+package com.linkedin.davinci.transformer;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.avro.Schema;
+
+
+/**
+ * An in-memory, column-oriented table of numeric values keyed by serialized record keys.
+ *
+ * Each column is backed by a primitive array of its own type, and each key is assigned a row which is shared by all
+ * the columns. Rows freed by deletes are reused by later inserts, so the arrays only grow with the number of live
+ * keys. Values are passed in and out as raw 64 bits (see {@link #toBits}), which avoids boxing on both the ingestion
+ * and the read path.
+ *
+ * The keys are spread over {@link #SEGMENT_COUNT} segments by hash, each with its own lock, rows and column arrays, so
+ * that the drainer threads ingesting different partitions seldom contend, and readers only hold back the writers of
+ * the segment they read. Each segment indexes its keys with an open-addressing table of row numbers, so that a key
+ * only costs a copy of its bytes and no boxed entry.
+ *
+ * This class is thread safe. Row numbers returned by {@link #getRow(ByteBuffer)} are only stable as long as the
+ * corresponding key is not deleted.
+ */
+public class NumericColumnarStore {
+  private static final int SEGMENT_SHIFT = 4;
+  private static final int SEGMENT_COUNT = 1 << SEGMENT_SHIFT;
+  private static final int INITIAL_ROW_CAPACITY = 64;
+
+  public enum ColumnType {
+    INT, LONG, FLOAT, DOUBLE;
+
+    static ColumnType fromSchema(Schema schema) {
+      switch (schema.getType()) {
+        case INT:
+          return INT;
+        case LONG:
+          return LONG;
+        case FLOAT:
+          return FLOAT;
+        case DOUBLE:
+          return DOUBLE;
+        default:
+          return null;
+      }
+    }
+  }
+
+  private final List<String> columnNames;
+  private final ColumnType[] columnTypes;
+  private final Map<String, Integer> columnIndexes = new HashMap<>();
+  private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+  public NumericColumnarStore(List<String> columnNames, List<ColumnType> columnTypes) {
+    if (columnNames.size() != columnTypes.size()) {
+      throw new VeniceException(
+          "Column names and types must have the same size, got " + columnNames.size() + " and " + columnTypes.size());
+    }
+    this.columnNames = Collections.unmodifiableList(columnNames);
+    this.columnTypes = columnTypes.toArray(new ColumnType[0]);
+    for (int i = 0; i < this.columnTypes.length; i++) {
+      if (columnIndexes.put(columnNames.get(i), i) != null) {
+        throw new VeniceException("Duplicate column name: " + columnNames.get(i));
+      }
+    }
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      segments[i] = new Segment();
+    }
+  }
+
+  public List<String> getColumnNames() {
+    return columnNames;
+  }
+
+  public ColumnType getColumnType(int column) {
+    return columnTypes[column];
+  }
+
+  /**
+   * @return the index of the given column, or -1 if there is no such column
+   */
+  public int getColumnIndex(String columnName) {
+    Integer index = columnIndexes.get(columnName);
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * @return the number of keys currently stored
+   */
+  public int size() {
+    int size = 0;
+    for (Segment segment: segments) {
+      segment.lock.readLock().lock();
+      try {
+        size += segment.size;
+      } finally {
+        segment.lock.readLock().unlock();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Inserts or overwrites the values of a key.
+   *
+   * @param key the serialized key, which is copied if the key was not present yet
+   * @param rowBits the values of all the columns, encoded with {@link #toBits}
+   */
+  public void put(ByteBuffer key, long[] rowBits) {
+    int hash = hash(key);
+    Segment segment = segments[segmentIndex(hash)];
+    segment.lock.writeLock().lock();
+    try {
+      int row = segment.findRow(key, hash);
+      if (row < 0) {
+        byte[] keyCopy = new byte[key.remaining()];
+        key.duplicate().get(keyCopy);
+        row = segment.insertRow(keyCopy, hash);
+      }
+      for (int column = 0; column < columnTypes.length; column++) {
+        segment.setBits(column, row, rowBits[column]);
+      }
+    } finally {
+      segment.lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * @return true if the key was present
+   */
+  public boolean delete(ByteBuffer key) {
+    int hash = hash(key);
+    Segment segment = segments[segmentIndex(hash)];
+    segment.lock.writeLock().lock();
+    try {
+      int row = segment.findRow(key, hash);
+      if (row < 0) {
+        return false;
+      }
+      segment.removeRow(row);
+      return true;
+    } finally {
+      segment.lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * @return the row of the given key, or -1 if the key is not present
+   */
+  public int getRow(ByteBuffer key) {
+    int hash = hash(key);
+    int segmentIndex = segmentIndex(hash);
+    Segment segment = segments[segmentIndex];
+    segment.lock.readLock().lock();
+    try {
+      int row = segment.findRow(key, hash);
+      // The lower bits of the row number tell its segment
+      return row < 0 ? -1 : (row << SEGMENT_SHIFT) | segmentIndex;
+    } finally {
+      segment.lock.readLock().unlock();
+    }
+  }
+
+  public long getLong(int row, int column) {
+    return fromBitsAsLong(columnTypes[column], getBits(row, column));
+  }
+
+  public double getDouble(int row, int column) {
+    return fromBitsAsDouble(columnTypes[column], getBits(row, column));
+  }
+
+  private long getBits(int row, int column) {
+    Segment segment = segments[row & (SEGMENT_COUNT - 1)];
+    segment.lock.readLock().lock();
+    try {
+      return segment.getBits(column, row >>> SEGMENT_SHIFT);
+    } finally {
+      segment.lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Sums a column over all the live rows, directly from its primitive arrays.
+   */
+  public double sum(int column) {
+    double sum = 0;
+    for (Segment segment: segments) {
+      segment.lock.readLock().lock();
+      try {
+        for (int row = 0; row < segment.highestRow; row++) {
+          if (segment.rowKeys[row] != null) {
+            sum += fromBitsAsDouble(columnTypes[column], segment.getBits(column, row));
+          }
+        }
+      } finally {
+        segment.lock.readLock().unlock();
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Encodes a value of the given column type into the 64 bits representation used by {@link #put}.
+   */
+  public static long toBits(ColumnType type, long value) {
+    switch (type) {
+      case FLOAT:
+        return Float.floatToRawIntBits((float) value);
+      case DOUBLE:
+        return Double.doubleToRawLongBits((double) value);
+      default:
+        return value;
+    }
+  }
+
+  /**
+   * Encodes a floating point value of the given column type into the 64 bits representation used by {@link #put}.
+   */
+  public static long toBits(ColumnType type, double value) {
+    switch (type) {
+      case INT:
+      case LONG:
+        return (long) value;
+      case FLOAT:
+        return Float.floatToRawIntBits((float) value);
+      default:
+        return Double.doubleToRawLongBits(value);
+    }
+  }
+
+  public static long fromBitsAsLong(ColumnType type, long bits) {
+    switch (type) {
+      case FLOAT:
+        return (long) Float.intBitsToFloat((int) bits);
+      case DOUBLE:
+        return (long) Double.longBitsToDouble(bits);
+      default:
+        return bits;
+    }
+  }
+
+  public static double fromBitsAsDouble(ColumnType type, long bits) {
+    switch (type) {
+      case FLOAT:
+        return Float.intBitsToFloat((int) bits);
+      case DOUBLE:
+        return Double.longBitsToDouble(bits);
+      default:
+        return bits;
+    }
+  }
+
+  /**
+   * Spreads the bits of the hash code of the key, since the upper bits pick the segment and the lower bits the slot.
+   */
+  private static int hash(ByteBuffer key) {
+    int h = 1;
+    for (int i = key.position(); i < key.limit(); i++) {
+      h = 31 * h + key.get(i);
+    }
+    h ^= h >>> 16;
+    h *= 0x85ebca6b;
+    h ^= h >>> 13;
+    h *= 0xc2b2ae35;
+    return h ^ (h >>> 16);
+  }
+
+  private static int segmentIndex(int hash) {
+    return hash >>> (Integer.SIZE - SEGMENT_SHIFT);
+  }
+
+  /**
+   * The rows of the keys of one hash segment. Must only be accessed with its lock held.
+   */
+  private final class Segment {
+    final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    final Object[] columns = new Object[columnTypes.length];
+    /**
+     * The key of each row, or null if the row is free.
+     */
+    byte[][] rowKeys = new byte[INITIAL_ROW_CAPACITY][];
+    int[] rowHashes = new int[INITIAL_ROW_CAPACITY];
+    /**
+     * Open-addressing table with linear probing, which holds the row of each key plus one, or 0 for an empty slot. It
+     * is kept at most half full.
+     */
+    int[] slots = new int[2 * INITIAL_ROW_CAPACITY];
+    int rowCapacity = INITIAL_ROW_CAPACITY;
+    int highestRow = 0;
+    int[] freeRows = new int[16];
+    int freeRowCount = 0;
+    int size = 0;
+
+    Segment() {
+      for (int column = 0; column < columns.length; column++) {
+        columns[column] = allocateColumn(columnTypes[column], rowCapacity);
+      }
+    }
+
+    int findRow(ByteBuffer key, int hash) {
+      int mask = slots.length - 1;
+      for (int slot = hash & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+        int row = slots[slot] - 1;
+        if (rowHashes[row] == hash && keyEquals(rowKeys[row], key)) {
+          return row;
+        }
+      }
+      return -1;
+    }
+
+    int insertRow(byte[] key, int hash) {
+      int row = allocateRow();
+      rowKeys[row] = key;
+      rowHashes[row] = hash;
+      size++;
+      if (2 * size > slots.length) {
+        resizeSlots(2 * slots.length);
+      }
+      insertSlot(row);
+      return row;
+    }
+
+    /**
+     * Frees the row and closes the gap it leaves in its probe sequence, by moving back the following entries which
+     * would not be reachable anymore, so that no tombstone is needed.
+     */
+    void removeRow(int row) {
+      int mask = slots.length - 1;
+      int gap = rowHashes[row] & mask;
+      while (slots[gap] != row + 1) {
+        gap = (gap + 1) & mask;
+      }
+      slots[gap] = 0;
+      for (int slot = (gap + 1) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+        int home = rowHashes[slots[slot] - 1] & mask;
+        boolean reachable = gap <= slot ? (gap < home && home <= slot) : (gap < home || home <= slot);
+        if (!reachable) {
+          slots[gap] = slots[slot];
+          slots[slot] = 0;
+          gap = slot;
+        }
+      }
+      rowKeys[row] = null;
+      size--;
+      if (freeRowCount == freeRows.length) {
+        freeRows = Arrays.copyOf(freeRows, freeRows.length * 2);
+      }
+      freeRows[freeRowCount++] = row;
+    }
+
+    private void insertSlot(int row) {
+      int mask = slots.length - 1;
+      int slot = rowHashes[row] & mask;
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = row + 1;
+    }
+
+    private void resizeSlots(int capacity) {
+      int[] oldSlots = slots;
+      slots = new int[capacity];
+      for (int entry: oldSlots) {
+        if (entry != 0) {
+          insertSlot(entry - 1);
+        }
+      }
+    }
+
+    private int allocateRow() {
+      if (freeRowCount > 0) {
+        return freeRows[--freeRowCount];
+      }
+      if (highestRow == rowCapacity) {
+        rowCapacity *= 2;
+        rowKeys = Arrays.copyOf(rowKeys, rowCapacity);
+        rowHashes = Arrays.copyOf(rowHashes, rowCapacity);
+        for (int column = 0; column < columns.length; column++) {
+          columns[column] = growColumn(columnTypes[column], columns[column], rowCapacity);
+        }
+      }
+      return highestRow++;
+    }
+
+    void setBits(int column, int row, long bits) {
+      switch (columnTypes[column]) {
+        case INT:
+          ((int[]) columns[column])[row] = (int) bits;
+          break;
+        case LONG:
+          ((long[]) columns[column])[row] = bits;
+          break;
+        case FLOAT:
+          ((float[]) columns[column])[row] = Float.intBitsToFloat((int) bits);
+          break;
+        default:
+          ((double[]) columns[column])[row] = Double.longBitsToDouble(bits);
+      }
+    }
+
+    long getBits(int column, int row) {
+      switch (columnTypes[column]) {
+        case INT:
+          return ((int[]) columns[column])[row];
+        case LONG:
+          return ((long[]) columns[column])[row];
+        case FLOAT:
+          return Float.floatToRawIntBits(((float[]) columns[column])[row]);
+        default:
+          return Double.doubleToRawLongBits(((double[]) columns[column])[row]);
+      }
+    }
+  }
+
+  private static boolean keyEquals(byte[] storedKey, ByteBuffer key) {
+    if (storedKey.length != key.remaining()) {
+      return false;
+    }
+    int position = key.position();
+    for (int i = 0; i < storedKey.length; i++) {
+      if (storedKey[i] != key.get(position + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Object allocateColumn(ColumnType type, int capacity) {
+    switch (type) {
+      case INT:
+        return new int[capacity];
+      case LONG:
+        return new long[capacity];
+      case FLOAT:
+        return new float[capacity];
+      default:
+        return new double[capacity];
+    }
+  }
+
+  private static Object growColumn(ColumnType type, Object column, int capacity) {
+    switch (type) {
+      case INT:
+        return Arrays.copyOf((int[]) column, capacity);
+      case LONG:
+        return Arrays.copyOf((long[]) column, capacity);
+      case FLOAT:
+        return Arrays.copyOf((float[]) column, capacity);
+      default:
+        return Arrays.copyOf((double[]) column, capacity);
+    }
+  }
+}
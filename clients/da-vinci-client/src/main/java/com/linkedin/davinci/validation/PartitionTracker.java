@@ -27,7 +27,6 @@ import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.utils.CollectionUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
-import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.lazy.Lazy;
 import java.nio.ByteBuffer;
 import java.util.Collections;
@@ -37,6 +36,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -69,7 +69,7 @@ public class PartitionTracker {
   private final Logger logger;
   private final String topicName;
   private final int partition;
-  private final Map<GUID, Segment> segments = new VeniceConcurrentHashMap<>();
+  private final ProducerStateTable segments = new ProducerStateTable();
 
   public PartitionTracker(String topicName, int partition) {
     this.topicName = topicName;
@@ -87,7 +87,7 @@ public class PartitionTracker {
 
   /** N.B. Intended for tests */
   Set<GUID> getTrackedGUIDs() {
-    return Collections.unmodifiableSet(this.segments.keySet());
+    return Collections.unmodifiableSet(this.segments.getGUIDs());
   }
 
   /**
@@ -138,9 +138,7 @@ public class PartitionTracker {
   }
 
   public void cloneProducerStates(PartitionTracker destProducerTracker) {
-    for (Map.Entry<GUID, Segment> entry: this.segments.entrySet()) {
-      destProducerTracker.setSegment(entry.getKey(), new Segment(entry.getValue()));
-    }
+    this.segments.forEach((guid, segment) -> destProducerTracker.setSegment(guid, new Segment(segment)));
   }
 
   private void updateOffsetRecord(GUID guid, Segment segment, OffsetRecord offsetRecord) {
@@ -184,9 +182,7 @@ public class PartitionTracker {
   }
 
   public void updateOffsetRecord(OffsetRecord offsetRecord) {
-    for (Map.Entry<GUID, Segment> entry: this.segments.entrySet()) {
-      updateOffsetRecord(entry.getKey(), entry.getValue(), offsetRecord);
-    }
+    this.segments.forEach((guid, segment) -> updateOffsetRecord(guid, segment, offsetRecord));
   }
 
   /**
@@ -630,22 +626,17 @@ public class PartitionTracker {
 
   void clearExpiredStateAndUpdateOffsetRecord(OffsetRecord offsetRecord, long maxAgeInMs) {
     long minimumRequiredRecordProducerTimestamp = offsetRecord.getMaxMessageTimeInMs() - maxAgeInMs;
-    int numberOfClearedGUIDs = 0;
-    Iterator<Map.Entry<GUID, Segment>> iterator = this.segments.entrySet().iterator();
-    Map.Entry<GUID, Segment> entry;
-    Segment segment;
-    while (iterator.hasNext()) {
-      entry = iterator.next();
-      segment = entry.getValue();
+    AtomicInteger numberOfClearedGUIDs = new AtomicInteger();
+    this.segments.forEach((guid, segment) -> {
       if (segment.getLastRecordProducerTimestamp() < minimumRequiredRecordProducerTimestamp) {
-        iterator.remove();
-        offsetRecord.removeProducerPartitionState(entry.getKey());
-        numberOfClearedGUIDs++;
+        this.segments.remove(guid);
+        offsetRecord.removeProducerPartitionState(guid);
+        numberOfClearedGUIDs.incrementAndGet();
       } else {
-        updateOffsetRecord(entry.getKey(), segment, offsetRecord);
+        updateOffsetRecord(guid, segment, offsetRecord);
       }
-    }
-    if (numberOfClearedGUIDs > 0) {
+    });
+    if (numberOfClearedGUIDs.get() > 0) {
       logger.info("Cleared {} expired producer GUID(s).", numberOfClearedGUIDs);
     }
   }
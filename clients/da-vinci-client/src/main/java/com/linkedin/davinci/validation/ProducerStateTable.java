@@ -0,0 +1,186 @@
+package com.linkedin.davinci.validation;
+
+import com.linkedin.venice.kafka.protocol.GUID;
+import com.linkedin.venice.kafka.validation.Segment;
+import com.linkedin.venice.utils.ByteUtils;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+
+
+/**
+ * The {@link Segment} of each producer of a partition, keyed by the two longs of the producer {@link GUID}.
+ *
+ * Compared to a concurrent map keyed by {@link GUID}, a lookup neither hashes nor compares the GUID byte arrays, and
+ * tracking a new segment of a known producer does not allocate a map entry. This matters because every record goes
+ * through a lookup, while producers and segments come and go rarely.
+ *
+ * The table uses open addressing with linear probing. Lookups are lock-free, and modifications are serialized by the
+ * lock of the table. A slot is claimed by a producer for the lifetime of the slot array: removing the producer only
+ * replaces its segment with a tombstone, so that the keys of a slot never change once its segment has been published,
+ * and the tombstones are dropped when the slots are resized.
+ */
+final class ProducerStateTable {
+  private static final int INITIAL_CAPACITY = 16;
+  private static final Object TOMBSTONE = new Object();
+
+  private volatile Slots slots = new Slots(INITIAL_CAPACITY);
+  // Only accessed while holding the lock of the table
+  private int size = 0;
+  private int usedSlots = 0;
+
+  Segment get(GUID guid) {
+    byte[] bytes = guid.bytes();
+    long high = ByteUtils.readLong(bytes, 0);
+    long low = ByteUtils.readLong(bytes, ByteUtils.SIZE_OF_LONG);
+    Slots currentSlots = slots;
+    int mask = currentSlots.capacity - 1;
+    for (int i = hash(high, low) & mask;; i = (i + 1) & mask) {
+      Object value = currentSlots.values.get(i);
+      if (value == null) {
+        return null;
+      }
+      if (currentSlots.highs[i] == high && currentSlots.lows[i] == low) {
+        return value == TOMBSTONE ? null : (Segment) value;
+      }
+    }
+  }
+
+  /**
+   * @return the previous segment of the producer, or null if there was none.
+   */
+  synchronized Segment put(GUID guid, Segment segment) {
+    if (segment == null) {
+      throw new IllegalArgumentException("The segment of a producer cannot be null");
+    }
+    if ((usedSlots + 1) * 2 > slots.capacity) {
+      resize();
+    }
+    byte[] bytes = guid.bytes();
+    long high = ByteUtils.readLong(bytes, 0);
+    long low = ByteUtils.readLong(bytes, ByteUtils.SIZE_OF_LONG);
+    Slots currentSlots = slots;
+    int mask = currentSlots.capacity - 1;
+    for (int i = hash(high, low) & mask;; i = (i + 1) & mask) {
+      Object value = currentSlots.values.get(i);
+      if (value == null) {
+        currentSlots.claim(i, high, low, guid, segment);
+        size++;
+        usedSlots++;
+        return null;
+      }
+      if (currentSlots.highs[i] == high && currentSlots.lows[i] == low) {
+        currentSlots.values.set(i, segment);
+        if (value == TOMBSTONE) {
+          size++;
+          return null;
+        }
+        return (Segment) value;
+      }
+    }
+  }
+
+  synchronized void remove(GUID guid) {
+    byte[] bytes = guid.bytes();
+    long high = ByteUtils.readLong(bytes, 0);
+    long low = ByteUtils.readLong(bytes, ByteUtils.SIZE_OF_LONG);
+    Slots currentSlots = slots;
+    int mask = currentSlots.capacity - 1;
+    for (int i = hash(high, low) & mask;; i = (i + 1) & mask) {
+      Object value = currentSlots.values.get(i);
+      if (value == null) {
+        return;
+      }
+      if (currentSlots.highs[i] == high && currentSlots.lows[i] == low) {
+        if (value != TOMBSTONE) {
+          currentSlots.values.set(i, TOMBSTONE);
+          size--;
+        }
+        return;
+      }
+    }
+  }
+
+  /**
+   * Calls the given consumer for each producer and its segment. The consumer may modify the table, in which case the
+   * iteration may or may not see the modification, like the iterators of concurrent maps.
+   */
+  void forEach(BiConsumer<GUID, Segment> consumer) {
+    Slots currentSlots = slots;
+    for (int i = 0; i < currentSlots.capacity; i++) {
+      Object value = currentSlots.values.get(i);
+      if (value != null && value != TOMBSTONE) {
+        consumer.accept(currentSlots.guids[i], (Segment) value);
+      }
+    }
+  }
+
+  Set<GUID> getGUIDs() {
+    Set<GUID> guids = new HashSet<>();
+    forEach((guid, segment) -> guids.add(guid));
+    return guids;
+  }
+
+  synchronized int size() {
+    return size;
+  }
+
+  private void resize() {
+    Slots oldSlots = slots;
+    int capacity = oldSlots.capacity;
+    // Grow only if the tombstones are not enough to make room
+    while ((size + 1) * 2 > capacity) {
+      capacity *= 2;
+    }
+    Slots newSlots = new Slots(capacity);
+    int mask = capacity - 1;
+    for (int j = 0; j < oldSlots.capacity; j++) {
+      Object value = oldSlots.values.get(j);
+      if (value == null || value == TOMBSTONE) {
+        continue;
+      }
+      long high = oldSlots.highs[j];
+      long low = oldSlots.lows[j];
+      int i = hash(high, low) & mask;
+      while (newSlots.values.get(i) != null) {
+        i = (i + 1) & mask;
+      }
+      newSlots.claim(i, high, low, oldSlots.guids[j], (Segment) value);
+    }
+    usedSlots = size;
+    slots = newSlots;
+  }
+
+  private static int hash(long high, long low) {
+    long hash = (high ^ low) * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  private static final class Slots {
+    private final int capacity;
+    private final long[] highs;
+    private final long[] lows;
+    private final GUID[] guids;
+    /**
+     * Either null for a free slot, {@link #TOMBSTONE} or a {@link Segment}. The volatile write of the value when
+     * claiming a slot publishes the keys written before it.
+     */
+    private final AtomicReferenceArray<Object> values;
+
+    Slots(int capacity) {
+      this.capacity = capacity;
+      this.highs = new long[capacity];
+      this.lows = new long[capacity];
+      this.guids = new GUID[capacity];
+      this.values = new AtomicReferenceArray<>(capacity);
+    }
+
+    void claim(int i, long high, long low, GUID guid, Segment segment) {
+      highs[i] = high;
+      lows[i] = low;
+      guids[i] = guid;
+      values.set(i, segment);
+    }
+  }
+}
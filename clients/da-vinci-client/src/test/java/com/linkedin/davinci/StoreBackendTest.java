@@ -43,14 +43,20 @@ import io.tehuti.Metric;
 import io.tehuti.metrics.MetricsRepository;
 import java.io.File;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.commons.io.FileUtils;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -209,6 +215,46 @@ public class StoreBackendTest {
     }
   }
 
+  @Test
+  void testPreSwapHooks() throws Exception {
+    Queue<Runnable> executorTasks = new ArrayDeque<>();
+    doAnswer(answerVoid(executorTasks::add)).when(backend.getExecutor()).execute(any());
+    List<VersionBackend> hookVersions = new ArrayList<>();
+    AtomicBoolean hookHoldsLock = new AtomicBoolean();
+    storeBackend.addPreSwapHook((currentVersion, futureVersion) -> {
+      hookVersions.add(currentVersion);
+      hookVersions.add(futureVersion);
+      hookHoldsLock.set(Thread.holdsLock(storeBackend));
+    });
+
+    int partition = 0;
+    CompletableFuture subscribeResult = storeBackend.subscribe(ComplementSet.of(partition));
+    versionMap.get(version1.kafkaTopicName()).completePartition(partition);
+    subscribeResult.get(0, TimeUnit.SECONDS);
+    VersionBackend versionBackend1 = versionMap.get(version1.kafkaTopicName());
+    VersionBackend versionBackend2 = versionMap.get(version2.kafkaTopicName());
+    versionBackend2.completePartition(partition);
+    store.setCurrentVersion(version2.getNumber());
+    backend.handleStoreChanged(storeBackend);
+
+    // Verify that the swap waits for the hooks, which run on the executor.
+    assertTrue(hookVersions.isEmpty());
+    try (ReferenceCounted<VersionBackend> versionRef = storeBackend.getDaVinciCurrentVersion()) {
+      assertEquals(versionRef.get().getVersion().getNumber(), version1.getNumber());
+    }
+    // Verify that the hooks are only started once.
+    backend.handleStoreChanged(storeBackend);
+    assertEquals(executorTasks.size(), 1);
+
+    executorTasks.poll().run();
+    assertEquals(hookVersions, Arrays.asList(versionBackend1, versionBackend2));
+    assertFalse(hookHoldsLock.get());
+    // Verify that future version became current once the hooks have run.
+    try (ReferenceCounted<VersionBackend> versionRef = storeBackend.getDaVinciCurrentVersion()) {
+      assertEquals(versionRef.get().getVersion().getNumber(), version2.getNumber());
+    }
+  }
+
   @Test
   void testSubscribeWithoutCurrentVersion() throws Exception {
     int partition = 1;
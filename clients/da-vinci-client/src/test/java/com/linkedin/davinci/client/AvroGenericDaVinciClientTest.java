@@ -7,6 +7,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 import com.linkedin.davinci.StoreBackend;
 import com.linkedin.davinci.VersionBackend;
@@ -17,13 +19,21 @@ import com.linkedin.venice.serializer.AvroSerializer;
 import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.ReferenceCounted;
 import com.linkedin.venice.utils.VeniceProperties;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.avro.Schema;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -107,6 +117,7 @@ public class AvroGenericDaVinciClientTest {
     when(dvcClient.isPartitionReadyToServe(any(), anyInt())).thenReturn(true);
     when(dvcClient.isPartitionSubscribed(any(), anyInt())).thenReturn(true);
     when(dvcClient.batchGetFromLocalStorage(any())).thenCallRealMethod();
+    when(dvcClient.getReadChunkExecutor()).thenReturn(ForkJoinPool.commonPool());
 
     Set<String> keySet = new HashSet<>();
     keySet.add("key_1");
@@ -133,4 +144,109 @@ public class AvroGenericDaVinciClientTest {
       assertEquals(resultMap.get(keyPrefix + i), testValue);
     }
   }
+
+  @Test
+  public void testPartitionAwareBatchGet() throws ExecutionException, InterruptedException {
+    AvroGenericDaVinciClient<String, String> dvcClient = mock(AvroGenericDaVinciClient.class);
+    when(dvcClient.getStoreName()).thenReturn("test_store");
+
+    int largeRequestSplitThreshold = 4;
+    DaVinciConfig daVinciConfig = new DaVinciConfig().setPartitionAwareBatchReadEnabled(true)
+        .setLargeBatchRequestSplitThreshold(largeRequestSplitThreshold);
+    when(dvcClient.getDaVinciConfig()).thenReturn(daVinciConfig);
+
+    int partitionCount = 3;
+    StoreBackend storeBackend = mock(StoreBackend.class);
+    VersionBackend versionBackend = mock(VersionBackend.class);
+    when(versionBackend.getSupersetOrLatestValueSchemaId()).thenReturn(1);
+    when(versionBackend.getPartition(any())).thenAnswer(invocation -> {
+      byte[] keyBytes = invocation.getArgument(0);
+      return keyBytes[keyBytes.length - 1] % partitionCount;
+    });
+    List<Integer> groupSizes = new CopyOnWriteArrayList<>();
+    Set<Integer> groupPartitions = ConcurrentHashMap.newKeySet();
+    when(versionBackend.multiRead(anyInt(), any(), any(), any(), anyInt(), any(), any())).thenAnswer(invocation -> {
+      int partition = invocation.getArgument(0);
+      List<byte[]> keyBytesList = invocation.getArgument(1);
+      groupSizes.add(keyBytesList.size());
+      groupPartitions.add(partition);
+      List<String> values = new ArrayList<>();
+      for (byte[] keyBytes: keyBytesList) {
+        Assert.assertEquals(keyBytes[keyBytes.length - 1] % partitionCount, partition);
+        values.add("value_" + partition);
+      }
+      return values;
+    });
+    ReferenceCounted<VersionBackend> versionBackendReferenceCounted =
+        new ReferenceCounted<>(versionBackend, ignored -> {});
+    when(storeBackend.getDaVinciCurrentVersion()).thenReturn(versionBackendReferenceCounted);
+    when(dvcClient.getStoreBackend()).thenReturn(storeBackend);
+
+    when(dvcClient.getKeySerializer()).thenReturn(new AvroSerializer<>(Schema.create(Schema.Type.STRING)));
+    when(dvcClient.getStoreDeserializerCache()).thenReturn(null);
+    when(dvcClient.isPartitionReadyToServe(any(), anyInt())).thenReturn(true);
+    when(dvcClient.isPartitionSubscribed(any(), anyInt())).thenReturn(true);
+    when(dvcClient.getReadChunkExecutor()).thenReturn(ForkJoinPool.commonPool());
+    when(dvcClient.batchGetFromLocalStorage(any())).thenCallRealMethod();
+
+    Set<String> keySet = new HashSet<>();
+    int keyCnt = 20;
+    for (int i = 0; i < keyCnt; ++i) {
+      keySet.add("key_" + i);
+    }
+    Map<String, String> resultMap = dvcClient.batchGetFromLocalStorage(keySet).get();
+    assertEquals(resultMap.size(), keyCnt);
+    assertEquals(groupPartitions.size(), partitionCount);
+    assertEquals(groupSizes.stream().mapToInt(Integer::intValue).sum(), keyCnt);
+    for (int groupSize: groupSizes) {
+      Assert.assertTrue(groupSize <= largeRequestSplitThreshold);
+    }
+  }
+
+  @Test
+  public void testPartitionAwareBatchGetRetainsVersionUntilGroupsAreRead() throws Exception {
+    AvroGenericDaVinciClient<String, String> dvcClient = mock(AvroGenericDaVinciClient.class);
+    when(dvcClient.getStoreName()).thenReturn("test_store");
+    DaVinciConfig daVinciConfig =
+        new DaVinciConfig().setPartitionAwareBatchReadEnabled(true).setLargeBatchRequestSplitThreshold(2);
+    when(dvcClient.getDaVinciConfig()).thenReturn(daVinciConfig);
+
+    StoreBackend storeBackend = mock(StoreBackend.class);
+    VersionBackend versionBackend = mock(VersionBackend.class);
+    when(versionBackend.getSupersetOrLatestValueSchemaId()).thenReturn(1);
+    when(versionBackend.getPartition(any())).thenReturn(0);
+    CountDownLatch readLatch = new CountDownLatch(1);
+    when(versionBackend.multiRead(anyInt(), any(), any(), any(), anyInt(), any(), any())).thenAnswer(invocation -> {
+      assertTrue(readLatch.await(10, TimeUnit.SECONDS));
+      List<byte[]> keyBytesList = invocation.getArgument(1);
+      List<String> values = new ArrayList<>();
+      for (int i = 0; i < keyBytesList.size(); i++) {
+        values.add("value");
+      }
+      return values;
+    });
+    AtomicBoolean versionDeleted = new AtomicBoolean();
+    ReferenceCounted<VersionBackend> versionBackendReferenceCounted =
+        new ReferenceCounted<>(versionBackend, ignored -> versionDeleted.set(true));
+    when(storeBackend.getDaVinciCurrentVersion()).thenReturn(versionBackendReferenceCounted);
+    when(dvcClient.getStoreBackend()).thenReturn(storeBackend);
+
+    when(dvcClient.getKeySerializer()).thenReturn(new AvroSerializer<>(Schema.create(Schema.Type.STRING)));
+    when(dvcClient.getStoreDeserializerCache()).thenReturn(null);
+    when(dvcClient.isPartitionReadyToServe(any(), anyInt())).thenReturn(true);
+    when(dvcClient.isPartitionSubscribed(any(), anyInt())).thenReturn(true);
+    when(dvcClient.getReadChunkExecutor()).thenReturn(ForkJoinPool.commonPool());
+    when(dvcClient.batchGetFromLocalStorage(any())).thenCallRealMethod();
+
+    Set<String> keySet = new HashSet<>(Arrays.asList("key_1", "key_2", "key_3", "key_4"));
+    CompletableFuture<Map<String, String>> resultFuture = dvcClient.batchGetFromLocalStorage(keySet);
+    // The caller has released its reference, but the groups which are still being read hold the version
+    assertEquals(versionBackendReferenceCounted.getReferenceCount(), 1);
+    assertFalse(versionDeleted.get());
+
+    readLatch.countDown();
+    assertEquals(resultFuture.get().size(), keySet.size());
+    assertEquals(versionBackendReferenceCounted.getReferenceCount(), 0);
+    assertTrue(versionDeleted.get());
+  }
 }
@@ -7,8 +7,11 @@ import static com.linkedin.venice.ConfigKeys.CLUSTER_NAME;
 import static com.linkedin.venice.ConfigKeys.INGESTION_MEMORY_LIMIT;
 import static com.linkedin.venice.ConfigKeys.INGESTION_USE_DA_VINCI_CLIENT;
 import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
+import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_THREAD_NUM;
 import static com.linkedin.venice.ConfigKeys.SERVER_FORKED_PROCESS_JVM_ARGUMENT_LIST;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_MODE;
+import static com.linkedin.venice.ConfigKeys.SERVER_MULTI_GET_CONCURRENCY_LIMIT;
+import static com.linkedin.venice.ConfigKeys.SERVER_REST_SERVICE_STORAGE_THREAD_NUM;
 import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
@@ -107,4 +110,21 @@ public class VeniceServerConfigTest {
     VeniceServerConfig config1 = new VeniceServerConfig(new VeniceProperties(props3));
     assertEquals(config1.getIngestionMemoryLimit(), 20 * 1024 * 1024l);
   }
+
+  @Test
+  public void testConcurrencyLimitsSplitStorageThreadsByDefault() {
+    Properties props = populatedBasicProperties();
+    props.setProperty(SERVER_REST_SERVICE_STORAGE_THREAD_NUM, "15");
+    props.setProperty(SERVER_COMPUTE_THREAD_NUM, "8");
+    VeniceServerConfig config = new VeniceServerConfig(new VeniceProperties(props));
+    assertEquals(config.getSingleGetConcurrencyLimit(), 7);
+    assertEquals(config.getMultiGetConcurrencyLimit(), 8);
+    assertEquals(config.getComputeConcurrencyLimit(), 8);
+
+    props.setProperty(SERVER_REST_SERVICE_STORAGE_THREAD_NUM, "1");
+    props.setProperty(SERVER_MULTI_GET_CONCURRENCY_LIMIT, "4");
+    config = new VeniceServerConfig(new VeniceProperties(props));
+    assertEquals(config.getSingleGetConcurrencyLimit(), 1);
+    assertEquals(config.getMultiGetConcurrencyLimit(), 4);
+  }
 }
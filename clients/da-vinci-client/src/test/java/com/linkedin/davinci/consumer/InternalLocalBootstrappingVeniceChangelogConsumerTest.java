@@ -13,6 +13,7 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,6 +27,7 @@ import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.storage.StorageService;
 import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.client.change.capture.protocol.RecordChangeEvent;
 import com.linkedin.venice.client.change.capture.protocol.ValueBytes;
@@ -33,9 +35,12 @@ import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.controllerapi.D2ControllerClient;
 import com.linkedin.venice.controllerapi.StoreResponse;
+import com.linkedin.venice.kafka.protocol.ControlMessage;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.kafka.protocol.ProducerMetadata;
 import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.StartOfPush;
+import com.linkedin.venice.kafka.protocol.enums.ControlMessageType;
 import com.linkedin.venice.kafka.protocol.enums.MessageType;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.meta.Store;
@@ -69,6 +74,7 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -464,6 +470,61 @@ public class InternalLocalBootstrappingVeniceChangelogConsumerTest {
     verify(mockStorageEngine, times(0)).put(eq(TEST_PARTITION_ID_0), eq(key), any(byte[].class));
   }
 
+  @Test
+  public void testProcessRecordBytes_SstBootstrap() throws IOException {
+    StorageService storageService = mock(StorageService.class);
+    StorageMetadataService storageMetadataService = mock(StorageMetadataService.class);
+    when(storageMetadataService.getLastOffset(anyString(), anyInt()))
+        .thenReturn(new OffsetRecord(mock(InternalAvroSpecificSerializer.class)));
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    when(storageService.getStorageEngine(anyString())).thenReturn(storageEngine);
+    StorageEngineRepository storageEngineRepository = mock(StorageEngineRepository.class);
+    when(storageService.getStorageEngineRepository()).thenReturn(storageEngineRepository);
+    when(storageEngine.sync(TEST_PARTITION_ID_0)).thenReturn(new HashMap());
+    when(storageEngineRepository.getLocalStorageEngine(localStateTopicName)).thenReturn(storageEngine);
+    bootstrappingVeniceChangelogConsumer.setStorageAndMetadataService(storageService, storageMetadataService);
+
+    InternalLocalBootstrappingVeniceChangelogConsumer.BootstrapState bootstrapState =
+        new InternalLocalBootstrappingVeniceChangelogConsumer.BootstrapState();
+    bootstrapState.bootstrapState = InternalLocalBootstrappingVeniceChangelogConsumer.PollState.CATCHING_UP;
+    bootstrapState.sstBootstrapEligible = true;
+    bootstrapState.currentPubSubPosition =
+        new VeniceChangeCoordinate(TEST_TOPIC, new ApacheKafkaOffsetPosition(TEST_OFFSET_OLD), TEST_PARTITION_ID_0);
+    bootstrappingVeniceChangelogConsumer.getBootstrapStateMap().put(TEST_PARTITION_ID_0, bootstrapState);
+    PubSubTopicPartition partition = new PubSubTopicPartitionImpl(changeCaptureTopic, TEST_PARTITION_ID_0);
+
+    // A sorted start of push switches the partition to deferred write
+    ControlMessage startOfPush = new ControlMessage();
+    startOfPush.controlMessageType = ControlMessageType.START_OF_PUSH.getValue();
+    StartOfPush startOfPushPayload = new StartOfPush();
+    startOfPushPayload.sorted = true;
+    startOfPush.controlMessageUnion = startOfPushPayload;
+    bootstrappingVeniceChangelogConsumer.handleControlMessage(startOfPush, partition, "", new byte[0], 0L);
+    verify(storageEngine).beginBatchWrite(
+        Mockito.argThat(StoragePartitionConfig::isDeferredWrite),
+        eq(Collections.emptyMap()),
+        eq(Optional.empty()));
+    Assert.assertTrue(bootstrapState.sstBootstrapInProgress);
+
+    // Sorted records are written into the SST files rather than cached
+    byte[] key1 = "key1".getBytes();
+    ByteBuffer value = ByteBuffer.wrap("value".getBytes());
+    bootstrappingVeniceChangelogConsumer
+        .processRecordBytes(value, value, key1, value, partition, TEST_SCHEMA_ID, TEST_OFFSET_NEW);
+    verify(storageEngine).put(eq(TEST_PARTITION_ID_0), eq(key1), any(byte[].class));
+    Assert.assertTrue(bootstrapState.bootstrapTempDataCache.isEmpty());
+    verify(storageEngine, never()).endBatchWrite(any());
+
+    // An out of order key ingests the SST files and falls back to the regular bootstrap
+    byte[] key0 = "key0".getBytes();
+    bootstrappingVeniceChangelogConsumer
+        .processRecordBytes(value, value, key0, value, partition, TEST_SCHEMA_ID, TEST_OFFSET_NEW + 1);
+    verify(storageEngine).endBatchWrite(Mockito.argThat(config -> !config.isDeferredWrite()));
+    verify(storageEngine, never()).put(eq(TEST_PARTITION_ID_0), eq(key0), any(byte[].class));
+    Assert.assertFalse(bootstrapState.sstBootstrapInProgress);
+    Assert.assertTrue(bootstrapState.bootstrapTempDataCache.containsKey(key0));
+  }
+
   @Test
   public void testStart_InvalidLocalCheckpoint_Throws() throws Exception {
     PubSubTopic versionTopic = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, 1));
@@ -1,6 +1,7 @@
 package com.linkedin.davinci.consumer;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.linkedin.davinci.kafka.consumer.IngestionStageLatency;
 import com.linkedin.davinci.kafka.consumer.TopicPartitionIngestionInfo;
 import com.linkedin.venice.helix.VeniceJsonSerializer;
 import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
@@ -8,6 +9,7 @@ import com.linkedin.venice.pubsub.PubSubTopicRepository;
 import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -35,4 +37,19 @@ public class TopicPartitionIngestionInfoTest {
         topicPartitionIngestionContexts.get(kafkaUrl).get(pubSubTopicPartition.toString()),
         topicPartitionIngestionInfo);
   }
+
+  @Test
+  public void testJsonParseWithIngestionStageLatencies() throws Exception {
+    TopicPartitionIngestionInfo topicPartitionIngestionInfo = new TopicPartitionIngestionInfo(0, 1, 2.0, 4.0, 5, 7);
+    Map<String, IngestionStageLatency> ingestionStageLatencies = new LinkedHashMap<>();
+    ingestionStageLatencies.put("QUEUE_WAIT", new IngestionStageLatency(10, 2.5, 1.0));
+    ingestionStageLatencies.put("STORAGE_ENGINE_WRITE", new IngestionStageLatency(10, 5.0, 0.75));
+    topicPartitionIngestionInfo.setIngestionStageLatencies(ingestionStageLatencies);
+    VeniceJsonSerializer<TopicPartitionIngestionInfo> veniceJsonSerializer =
+        new VeniceJsonSerializer<>(TopicPartitionIngestionInfo.class);
+    TopicPartitionIngestionInfo deserialized =
+        veniceJsonSerializer.deserialize(veniceJsonSerializer.serialize(topicPartitionIngestionInfo, ""), "");
+    Assert.assertEquals(deserialized, topicPartitionIngestionInfo);
+    Assert.assertEquals(deserialized.getIngestionStageLatencies(), ingestionStageLatencies);
+  }
 }
@@ -0,0 +1,89 @@
+package com.linkedin.davinci.ingestion.utils;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.ingestion.protocol.enums.IngestionReportType;
+import com.linkedin.venice.utils.Utils;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.annotations.Test;
+
+
+public class IsolatedIngestionStatusFileTest {
+  private static final int SLOT_COUNT = 2;
+
+  @Test
+  public void testPublishAndPoll() throws Exception {
+    File file = new File(Utils.getTempDataDirectory(), IsolatedIngestionUtils.ISOLATED_INGESTION_STATUS_FILENAME);
+    try (IsolatedIngestionStatusFile reader = IsolatedIngestionStatusFile.openForRead(file, SLOT_COUNT)) {
+      List<String> reports = new ArrayList<>();
+      // Nothing to read before the writer opens the file.
+      assertEquals(reader.poll((t, p, type, o, ts) -> reports.add(t)), 0);
+
+      try (IsolatedIngestionStatusFile writer = IsolatedIngestionStatusFile.openForWrite(file, SLOT_COUNT)) {
+        assertTrue(writer.update("store_v1", 0, IngestionReportType.PROGRESS, 10));
+        assertTrue(writer.update("store_v1", 0, IngestionReportType.PROGRESS, 20));
+        assertTrue(writer.update("store_v1", 1, IngestionReportType.COMPLETED, 30));
+        // No slot left.
+        assertFalse(writer.update("store_v2", 0, IngestionReportType.PROGRESS, 40));
+        // Topic name does not fit in a slot.
+        String longTopicName =
+            new String(new char[IsolatedIngestionStatusFile.MAX_TOPIC_LENGTH + 1]).replace('\0', 'a');
+        assertFalse(writer.update(longTopicName, 0, IngestionReportType.PROGRESS, 0));
+
+        // Reports of the same partition are coalesced.
+        assertEquals(reader.poll((t, p, type, o, ts) -> reports.add(t + "-" + p + "-" + type + "-" + o)), 2);
+        assertTrue(reports.contains("store_v1-0-PROGRESS-20"));
+        assertTrue(reports.contains("store_v1-1-COMPLETED-30"));
+
+        // Unchanged slots are not read again.
+        reports.clear();
+        assertEquals(reader.poll((t, p, type, o, ts) -> reports.add(t)), 0);
+
+        // Released slots are skipped and reused.
+        writer.remove("store_v1", 0);
+        assertEquals(reader.poll((t, p, type, o, ts) -> reports.add(t)), 0);
+        assertTrue(writer.update("store_v2", 0, IngestionReportType.PROGRESS, 40));
+        assertEquals(reader.poll((t, p, type, o, ts) -> reports.add(t + "-" + p + "-" + o)), 1);
+        assertEquals(reports.get(0), "store_v2-0-40");
+      }
+
+      // A new writer discards the slots of the previous one.
+      reports.clear();
+      try (IsolatedIngestionStatusFile writer = IsolatedIngestionStatusFile.openForWrite(file, SLOT_COUNT)) {
+        assertEquals(reader.poll((t, p, type, o, ts) -> reports.add(t)), 0);
+        assertTrue(writer.update("store_v1", 0, IngestionReportType.PROGRESS, 10));
+        assertEquals(reader.poll((t, p, type, o, ts) -> reports.add(t + "-" + p + "-" + o)), 1);
+        assertEquals(reports.get(0), "store_v1-0-10");
+      }
+    }
+  }
+
+  @Test
+  public void testStateTransitionsSupersedeProgress() throws Exception {
+    File file = new File(Utils.getTempDataDirectory(), IsolatedIngestionUtils.ISOLATED_INGESTION_STATUS_FILENAME);
+    try (IsolatedIngestionStatusFile reader = IsolatedIngestionStatusFile.openForRead(file, SLOT_COUNT);
+        IsolatedIngestionStatusFile writer = IsolatedIngestionStatusFile.openForWrite(file, SLOT_COUNT)) {
+      List<String> reports = new ArrayList<>();
+      // Only the partitions which already published a report are superseded.
+      writer.supersede("store_v1", 0, IngestionReportType.END_OF_PUSH_RECEIVED, 10);
+      assertEquals(reader.poll((t, p, type, o, ts) -> reports.add(t)), 0);
+
+      assertTrue(writer.update("store_v1", 0, IngestionReportType.PROGRESS, 10));
+      writer.supersede("store_v1", 0, IngestionReportType.END_OF_PUSH_RECEIVED, 20);
+      assertEquals(reader.poll((t, p, type, o, ts) -> reports.add(t + "-" + p + "-" + type + "-" + o)), 1);
+      assertEquals(reports.get(0), "store_v1-0-END_OF_PUSH_RECEIVED-20");
+
+      // A stale PROGRESS report does not hide the COMPLETED report of the partition.
+      reports.clear();
+      assertTrue(writer.update("store_v1", 0, IngestionReportType.COMPLETED, 30));
+      assertTrue(writer.update("store_v1", 0, IngestionReportType.PROGRESS, 25));
+      writer.supersede("store_v1", 0, IngestionReportType.ERROR, 30);
+      assertEquals(reader.poll((t, p, type, o, ts) -> reports.add(t + "-" + p + "-" + type + "-" + o)), 1);
+      assertEquals(reports.get(0), "store_v1-0-COMPLETED-30");
+    }
+  }
+}
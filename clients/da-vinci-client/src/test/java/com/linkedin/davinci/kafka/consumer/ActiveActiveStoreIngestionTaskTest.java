@@ -6,11 +6,13 @@ import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
 import static com.linkedin.venice.utils.ByteUtils.SIZE_OF_INT;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -92,6 +94,8 @@ import it.unimi.dsi.fastutil.objects.Object2IntArrayMap;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
@@ -241,6 +245,158 @@ public class ActiveActiveStoreIngestionTaskTest {
     Assert.assertTrue(ingestionTask.isReadyToServeAnnouncedWithRTLag());
   }
 
+  @Test
+  public void testBatchPrefetchOfRealTimeRecords() {
+    byte[] key1 = "key1".getBytes();
+    byte[] key2 = "key2".getBytes();
+    byte[] transientKey = "transientKey".getBytes();
+    byte[] value1 = "value1".getBytes();
+    byte[] rmd1 = "rmd1".getBytes();
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    List<List<byte[]>> lookupKeys = new ArrayList<>();
+    doAnswer(invocation -> {
+      List<byte[]> keys = invocation.getArgument(1);
+      lookupKeys.add(new ArrayList<>(keys));
+      List<byte[]> values = invocation.getArgument(2);
+      List<byte[]> replicationMetadata = invocation.getArgument(3);
+      for (byte[] key: keys) {
+        boolean found = Arrays.equals(key, key1);
+        values.add(found ? value1 : null);
+        replicationMetadata.add(found ? rmd1 : null);
+      }
+      return null;
+    }).when(storageEngine).multiGetWithReplicationMetadata(anyInt(), any(), any(), any());
+
+    // Set up PubSubTopicRepository
+    PubSubTopicRepository pubSubTopicRepository = mock(PubSubTopicRepository.class);
+    PubSubTopic pubSubTopic = new TestPubSubTopic(STORE_NAME + "_v1", STORE_NAME, PubSubTopicType.VERSION_TOPIC);
+    when(pubSubTopicRepository.getTopic("Thvorusleikir_store_v1")).thenReturn(pubSubTopic);
+
+    // Setup store/schema/storage repository
+    ReadOnlyStoreRepository readOnlyStoreRepository = mock(ReadOnlyStoreRepository.class);
+    ReadOnlySchemaRepository readOnlySchemaRepository = mock(ReadOnlySchemaRepository.class);
+    StorageEngineRepository storageEngineRepository = mock(StorageEngineRepository.class);
+    when(storageEngineRepository.getLocalStorageEngine(any())).thenReturn(storageEngine);
+
+    // Setup server config
+    VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
+    when(serverConfig.freezeIngestionIfReadyToServeOrLocalDataExists()).thenReturn(false);
+    when(serverConfig.getKafkaClusterUrlResolver()).thenReturn(null);
+    when(serverConfig.getKafkaClusterUrlToIdMap()).thenReturn(new Object2IntArrayMap<>());
+    when(serverConfig.getKafkaClusterIdToUrlMap()).thenReturn(new Int2ObjectArrayMap<>());
+    when(serverConfig.getConsumerPoolSizePerKafkaCluster()).thenReturn(1);
+    when(serverConfig.isAaBatchDcrPrefetchEnabled()).thenReturn(true);
+
+    // Set up IngestionTask Builder
+    StoreIngestionTaskFactory.Builder builder = new StoreIngestionTaskFactory.Builder();
+    builder.setPubSubTopicRepository(pubSubTopicRepository);
+    AggHostLevelIngestionStats aggHostLevelIngestionStats = mock(AggHostLevelIngestionStats.class);
+    HostLevelIngestionStats hostLevelIngestionStats = mock(HostLevelIngestionStats.class);
+    when(aggHostLevelIngestionStats.getStoreStats(any())).thenReturn(hostLevelIngestionStats);
+    builder.setHostLevelIngestionStats(aggHostLevelIngestionStats);
+    builder.setAggKafkaConsumerService(mock(AggKafkaConsumerService.class));
+    builder.setMetadataRepository(readOnlyStoreRepository);
+    builder.setServerConfig(serverConfig);
+    builder.setSchemaRepository(readOnlySchemaRepository);
+    builder.setStorageEngineRepository(storageEngineRepository);
+
+    // Set up version config and store config
+    HybridStoreConfig hybridStoreConfig = new HybridStoreConfigImpl(
+        100L,
+        100L,
+        100L,
+        DataReplicationPolicy.ACTIVE_ACTIVE,
+        BufferReplayPolicy.REWIND_FROM_EOP);
+    Version mockVersion = new VersionImpl(STORE_NAME, 1, PUSH_JOB_ID);
+    mockVersion.setHybridStoreConfig(hybridStoreConfig);
+
+    Store store = new ZKStore(
+        STORE_NAME,
+        "Felix",
+        100L,
+        PersistenceType.BLACK_HOLE,
+        RoutingStrategy.CONSISTENT_HASH,
+        ReadStrategy.ANY_OF_ONLINE,
+        OfflinePushStrategy.WAIT_ALL_REPLICAS,
+        1);
+    store.setHybridStoreConfig(hybridStoreConfig);
+
+    Properties kafkaConsumerProperties = new Properties();
+    kafkaConsumerProperties.put(KAFKA_BOOTSTRAP_SERVERS, BOOTSTRAP_SERVER);
+    kafkaConsumerProperties.put(CLUSTER_NAME, TEST_CLUSTER_NAME);
+    kafkaConsumerProperties.put(ZOOKEEPER_ADDRESS, BOOTSTRAP_SERVER);
+    VeniceStoreVersionConfig storeVersionConfig =
+        new VeniceStoreVersionConfig(STORE_NAME + "_v1", new VeniceProperties(kafkaConsumerProperties));
+    ActiveActiveStoreIngestionTask ingestionTask = new ActiveActiveStoreIngestionTask(
+        builder,
+        store,
+        mockVersion,
+        kafkaConsumerProperties,
+        () -> true,
+        storeVersionConfig,
+        1,
+        false,
+        Optional.empty(),
+        null);
+
+    PartitionConsumptionState partitionConsumptionState = mock(PartitionConsumptionState.class);
+    when(partitionConsumptionState.isEndOfPushReceived()).thenReturn(true);
+    when(partitionConsumptionState.getTransientRecord(transientKey))
+        .thenReturn(mock(PartitionConsumptionState.TransientRecord.class));
+    ingestionTask.addPartitionConsumptionState(0, partitionConsumptionState);
+
+    PubSubTopicPartition realTimeTopicPartition = new PubSubTopicPartitionImpl(
+        new TestPubSubTopic(STORE_NAME + "_rt", STORE_NAME, PubSubTopicType.REALTIME_TOPIC),
+        0);
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records = new ArrayList<>();
+    records.add(
+        new ImmutablePubSubMessage<>(
+            new KafkaKey(MessageType.CONTROL_MESSAGE, "controlMessage".getBytes()),
+            null,
+            realTimeTopicPartition,
+            0,
+            0,
+            0));
+    for (byte[] key: new byte[][] { key1, transientKey, key2, key1 }) {
+      records.add(
+          new ImmutablePubSubMessage<>(
+              new KafkaKey(MessageType.PUT, key),
+              null,
+              realTimeTopicPartition,
+              records.size(),
+              0,
+              0));
+    }
+
+    // Control messages, duplicates and the keys with a transient record are left out of the batched lookup
+    ingestionTask.beforeProcessingBatch(records, realTimeTopicPartition, 0);
+    assertEquals(lookupKeys.size(), 1);
+    assertEquals(lookupKeys.get(0).size(), 2);
+    assertTrue(Arrays.equals(lookupKeys.get(0).get(0), key1));
+    assertTrue(Arrays.equals(lookupKeys.get(0).get(1), key2));
+    ArgumentCaptor<BatchPrefetchedRecords> prefetchedRecordsCaptor =
+        ArgumentCaptor.forClass(BatchPrefetchedRecords.class);
+    verify(partitionConsumptionState).registerBatchPrefetchedRecords(prefetchedRecordsCaptor.capture());
+    BatchPrefetchedRecords prefetchedRecords = prefetchedRecordsCaptor.getValue();
+    assertEquals(prefetchedRecords.get(key1).getValue(), value1);
+    assertEquals(prefetchedRecords.get(key1).getReplicationMetadata(), rmd1);
+    assertNull(prefetchedRecords.get(key2).getValue());
+    assertNull(prefetchedRecords.get(key2).getReplicationMetadata());
+    assertNull(prefetchedRecords.get(transientKey));
+    verify(hostLevelIngestionStats).recordIngestionBatchPrefetch(eq(2), anyDouble(), anyLong());
+
+    ingestionTask.afterProcessingBatch(0);
+    verify(partitionConsumptionState).unregisterBatchPrefetchedRecords(prefetchedRecords);
+
+    // The records of the version topic are not prefetched
+    PubSubTopicPartition versionTopicPartition = new PubSubTopicPartitionImpl(
+        new TestPubSubTopic(STORE_NAME + "_v1", STORE_NAME, PubSubTopicType.VERSION_TOPIC),
+        0);
+    ingestionTask.beforeProcessingBatch(records, versionTopicPartition, 0);
+    ingestionTask.afterProcessingBatch(0);
+    assertEquals(lookupKeys.size(), 1);
+  }
+
   @Test
   public void testLeaderCanSendValueChunksIntoDrainer()
       throws ExecutionException, InterruptedException, TimeoutException {
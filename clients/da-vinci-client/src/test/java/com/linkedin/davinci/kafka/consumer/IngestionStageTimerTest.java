@@ -0,0 +1,41 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class IngestionStageTimerTest {
+  @Test
+  public void testStageLatencies() {
+    IngestionStageTimer stageTimer = new IngestionStageTimer();
+    Assert.assertTrue(stageTimer.getStageLatencies().isEmpty());
+
+    stageTimer.record(IngestionStageTimer.Stage.STORAGE_ENGINE_WRITE, TimeUnit.MILLISECONDS.toNanos(3));
+    stageTimer.record(IngestionStageTimer.Stage.STORAGE_ENGINE_WRITE, TimeUnit.MILLISECONDS.toNanos(1));
+    stageTimer.record(IngestionStageTimer.Stage.DIV, TimeUnit.MICROSECONDS.toNanos(500));
+    long startTimeInNs = System.nanoTime();
+    stageTimer.recordSince(IngestionStageTimer.Stage.QUEUE_WAIT, startTimeInNs);
+
+    Map<String, IngestionStageLatency> stageLatencies = stageTimer.getStageLatencies();
+    // Only the recorded stages are reported, in the order of the ingestion path
+    Assert.assertEquals(
+        new ArrayList<>(stageLatencies.keySet()),
+        Arrays.asList(
+            IngestionStageTimer.Stage.QUEUE_WAIT.name(),
+            IngestionStageTimer.Stage.DIV.name(),
+            IngestionStageTimer.Stage.STORAGE_ENGINE_WRITE.name()));
+    Assert.assertEquals(
+        stageLatencies.get(IngestionStageTimer.Stage.STORAGE_ENGINE_WRITE.name()),
+        new IngestionStageLatency(2, 4.0, 3.0));
+    Assert.assertEquals(
+        stageLatencies.get(IngestionStageTimer.Stage.DIV.name()),
+        new IngestionStageLatency(1, 0.5, 0.5));
+    IngestionStageLatency queueWaitLatency = stageLatencies.get(IngestionStageTimer.Stage.QUEUE_WAIT.name());
+    Assert.assertEquals(queueWaitLatency.getCount(), 1);
+    Assert.assertTrue(queueWaitLatency.getTotalLatencyInMs() >= 0);
+  }
+}
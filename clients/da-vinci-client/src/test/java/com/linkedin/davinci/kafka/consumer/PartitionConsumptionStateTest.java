@@ -14,6 +14,7 @@ import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.writer.LeaderCompleteState;
 import com.linkedin.venice.writer.WriterChunkingHelper;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -124,6 +125,47 @@ public class PartitionConsumptionStateTest {
 
   }
 
+  @Test
+  public void testBatchPrefetchedRecordsInvalidation() {
+    PartitionConsumptionState pcs = new PartitionConsumptionState(0, 1, mock(OffsetRecord.class), false);
+    byte[] key1 = new byte[] { 1 };
+    byte[] key2 = new byte[] { 2 };
+    byte[] key3 = new byte[] { 3 };
+    byte[] value = new byte[] { 10 };
+    byte[] rmd = new byte[] { 11 };
+
+    BatchPrefetchedRecords prefetchedRecords = new BatchPrefetchedRecords();
+    prefetchedRecords.addPendingKeys(Arrays.asList(key1, key2, key3));
+    pcs.registerBatchPrefetchedRecords(prefetchedRecords);
+    // Pending keys are not visible
+    Assert.assertNull(prefetchedRecords.get(key1));
+
+    // A write to key2 gets persisted while the lookup is in flight.
+    pcs.setTransientRecord(-1, 1, key2, value, 0, value.length, 1, null);
+    pcs.mayRemoveTransientRecord(-1, 1, key2);
+
+    prefetchedRecords.complete(key1, value, rmd);
+    prefetchedRecords.complete(key2, value, rmd);
+    prefetchedRecords.complete(key3, null, null);
+    Assert.assertEquals(prefetchedRecords.get(key1).getValue(), value);
+    Assert.assertEquals(prefetchedRecords.get(key1).getReplicationMetadata(), rmd);
+    Assert.assertNull(prefetchedRecords.get(key2));
+    // Absent keys are prefetched too.
+    Assert.assertNotNull(prefetchedRecords.get(key3));
+    Assert.assertNull(prefetchedRecords.get(key3).getValue());
+
+    // A write to key1 gets persisted after the lookup.
+    pcs.setTransientRecord(-1, 2, key1, value, 0, value.length, 1, null);
+    Assert.assertNotNull(prefetchedRecords.get(key1));
+    pcs.mayRemoveTransientRecord(-1, 2, key1);
+    Assert.assertNull(prefetchedRecords.get(key1));
+
+    pcs.unregisterBatchPrefetchedRecords(prefetchedRecords);
+    pcs.setTransientRecord(-1, 3, key3, value, 0, value.length, 1, null);
+    pcs.mayRemoveTransientRecord(-1, 3, key3);
+    Assert.assertNotNull(prefetchedRecords.get(key3));
+  }
+
   @Test
   public void testIsLeaderCompleted() {
     PartitionConsumptionState pcs = new PartitionConsumptionState(0, 1, mock(OffsetRecord.class), false);
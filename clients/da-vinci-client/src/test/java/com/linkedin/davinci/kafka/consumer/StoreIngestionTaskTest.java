@@ -188,6 +188,7 @@ import com.linkedin.venice.unit.matchers.LongEqualOrGreaterThanMatcher;
 import com.linkedin.venice.unit.matchers.NonEmptyStringMatcher;
 import com.linkedin.venice.utils.ByteArray;
 import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.ComplementSet;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.DiskUsage;
 import com.linkedin.venice.utils.Pair;
@@ -1275,6 +1276,44 @@ public abstract class StoreIngestionTaskTest {
     verify(aggKafkaConsumerService).unsubscribeAll(pubSubTopic);
   }
 
+  @Test(dataProvider = "aaConfigProvider")
+  public void testIngestionStageSampling(AAConfig aaConfig) throws Exception {
+    localVeniceWriter.broadcastStartOfPush(new HashMap<>());
+    runTest(Utils.setOf(PARTITION_FOO, PARTITION_BAR), () -> {
+      waitForNonDeterministicAssertion(TEST_TIMEOUT_MS, TimeUnit.MILLISECONDS, () -> {
+        assertNotNull(storeIngestionTaskUnderTest.getPartitionConsumptionState(PARTITION_FOO));
+        assertNotNull(storeIngestionTaskUnderTest.getPartitionConsumptionState(PARTITION_BAR));
+      });
+      // The partitions are not sampled unless asked to
+      assertNull(storeIngestionTaskUnderTest.getIngestionStageLatencies(PARTITION_FOO));
+      assertNull(storeIngestionTaskUnderTest.getIngestionStageTimer(PARTITION_FOO));
+
+      storeIngestionTaskUnderTest.setIngestionStageSampling(ComplementSet.of(PARTITION_FOO), true);
+      assertNotNull(storeIngestionTaskUnderTest.getIngestionStageTimer(PARTITION_FOO));
+      assertNull(storeIngestionTaskUnderTest.getIngestionStageTimer(PARTITION_BAR));
+      try {
+        localVeniceWriter.put(putKeyFoo, putValue, SCHEMA_ID).get();
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+      waitForNonDeterministicAssertion(TEST_TIMEOUT_MS, TimeUnit.MILLISECONDS, () -> {
+        Map<String, IngestionStageLatency> stageLatencies =
+            storeIngestionTaskUnderTest.getIngestionStageLatencies(PARTITION_FOO);
+        assertNotNull(stageLatencies);
+        assertTrue(stageLatencies.containsKey(IngestionStageTimer.Stage.QUEUE_WAIT.name()), stageLatencies.toString());
+        assertTrue(stageLatencies.containsKey(IngestionStageTimer.Stage.DIV.name()), stageLatencies.toString());
+        assertTrue(
+            stageLatencies.containsKey(IngestionStageTimer.Stage.STORAGE_ENGINE_WRITE.name()),
+            stageLatencies.toString());
+      });
+      assertNull(storeIngestionTaskUnderTest.getIngestionStageLatencies(PARTITION_BAR));
+
+      storeIngestionTaskUnderTest.setIngestionStageSampling(ComplementSet.universalSet(), false);
+      assertNull(storeIngestionTaskUnderTest.getIngestionStageLatencies(PARTITION_FOO));
+      assertNull(storeIngestionTaskUnderTest.getIngestionStageTimer(PARTITION_FOO));
+    }, aaConfig);
+  }
+
   @Test(dataProvider = "aaConfigProvider")
   public void testAmplificationFactor(AAConfig aaConfig) throws Exception {
     final int amplificationFactor = 2;
@@ -70,6 +70,54 @@ public class RmdSerDeTest {
     Assert.assertEquals(rmdAndValueID.getRmdRecord(), rmd);
   }
 
+  @Test
+  public void testReadValueLevelTimestamp() {
+    final int valueSchemaID = 1;
+    final int rmdVersionID = 1;
+    final String storeName = "test_store_name";
+    Schema valueSchema = AvroCompatibilityHelper.parse(VALUE_SCHEMA_STR);
+    Schema rmdSchema = RmdSchemaGenerator.generateMetadataSchema(valueSchema);
+    ReadOnlySchemaRepository schemaRepository = mock(ReadOnlySchemaRepository.class);
+    RmdSchemaEntry rmdSchemaEntry = mock(RmdSchemaEntry.class);
+    Mockito.doReturn(rmdSchema).when(rmdSchemaEntry).getSchema();
+    Mockito.doReturn(rmdSchemaEntry)
+        .when(schemaRepository)
+        .getReplicationMetadataSchema(storeName, valueSchemaID, rmdVersionID);
+    StringAnnotatedStoreSchemaCache stringAnnotatedStoreSchemaCache =
+        new StringAnnotatedStoreSchemaCache(storeName, schemaRepository);
+    RmdSerDe rmdSerDe = new RmdSerDe(stringAnnotatedStoreSchemaCache, rmdVersionID);
+    Schema annotateRmdSchema = stringAnnotatedStoreSchemaCache.getRmdSchema(valueSchemaID, rmdVersionID).getSchema();
+
+    // Value-level timestamp, including a negative one and one which takes the longest encoding.
+    for (long timestamp: new long[] { 0L, 1L, -1L, 1234567890123L, Long.MAX_VALUE }) {
+      GenericRecord rmd = new GenericData.Record(annotateRmdSchema);
+      rmd.put("timestamp", timestamp);
+      rmd.put("replication_checkpoint_vector", Arrays.asList(1L, 2L, 3L));
+      byte[] rmdBytes = prependValueSchemaId(valueSchemaID, rmdSerDe.serializeRmdRecord(valueSchemaID, rmd));
+      Assert.assertEquals(rmdSerDe.readValueLevelTimestamp(rmdBytes), timestamp);
+
+      // The lazily deserialized record is only built on demand, and matches the original one.
+      RmdWithValueSchemaId rmdAndValueID = new RmdWithValueSchemaId();
+      rmdSerDe.deserializeValueSchemaIdPrependedRmdBytesLazily(rmdBytes, rmdAndValueID);
+      Assert.assertEquals(rmdAndValueID.getValueSchemaId(), valueSchemaID);
+      Assert.assertSame(rmdAndValueID.getUndeserializedRmdBytes(), rmdBytes);
+      Assert.assertEquals(rmdAndValueID.getRmdRecord(), rmd);
+      Assert.assertNull(rmdAndValueID.getUndeserializedRmdBytes());
+    }
+
+    // Per-field timestamps.
+    GenericRecord rmd = createRmdWithCollectionTimestamp(annotateRmdSchema);
+    byte[] rmdBytes = prependValueSchemaId(valueSchemaID, rmdSerDe.serializeRmdRecord(valueSchemaID, rmd));
+    Assert.assertEquals(rmdSerDe.readValueLevelTimestamp(rmdBytes), RmdSerDe.NOT_VALUE_LEVEL_TIMESTAMP);
+  }
+
+  private byte[] prependValueSchemaId(int valueSchemaID, ByteBuffer rmdBytes) {
+    ByteBuffer rmdAndValueSchemaIDBytes = ByteBuffer.allocate(Integer.BYTES + rmdBytes.remaining());
+    rmdAndValueSchemaIDBytes.putInt(valueSchemaID);
+    rmdAndValueSchemaIDBytes.put(rmdBytes);
+    return rmdAndValueSchemaIDBytes.array();
+  }
+
   private GenericRecord createRmdWithCollectionTimestamp(Schema rmdSchema) {
     Schema rmdTimestampSchema = rmdSchema.getField("timestamp").schema().getTypes().get(1);
     GenericRecord rmdTimestamp = new GenericData.Record(rmdTimestampSchema);
@@ -13,6 +13,7 @@ import com.linkedin.venice.utils.Utils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import org.apache.avro.Schema;
@@ -92,4 +93,50 @@ public class ObjectCacheBackendTest {
     // Drop it (and don't throw an exception)
     cacheBackend.getCacheInvalidatingStoreChangeListener().handleStoreDeleted(mockStore);
   }
+
+  @Test
+  public void testWarmUp() throws ExecutionException, InterruptedException {
+    ReadOnlySchemaRepository mockSchemaRepo = mock(ReadOnlySchemaRepository.class);
+    Mockito.when(mockSchemaRepo.getKeySchema(STORE_NAME)).thenReturn(new SchemaEntry(0, STORE_SCHEMA));
+    ObjectCacheConfig cacheConfig = new ObjectCacheConfig().setMaxPerPartitionCacheSize(100L).setWarmUpKeyCount(3);
+    ClientConfig clientConfig = ClientConfig.defaultGenericClientConfig(Utils.getUniqueString());
+    ObjectCacheBackend cacheBackend = new ObjectCacheBackend(clientConfig, cacheConfig, mockSchemaRepo);
+
+    Version servingVersion = Mockito.mock(Version.class);
+    Mockito.when(servingVersion.getStoreName()).thenReturn(STORE_NAME);
+    Mockito.when(servingVersion.kafkaTopicName()).thenReturn(TOPIC_NAME);
+    Version newVersion = Mockito.mock(Version.class);
+    Mockito.when(newVersion.getStoreName()).thenReturn(STORE_NAME);
+    Mockito.when(newVersion.kafkaTopicName()).thenReturn(TOPIC_NAME.replace("1", "2"));
+
+    for (int key = 0; key < 4; key++) {
+      int value = key;
+      cacheBackend.get(key, servingVersion, (k, executor) -> CompletableFuture.completedFuture(value)).get();
+    }
+
+    // Key 3 no longer exists in the new version, so it should not be cached.
+    int loadedKeyCount = cacheBackend.warmUp(
+        servingVersion,
+        newVersion,
+        cacheConfig.getWarmUpKeyCount(),
+        (Integer key) -> key == 3 ? null : key + 100,
+        (k, executor) -> CompletableFuture.completedFuture(-1));
+    VeniceStoreCacheStorageEngine newEngine =
+        (VeniceStoreCacheStorageEngine) cacheBackend.getStorageEngine(newVersion.kafkaTopicName());
+    Assert.assertNotNull(newEngine);
+    Assert.assertTrue(loadedKeyCount >= 2 && loadedKeyCount <= 3, "Unexpected key count: " + loadedKeyCount);
+    Set<Integer> warmedUpKeys = newEngine.getCache().getHottestKeys(10);
+    Assert.assertEquals(warmedUpKeys.size(), loadedKeyCount);
+    Assert.assertFalse(warmedUpKeys.contains(3));
+
+    // Reads of warmed up keys are hits in the new version's cache, which is now the one reported by the stats.
+    for (Integer key: warmedUpKeys) {
+      Assert.assertEquals(
+          cacheBackend.get(key, newVersion, (k, executor) -> CompletableFuture.completedFuture(-1)).get(),
+          Integer.valueOf(key + 100));
+    }
+    Assert.assertEquals(cacheBackend.getStoreCacheStats().getMissCount(), 0);
+    Assert.assertEquals(cacheBackend.getStoreCacheStats().getPostSwapHitRate(), 1.0);
+    cacheBackend.close();
+  }
 }
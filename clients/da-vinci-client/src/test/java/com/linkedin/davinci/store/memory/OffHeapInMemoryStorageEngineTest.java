@@ -0,0 +1,52 @@
+package com.linkedin.davinci.store.memory;
+
+import static com.linkedin.venice.ConfigKeys.SERVER_IN_MEMORY_OFF_HEAP_STORAGE_ENABLED;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
+import com.linkedin.davinci.storage.StorageService;
+import com.linkedin.davinci.store.AbstractStorageEngineTest;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.utils.PropertyBuilder;
+import com.linkedin.venice.utils.VeniceProperties;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * Runs the tests of {@link InMemoryStorageEngineTest} against the off-heap partitions of the in-memory storage engine.
+ */
+public class OffHeapInMemoryStorageEngineTest extends InMemoryStorageEngineTest {
+  @Override
+  public void createStorageEngineForTest() {
+    VeniceProperties serverProperties = new PropertyBuilder()
+        .put(AbstractStorageEngineTest.getServerProperties(PersistenceType.IN_MEMORY).toProperties())
+        .put(SERVER_IN_MEMORY_OFF_HEAP_STORAGE_ENABLED, true)
+        .build();
+    VeniceConfigLoader configLoader = AbstractStorageEngineTest.getVeniceConfigLoader(serverProperties);
+
+    service = new StorageService(
+        configLoader,
+        mock(AggVersionedStorageEngineStats.class),
+        null,
+        AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer(),
+        mock(ReadOnlyStoreRepository.class));
+    storeConfig = new VeniceStoreVersionConfig(STORE_NAME, serverProperties);
+
+    testStoreEngine = service.openStoreForNewPartition(storeConfig, PARTITION_ID, () -> null);
+    createStoreForTest();
+  }
+
+  @Test
+  public void testPartitionsAreOffHeap() {
+    Assert.assertTrue(((InMemoryStorageEngine) testStoreEngine).isOffHeap());
+    Assert.assertTrue(testStoreEngine.getPartitionOrThrow(PARTITION_ID) instanceof OffHeapSortedStoragePartition);
+    testStoreEngine.put(PARTITION_ID, "key".getBytes(), "value".getBytes());
+    Assert.assertTrue(testStoreEngine.getStoreSizeInBytes() > 0);
+  }
+}
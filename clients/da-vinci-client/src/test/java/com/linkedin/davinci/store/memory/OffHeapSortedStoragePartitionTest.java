@@ -0,0 +1,241 @@
+package com.linkedin.davinci.store.memory;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class OffHeapSortedStoragePartitionTest {
+  private static final int PARTITION_NUM = 0;
+  private static final int CHUNK_SIZE = 4 * 1024;
+
+  private static byte[] bytes(String s) {
+    return s.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static int compareUnsigned(byte[] left, byte[] right) {
+    for (int i = 0; i < Math.min(left.length, right.length); i++) {
+      int diff = (left[i] & 0xff) - (right[i] & 0xff);
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return left.length - right.length;
+  }
+
+  @Test
+  public void testPutGetDelete() {
+    OffHeapSortedStoragePartition partition = new OffHeapSortedStoragePartition(PARTITION_NUM, CHUNK_SIZE);
+    Assert.assertNull(partition.get(bytes("key")));
+
+    partition.put(bytes("key"), bytes("value"));
+    Assert.assertEquals(partition.get(bytes("key")), bytes("value"));
+    Assert.assertEquals(partition.get(ByteBuffer.wrap(bytes("key"))), bytes("value"));
+
+    // Overwrite in place with a shorter value, then with a value which needs a new slot
+    partition.put(bytes("key"), bytes("v"));
+    Assert.assertEquals(partition.get(bytes("key")), bytes("v"));
+    partition.put(bytes("key"), ByteBuffer.wrap(bytes("xxa longer value"), 2, 14));
+    Assert.assertEquals(partition.get(bytes("key")), bytes("a longer value"));
+    Assert.assertEquals(partition.getRecordCount(), 1);
+    Assert.assertEquals(partition.getRecordSizeInBytes(), 3 + 14);
+
+    partition.delete(bytes("key"));
+    Assert.assertNull(partition.get(bytes("key")));
+    Assert.assertEquals(partition.getRecordCount(), 0);
+    Assert.assertEquals(partition.getRecordSizeInBytes(), 0);
+    // Deleting a missing key is a no-op
+    partition.delete(bytes("key"));
+  }
+
+  @Test
+  public void testGetIntoProvidedBuffer() {
+    OffHeapSortedStoragePartition partition = new OffHeapSortedStoragePartition(PARTITION_NUM, CHUNK_SIZE);
+    partition.put(bytes("key"), bytes("value"));
+
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    ByteBuffer result = partition.get(bytes("key"), buffer);
+    Assert.assertSame(result, buffer);
+    Assert.assertEquals(result.position(), 0);
+    Assert.assertEquals(result.remaining(), 5);
+    Assert.assertEquals(Arrays.copyOfRange(result.array(), 0, result.limit()), bytes("value"));
+
+    ByteBuffer tooSmall = ByteBuffer.allocate(2);
+    result = partition.get(bytes("key"), tooSmall);
+    Assert.assertNotSame(result, tooSmall);
+    Assert.assertEquals(result.remaining(), 5);
+
+    Assert.assertNull(partition.get(bytes("missing"), buffer));
+  }
+
+  @Test
+  public void testRecordLargerThanChunk() {
+    OffHeapSortedStoragePartition partition = new OffHeapSortedStoragePartition(PARTITION_NUM, CHUNK_SIZE);
+    byte[] value = new byte[3 * CHUNK_SIZE];
+    new Random(1).nextBytes(value);
+    partition.put(bytes("large"), value);
+    partition.put(bytes("small"), bytes("value"));
+    Assert.assertEquals(partition.get(bytes("large")), value);
+    Assert.assertEquals(partition.get(bytes("small")), bytes("value"));
+    Assert.assertTrue(partition.getPartitionSizeInBytes() >= value.length);
+  }
+
+  @Test
+  public void testGetByKeyPrefix() {
+    OffHeapSortedStoragePartition partition = new OffHeapSortedStoragePartition(PARTITION_NUM, CHUNK_SIZE);
+    TreeMap<String, String> expected = new TreeMap<>();
+    for (int i = 0; i < 1000; i++) {
+      String key = String.format("%s_%04d", i % 2 == 0 ? "even" : "odd", i);
+      partition.put(bytes(key), bytes("value_" + i));
+      if (i % 2 == 0) {
+        expected.put(key, "value_" + i);
+      }
+    }
+    // Keys with high bytes must sort after the prefix as unsigned bytes
+    partition.put(new byte[] { 'e', (byte) 0xff }, bytes("value"));
+
+    List<String> keys = new ArrayList<>();
+    List<String> values = new ArrayList<>();
+    AtomicBoolean completed = new AtomicBoolean();
+    partition.getByKeyPrefix(bytes("even_"), new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        keys.add(new String(key, StandardCharsets.UTF_8));
+        values.add(new String(value, StandardCharsets.UTF_8));
+      }
+
+      @Override
+      public void onCompletion() {
+        completed.set(true);
+      }
+    });
+    Assert.assertTrue(completed.get());
+    Assert.assertEquals(keys, new ArrayList<>(expected.keySet()));
+    Assert.assertEquals(values, new ArrayList<>(expected.values()));
+
+    List<byte[]> allKeys = new ArrayList<>();
+    partition.getByKeyPrefix(null, new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        allKeys.add(key);
+      }
+
+      @Override
+      public void onCompletion() {
+      }
+    });
+    Assert.assertEquals(allKeys.size(), 1001);
+    Assert.assertEquals(allKeys.get(1000), new byte[] { 'e', (byte) 0xff });
+    for (int i = 1; i < allKeys.size(); i++) {
+      Assert.assertTrue(compareUnsigned(allKeys.get(i - 1), allKeys.get(i)) < 0);
+    }
+  }
+
+  @Test
+  public void testCompactionKeepsLiveRecords() {
+    OffHeapSortedStoragePartition partition = new OffHeapSortedStoragePartition(PARTITION_NUM, CHUNK_SIZE);
+    Map<String, String> expected = new TreeMap<>();
+    for (int round = 0; round < 20; round++) {
+      for (int i = 0; i < 200; i++) {
+        String key = "key_" + i;
+        // Growing values never fit into their previous slot
+        String value = "value_" + i + "_" + new String(new char[round]).replace('\0', 'x');
+        partition.put(bytes(key), bytes(value));
+        expected.put(key, value);
+      }
+      for (int i = round; i < 200; i += 20) {
+        partition.delete(bytes("key_" + i));
+        expected.remove("key_" + i);
+      }
+    }
+    for (int i = 0; i < 200; i++) {
+      String key = "key_" + i;
+      byte[] value = partition.get(bytes(key));
+      if (expected.containsKey(key)) {
+        Assert.assertEquals(new String(value, StandardCharsets.UTF_8), expected.get(key));
+      } else {
+        Assert.assertNull(value);
+      }
+    }
+    Assert.assertEquals(partition.getRecordCount(), expected.size());
+    // Without compaction, the rewrites would take well over 20 times the size of the records
+    Assert.assertTrue(partition.getPartitionSizeInBytes() < 20L * partition.getRecordSizeInBytes());
+
+    partition.drop();
+    Assert.assertEquals(partition.getRecordCount(), 0);
+    Assert.assertEquals(partition.getPartitionSizeInBytes(), 0);
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testConcurrentReadsDuringWrites() throws Exception {
+    OffHeapSortedStoragePartition partition = new OffHeapSortedStoragePartition(PARTITION_NUM, CHUNK_SIZE);
+    int keyCount = 500;
+    for (int i = 0; i < keyCount; i++) {
+      partition.put(bytes("key_" + i), bytes("value_" + i + "_0"));
+    }
+    AtomicBoolean done = new AtomicBoolean();
+    CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+      Random random = new Random(1);
+      for (int round = 1; round < 200; round++) {
+        for (int i = 0; i < keyCount; i++) {
+          // Values of varying length exercise the in-place overwrites, the new slots and the compactions
+          partition.put(bytes("key_" + i), bytes("value_" + i + "_" + random.nextInt(round * 1000)));
+        }
+      }
+      done.set(true);
+    });
+
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    while (!done.get()) {
+      for (int i = 0; i < keyCount; i += 7) {
+        ByteBuffer value = partition.get(bytes("key_" + i), buffer);
+        Assert.assertNotNull(value);
+        String valueString = new String(value.array(), value.position(), value.remaining(), StandardCharsets.UTF_8);
+        Assert.assertTrue(valueString.startsWith("value_" + i + "_"), valueString);
+      }
+    }
+    writer.get();
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testConcurrentWritesDuringCompaction() throws Exception {
+    OffHeapSortedStoragePartition partition = new OffHeapSortedStoragePartition(PARTITION_NUM, CHUNK_SIZE);
+    int keyCount = 200;
+    int rounds = 50;
+    List<CompletableFuture<Void>> writers = new ArrayList<>();
+    for (int w = 0; w < 2; w++) {
+      String prefix = "writer_" + w + "_";
+      // The compactions run outside the write lock, so the writes of one writer race with those of the other
+      writers.add(CompletableFuture.runAsync(() -> {
+        for (int round = 0; round < rounds; round++) {
+          // Growing values never fit into their previous slot, so that the list gets compacted over and over
+          String padding = new String(new char[round]).replace('\0', 'x');
+          for (int i = 0; i < keyCount; i++) {
+            partition.put(bytes(prefix + i), bytes("value_" + i + "_" + padding));
+          }
+        }
+      }));
+    }
+    for (CompletableFuture<Void> writer: writers) {
+      writer.get();
+    }
+    String lastPadding = new String(new char[rounds - 1]).replace('\0', 'x');
+    for (int w = 0; w < 2; w++) {
+      for (int i = 0; i < keyCount; i++) {
+        Assert.assertEquals(partition.get(bytes("writer_" + w + "_" + i)), bytes("value_" + i + "_" + lastPadding));
+      }
+    }
+    Assert.assertEquals(partition.getRecordCount(), 2 * keyCount);
+    Assert.assertTrue(partition.getPartitionSizeInBytes() < 20L * partition.getRecordSizeInBytes());
+  }
+}
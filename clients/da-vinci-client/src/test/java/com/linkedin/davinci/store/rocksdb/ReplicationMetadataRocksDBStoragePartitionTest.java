@@ -30,7 +30,9 @@ import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -276,6 +278,68 @@ public class ReplicationMetadataRocksDBStoragePartitionTest extends AbstractStor
     removeDir(storeDir);
   }
 
+  @Test
+  public void testMultiGetWithReplicationMetadata() {
+    String storeName = Version.composeKafkaTopic("test_store_multi_get_rmd", 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int valueSchemaId = 1;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, 0);
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, new Properties());
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    VeniceStoreVersionConfig storeConfig = new VeniceStoreVersionConfig(storeName, veniceServerProperties);
+    ReplicationMetadataRocksDBStoragePartition storagePartition = new ReplicationMetadataRocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig,
+        storeConfig);
+
+    // Keys with a value and an RMD, with an RMD only (deleted), with a value only (batch push), and absent keys
+    List<byte[]> keys = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      byte[] key = (KEY_PREFIX + i).getBytes();
+      keys.add(key);
+      byte[] rmd = getReplicationMetadataWithValueSchemaId((METADATA_PREFIX + i).getBytes(), valueSchemaId);
+      switch (i % 4) {
+        case 0:
+          storagePartition.putWithReplicationMetadata(key, (VALUE_PREFIX + i).getBytes(), rmd);
+          break;
+        case 1:
+          storagePartition.deleteWithReplicationMetadata(key, rmd);
+          break;
+        case 2:
+          storagePartition.put(key, ByteBuffer.wrap((VALUE_PREFIX + i).getBytes()));
+          break;
+        default:
+          break;
+      }
+    }
+
+    List<byte[]> values = new ArrayList<>();
+    List<byte[]> replicationMetadata = new ArrayList<>();
+    storagePartition.multiGetWithReplicationMetadata(keys, values, replicationMetadata);
+    Assert.assertEquals(values.size(), keys.size());
+    Assert.assertEquals(replicationMetadata.size(), keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      // The batched lookup must return the same entries as the point lookups
+      Assert.assertEquals(values.get(i), storagePartition.get(keys.get(i)), "Unexpected value of key " + i);
+      Assert.assertEquals(
+          replicationMetadata.get(i),
+          storagePartition.getReplicationMetadata(keys.get(i)),
+          "Unexpected RMD of key " + i);
+      Assert.assertEquals(values.get(i) != null, i % 4 == 0 || i % 4 == 2);
+      Assert.assertEquals(replicationMetadata.get(i) != null, i % 4 == 0 || i % 4 == 1);
+    }
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
   private byte[] getReplicationMetadataWithValueSchemaId(byte[] replicationMetadata, int valueSchemaId) {
     ByteBuffer metadataByteBuffer = ByteBuffer.wrap(replicationMetadata);
     ByteBuffer replicationMetadataWitValueSchemaId =
@@ -0,0 +1,206 @@
+package com.linkedin.davinci.transformer;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.client.TransformedValueOutputBuffer;
+import com.linkedin.venice.serializer.AvroGenericDeserializer;
+import com.linkedin.venice.serializer.AvroSerializer;
+import com.linkedin.venice.utils.lazy.Lazy;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.testng.annotations.Test;
+
+
+public class ColumnarNumericRecordTransformerTest {
+  private static final Schema KEY_SCHEMA = Schema.create(Schema.Type.STRING);
+  private static final Schema VALUE_SCHEMA_V1 = AvroCompatibilityHelper.parse(
+      "{\"type\":\"record\",\"name\":\"Metrics\",\"namespace\":\"example\",\"fields\":["
+          + "{\"name\":\"name\",\"type\":\"string\"},{\"name\":\"count\",\"type\":\"int\"},"
+          + "{\"name\":\"tags\",\"type\":{\"type\":\"array\",\"items\":\"string\"}},"
+          + "{\"name\":\"score\",\"type\":\"double\"}]}");
+  private static final Schema VALUE_SCHEMA_V2 = AvroCompatibilityHelper.parse(
+      "{\"type\":\"record\",\"name\":\"Metrics\",\"namespace\":\"example\",\"fields\":["
+          + "{\"name\":\"name\",\"type\":\"string\"},{\"name\":\"count\",\"type\":\"int\"},"
+          + "{\"name\":\"tags\",\"type\":{\"type\":\"array\",\"items\":\"string\"}},"
+          + "{\"name\":\"score\",\"type\":\"double\"},{\"name\":\"total\",\"type\":\"long\",\"default\":7}]}");
+
+  @Test
+  public void testRawTransformationIntoColumns() {
+    ColumnarNumericRecordTransformer transformer = new ColumnarNumericRecordTransformer(
+        1,
+        KEY_SCHEMA,
+        VALUE_SCHEMA_V2,
+        Arrays.asList("count", "score", "total"),
+        true);
+    assertTrue(transformer.isRawValueTransformationEnabled());
+    NumericColumnarStore store = transformer.getColumnarStore();
+    int countColumn = store.getColumnIndex("count");
+    int scoreColumn = store.getColumnIndex("score");
+    int totalColumn = store.getColumnIndex("total");
+    TransformedValueOutputBuffer output = new TransformedValueOutputBuffer(8);
+
+    // Written with the old schema: "total" should be filled with its default value.
+    GenericRecord v1Record = new GenericData.Record(VALUE_SCHEMA_V1);
+    v1Record.put("name", "a");
+    v1Record.put("count", 3);
+    v1Record.put("tags", Arrays.asList("x", "y"));
+    v1Record.put("score", 1.5);
+    ByteBuffer keyA = serializeKey("a");
+    assertTrue(transformRaw(transformer, keyA, 1, VALUE_SCHEMA_V1, v1Record, output));
+
+    GenericRecord projection = deserializeOutput(transformer, output);
+    assertEquals(projection.get("count"), 3);
+    assertEquals(projection.get("score"), 1.5);
+    assertEquals(projection.get("total"), 7L);
+
+    GenericRecord v2Record = new GenericData.Record(VALUE_SCHEMA_V2);
+    v2Record.put("name", "b");
+    v2Record.put("count", 5);
+    v2Record.put("tags", Arrays.asList("z"));
+    v2Record.put("score", 2.5);
+    v2Record.put("total", 100L);
+    ByteBuffer keyB = serializeKey("b");
+    output.reset();
+    assertTrue(transformRaw(transformer, keyB, 2, VALUE_SCHEMA_V2, v2Record, output));
+
+    assertEquals(store.size(), 2);
+    int rowA = store.getRow(keyA);
+    int rowB = store.getRow(keyB);
+    assertEquals(store.getLong(rowA, countColumn), 3);
+    assertEquals(store.getDouble(rowA, scoreColumn), 1.5);
+    assertEquals(store.getLong(rowA, totalColumn), 7);
+    assertEquals(store.getLong(rowB, countColumn), 5);
+    assertEquals(store.getLong(rowB, totalColumn), 100);
+    assertEquals(store.sum(scoreColumn), 4.0);
+    assertEquals(transformer.getProjectedRecord(keyB).get("total"), 100L);
+
+    // Overwriting a key keeps its row
+    v2Record.put("count", 6);
+    output.reset();
+    assertTrue(transformRaw(transformer, keyB, 2, VALUE_SCHEMA_V2, v2Record, output));
+    assertEquals(store.getRow(keyB), rowB);
+    assertEquals(store.getLong(rowB, countColumn), 6);
+
+    // Deleted rows are reused
+    transformer.onRawDelete(keyA);
+    assertEquals(store.getRow(keyA), -1);
+    assertNull(transformer.getProjectedRecord(keyA));
+    output.reset();
+    assertTrue(transformRaw(transformer, keyA, 2, VALUE_SCHEMA_V2, v2Record, output));
+    assertEquals(store.getRow(keyA), rowA);
+    assertEquals(store.getLong(rowA, countColumn), 6);
+    assertEquals(store.size(), 2);
+  }
+
+  @Test
+  public void testDefaultRawTransformationFallsBackToPut() {
+    TestAvroRecordTransformer transformer = new TestAvroRecordTransformer(0) {
+      @Override
+      public boolean isRawValueTransformationEnabled() {
+        return true;
+      }
+
+      @Override
+      public Object put(Lazy<Integer> key, Lazy<Object> value) {
+        return key.get() + ":" + value.get();
+      }
+    };
+    Schema stringSchema = Schema.create(Schema.Type.STRING);
+    byte[] keyBytes = new AvroSerializer<>(transformer.getKeyOutputSchema()).serialize(1);
+    byte[] valueBytes = new AvroSerializer<>(stringSchema).serialize("value");
+    Schema outputSchema = transformer.getValueOutputSchema();
+    ByteBuffer directKey = ByteBuffer.allocateDirect(keyBytes.length);
+    directKey.put(keyBytes).flip();
+    // The key may be a direct buffer, and the deserializers are reused for the following records
+    for (ByteBuffer key: Arrays.asList(ByteBuffer.wrap(keyBytes), directKey)) {
+      BinaryDecoder decoder = AvroCompatibilityHelper.newBinaryDecoder(valueBytes, 0, valueBytes.length, null);
+      TransformedValueOutputBuffer output = new TransformedValueOutputBuffer();
+      assertTrue(transformer.transformRawValue(key, ByteBuffer.wrap(valueBytes), 1, stringSchema, decoder, output));
+
+      ByteBuffer stored = output.toByteBuffer(1);
+      assertEquals(stored.getInt(), 1);
+      Object deserialized = new AvroGenericDeserializer<>(outputSchema, outputSchema).deserialize(stored);
+      assertEquals(deserialized.toString(), "1:value");
+    }
+  }
+
+  @Test
+  public void testColumnsOnly() {
+    ColumnarNumericRecordTransformer transformer =
+        new ColumnarNumericRecordTransformer(1, KEY_SCHEMA, VALUE_SCHEMA_V1, Arrays.asList("score"), false);
+    GenericRecord record = new GenericData.Record(VALUE_SCHEMA_V1);
+    record.put("name", "a");
+    record.put("count", 3);
+    record.put("tags", Arrays.asList("x"));
+    record.put("score", 0.5);
+    TransformedValueOutputBuffer output = new TransformedValueOutputBuffer();
+    ByteBuffer key = serializeKey("a");
+    assertFalse(transformRaw(transformer, key, 1, VALUE_SCHEMA_V1, record, output));
+    assertEquals(output.getValueSize(), 0);
+
+    GenericRecord projection = transformer.put(Lazy.of(() -> "d"), Lazy.of(() -> record));
+    assertEquals(projection.get("score"), 0.5);
+    NumericColumnarStore store = transformer.getColumnarStore();
+    assertEquals(store.size(), 2);
+    assertEquals(store.getDouble(store.getRow(serializeKey("d")), 0), 0.5);
+  }
+
+  @Test
+  public void testOutputBufferGrowsAndKeepsHeader() {
+    TransformedValueOutputBuffer output = new TransformedValueOutputBuffer(4);
+    byte[] payload = new byte[100];
+    Arrays.fill(payload, (byte) 9);
+    output.write(ByteBuffer.wrap(payload));
+    ByteBuffer result = output.toByteBuffer(1);
+    assertEquals(result.remaining(), Integer.BYTES + payload.length);
+    assertEquals(result.getInt(), 1);
+    assertEquals(result.get(), 9);
+
+    output.reset();
+    assertEquals(output.getValueSize(), 0);
+    assertEquals(output.toByteBuffer(1).remaining(), Integer.BYTES);
+  }
+
+  @Test
+  public void testGetValueBytesWithOutputSchema() {
+    TestStringRecordTransformer transformer = new TestStringRecordTransformer(0);
+    ByteBuffer valueBytes = transformer.getValueBytes(transformer.getValueOutputSchema(), "value", 3);
+    assertEquals(valueBytes.getInt(), 3);
+    Schema outputSchema = transformer.getValueOutputSchema();
+    Object deserialized = new AvroGenericDeserializer<>(outputSchema, outputSchema).deserialize(valueBytes);
+    assertEquals(deserialized.toString(), "value");
+  }
+
+  private static boolean transformRaw(
+      ColumnarNumericRecordTransformer transformer,
+      ByteBuffer key,
+      int schemaId,
+      Schema schema,
+      GenericRecord record,
+      TransformedValueOutputBuffer output) {
+    byte[] valueBytes = new AvroSerializer<>(schema).serialize(record);
+    BinaryDecoder decoder = AvroCompatibilityHelper.newBinaryDecoder(valueBytes, 0, valueBytes.length, null);
+    return transformer.transformRawValue(key, ByteBuffer.wrap(valueBytes), schemaId, schema, decoder, output);
+  }
+
+  private static GenericRecord deserializeOutput(
+      ColumnarNumericRecordTransformer transformer,
+      TransformedValueOutputBuffer output) {
+    ByteBuffer stored = output.toByteBuffer(1);
+    assertEquals(stored.getInt(), 1);
+    Schema outputSchema = transformer.getValueOutputSchema();
+    return new AvroGenericDeserializer<GenericRecord>(outputSchema, outputSchema).deserialize(stored);
+  }
+
+  private static ByteBuffer serializeKey(String key) {
+    return ByteBuffer.wrap(new AvroSerializer<>(KEY_SCHEMA).serialize(key));
+  }
+}
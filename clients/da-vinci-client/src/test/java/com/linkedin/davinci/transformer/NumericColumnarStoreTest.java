@@ -0,0 +1,110 @@
+package com.linkedin.davinci.transformer;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.davinci.transformer.NumericColumnarStore.ColumnType;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import org.testng.annotations.Test;
+
+
+public class NumericColumnarStoreTest {
+  private static ByteBuffer key(String key) {
+    return ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testIndexMatchesMap() {
+    NumericColumnarStore store =
+        new NumericColumnarStore(Arrays.asList("value", "half"), Arrays.asList(ColumnType.LONG, ColumnType.DOUBLE));
+    Map<String, Long> expected = new HashMap<>();
+    Random random = new Random(1);
+    // Enough keys to grow the rows and the index of every segment several times, with deletes in between
+    for (int i = 0; i < 100_000; i++) {
+      String key = "key_" + random.nextInt(10_000);
+      if (random.nextInt(3) == 0) {
+        assertEquals(store.delete(key(key)), expected.remove(key) != null);
+      } else {
+        long value = random.nextInt(1000);
+        store.put(key(key), new long[] { value, NumericColumnarStore.toBits(ColumnType.DOUBLE, value / 2.0) });
+        expected.put(key, value);
+      }
+    }
+    assertEquals(store.size(), expected.size());
+    double expectedSum = 0;
+    for (int i = 0; i < 10_000; i++) {
+      String key = "key_" + i;
+      int row = store.getRow(key(key));
+      Long value = expected.get(key);
+      if (value == null) {
+        assertEquals(row, -1);
+      } else {
+        assertEquals(store.getLong(row, 0), (long) value);
+        assertEquals(store.getDouble(row, 1), value / 2.0);
+        expectedSum += value;
+      }
+    }
+    assertEquals(store.sum(0), expectedSum);
+  }
+
+  @Test
+  public void testKeysAreComparedByContent() {
+    NumericColumnarStore store = new NumericColumnarStore(Arrays.asList("value"), Arrays.asList(ColumnType.INT));
+    byte[] bytes = "xxkeyxx".getBytes(StandardCharsets.UTF_8);
+    store.put(ByteBuffer.wrap(bytes, 2, 3), new long[] { 5 });
+    // The key is copied, so changing the original buffer does not affect the stored key
+    bytes[2] = 'z';
+    assertEquals(store.getRow(key("zey")), -1);
+    int row = store.getRow(key("key"));
+    assertEquals(store.getLong(row, 0), 5);
+
+    // A deleted row is reused by the next key of its segment
+    assertTrue(store.delete(key("key")));
+    assertFalse(store.delete(key("key")));
+    store.put(key("key"), new long[] { 6 });
+    assertEquals(store.getRow(key("key")), row);
+    assertEquals(store.getLong(row, 0), 6);
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testConcurrentWriters() throws Exception {
+    NumericColumnarStore store = new NumericColumnarStore(Arrays.asList("value"), Arrays.asList(ColumnType.LONG));
+    int writerCount = 4;
+    int keyCount = 10_000;
+    List<CompletableFuture<Void>> writers = new ArrayList<>(writerCount);
+    for (int w = 0; w < writerCount; w++) {
+      String prefix = "writer_" + w + "_";
+      writers.add(CompletableFuture.runAsync(() -> {
+        for (int i = 0; i < keyCount; i++) {
+          store.put(key(prefix + i), new long[] { i });
+        }
+        for (int i = 0; i < keyCount; i += 2) {
+          store.delete(key(prefix + i));
+        }
+      }));
+    }
+    for (CompletableFuture<Void> writer: writers) {
+      writer.get();
+    }
+    assertEquals(store.size(), writerCount * keyCount / 2);
+    for (int w = 0; w < writerCount; w++) {
+      for (int i = 0; i < keyCount; i++) {
+        int row = store.getRow(key("writer_" + w + "_" + i));
+        if (i % 2 == 0) {
+          assertEquals(row, -1);
+        } else {
+          assertEquals(store.getLong(row, 0), i);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.linkedin.davinci.validation;
+
+import com.linkedin.venice.guid.GuidUtils;
+import com.linkedin.venice.kafka.protocol.GUID;
+import com.linkedin.venice.kafka.validation.Segment;
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ProducerStateTableTest {
+  @Test
+  public void testPutGetAndRemove() {
+    ProducerStateTable table = new ProducerStateTable();
+    List<GUID> guids = new ArrayList<>();
+    Map<GUID, Segment> expectedSegments = new HashMap<>();
+    // Enough producers to resize the table a few times
+    for (int i = 0; i < 100; i++) {
+      GUID guid = GuidUtils.getGUID(VeniceProperties.empty());
+      Segment segment = new Segment(0, i, CheckSumType.NONE);
+      Assert.assertNull(table.put(guid, segment));
+      guids.add(guid);
+      expectedSegments.put(guid, segment);
+    }
+    Assert.assertEquals(table.size(), 100);
+    for (GUID guid: guids) {
+      Assert.assertSame(table.get(guid), expectedSegments.get(guid));
+    }
+
+    // A lookup with another instance of the same GUID finds the same segment
+    GUID firstGuid = guids.get(0);
+    GUID sameGuid = GuidUtils.getGuidFromHex(GuidUtils.getHexFromGuid(firstGuid));
+    Assert.assertSame(table.get(sameGuid), expectedSegments.get(firstGuid));
+
+    Segment newSegment = new Segment(0, 1000, CheckSumType.NONE);
+    Assert.assertSame(table.put(firstGuid, newSegment), expectedSegments.get(firstGuid));
+    expectedSegments.put(firstGuid, newSegment);
+    Assert.assertSame(table.get(firstGuid), newSegment);
+    Assert.assertEquals(table.size(), 100);
+
+    for (int i = 0; i < 50; i++) {
+      table.remove(guids.get(i));
+      expectedSegments.remove(guids.get(i));
+    }
+    table.remove(guids.get(0));
+    Assert.assertEquals(table.size(), 50);
+    Assert.assertNull(table.get(guids.get(0)));
+    Assert.assertEquals(table.getGUIDs(), new HashSet<>(guids.subList(50, 100)));
+    Map<GUID, Segment> segments = new HashMap<>();
+    table.forEach(segments::put);
+    Assert.assertEquals(segments, expectedSegments);
+
+    // A removed producer can come back
+    Segment returningSegment = new Segment(0, 2000, CheckSumType.NONE);
+    Assert.assertNull(table.put(guids.get(0), returningSegment));
+    Assert.assertSame(table.get(guids.get(0)), returningSegment);
+    Assert.assertEquals(table.size(), 51);
+  }
+
+  @Test
+  public void testRemoveWhileIterating() {
+    ProducerStateTable table = new ProducerStateTable();
+    for (int i = 0; i < 10; i++) {
+      table.put(GuidUtils.getGUID(VeniceProperties.empty()), new Segment(0, i, CheckSumType.NONE));
+    }
+    table.forEach((guid, segment) -> {
+      if (segment.getSegmentNumber() % 2 == 0) {
+        table.remove(guid);
+      }
+    });
+    Assert.assertEquals(table.size(), 5);
+    table.forEach((guid, segment) -> Assert.assertEquals(segment.getSegmentNumber() % 2, 1));
+  }
+}
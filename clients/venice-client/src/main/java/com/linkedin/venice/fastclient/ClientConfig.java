@@ -90,6 +90,17 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
    * retry budget for the next minute and so on.
    */
   private final long longTailRetryBudgetEnforcementWindowInMs;
+  /**
+   * When positive, the long tail retry of each request type is sent once a request is slower than this percentile of
+   * the recent requests, with the long tail retry threshold of the request type as an upper bound. When it is 0, the
+   * long tail retry thresholds are used as is.
+   */
+  private final double longTailRetryThresholdPercentile;
+  /**
+   * When enabled, every request asks the storage nodes for the breakdown of their latency, which is then available in
+   * the {@link RequestContext} of the request, see {@link com.linkedin.venice.read.ReadTrace}.
+   */
+  private final boolean readTraceEnabled;
 
   private boolean projectionFieldValidation;
 
@@ -128,7 +139,9 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       boolean useGrpc,
       GrpcClientConfig grpcClientConfig,
       boolean projectionFieldValidation,
-      long longTailRetryBudgetEnforcementWindowInMs) {
+      long longTailRetryBudgetEnforcementWindowInMs,
+      double longTailRetryThresholdPercentile,
+      boolean readTraceEnabled) {
     if (storeName == null || storeName.isEmpty()) {
       throw new VeniceClientException("storeName param shouldn't be empty");
     }
@@ -260,6 +273,13 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
 
     this.projectionFieldValidation = projectionFieldValidation;
     this.longTailRetryBudgetEnforcementWindowInMs = longTailRetryBudgetEnforcementWindowInMs;
+
+    if (longTailRetryThresholdPercentile < 0 || longTailRetryThresholdPercentile >= 100) {
+      throw new VeniceClientException(
+          "longTailRetryThresholdPercentile must be in [0, 100), but got: " + longTailRetryThresholdPercentile);
+    }
+    this.longTailRetryThresholdPercentile = longTailRetryThresholdPercentile;
+    this.readTraceEnabled = readTraceEnabled;
   }
 
   public String getStoreName() {
@@ -403,6 +423,14 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     return longTailRetryBudgetEnforcementWindowInMs;
   }
 
+  public double getLongTailRetryThresholdPercentile() {
+    return longTailRetryThresholdPercentile;
+  }
+
+  public boolean isReadTraceEnabled() {
+    return readTraceEnabled;
+  }
+
   public ClientConfig setProjectionFieldValidationEnabled(boolean projectionFieldValidation) {
     this.projectionFieldValidation = projectionFieldValidation;
     return this;
@@ -454,6 +482,10 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
 
     private long longTailRetryBudgetEnforcementWindowInMs = 60000; // 1 minute
 
+    private double longTailRetryThresholdPercentile = 0;
+
+    private boolean readTraceEnabled = false;
+
     public ClientConfigBuilder<K, V, T> setStoreName(String storeName) {
       this.storeName = storeName;
       return this;
@@ -642,6 +674,16 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       return this;
     }
 
+    public ClientConfigBuilder<K, V, T> setLongTailRetryThresholdPercentile(double longTailRetryThresholdPercentile) {
+      this.longTailRetryThresholdPercentile = longTailRetryThresholdPercentile;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setReadTraceEnabled(boolean readTraceEnabled) {
+      this.readTraceEnabled = readTraceEnabled;
+      return this;
+    }
+
     public ClientConfigBuilder<K, V, T> clone() {
       return new ClientConfigBuilder().setStoreName(storeName)
           .setR2Client(r2Client)
@@ -677,7 +719,9 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           .setUseGrpc(useGrpc)
           .setGrpcClientConfig(grpcClientConfig)
           .setProjectionFieldValidationEnabled(projectionFieldValidation)
-          .setLongTailRetryBudgetEnforcementWindowInMs(longTailRetryBudgetEnforcementWindowInMs);
+          .setLongTailRetryBudgetEnforcementWindowInMs(longTailRetryBudgetEnforcementWindowInMs)
+          .setLongTailRetryThresholdPercentile(longTailRetryThresholdPercentile)
+          .setReadTraceEnabled(readTraceEnabled);
     }
 
     public ClientConfig<K, V, T> build() {
@@ -716,7 +760,9 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           useGrpc,
           grpcClientConfig,
           projectionFieldValidation,
-          longTailRetryBudgetEnforcementWindowInMs);
+          longTailRetryBudgetEnforcementWindowInMs,
+          longTailRetryThresholdPercentile,
+          readTraceEnabled);
     }
   }
 }
@@ -97,6 +97,8 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
   private static final Map<String, String> HEADERS_FOR_MULTIGET_REQUEST = Collections.singletonMap(
       HttpConstants.VENICE_API_VERSION,
       Integer.toString(ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion()));
+  private static final Map<String, String> HEADERS_FOR_TRACED_SINGLE_GET_REQUEST =
+      Collections.singletonMap(HttpConstants.VENICE_READ_TRACE, "1");
 
   public DispatchingAvroGenericStoreClient(StoreMetadata metadata, ClientConfig config) {
     /**
@@ -260,7 +262,9 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
       CompletableFuture<Integer> routeRequestFuture = null;
       try {
         String url = route + uri;
-        CompletableFuture<TransportClientResponse> transportFuture = transportClient.get(url);
+        CompletableFuture<TransportClientResponse> transportFuture = config.isReadTraceEnabled()
+            ? transportClient.get(url, HEADERS_FOR_TRACED_SINGLE_GET_REQUEST)
+            : transportClient.get(url);
         routeRequestFuture =
             metadata.trackHealthBasedOnRequestToInstance(route, currentVersion, partitionId, transportFuture)
                 .getOriginalFuture();
@@ -280,9 +284,11 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
               valueFuture.complete(null);
             }
           } else {
+            requestContext.addReadTrace(route, response.getReadTrace());
             try {
               finalRouteRequestFuture.complete(SC_OK);
-              if (!receivedSuccessfulResponse.getAndSet(true)) {
+              // The value is not needed anymore if the caller cancelled the request, e.g. a retry request which lost
+              if (!valueFuture.isDone() && !receivedSuccessfulResponse.getAndSet(true)) {
                 requestContext.requestSubmissionToResponseHandlingTime =
                     LatencyUtils.getLatencyInMS(nanoTsBeforeSendingRequest);
                 CompressionStrategy compressionStrategy = response.getCompressionStrategy();
@@ -461,6 +467,12 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
         requestContext.getRoutes().size() + (partitionsWithNoRoutes.isEmpty() ? 0 : 1);
     CompletableFuture<Integer>[] requestCompletionFutures = new CompletableFuture[numberOfRequestCompletionFutures];
 
+    Map<String, String> headersForRoutes = requestHeaders;
+    if (config.isReadTraceEnabled()) {
+      headersForRoutes = new HashMap<>(requestHeaders);
+      headersForRoutes.put(HttpConstants.VENICE_READ_TRACE, "1");
+    }
+
     int routeIndex = 0;
     // Start the request and invoke handler for response
     for (String route: requestContext.getRoutes()) {
@@ -471,7 +483,7 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
       requestContext.recordRequestSerializationTime(route, getLatencyInNS(nanoTsBeforeSerialization));
       requestContext.recordRequestSentTimeStamp(route);
       CompletableFuture<TransportClientResponse> transportClientFutureForRoute =
-          transportClient.post(url, requestHeaders, serializedRequest);
+          transportClient.post(url, headersForRoutes, serializedRequest);
       ChainedCompletableFuture<Integer, Integer> routeRequestFuture =
           metadata.trackHealthBasedOnRequestToInstance(route, currentVersion, 0, transportClientFutureForRoute);
       requestContext.routeRequestMap.put(route, routeRequestFuture.getOriginalFuture());
@@ -479,6 +491,9 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
 
       transportClientFutureForRoute.whenComplete((transportClientResponse, throwable) -> {
         requestContext.recordRequestSubmissionToResponseHandlingTime(route);
+        if (transportClientResponse != null) {
+          requestContext.addReadTrace(route, transportClientResponse.getReadTrace());
+        }
         TransportClientResponseForRoute response = TransportClientResponseForRoute
             .fromTransportClientWithRoute(transportClientResponse, route, routeRequestFuture.getOriginalFuture());
         routeResponseHandler.handle(keysForRoutes, response, throwable);
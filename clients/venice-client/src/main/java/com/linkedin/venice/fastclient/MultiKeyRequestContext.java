@@ -216,9 +216,12 @@ public abstract class MultiKeyRequestContext<K, V> extends RequestContext {
 
   static class RetryContext<K, V> {
     MultiKeyRequestContext<K, V> retryRequestContext;
+    // Whether the retry was sent because the original request was slow, rather than because it failed
+    boolean longTailRetryRequestTriggered;
 
     RetryContext() {
       retryRequestContext = null;
+      longTailRetryRequestTriggered = false;
     }
   }
 
@@ -1,7 +1,10 @@
 package com.linkedin.venice.fastclient;
 
 import com.linkedin.venice.fastclient.meta.InstanceHealthMonitor;
+import com.linkedin.venice.read.ReadTrace;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -32,7 +35,36 @@ public class RequestContext {
 
   Map<String, CompletableFuture<Integer>> routeRequestMap = new VeniceConcurrentHashMap<>();
 
+  /**
+   * The read traces sent back by the storage nodes, by route, when {@link ClientConfig#isReadTraceEnabled()}. Only
+   * created once the first trace is received, since the requests are not traced by default.
+   */
+  private Map<String, String> readTraces = null;
+
   public RequestContext() {
     this.requestId = REQUEST_ID_GENERATOR.getAndIncrement();
   }
+
+  synchronized void addReadTrace(String route, String readTrace) {
+    if (readTrace == null) {
+      return;
+    }
+    if (readTraces == null) {
+      readTraces = new HashMap<>();
+    }
+    readTraces.put(route, readTrace);
+  }
+
+  /**
+   * @return the breakdown of the latency of the storage nodes which responded to the request, by route, or an empty map
+   *         if the request was not traced.
+   */
+  public synchronized Map<String, ReadTrace> getReadTraces() {
+    if (readTraces == null) {
+      return Collections.emptyMap();
+    }
+    Map<String, ReadTrace> parsedReadTraces = new HashMap<>(readTraces.size());
+    readTraces.forEach((route, readTrace) -> parsedReadTraces.put(route, ReadTrace.parse(readTrace)));
+    return parsedReadTraces;
+  }
 }
@@ -8,6 +8,7 @@ import com.linkedin.venice.client.store.ComputeGenericRecord;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.fastclient.meta.LongTailRetryThresholdTracker;
 import com.linkedin.venice.fastclient.meta.RetryManager;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.util.Collections;
@@ -45,11 +46,19 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
    */
   private RetryManager singleGetLongTailRetryManager = null;
   private RetryManager multiGetLongTailRetryManager = null;
+  /**
+   * The trackers are only created when the long tail retry threshold is derived from the latency of the recent
+   * requests, see {@link ClientConfig#getLongTailRetryThresholdPercentile()}.
+   */
+  private LongTailRetryThresholdTracker singleGetLongTailRetryThresholdTracker = null;
+  private LongTailRetryThresholdTracker batchGetLongTailRetryThresholdTracker = null;
+  private LongTailRetryThresholdTracker computeLongTailRetryThresholdTracker = null;
   private static final Logger LOGGER = LogManager.getLogger(RetriableAvroGenericStoreClient.class);
   // Default value of 0.1 meaning only 10 percent of the user requests are allowed to trigger long tail retry
   private static final double LONG_TAIL_RETRY_BUDGET_PERCENT_DECIMAL = 0.1d;
   private static final String SINGLE_GET_LONG_TAIL_RETRY_STATS_PREFIX = "single-get-long-tail-retry-manager";
   private static final String MULTI_GET_LONG_TAIL_RETRY_STATS_PREFIX = "multi-get-long-tail-retry-manager";
+  private static final long LONG_TAIL_RETRY_THRESHOLD_UPDATE_INTERVAL_IN_MS = 1000;
 
   public RetriableAvroGenericStoreClient(
       InternalAvroStoreClient<K, V> delegate,
@@ -84,6 +93,27 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
           clientConfig.getLongTailRetryBudgetEnforcementWindowInMs(),
           LONG_TAIL_RETRY_BUDGET_PERCENT_DECIMAL);
     }
+    double longTailRetryThresholdPercentile = clientConfig.getLongTailRetryThresholdPercentile();
+    if (longTailRetryThresholdPercentile > 0) {
+      if (longTailRetryEnabledForSingleGet) {
+        this.singleGetLongTailRetryThresholdTracker = new LongTailRetryThresholdTracker(
+            longTailRetryThresholdPercentile,
+            longTailRetryThresholdForSingleGetInMicroSeconds,
+            LONG_TAIL_RETRY_THRESHOLD_UPDATE_INTERVAL_IN_MS);
+      }
+      if (longTailRetryEnabledForBatchGet) {
+        this.batchGetLongTailRetryThresholdTracker = new LongTailRetryThresholdTracker(
+            longTailRetryThresholdPercentile,
+            longTailRetryThresholdForBatchGetInMicroSeconds,
+            LONG_TAIL_RETRY_THRESHOLD_UPDATE_INTERVAL_IN_MS);
+      }
+      if (longTailRetryEnabledForCompute) {
+        this.computeLongTailRetryThresholdTracker = new LongTailRetryThresholdTracker(
+            longTailRetryThresholdPercentile,
+            longTailRetryThresholdForComputeInMicroSeconds,
+            LONG_TAIL_RETRY_THRESHOLD_UPDATE_INTERVAL_IN_MS);
+      }
+    }
   }
 
   enum RetryType {
@@ -128,6 +158,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
    */
   @Override
   protected CompletableFuture<V> get(GetRequestContext requestContext, K key) throws VeniceClientException {
+    final long startTimeInNs = System.nanoTime();
     final CompletableFuture<V> originalRequestFuture = super.get(requestContext, key);
     if (!longTailRetryEnabledForSingleGet) {
       // if longTailRetry is not enabled for single get, simply return the original future
@@ -138,6 +169,8 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     final CompletableFuture<V> finalFuture = new CompletableFuture<>();
 
     AtomicReference<Throwable> savedException = new AtomicReference<>();
+    // The retry request, which gets cancelled if the original request completes first
+    AtomicReference<CompletableFuture<V>> retryRequestFuture = new AtomicReference<>();
     // create a retry task
     Runnable retryTask = () -> {
       if (savedException.get() != null && isExceptionCausedByTooManyRequests(savedException.get())) {
@@ -146,7 +179,12 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         return;
       }
       if (savedException.get() != null || singleGetLongTailRetryManager.isRetryAllowed()) {
-        super.get(requestContext, key).whenComplete((value, throwable) -> {
+        CompletableFuture<V> retryRequest = super.get(requestContext, key);
+        retryRequestFuture.set(retryRequest);
+        if (finalFuture.isDone()) {
+          retryRequest.cancel(false);
+        }
+        retryRequest.whenComplete((value, throwable) -> {
           if (throwable != null) {
             retryFuture.completeExceptionally(throwable);
           } else {
@@ -160,22 +198,34 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
             }
           }
         });
+      } else {
+        // The retry budget is exhausted, so no retry request is sent
+        requestContext.retryContext.longTailRetryRequestTriggered = false;
       }
     };
 
     // Schedule the created task for long-tail retry
     TimeoutProcessor.TimeoutFuture timeoutFuture = timeoutProcessor.schedule(
         new RetryRunnable(requestContext, RetryType.LONG_TAIL_RETRY, retryTask),
-        longTailRetryThresholdForSingleGetInMicroSeconds,
+        getLongTailRetryThresholdInMicroSeconds(
+            singleGetLongTailRetryThresholdTracker,
+            longTailRetryThresholdForSingleGetInMicroSeconds),
         TimeUnit.MICROSECONDS);
 
     originalRequestFuture.whenComplete((value, throwable) -> {
       if (throwable == null) {
+        if (singleGetLongTailRetryThresholdTracker != null) {
+          singleGetLongTailRetryThresholdTracker.recordLatency(System.nanoTime() - startTimeInNs);
+        }
         if (!timeoutFuture.isDone()) {
           timeoutFuture.cancel();
         }
         if (finalFuture.complete(value)) {
-          // original request is faster
+          // original request is faster, so the response of the retry request, if any, is not needed anymore
+          CompletableFuture<V> retryRequest = retryRequestFuture.get();
+          if (retryRequest != null) {
+            retryRequest.cancel(false);
+          }
           requestContext.retryContext.retryWin = false;
         }
       } else {
@@ -223,7 +273,10 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         requestContext,
         keys,
         callback,
-        longTailRetryThresholdForBatchGetInMicroSeconds,
+        getLongTailRetryThresholdInMicroSeconds(
+            batchGetLongTailRetryThresholdTracker,
+            longTailRetryThresholdForBatchGetInMicroSeconds),
+        batchGetLongTailRetryThresholdTracker,
         BatchGetRequestContext::new,
         super::streamingBatchGet);
   }
@@ -246,7 +299,10 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         requestContext,
         keys,
         callback,
-        longTailRetryThresholdForComputeInMicroSeconds,
+        getLongTailRetryThresholdInMicroSeconds(
+            computeLongTailRetryThresholdTracker,
+            longTailRetryThresholdForComputeInMicroSeconds),
+        computeLongTailRetryThresholdTracker,
         ComputeRequestContext::new,
         (requestContextInternal, internalKeys, internalCallback) -> {
           super.compute(
@@ -275,6 +331,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       Set<K> keys,
       StreamingCallback<K, RESPONSE> callback,
       int longTailRetryThresholdInMicroSeconds,
+      LongTailRetryThresholdTracker longTailRetryThresholdTracker,
       RequestContextConstructor<K, V, R> requestContextConstructor,
       StreamingRequestExecutor<K, V, R, RESPONSE> streamingRequestExecutor) throws VeniceClientException {
     R originalRequestContext = requestContextConstructor.construct(keys.size(), requestContext.isPartialSuccessAllowed);
@@ -315,6 +372,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
               requestContextConstructor.construct(pendingKeys.size(), requestContext.isPartialSuccessAllowed);
 
           requestContext.retryContext.retryRequestContext = retryRequestContext;
+          requestContext.retryContext.longTailRetryRequestTriggered = throwable == null;
           LOGGER.debug("Retrying {} incomplete keys", retryRequestContext.numKeysInRequest);
           // Prepare the retry context and track excluded routes on a per-partition basis
           retryRequestContext.setRoutesForPartitionMapping(originalRequestContext.getRoutesForPartitionMapping());
@@ -348,15 +406,17 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
      * 2. If no 429 exceptions are caught after longTailRetryThresholdInMicroSeconds when the retry task is running then
      * all incomplete keys whether due to long tail or errors (e.g. mis-routed) are retried.
      */
-    streamingRequestExecutor.trigger(
+    StreamingCallback<K, RESPONSE> originalRequestCallback = getStreamingCallback(
         originalRequestContext,
-        keys,
-        getStreamingCallback(
-            originalRequestContext,
-            finalRequestCompletionFuture,
-            savedException,
-            pendingKeysFuture,
-            scheduledRetryTask));
+        finalRequestCompletionFuture,
+        savedException,
+        pendingKeysFuture,
+        scheduledRetryTask);
+    if (longTailRetryThresholdTracker != null) {
+      originalRequestCallback =
+          getLatencyTrackingCallback(originalRequestCallback, longTailRetryThresholdTracker, System.nanoTime());
+    }
+    streamingRequestExecutor.trigger(originalRequestContext, keys, originalRequestCallback);
     multiGetLongTailRetryManager.recordRequest();
 
     finalRequestCompletionFuture.whenComplete((ignore, finalException) -> {
@@ -435,6 +495,38 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     };
   }
 
+  /**
+   * Records the latency of the original request, regardless of whether a retry request completed its keys first, so
+   * that the tracked latency is the one the retry threshold applies to.
+   */
+  private <RESPONSE> StreamingCallback<K, RESPONSE> getLatencyTrackingCallback(
+      StreamingCallback<K, RESPONSE> callback,
+      LongTailRetryThresholdTracker longTailRetryThresholdTracker,
+      long startTimeInNs) {
+    return new StreamingCallback<K, RESPONSE>() {
+      @Override
+      public void onRecordReceived(K key, RESPONSE value) {
+        callback.onRecordReceived(key, value);
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        if (!exception.isPresent()) {
+          longTailRetryThresholdTracker.recordLatency(System.nanoTime() - startTimeInNs);
+        }
+        callback.onCompletion(exception);
+      }
+    };
+  }
+
+  private static int getLongTailRetryThresholdInMicroSeconds(
+      LongTailRetryThresholdTracker longTailRetryThresholdTracker,
+      int longTailRetryThresholdInMicroSeconds) {
+    return longTailRetryThresholdTracker == null
+        ? longTailRetryThresholdInMicroSeconds
+        : longTailRetryThresholdTracker.getThresholdInMicroSeconds();
+  }
+
   private boolean isExceptionCausedByTooManyRequests(Throwable e) {
     if (e instanceof VeniceClientHttpException) {
       VeniceClientHttpException clientHttpException = (VeniceClientHttpException) e;
@@ -170,6 +170,9 @@ public class StatsAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient
             if (getRequestContext.retryContext.retryWin) {
               clientStats.recordRetryRequestWin();
               clientStats.recordRetryRequestSuccessKeyCount(1);
+              if (getRequestContext.retryContext.longTailRetryRequestTriggered) {
+                clientStats.recordLongTailRetryRequestWin();
+              }
             }
           }
         }
@@ -186,6 +189,9 @@ public class StatsAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient
                 multiKeyRequestContext.retryContext.retryRequestContext.numKeysCompleted.get());
             if (multiKeyRequestContext.retryContext.retryRequestContext.numKeysCompleted.get() > 0) {
               clientStats.recordRetryRequestWin();
+              if (multiKeyRequestContext.retryContext.longTailRetryRequestTriggered) {
+                clientStats.recordLongTailRetryRequestWin();
+              }
             }
           }
         }
@@ -0,0 +1,104 @@
+package com.linkedin.venice.fastclient.meta;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * This class derives the long tail retry threshold of a request type from the latency of the recent requests, so that
+ * a request gets retried once it is slower than the given percentile of the requests, instead of after a fixed delay.
+ * The configured threshold is used until enough latencies have been recorded, and it remains an upper bound, meaning a
+ * retry is never sent later than it would be without this tracker.
+ *
+ * The latencies are counted into log-linear buckets, whose relative width is 1/8, which bounds the error of the
+ * percentile. The threshold is refreshed once per update interval, after which the counts are halved, so that the
+ * percentile follows the latency of the recent requests.
+ */
+public class LongTailRetryThresholdTracker {
+  static final int MIN_SAMPLE_COUNT = 100;
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+  private final double percentile;
+  private final int maxThresholdInMicroSeconds;
+  private final long updateIntervalInNs;
+  private final AtomicLong nextUpdateTimeInNs;
+  private volatile int thresholdInMicroSeconds;
+
+  /**
+   * @param percentile the percentile of the latency, in (0, 100), past which requests get retried.
+   * @param maxThresholdInMicroSeconds the configured long tail retry threshold.
+   * @param updateIntervalInMs how often the threshold gets refreshed from the recorded latencies.
+   */
+  public LongTailRetryThresholdTracker(double percentile, int maxThresholdInMicroSeconds, long updateIntervalInMs) {
+    if (percentile <= 0 || percentile >= 100) {
+      throw new IllegalArgumentException("percentile must be in (0, 100), but got: " + percentile);
+    }
+    this.percentile = percentile;
+    this.maxThresholdInMicroSeconds = maxThresholdInMicroSeconds;
+    this.updateIntervalInNs = TimeUnit.MILLISECONDS.toNanos(updateIntervalInMs);
+    this.nextUpdateTimeInNs = new AtomicLong(System.nanoTime() + updateIntervalInNs);
+    this.thresholdInMicroSeconds = maxThresholdInMicroSeconds;
+  }
+
+  public void recordLatency(long latencyInNs) {
+    bucketCounts.incrementAndGet(getBucketIndex(TimeUnit.NANOSECONDS.toMicros(Math.max(latencyInNs, 0))));
+    long now = System.nanoTime();
+    long nextUpdateTime = nextUpdateTimeInNs.get();
+    if (now - nextUpdateTime >= 0 && nextUpdateTimeInNs.compareAndSet(nextUpdateTime, now + updateIntervalInNs)) {
+      updateThreshold();
+    }
+  }
+
+  public int getThresholdInMicroSeconds() {
+    return thresholdInMicroSeconds;
+  }
+
+  private void updateThreshold() {
+    long totalCount = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      totalCount += bucketCounts.get(i);
+    }
+    if (totalCount < MIN_SAMPLE_COUNT) {
+      // Keep collecting latencies until the percentile is meaningful
+      return;
+    }
+    long rank = (long) Math.ceil(totalCount * percentile / 100);
+    long count = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      count += bucketCounts.get(i);
+      if (count >= rank) {
+        thresholdInMicroSeconds = (int) Math.max(1, Math.min(maxThresholdInMicroSeconds, getBucketUpperBound(i)));
+        break;
+      }
+    }
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      bucketCounts.addAndGet(i, -(bucketCounts.get(i) >>> 1));
+    }
+  }
+
+  static int getBucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  /**
+   * @return the largest value counted into the given bucket.
+   */
+  static long getBucketUpperBound(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    long lowerBound = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+    return lowerBound + (1L << shift) - 1;
+  }
+}
@@ -41,6 +41,9 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
   private final Sensor longTailRetryRequestSensor;
   private final Sensor errorRetryRequestSensor;
   private final Sensor retryRequestWinSensor;
+  private final Sensor longTailRetryRequestWinSensor;
+  private final Sensor longTailRetryRequestRatioSensor;
+  private final Sensor longTailRetryRequestWinRatioSensor;
 
   private final Sensor metadataStalenessSensor;
   private long cacheTimeStampInMs = 0;
@@ -85,9 +88,20 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
     this.dualReadThinClientFastClientLatencyDeltaSensor =
         registerSensorWithDetailedPercentiles("dual_read_thinclient_fastclient_latency_delta", new Max(), new Avg());
     this.leakedRequestCountSensor = registerSensor("leaked_request_count", new OccurrenceRate());
-    this.longTailRetryRequestSensor = registerSensor("long_tail_retry_request", new OccurrenceRate());
+    Rate longTailRetryRequestRate = new OccurrenceRate();
+    this.longTailRetryRequestSensor = registerSensor("long_tail_retry_request", longTailRetryRequestRate);
     this.errorRetryRequestSensor = registerSensor("error_retry_request", new OccurrenceRate());
     this.retryRequestWinSensor = registerSensor("retry_request_win", new OccurrenceRate());
+    Rate longTailRetryRequestWinRate = new OccurrenceRate();
+    this.longTailRetryRequestWinSensor = registerSensor("long_tail_retry_win", longTailRetryRequestWinRate);
+    // Share of the requests which sent a long tail retry, and share of those retries which completed first
+    this.longTailRetryRequestRatioSensor = registerSensor(
+        new TehutiUtils.SimpleRatioStat(longTailRetryRequestRate, requestRate, "long_tail_retry_ratio"));
+    this.longTailRetryRequestWinRatioSensor = registerSensor(
+        new TehutiUtils.SimpleRatioStat(
+            longTailRetryRequestWinRate,
+            longTailRetryRequestRate,
+            "long_tail_retry_win_ratio"));
 
     this.metadataStalenessSensor = registerSensor(new AsyncGauge((ignored, ignored2) -> {
       if (this.cacheTimeStampInMs == 0) {
@@ -172,6 +186,10 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
     retryRequestWinSensor.record();
   }
 
+  public void recordLongTailRetryRequestWin() {
+    longTailRetryRequestWinSensor.record();
+  }
+
   public void updateCacheTimestamp(long cacheTimeStampInMs) {
     this.cacheTimeStampInMs = cacheTimeStampInMs;
   }
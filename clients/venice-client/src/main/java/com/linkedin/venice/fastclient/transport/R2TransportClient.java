@@ -99,7 +99,8 @@ public class R2TransportClient extends InternalTransportClient {
        * TODO: consider to pass back {@link java.io.InputStream} instead of making a copy of response bytes
        */
       byte[] body = result.getEntity().copyBytes();
-      completeFuture(statusCode, schemaId, compressionStrategy, body);
+      String readTrace = result.getHeader(HttpConstants.VENICE_READ_TRACE);
+      completeFuture(statusCode, schemaId, compressionStrategy, body, readTrace);
     }
   }
 }
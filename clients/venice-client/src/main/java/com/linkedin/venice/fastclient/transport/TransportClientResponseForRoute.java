@@ -33,12 +33,14 @@ public class TransportClientResponseForRoute extends TransportClientResponse {
     if (transportClientResponse == null) {
       return new TransportClientResponseForRoute(replicaId, -1, null, null, routeRequestFuture);
     } else {
-      return new TransportClientResponseForRoute(
+      TransportClientResponseForRoute responseForRoute = new TransportClientResponseForRoute(
           replicaId,
           transportClientResponse.getSchemaId(),
           transportClientResponse.getCompressionStrategy(),
           transportClientResponse.getBody(),
           routeRequestFuture);
+      responseForRoute.setReadTrace(transportClientResponse.getReadTrace());
+      return responseForRoute;
     }
   }
 
@@ -11,6 +11,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
@@ -20,6 +22,7 @@ import static org.testng.Assert.fail;
 
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.avroutil1.compatibility.RandomRecordGenerator;
+import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.ComputeGenericRecord;
 import com.linkedin.venice.client.store.ComputeRequestBuilder;
@@ -33,6 +36,7 @@ import com.linkedin.venice.fastclient.meta.StoreMetadata;
 import com.linkedin.venice.fastclient.transport.TransportClientResponseForRoute;
 import com.linkedin.venice.fastclient.utils.ClientTestUtils;
 import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.read.ReadTrace;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.router.exception.VeniceKeyCountLimitException;
@@ -61,6 +65,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
+import org.mockito.ArgumentCaptor;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -97,6 +102,7 @@ public class DispatchingAvroGenericStoreClientTest {
   private DispatchingAvroGenericStoreClient dispatchingAvroGenericStoreClient;
   private StatsAvroGenericStoreClient statsAvroGenericStoreClient = null;
   private Map<String, ? extends Metric> metrics;
+  private TransportClient mockedTransportClient = null;
   private StoreMetadata storeMetadata = null;
 
   @BeforeClass
@@ -155,12 +161,33 @@ public class DispatchingAvroGenericStoreClientTest {
       boolean transportClientPartialIncomplete,
       boolean mockTransportClient,
       long routingLeakedRequestCleanupThresholdMS) throws InterruptedException {
+    setUpClient(
+        transportClientThrowsException,
+        transportClientThrowsPartialException,
+        transportClientPartialIncomplete,
+        mockTransportClient,
+        routingLeakedRequestCleanupThresholdMS,
+        false);
+  }
+
+  /**
+   * @param readTraceEnabled to set readTraceEnabled client config, and to send back read traces from the mocked
+   *                         transport client.
+   */
+  private void setUpClient(
+      boolean transportClientThrowsException,
+      boolean transportClientThrowsPartialException,
+      boolean transportClientPartialIncomplete,
+      boolean mockTransportClient,
+      long routingLeakedRequestCleanupThresholdMS,
+      boolean readTraceEnabled) throws InterruptedException {
 
     clientConfigBuilder = new ClientConfig.ClientConfigBuilder<>().setStoreName(STORE_NAME)
         .setR2Client(getMockR2Client(false))
         .setMetadataRefreshIntervalInSeconds(1L)
         .setRoutingLeakedRequestCleanupThresholdMS(routingLeakedRequestCleanupThresholdMS)
-        .setRoutingPendingRequestCounterInstanceBlockThreshold(1);
+        .setRoutingPendingRequestCounterInstanceBlockThreshold(1)
+        .setReadTraceEnabled(readTraceEnabled);
 
     MetricsRepository metricsRepository = new MetricsRepository();
     metrics = metricsRepository.metrics();
@@ -180,7 +207,7 @@ public class DispatchingAvroGenericStoreClientTest {
         STORE_VALUE_SCHEMA);
     CompletableFuture<TransportClientResponse> valueFuture = new CompletableFuture<>();
 
-    TransportClient mockedTransportClient = null;
+    mockedTransportClient = null;
     if (mockTransportClient) {
       mockedTransportClient = mock(TransportClient.class);
       dispatchingAvroGenericStoreClient =
@@ -196,6 +223,7 @@ public class DispatchingAvroGenericStoreClientTest {
     if (mockTransportClient) {
       // mock get()
       doReturn(valueFuture).when(mockedTransportClient).get(any());
+      doReturn(valueFuture).when(mockedTransportClient).get(any(), any());
       if (transportClientThrowsException) {
         valueFuture.completeExceptionally(new VeniceClientException("Exception for client to return 503"));
       } else {
@@ -206,6 +234,9 @@ public class DispatchingAvroGenericStoreClientTest {
             CompressionStrategy.NO_OP,
             SerializerDeserializerFactory.getAvroGenericSerializer(STORE_VALUE_SCHEMA)
                 .serialize(SINGLE_GET_VALUE_RESPONSE));
+        if (readTraceEnabled) {
+          singleGetResponse.setReadTrace("queue=0.1;lookup=0.2");
+        }
         valueFuture.complete(singleGetResponse);
       }
 
@@ -270,6 +301,10 @@ public class DispatchingAvroGenericStoreClientTest {
             CompressionStrategy.NO_OP,
             serializeBatchGetResponse(BATCH_GET_PARTIAL_KEYS_2),
             mock(CompletableFuture.class));
+        if (readTraceEnabled) {
+          batchGetResponse0.setReadTrace("queue=0.1;lookup=0.2");
+          batchGetResponse1.setReadTrace("queue=0.3;lookup=0.4");
+        }
         doReturn(batchGetValueFuture0).when(mockedTransportClient)
             .post(eq(REPLICA1_NAME + "/storage/test_store_v1"), any(), any());
         batchGetValueFuture0.complete(batchGetResponse0);
@@ -308,6 +343,7 @@ public class DispatchingAvroGenericStoreClientTest {
       statsAvroGenericStoreClient.close();
       statsAvroGenericStoreClient = null;
     }
+    mockedTransportClient = null;
   }
 
   /**
@@ -542,6 +578,25 @@ public class DispatchingAvroGenericStoreClientTest {
     }
   }
 
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testGetWithReadTrace() throws ExecutionException, InterruptedException, IOException {
+    try {
+      setUpClient(false, false, false, true, TimeUnit.SECONDS.toMillis(30), true);
+      GetRequestContext getRequestContext = new GetRequestContext(false);
+      GenericRecord value = (GenericRecord) statsAvroGenericStoreClient.get(getRequestContext, "test_key").get();
+      assertEquals(value, SINGLE_GET_VALUE_RESPONSE);
+      verify(mockedTransportClient).get(any(), eq(Collections.singletonMap(HttpConstants.VENICE_READ_TRACE, "1")));
+
+      Map<String, ReadTrace> readTraces = getRequestContext.getReadTraces();
+      assertEquals(readTraces.size(), 1);
+      ReadTrace readTrace = readTraces.values().iterator().next();
+      assertEquals(readTrace.get(ReadTrace.Stage.QUEUE), 0.1);
+      assertEquals(readTrace.get(ReadTrace.Stage.LOOKUP), 0.2);
+    } finally {
+      tearDown();
+    }
+  }
+
   @Test(timeOut = TEST_TIMEOUT)
   public void testGetWithExceptionFromTransportLayer() throws IOException {
     GetRequestContext getRequestContext = null;
@@ -591,6 +646,32 @@ public class DispatchingAvroGenericStoreClientTest {
     }
   }
 
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testBatchGetWithReadTrace() throws ExecutionException, InterruptedException, IOException {
+    try {
+      setUpClient(false, false, false, true, TimeUnit.SECONDS.toMillis(30), true);
+      BatchGetRequestContext batchGetRequestContext = new BatchGetRequestContext<>(BATCH_GET_KEYS.size(), false);
+      Map<String, GenericRecord> value =
+          (Map<String, GenericRecord>) statsAvroGenericStoreClient.batchGet(batchGetRequestContext, BATCH_GET_KEYS)
+              .get();
+      assertEquals(value.size(), BATCH_GET_KEYS.size());
+
+      ArgumentCaptor<Map<String, String>> headersCaptor = ArgumentCaptor.forClass(Map.class);
+      verify(mockedTransportClient, times(2)).post(any(), headersCaptor.capture(), any());
+      for (Map<String, String> headers: headersCaptor.getAllValues()) {
+        assertEquals(headers.get(HttpConstants.VENICE_READ_TRACE), "1");
+      }
+
+      // One trace per route
+      Map<String, ReadTrace> readTraces = batchGetRequestContext.getReadTraces();
+      assertEquals(readTraces.size(), 2);
+      assertEquals(readTraces.get(REPLICA1_NAME).get(ReadTrace.Stage.LOOKUP), 0.2);
+      assertEquals(readTraces.get(REPLICA2_NAME).get(ReadTrace.Stage.LOOKUP), 0.4);
+    } finally {
+      tearDown();
+    }
+  }
+
   @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class, timeOut = TEST_TIMEOUT)
   public void testBatchGetWithEmptyKeys(boolean streamingBatchGet)
       throws ExecutionException, InterruptedException, IOException {
@@ -35,8 +35,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -527,6 +529,12 @@ public class RetriableAvroGenericStoreClientTest {
     }
   }
 
+  private void validateLongTailRetryWinMetric(RequestType requestType, boolean longTailRetryWin) {
+    String metricsPrefix = ClientTestUtils.getMetricPrefix(STORE_NAME, requestType);
+    metrics = getStats(clientConfig);
+    assertEquals(metrics.get(metricsPrefix + "long_tail_retry_win.OccurrenceRate").value() > 0, longTailRetryWin);
+  }
+
   /**
    * Original request is faster than retry threshold.
    */
@@ -606,8 +614,10 @@ public class RetriableAvroGenericStoreClientTest {
     statsAvroGenericStoreClient = new StatsAvroGenericStoreClient(retriableClient, clientConfig);
     if (!batchGet) {
       testSingleGetAndValidateMetrics(false, false, true, true, keyNotFound);
+      validateLongTailRetryWinMetric(RequestType.SINGLE_GET, true);
     } else {
       testBatchGetAndValidateMetrics(false, true, true, keyNotFound);
+      validateLongTailRetryWinMetric(RequestType.MULTI_GET, true);
     }
   }
 
@@ -635,6 +645,8 @@ public class RetriableAvroGenericStoreClientTest {
     } else if (requestType.equals(RequestType.COMPUTE)) {
       testComputeAndValidateMetrics(false, true, true, false);
     }
+    // The retry was sent because the original request failed, so it does not count as a long tail retry win
+    validateLongTailRetryWinMetric(requestType, false);
   }
 
   /**
@@ -726,4 +738,63 @@ public class RetriableAvroGenericStoreClientTest {
       testComputeAndValidateMetrics(true, true, false, false);
     }
   }
+
+  /**
+   * The long tail retry threshold is derived from the latency of the recent requests, and the retry request is
+   * cancelled once the original request wins.
+   */
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testLongTailRetryThresholdFromLatencyPercentile() throws Exception {
+    // The configured threshold is way above the test timeout, so only the derived threshold can trigger retries
+    clientConfig = new ClientConfig.ClientConfigBuilder<>().setStoreName(STORE_NAME)
+        .setR2Client(mock(Client.class))
+        .setMetricsRepository(new MetricsRepository())
+        .setLongTailRetryEnabledForSingleGet(true)
+        .setLongTailRetryThresholdForSingleGetInMicroSeconds((int) TimeUnit.MINUTES.toMicros(1))
+        .setLongTailRetryThresholdPercentile(50)
+        .build();
+    StoreMetadata mockMetadata = mock(StoreMetadata.class);
+    doReturn(STORE_NAME).when(mockMetadata).getStoreName();
+    doReturn(STORE_VALUE_SCHEMA).when(mockMetadata).getLatestValueSchema();
+    // Each request gets the next queued response, or is answered right away once there is none left
+    Queue<CompletableFuture<GenericRecord>> queuedResponses = new ConcurrentLinkedQueue<>();
+    retriableClient = new RetriableAvroGenericStoreClient<>(
+        new DispatchingAvroGenericStoreClient(mockMetadata, clientConfig) {
+          @Override
+          protected CompletableFuture get(GetRequestContext requestContext, Object key) {
+            CompletableFuture<GenericRecord> response = queuedResponses.poll();
+            return response == null ? CompletableFuture.completedFuture(SINGLE_GET_VALUE_RESPONSE) : response;
+          }
+        },
+        clientConfig,
+        timeoutProcessor);
+
+    // The threshold is refreshed once per second, from at least 100 latencies
+    long warmUpEndTimeMs = System.currentTimeMillis() + 2 * Time.MS_PER_SECOND;
+    for (int i = 0; i < 100 || System.currentTimeMillis() < warmUpEndTimeMs; i++) {
+      assertEquals(retriableClient.get(new GetRequestContext(false), "test_key").get(), SINGLE_GET_VALUE_RESPONSE);
+      Thread.sleep(1);
+    }
+
+    // The original request never completes, so the value comes from the retry request
+    queuedResponses.add(new CompletableFuture<>());
+    getRequestContext = new GetRequestContext(false);
+    assertEquals(retriableClient.get(getRequestContext, "test_key").get(), SINGLE_GET_VALUE_RESPONSE);
+    assertTrue(getRequestContext.retryContext.longTailRetryRequestTriggered);
+    assertTrue(getRequestContext.retryContext.retryWin);
+
+    // The original request completes while the retry request is in flight, which cancels the retry request
+    CompletableFuture<GenericRecord> originalResponse = new CompletableFuture<>();
+    CompletableFuture<GenericRecord> retryResponse = new CompletableFuture<>();
+    queuedResponses.add(originalResponse);
+    queuedResponses.add(retryResponse);
+    getRequestContext = new GetRequestContext(false);
+    CompletableFuture<GenericRecord> valueFuture = retriableClient.get(getRequestContext, "test_key");
+    TestUtils.waitForNonDeterministicAssertion(1, TimeUnit.SECONDS, () -> assertTrue(queuedResponses.isEmpty()));
+    originalResponse.complete(SINGLE_GET_VALUE_RESPONSE);
+    assertEquals(valueFuture.get(), SINGLE_GET_VALUE_RESPONSE);
+    TestUtils.waitForNonDeterministicAssertion(1, TimeUnit.SECONDS, () -> assertTrue(retryResponse.isCancelled()));
+    assertTrue(getRequestContext.retryContext.longTailRetryRequestTriggered);
+    assertFalse(getRequestContext.retryContext.retryWin);
+  }
 }
@@ -0,0 +1,59 @@
+package com.linkedin.venice.fastclient.meta;
+
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class LongTailRetryThresholdTrackerTest {
+  @Test
+  public void testBucketBounds() {
+    long previousUpperBound = -1;
+    for (long value = 0; value < 100000; value++) {
+      int index = LongTailRetryThresholdTracker.getBucketIndex(value);
+      long upperBound = LongTailRetryThresholdTracker.getBucketUpperBound(index);
+      Assert.assertTrue(value <= upperBound, "value: " + value);
+      // Buckets are at most 1/8 wide relative to their values
+      Assert.assertTrue(upperBound - value <= value / 8, "value: " + value);
+      Assert.assertTrue(upperBound >= previousUpperBound);
+      previousUpperBound = upperBound;
+    }
+    int lastIndex = LongTailRetryThresholdTracker.getBucketIndex(Long.MAX_VALUE);
+    Assert.assertEquals(LongTailRetryThresholdTracker.getBucketUpperBound(lastIndex), Long.MAX_VALUE);
+  }
+
+  @Test
+  public void testThresholdFollowsRecentLatency() {
+    int maxThresholdInMicroSeconds = 10000;
+    // With no update interval, the threshold gets refreshed on every recorded latency
+    LongTailRetryThresholdTracker tracker = new LongTailRetryThresholdTracker(95, maxThresholdInMicroSeconds, 0);
+    for (int i = 0; i < LongTailRetryThresholdTracker.MIN_SAMPLE_COUNT - 1; i++) {
+      tracker.recordLatency(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+    // Not enough latencies yet to derive the threshold from
+    Assert.assertEquals(tracker.getThresholdInMicroSeconds(), maxThresholdInMicroSeconds);
+
+    for (int i = 0; i < 1000; i++) {
+      tracker.recordLatency(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+    int threshold = tracker.getThresholdInMicroSeconds();
+    Assert.assertTrue(threshold >= 1000 && threshold <= 1125, "threshold: " + threshold);
+
+    for (int i = 0; i < 1000; i++) {
+      tracker.recordLatency(TimeUnit.MILLISECONDS.toNanos(5));
+    }
+    threshold = tracker.getThresholdInMicroSeconds();
+    Assert.assertTrue(threshold >= 5000 && threshold <= 5625, "threshold: " + threshold);
+
+    // The configured threshold remains an upper bound
+    for (int i = 0; i < 1000; i++) {
+      tracker.recordLatency(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+    Assert.assertEquals(tracker.getThresholdInMicroSeconds(), maxThresholdInMicroSeconds);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidPercentile() {
+    new LongTailRetryThresholdTracker(100, 10000, 1000);
+  }
+}
@@ -1,5 +1,7 @@
 package com.linkedin.venice.producer;
 
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_BATCH_LINGER_MS;
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_BATCH_MAX_RECORDS;
 import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_THREAD_NUM;
 import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
 import static com.linkedin.venice.ConfigKeys.KAFKA_OVER_SSL;
@@ -41,6 +43,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericContainer;
 import org.apache.avro.generic.GenericRecord;
@@ -57,6 +60,7 @@ import org.apache.logging.log4j.Logger;
 public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K, V> {
   private static final Logger LOGGER = LogManager.getLogger(AbstractVeniceProducer.class);
   private static final DurableWrite DURABLE_WRITE = new DurableWrite();
+  private static final int DEFAULT_BATCH_MAX_RECORDS = 1000;
 
   private VeniceProperties producerConfigs;
   private boolean configured = false;
@@ -66,6 +70,7 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
   private SchemaReader schemaReader;
   private ThreadPoolExecutor producerExecutor;
   private VeniceWriter<byte[], byte[], byte[]> veniceWriter;
+  private ProducerBatchAccumulator batchAccumulator;
 
   private RecordSerializer<Object> keySerializer;
   private static final Schema STRING_SCHEMA = Schema.create(Schema.Type.STRING);
@@ -106,6 +111,32 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
 
     VersionCreationResponse versionCreationResponse = requestTopic();
     this.veniceWriter = getVeniceWriter(versionCreationResponse);
+
+    long batchLingerMs = producerConfigs.getLong(CLIENT_PRODUCER_BATCH_LINGER_MS, 0);
+    if (batchLingerMs > 0) {
+      this.batchAccumulator = new ProducerBatchAccumulator(
+          storeName,
+          batchLingerMs,
+          producerConfigs.getInt(CLIENT_PRODUCER_BATCH_MAX_RECORDS, DEFAULT_BATCH_MAX_RECORDS),
+          producerExecutor,
+          producerMetrics);
+      LOGGER.info("Enabled write batching with linger: {} ms for store: {}", batchLingerMs, storeName);
+    }
+  }
+
+  /**
+   * A write whose key and value have already been serialized, waiting to be sent through the {@link VeniceWriter}.
+   */
+  private static class PreparedWrite {
+    private final int serializedSize;
+    private final String errorMessage;
+    private final Consumer<PubSubProducerCallback> writeOperation;
+
+    private PreparedWrite(int serializedSize, String errorMessage, Consumer<PubSubProducerCallback> writeOperation) {
+      this.serializedSize = serializedSize;
+      this.errorMessage = errorMessage;
+      this.writeOperation = writeOperation;
+    }
   }
 
   private VeniceWriter<byte[], byte[], byte[]> getVeniceWriter(VersionCreationResponse versionCreationResponse) {
@@ -197,14 +228,8 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     }
 
     producerMetrics.recordPutRequest();
-    return CompletableFuture.supplyAsync(() -> {
-      Schema valueSchema;
-      try {
-        valueSchema = getSchemaFromObject(value);
-      } catch (Exception e) {
-        producerMetrics.recordFailedRequest();
-        throw e;
-      }
+    return executeWrite(() -> {
+      Schema valueSchema = getSchemaFromObject(value);
       // Might block
       int valueSchemaId;
       Exception schemaReadException = null;
@@ -215,37 +240,105 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
         schemaReadException = e;
       }
       if (valueSchemaId == SchemaData.INVALID_VALUE_SCHEMA_ID) {
-        producerMetrics.recordFailedRequest();
         throw new VeniceException(
             "Could not find a registered schema id for schema: " + valueSchema
                 + ". This might be transient if the schema has been registered recently.",
             schemaReadException);
       }
-      final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
-      final Instant sendStartTime = Instant.now();
-      final PubSubProducerCallback callback = getPubSubProducerCallback(
-          sendStartTime,
-          completableFuture,
-          "Failed to write the requested data to the PubSub system");
 
       byte[] keyBytes = keySerializer.serialize(key);
       byte[] valueBytes = getSerializer(valueSchema).serialize(value);
+      final int schemaId = valueSchemaId;
 
-      try {
-        veniceWriter.put(keyBytes, valueBytes, valueSchemaId, logicalTime, callback);
-      } catch (Exception e) {
-        callback.onCompletion(null, e);
-        throw e;
-      }
+      return new PreparedWrite(
+          keyBytes.length + valueBytes.length,
+          "Failed to write the requested data to the PubSub system",
+          callback -> veniceWriter.put(keyBytes, valueBytes, schemaId, logicalTime, callback));
+    });
+  }
 
-      try {
-        completableFuture.get();
-      } catch (InterruptedException | ExecutionException e) {
-        throw new VeniceException(e);
-      }
+  /**
+   * Prepares the write with {@param writePreparer} on {@link #producerExecutor} and sends it to the PubSub system. A
+   * write which fails to be prepared is recorded as a failed request here, so the preparers only need to throw.
+   *
+   * Without batching, each write is prepared and sent by its own task, which waits for the write to become durable. In
+   * batching mode, the write is handed over to the {@link ProducerBatchAccumulator}, which prepares and sends the
+   * writes of a batch with a single task, without holding any executor thread while the writes are in flight.
+   */
+  private CompletableFuture<DurableWrite> executeWrite(Supplier<PreparedWrite> writePreparer) {
+    if (batchAccumulator == null) {
+      return CompletableFuture.supplyAsync(() -> {
+        PreparedWrite preparedWrite;
+        try {
+          preparedWrite = writePreparer.get();
+        } catch (Exception e) {
+          producerMetrics.recordFailedRequest();
+          throw e;
+        }
+        final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
+        sendPreparedWrite(preparedWrite, completableFuture);
+
+        try {
+          completableFuture.get();
+        } catch (InterruptedException | ExecutionException e) {
+          throw new VeniceException(e);
+        }
+
+        return DURABLE_WRITE;
+      }, producerExecutor);
+    }
+
+    final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
+    try {
+      batchAccumulator.append(new ProducerBatchAccumulator.BatchedWrite() {
+        private PreparedWrite preparedWrite;
+
+        @Override
+        public boolean prepare() {
+          try {
+            preparedWrite = writePreparer.get();
+            return true;
+          } catch (Exception e) {
+            fail(e);
+            return false;
+          }
+        }
+
+        @Override
+        public int getSerializedSize() {
+          return preparedWrite.serializedSize;
+        }
+
+        @Override
+        public void send() {
+          sendPreparedWrite(preparedWrite, completableFuture);
+        }
+
+        @Override
+        public void fail(Throwable t) {
+          if (completableFuture.completeExceptionally(t)) {
+            producerMetrics.recordFailedRequest();
+          }
+        }
+      });
+    } catch (Exception e) {
+      producerMetrics.recordFailedRequest();
+      completableFuture.completeExceptionally(e);
+    }
+    return completableFuture.thenApply(ignored -> DURABLE_WRITE);
+  }
 
-      return DURABLE_WRITE;
-    }, producerExecutor);
+  private void sendPreparedWrite(PreparedWrite preparedWrite, CompletableFuture<Void> completableFuture) {
+    final Instant sendStartTime = Instant.now();
+    final PubSubProducerCallback callback =
+        getPubSubProducerCallback(sendStartTime, completableFuture, preparedWrite.errorMessage);
+
+    try {
+      preparedWrite.writeOperation.accept(callback);
+    } catch (Exception e) {
+      callback.onCompletion(null, e);
+      throw e;
+    }
   }
 
   private PubSubProducerCallback getPubSubProducerCallback(
@@ -294,31 +387,14 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     }
 
     producerMetrics.recordDeleteRequest();
-    return CompletableFuture.supplyAsync(() -> {
-      final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
-      final Instant sendStartTime = Instant.now();
-      final PubSubProducerCallback callback = getPubSubProducerCallback(
-          sendStartTime,
-          completableFuture,
-          "Failed to write the delete operation to the PubSub system");
-
+    return executeWrite(() -> {
       byte[] keyBytes = keySerializer.serialize(key);
 
-      try {
-        veniceWriter.delete(keyBytes, logicalTime, callback);
-      } catch (Exception e) {
-        callback.onCompletion(null, e);
-        throw e;
-      }
-
-      try {
-        completableFuture.get();
-      } catch (InterruptedException | ExecutionException e) {
-        throw new VeniceException(e);
-      }
-
-      return DURABLE_WRITE;
-    }, producerExecutor);
+      return new PreparedWrite(
+          keyBytes.length,
+          "Failed to write the delete operation to the PubSub system",
+          callback -> veniceWriter.delete(keyBytes, logicalTime, callback));
+    });
   }
 
   @Override
@@ -345,12 +421,11 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     }
 
     producerMetrics.recordUpdateRequest();
-    return CompletableFuture.supplyAsync(() -> {
+    return executeWrite(() -> {
       // Caching to avoid race conditions during processing of the function
       DerivedSchemaEntry updateSchemaEntry = schemaReader.getLatestUpdateSchema();
 
       if (updateSchemaEntry == null) {
-        producerMetrics.recordFailedRequest();
         throw new VeniceException(
             "Update schema not found. Check if partial update is enabled for the store. This error"
                 + " might also be transient if partial update has been enabled recently.");
@@ -360,7 +435,6 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
 
       if (updateSchemaEntry.getValueSchemaID() == SchemaData.INVALID_VALUE_SCHEMA_ID
           || updateSchemaEntry.getId() == SchemaData.INVALID_VALUE_SCHEMA_ID) {
-        producerMetrics.recordFailedRequest();
         throw new VeniceException(
             "Could not find a registered schema id for schema: " + updateSchema
                 + ". This might be transient if the schema has been registered recently.");
@@ -370,40 +444,20 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
       updateFunction.accept(updateBuilder);
       GenericRecord updateRecord = updateBuilder.build();
 
-      final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
-      final Instant sendStartTime = Instant.now();
-      final AtomicBoolean callbackTriggered = new AtomicBoolean();
-      final PubSubProducerCallback callback = getPubSubProducerCallback(
-          sendStartTime,
-          completableFuture,
-          "Failed to write the partial update record to the PubSub system");
-
       byte[] keyBytes = keySerializer.serialize(key);
       byte[] updateBytes = getSerializer(updateSchema).serialize(updateRecord);
 
-      try {
-        veniceWriter.update(
-            keyBytes,
-            updateBytes,
-            updateSchemaEntry.getValueSchemaID(),
-            updateSchemaEntry.getId(),
-            callback,
-            logicalTime);
-      } catch (Exception e) {
-        if (!callbackTriggered.get()) {
-          callback.onCompletion(null, e);
-        }
-        throw e;
-      }
-
-      try {
-        completableFuture.get();
-      } catch (InterruptedException | ExecutionException e) {
-        throw new VeniceException(e);
-      }
-
-      return DURABLE_WRITE;
-    }, producerExecutor);
+      return new PreparedWrite(
+          keyBytes.length + updateBytes.length,
+          "Failed to write the partial update record to the PubSub system",
+          callback -> veniceWriter.update(
+              keyBytes,
+              updateBytes,
+              updateSchemaEntry.getValueSchemaID(),
+              updateSchemaEntry.getId(),
+              callback,
+              logicalTime));
+    });
   }
 
   /**
@@ -433,6 +487,8 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
   @Override
   public void close() throws IOException {
     closed = true;
+    // Flush the writes which are still lingering in the current batch before tearing down the writer
+    Utils.closeQuietlyWithErrorLogged(batchAccumulator);
     if (producerExecutor != null) {
       producerExecutor.shutdownNow();
       try {
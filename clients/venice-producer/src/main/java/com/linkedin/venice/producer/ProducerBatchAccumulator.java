@@ -0,0 +1,220 @@
+package com.linkedin.venice.producer;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.LatencyUtils;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Accumulates the writes of the online producer and hands them over to the PubSub writer in batches.
+ *
+ * A batch is closed when either the linger time has elapsed since its first write was appended, or it holds the
+ * configured maximum number of writes. Each closed batch is then prepared (schema resolved, key and value serialized)
+ * by a single task on the producer thread pool, so that neither the callers nor the sender thread block on schema
+ * lookups, and there is one executor hop per batch instead of one per write. Several batches can be prepared
+ * concurrently, but they are sent in the order they were closed, and the writes of a batch in the order they were
+ * appended, so the relative order of writes to the same key is preserved. Each write completes its own future through
+ * its producer callback, so batching is transparent to callers of {@link VeniceProducer}.
+ */
+class ProducerBatchAccumulator implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(ProducerBatchAccumulator.class);
+
+  /**
+   * A write which is prepared and sent as part of a batch.
+   */
+  interface BatchedWrite {
+    /**
+     * Resolves the schema and serializes the write, or fails it.
+     *
+     * @return whether the write is ready to be sent.
+     */
+    boolean prepare();
+
+    /**
+     * @return the size of the serialized key and value, once prepared.
+     */
+    int getSerializedSize();
+
+    void send();
+
+    void fail(Throwable t);
+  }
+
+  private final long lingerNs;
+  private final int maxBatchSize;
+  private final Executor preparationExecutor;
+  private final VeniceProducerMetrics producerMetrics;
+  private final ExecutorService senderExecutor;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition batchReady = lock.newCondition();
+
+  private List<BatchedWrite> currentBatch = new ArrayList<>();
+  private long currentBatchStartNs = 0;
+  private volatile boolean closed = false;
+  /**
+   * Completed once the last closed batch has been sent, only updated by the sender thread.
+   */
+  private volatile CompletableFuture<Void> lastBatchSent = CompletableFuture.completedFuture(null);
+
+  ProducerBatchAccumulator(
+      String storeName,
+      long lingerMs,
+      int maxBatchSize,
+      Executor preparationExecutor,
+      VeniceProducerMetrics producerMetrics) {
+    this.lingerNs = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+    this.maxBatchSize = maxBatchSize;
+    this.preparationExecutor = preparationExecutor;
+    this.producerMetrics = producerMetrics;
+    this.senderExecutor =
+        Executors.newSingleThreadExecutor(new DaemonThreadFactory("ClientProducerBatchSender-" + storeName));
+    this.senderExecutor.submit(this::runSendLoop);
+  }
+
+  void append(BatchedWrite write) {
+    lock.lock();
+    try {
+      if (closed) {
+        throw new VeniceException("Producer is already closed. New requests are not accepted.");
+      }
+      if (currentBatch.isEmpty()) {
+        currentBatchStartNs = System.nanoTime();
+      }
+      currentBatch.add(write);
+      if (currentBatch.size() == 1 || currentBatch.size() >= maxBatchSize) {
+        batchReady.signal();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void runSendLoop() {
+    while (true) {
+      List<BatchedWrite> batch;
+      double lingerLatencyMs;
+      lock.lock();
+      try {
+        while (!closed && !isCurrentBatchReady()) {
+          if (currentBatch.isEmpty()) {
+            batchReady.await();
+          } else {
+            batchReady.awaitNanos(lingerNs - (System.nanoTime() - currentBatchStartNs));
+          }
+        }
+        if (currentBatch.isEmpty()) {
+          // Only possible once closed, since a non-empty batch is always drained first.
+          return;
+        }
+        batch = currentBatch;
+        lingerLatencyMs = LatencyUtils.getLatencyInMS(currentBatchStartNs);
+        currentBatch = new ArrayList<>(batch.size());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        failPendingWrites(e);
+        return;
+      } finally {
+        lock.unlock();
+      }
+
+      CompletableFuture<List<BatchedWrite>> preparedBatch;
+      try {
+        preparedBatch = CompletableFuture.supplyAsync(() -> prepareBatch(batch, lingerLatencyMs), preparationExecutor);
+      } catch (Exception e) {
+        failWrites(batch, e);
+        continue;
+      }
+      lastBatchSent = lastBatchSent.thenCompose(ignored -> preparedBatch).handle((preparedWrites, e) -> {
+        if (e != null) {
+          failWrites(batch, e);
+        } else {
+          sendBatch(preparedWrites);
+        }
+        return null;
+      });
+    }
+  }
+
+  private List<BatchedWrite> prepareBatch(List<BatchedWrite> batch, double lingerLatencyMs) {
+    List<BatchedWrite> preparedWrites = new ArrayList<>(batch.size());
+    int batchSizeInBytes = 0;
+    for (BatchedWrite write: batch) {
+      // A write which fails to be prepared completes its own future exceptionally
+      if (write.prepare()) {
+        preparedWrites.add(write);
+        batchSizeInBytes += write.getSerializedSize();
+      }
+    }
+    producerMetrics.recordBatch(batch.size(), batchSizeInBytes, lingerLatencyMs);
+    return preparedWrites;
+  }
+
+  private void sendBatch(List<BatchedWrite> preparedWrites) {
+    for (BatchedWrite write: preparedWrites) {
+      try {
+        write.send();
+      } catch (Throwable t) {
+        // The write has already completed its own future exceptionally; keep sending the rest of the batch.
+        LOGGER.debug("Failed to send a batched write", t);
+      }
+    }
+  }
+
+  private boolean isCurrentBatchReady() {
+    return !currentBatch.isEmpty()
+        && (currentBatch.size() >= maxBatchSize || System.nanoTime() - currentBatchStartNs >= lingerNs);
+  }
+
+  private void failPendingWrites(Throwable t) {
+    failWrites(currentBatch, t);
+    currentBatch.clear();
+  }
+
+  private static void failWrites(List<BatchedWrite> writes, Throwable t) {
+    for (BatchedWrite write: writes) {
+      write.fail(t);
+    }
+  }
+
+  /**
+   * Prepares and sends all the writes which have already been appended, and then stops the sender thread. The
+   * preparation executor must not be shut down before this returns.
+   */
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      closed = true;
+      batchReady.signal();
+    } finally {
+      lock.unlock();
+    }
+    senderExecutor.shutdown();
+    try {
+      if (!senderExecutor.awaitTermination(60, TimeUnit.SECONDS)) {
+        senderExecutor.shutdownNow();
+      }
+      // The sender thread has exited, so the last batch can be read safely
+      lastBatchSent.get(60, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      LOGGER.warn("Caught InterruptedException while waiting for the producer batch sender to finish", e);
+      senderExecutor.shutdownNow();
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      LOGGER.warn("Failed to wait for the last batch of the producer to be sent", e);
+    }
+  }
+}
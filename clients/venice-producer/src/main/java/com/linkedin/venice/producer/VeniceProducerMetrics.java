@@ -4,6 +4,7 @@ import com.linkedin.venice.stats.AbstractVeniceStats;
 import com.linkedin.venice.stats.TehutiUtils;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
 import io.tehuti.metrics.stats.Max;
 import io.tehuti.metrics.stats.Min;
 import io.tehuti.metrics.stats.OccurrenceRate;
@@ -20,6 +21,9 @@ public class VeniceProducerMetrics extends AbstractVeniceStats {
   private Sensor failedOperationSensor = null;
   private Sensor produceLatencySensor = null;
   private Sensor pendingOperationSensor = null;
+  private Sensor batchSizeSensor = null;
+  private Sensor batchSizeInBytesSensor = null;
+  private Sensor batchLingerLatencySensor = null;
 
   private final AtomicInteger pendingOperationCounter = new AtomicInteger(0);
 
@@ -41,6 +45,10 @@ public class VeniceProducerMetrics extends AbstractVeniceStats {
           TehutiUtils.getPercentileStat(getName() + AbstractVeniceStats.DELIMITER + produceLatencySensorName));
 
       pendingOperationSensor = registerSensor("pending_write_operation", new Min(), new Max());
+
+      batchSizeSensor = registerSensor("write_batch_size", new Avg(), new Max());
+      batchSizeInBytesSensor = registerSensor("write_batch_size_in_bytes", new Avg(), new Max());
+      batchLingerLatencySensor = registerSensor("write_batch_linger_latency", new Avg(), new Max());
     } else {
       enableMetrics = false;
     }
@@ -88,4 +96,15 @@ public class VeniceProducerMetrics extends AbstractVeniceStats {
       pendingOperationSensor.record(pendingOperationCounter.decrementAndGet());
     }
   }
+
+  /**
+   * Only recorded when the producer runs in batching mode.
+   */
+  public void recordBatch(int batchSize, int batchSizeInBytes, double lingerLatencyMs) {
+    if (enableMetrics) {
+      batchSizeSensor.record(batchSize);
+      batchSizeInBytesSensor.record(batchSizeInBytes);
+      batchLingerLatencySensor.record(lingerLatencyMs);
+    }
+  }
 }
@@ -1,5 +1,7 @@
 package com.linkedin.venice.producer.online;
 
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_BATCH_LINGER_MS;
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_BATCH_MAX_RECORDS;
 import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_SCHEMA_REFRESH_INTERVAL_SECONDS;
 import static com.linkedin.venice.serialization.avro.AvroProtocolDefinition.KAFKA_MESSAGE_ENVELOPE;
 import static com.linkedin.venice.utils.TestWriteUtils.loadFileAsStringQuietlyWithErrorLogged;
@@ -55,6 +57,7 @@ import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
 import com.linkedin.venice.schema.writecompute.WriteComputeSchemaConverter;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.ObjectMapperFactory;
 import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Time;
@@ -134,6 +137,8 @@ public class OnlineVeniceProducerTest {
   private static final String FAILED_OPERATION_METRIC_NAME = ".test_store--failed_write_operation.OccurrenceRate";
   private static final String MIN_PENDING_OPERATION_METRIC_NAME = ".test_store--pending_write_operation.Min";
   private static final String MAX_PENDING_OPERATION_METRIC_NAME = ".test_store--pending_write_operation.Max";
+  private static final String MAX_BATCH_SIZE_METRIC_NAME = ".test_store--write_batch_size.Max";
+  private static final String MAX_BATCH_SIZE_IN_BYTES_METRIC_NAME = ".test_store--write_batch_size_in_bytes.Max";
 
   @BeforeTest
   public void setUp() {
@@ -687,6 +692,93 @@ public class OnlineVeniceProducerTest {
     }
   }
 
+  @Test
+  public void testBatchedWrites() throws IOException, ExecutionException, InterruptedException {
+    ClientConfig storeClientConfig = configureMocksAndGetStoreConfig(storeName, true);
+
+    MetricsRepository metricsRepository = new MetricsRepository();
+    Properties backendConfigs = new Properties();
+    // Long enough for all the writes below to end up in the same batch
+    backendConfigs.put(CLIENT_PRODUCER_BATCH_LINGER_MS, 500);
+    backendConfigs.put(CLIENT_PRODUCER_BATCH_MAX_RECORDS, 100);
+    try (TestOnlineVeniceProducer producer =
+        new TestOnlineVeniceProducer(storeClientConfig, new VeniceProperties(backendConfigs), metricsRepository)) {
+      CompletableFuture<DurableWrite> putFuture = producer.asyncPut("KEY1", mockValue1);
+      CompletableFuture<DurableWrite> deleteFuture = producer.asyncDelete("KEY2");
+      CompletableFuture<DurableWrite> updateFuture = producer.asyncUpdate("KEY3", updateBuilderObj -> {
+        UpdateBuilder updateBuilder = ((UpdateBuilder) updateBuilderObj);
+        updateBuilder.setNewFieldValue(FIELD_COLOR, "green");
+      });
+      CompletableFuture.allOf(putFuture, deleteFuture, updateFuture).get();
+
+      verify(producer.mockVeniceWriter, times(1)).put(any(), any(), anyInt(), eq(APP_DEFAULT_LOGICAL_TS), any());
+      verify(producer.mockVeniceWriter, times(1)).delete(any(), eq(APP_DEFAULT_LOGICAL_TS), any());
+      verify(producer.mockVeniceWriter, times(1))
+          .update(any(), any(), anyInt(), anyInt(), any(), eq(APP_DEFAULT_LOGICAL_TS));
+
+      Assert.assertTrue(metricsRepository.getMetric(SUCCESS_OPERATION_METRIC_NAME).value() > 0.0);
+      Assert.assertEquals(metricsRepository.getMetric(FAILED_OPERATION_METRIC_NAME).value(), 0.0);
+      Assert.assertEquals(metricsRepository.getMetric(MAX_BATCH_SIZE_METRIC_NAME).value(), 3.0);
+      Assert.assertTrue(metricsRepository.getMetric(MAX_BATCH_SIZE_IN_BYTES_METRIC_NAME).value() > 0.0);
+    }
+  }
+
+  @Test
+  public void testBatchedWritesWithFailedWrite() throws IOException {
+    ClientConfig storeClientConfig = configureMocksAndGetStoreConfig(storeName);
+
+    MetricsRepository metricsRepository = new MetricsRepository();
+    Properties backendConfigs = new Properties();
+    backendConfigs.put(CLIENT_PRODUCER_BATCH_LINGER_MS, 10);
+    try (TestOnlineVeniceProducer producer = new TestOnlineVeniceProducer(
+        storeClientConfig,
+        new VeniceProperties(backendConfigs),
+        metricsRepository,
+        true)) {
+      assertThrowsExceptionFromFuture(VeniceException.class, () -> producer.asyncPut("KEY1", mockValue1).get());
+      assertThrowsExceptionFromFuture(VeniceException.class, () -> producer.asyncDelete("KEY1").get());
+
+      Assert.assertEquals(metricsRepository.getMetric(SUCCESS_OPERATION_METRIC_NAME).value(), 0.0);
+      Assert.assertTrue(metricsRepository.getMetric(FAILED_OPERATION_METRIC_NAME).value() > 0.0);
+    }
+  }
+
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testFailedPreparation(boolean batchingEnabled) throws IOException {
+    ClientConfig storeClientConfig = configureMocksAndGetStoreConfig(storeName, true);
+
+    MetricsRepository metricsRepository = new MetricsRepository();
+    Properties backendConfigs = new Properties();
+    if (batchingEnabled) {
+      backendConfigs.put(CLIENT_PRODUCER_BATCH_LINGER_MS, 10);
+    }
+    Thread callerThread = Thread.currentThread();
+    Set<Thread> preparationThreads = Collections.synchronizedSet(new HashSet<>());
+    try (TestOnlineVeniceProducer producer =
+        new TestOnlineVeniceProducer(storeClientConfig, new VeniceProperties(backendConfigs), metricsRepository)) {
+      assertThrowsExceptionFromFuture(VeniceException.class, () -> producer.asyncPut("KEY1", VALUE_SCHEMA_1).get());
+      // The key schema is a string, so the key fails to be serialized
+      assertThrowsExceptionFromFuture(Exception.class, () -> producer.asyncDelete(10).get());
+      assertThrowsExceptionFromFuture(Exception.class, () -> producer.asyncUpdate("KEY1", updateBuilderObj -> {
+        preparationThreads.add(Thread.currentThread());
+        throw new VeniceException("Failed to build the update");
+      }).get());
+
+      // The writes are prepared on the producer threads, so the callers never block on schema lookups
+      Assert.assertEquals(preparationThreads.size(), 1);
+      Assert.assertFalse(preparationThreads.contains(callerThread));
+      verify(producer.mockVeniceWriter, never()).put(any(), any(), anyInt(), anyLong(), any());
+      verify(producer.mockVeniceWriter, never()).delete(any(), anyLong(), any());
+      verify(producer.mockVeniceWriter, never()).update(any(), any(), anyInt(), anyInt(), any(), anyLong());
+
+      Assert.assertEquals(metricsRepository.getMetric(SUCCESS_OPERATION_METRIC_NAME).value(), 0.0);
+      Assert.assertTrue(metricsRepository.getMetric(FAILED_OPERATION_METRIC_NAME).value() > 0.0);
+      // Each failed write is recorded exactly once, so the pending writes never pile up nor go negative
+      Assert.assertEquals(metricsRepository.getMetric(MIN_PENDING_OPERATION_METRIC_NAME).value(), 0.0);
+      Assert.assertEquals(metricsRepository.getMetric(MAX_PENDING_OPERATION_METRIC_NAME).value(), 1.0);
+    }
+  }
+
   @Test
   public void testOperationsOnClosedProducer() throws IOException {
     ClientConfig storeClientConfig = configureMocksAndGetStoreConfig(storeName);
@@ -14,6 +14,7 @@ import com.linkedin.venice.controllerapi.SchemaResponse;
 import com.linkedin.venice.schema.SchemaData;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.schema.SchemaReader;
+import com.linkedin.venice.schema.SchemaSnapshot;
 import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
 import com.linkedin.venice.service.ICProvider;
 import com.linkedin.venice.utils.AvroSchemaUtils;
@@ -71,6 +72,11 @@ public class RouterBackedSchemaReader implements SchemaReader {
   private final AtomicReference<SchemaEntry> latestValueSchemaEntry = new AtomicReference<>();
   private final AtomicInteger supersetSchemaIdAtomic = new AtomicInteger(SchemaData.INVALID_VALUE_SCHEMA_ID);
   private final AtomicBoolean shouldRefreshLatestValueSchemaEntry = new AtomicBoolean(false);
+  /**
+   * Immutable snapshot of the value and update schemas cached above, republished whenever they change, which serves the
+   * lookups of known schemas with a single volatile read.
+   */
+  private volatile SchemaSnapshot schemaSnapshot = SchemaSnapshot.EMPTY;
   private final String storeName;
   private final InternalAvroStoreClient storeClient;
   private final boolean externalClient;
@@ -185,11 +191,16 @@ public class RouterBackedSchemaReader implements SchemaReader {
 
   @Override
   public Schema getValueSchema(int id) {
-    SchemaEntry valueSchemaEntry = maybeFetchValueSchemaEntryById(id, false);
+    SchemaEntry valueSchemaEntry = schemaSnapshot.getValueSchema(id);
+    if (valueSchemaEntry != null) {
+      return valueSchemaEntry.getSchema();
+    }
+    valueSchemaEntry = maybeFetchValueSchemaEntryById(id, false);
     if (!isValidSchemaEntry(valueSchemaEntry)) {
       LOGGER.warn("Got null value schema from Venice for store: {} and id: {}", storeName, id);
       return null;
     }
+    publishSchemaSnapshot();
     return valueSchemaEntry.getSchema();
   }
 
@@ -226,7 +237,7 @@ public class RouterBackedSchemaReader implements SchemaReader {
 
   @Override
   public Schema getUpdateSchema(int valueSchemaId) {
-    DerivedSchemaEntry updateSchemaEntry = maybeUpdateAndFetchUpdateSchemaEntryById(valueSchemaId, false);
+    DerivedSchemaEntry updateSchemaEntry = getUpdateSchemaEntry(valueSchemaId);
     if (isValidSchemaEntry(updateSchemaEntry)) {
       return updateSchemaEntry.getSchema();
     }
@@ -241,7 +252,7 @@ public class RouterBackedSchemaReader implements SchemaReader {
       LOGGER.warn("Got null latest value schema from Venice for store: {}.", storeName);
       return null;
     }
-    DerivedSchemaEntry updateSchemaEntry = maybeUpdateAndFetchUpdateSchemaEntryById(latestValueSchema.getId(), false);
+    DerivedSchemaEntry updateSchemaEntry = getUpdateSchemaEntry(latestValueSchema.getId());
     if (isValidSchemaEntry(updateSchemaEntry)) {
       return updateSchemaEntry;
     }
@@ -252,6 +263,38 @@ public class RouterBackedSchemaReader implements SchemaReader {
     return null;
   }
 
+  private DerivedSchemaEntry getUpdateSchemaEntry(int valueSchemaId) {
+    DerivedSchemaEntry updateSchemaEntry = schemaSnapshot.getLatestDerivedSchema(valueSchemaId);
+    if (updateSchemaEntry != null) {
+      return updateSchemaEntry;
+    }
+    updateSchemaEntry = maybeUpdateAndFetchUpdateSchemaEntryById(valueSchemaId, false);
+    if (isValidSchemaEntry(updateSchemaEntry)) {
+      publishSchemaSnapshot();
+    }
+    return updateSchemaEntry;
+  }
+
+  /**
+   * Rebuilds {@link #schemaSnapshot} from the cached schemas. It must be called after they change, but never from
+   * within a {@link Map#computeIfAbsent} function of the cached schema maps, which it iterates.
+   */
+  private synchronized void publishSchemaSnapshot() {
+    SchemaSnapshot.Builder builder = new SchemaSnapshot.Builder();
+    for (SchemaEntry valueSchemaEntry: valueSchemaEntryMap.values()) {
+      if (isValidSchemaEntry(valueSchemaEntry)) {
+        builder.addValueSchema(valueSchemaEntry);
+      }
+    }
+    for (DerivedSchemaEntry updateSchemaEntry: valueSchemaIdToUpdateSchemaEntryMap.values()) {
+      if (isValidSchemaEntry(updateSchemaEntry)) {
+        builder.addDerivedSchema(updateSchemaEntry);
+      }
+    }
+    builder.setLatestValueSchema(latestValueSchemaEntry.get());
+    schemaSnapshot = builder.build();
+  }
+
   @Override
   public void close() throws IOException {
     if (schemaRefreshFuture != null) {
@@ -417,6 +460,7 @@ public class RouterBackedSchemaReader implements SchemaReader {
         || latestSchemaId > latestValueSchemaEntry.get().getId()) {
       latestValueSchemaEntry.set(valueSchemaEntryMap.get(latestSchemaId));
     }
+    publishSchemaSnapshot();
   }
 
   private SchemaEntry maybeFetchLatestValueSchemaEntry() {
@@ -679,6 +723,7 @@ public class RouterBackedSchemaReader implements SchemaReader {
     updateAllValueSchemaEntriesAndLatestValueSchemaEntry(true);
     if (!valueSchemaIdToUpdateSchemaEntryMap.isEmpty()) {
       updateAllUpdateSchemas();
+      publishSchemaSnapshot();
     }
   }
 
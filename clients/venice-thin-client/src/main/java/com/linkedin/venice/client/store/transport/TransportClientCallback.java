@@ -23,8 +23,19 @@ public class TransportClientCallback {
   }
 
   public void completeFuture(int statusCode, int schemaId, CompressionStrategy compressionStrategy, byte[] body) {
+    completeFuture(statusCode, schemaId, compressionStrategy, body, null);
+  }
+
+  public void completeFuture(
+      int statusCode,
+      int schemaId,
+      CompressionStrategy compressionStrategy,
+      byte[] body,
+      String readTrace) {
     if ((statusCode < 300 && statusCode >= 200)) {
-      valueFuture.complete(new TransportClientResponse(schemaId, compressionStrategy, body));
+      TransportClientResponse response = new TransportClientResponse(schemaId, compressionStrategy, body);
+      response.setReadTrace(readTrace);
+      valueFuture.complete(response);
     } else if (statusCode == HttpStatus.SC_NOT_FOUND) {
       valueFuture.complete(null);
     } else {
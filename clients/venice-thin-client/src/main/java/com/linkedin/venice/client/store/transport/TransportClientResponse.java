@@ -12,6 +12,7 @@ public class TransportClientResponse {
   private int schemaId;
   private CompressionStrategy compressionStrategy;
   private byte[] body;
+  private String readTrace = null;
 
   public TransportClientResponse(int schemaId, CompressionStrategy compressionStrategy, byte[] body) {
     this.schemaId = schemaId;
@@ -31,6 +32,18 @@ public class TransportClientResponse {
     return this.body;
   }
 
+  /**
+   * @return the {@link com.linkedin.venice.HttpConstants#VENICE_READ_TRACE} header of the response, if the request
+   *         asked for it, or null otherwise.
+   */
+  public String getReadTrace() {
+    return readTrace;
+  }
+
+  public void setReadTrace(String readTrace) {
+    this.readTrace = readTrace;
+  }
+
   public boolean isSchemaIdValid() {
     return schemaId != SchemaData.INVALID_VALUE_SCHEMA_ID;
   }
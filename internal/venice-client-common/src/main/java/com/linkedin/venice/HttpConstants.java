@@ -23,6 +23,10 @@ public class HttpConstants {
   public static final String VENICE_RETRY = "X-VENICE-RETRY";
 
   public static final String VENICE_COMPRESSION_STRATEGY = "X-VENICE-COMPRESSION-STRATEGY";
+  /**
+   * The compression strategies a client can decompress, as a comma-separated list of their values. Router passes the
+   * responses compressed with any of them through as is, and decompresses the other ones.
+   */
   public static final String VENICE_SUPPORTED_COMPRESSION_STRATEGY = "X-VENICE-SUPPORTED-COMPRESSION-STRATEGY";
 
   public static final String VENICE_STREAMING = "X-VENICE-STREAMING";
@@ -36,6 +40,12 @@ public class HttpConstants {
 
   public static final String VENICE_CLIENT_COMPUTE = "X-VENICE-CLIENT-COMPUTE";
 
+  /**
+   * Asks the storage nodes to trace a read request, and carries the trace back in the response, see
+   * {@link com.linkedin.venice.read.ReadTrace}.
+   */
+  public static final String VENICE_READ_TRACE = "X-VENICE-READ-TRACE";
+
   public static final int SC_MISDIRECTED_REQUEST = 421;
 
   private HttpConstants() {
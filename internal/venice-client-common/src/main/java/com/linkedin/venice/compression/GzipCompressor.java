@@ -90,23 +90,32 @@ public class GzipCompressor extends VeniceCompressor {
 
   @Override
   public ByteBuffer decompress(byte[] data, int offset, int length) throws IOException {
-    try (InputStream gis = decompress(new ByteArrayInputStream(data, offset, length))) {
-      return ByteBuffer.wrap(IOUtils.toByteArray(gis));
-    }
+    return ByteBuffer.wrap(decompressToByteArray(data, offset, length));
   }
 
   @Override
   public ByteBuffer decompressAndPrependSchemaHeader(byte[] data, int offset, int length, int schemaHeader)
       throws IOException {
-    byte[] decompressedByteArray;
+    byte[] decompressedByteArray = decompressToByteArray(data, offset, length);
+    ByteBuffer byteBufferWithHeader = ByteBuffer.allocate(SCHEMA_HEADER_LENGTH + decompressedByteArray.length)
+        .putInt(schemaHeader)
+        .put(decompressedByteArray);
+    byteBufferWithHeader.limit(byteBufferWithHeader.position());
+    byteBufferWithHeader.position(SCHEMA_HEADER_LENGTH);
+    return byteBufferWithHeader;
+  }
+
+  /**
+   * Single member payloads, which is what this compressor writes, go through the inflater pooled per thread, and any
+   * other payload through a new {@link GZIPInputStream}.
+   */
+  private byte[] decompressToByteArray(byte[] data, int offset, int length) throws IOException {
+    byte[] decompressed = gzipPool.getReusableGzipInflater().inflate(data, offset, length);
+    if (decompressed != null) {
+      return decompressed;
+    }
     try (InputStream gis = decompress(new ByteArrayInputStream(data, offset, length))) {
-      decompressedByteArray = IOUtils.toByteArray(gis);
-      ByteBuffer byteBufferWithHeader = ByteBuffer.allocate(SCHEMA_HEADER_LENGTH + decompressedByteArray.length)
-          .putInt(schemaHeader)
-          .put(decompressedByteArray);
-      byteBufferWithHeader.limit(byteBufferWithHeader.position());
-      byteBufferWithHeader.position(SCHEMA_HEADER_LENGTH);
-      return byteBufferWithHeader;
+      return IOUtils.toByteArray(gis);
     }
   }
 
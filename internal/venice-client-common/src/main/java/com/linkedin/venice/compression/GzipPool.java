@@ -14,11 +14,13 @@ class GzipPool implements AutoCloseable {
   private static class ReusableObjects implements AutoCloseable {
     final ByteArrayOutputStream stream = new ByteArrayOutputStream();
     final ReusableGzipOutputStream gzipOutputStream = new ReusableGzipOutputStream(stream);
+    final ReusableGzipInflater gzipInflater = new ReusableGzipInflater();
 
     @Override
     public void close() throws Exception {
       stream.close();
       gzipOutputStream.close();
+      gzipInflater.close();
     }
   }
 
@@ -33,4 +35,11 @@ class GzipPool implements AutoCloseable {
     ReusableObjects reusableObjects = reusableObjectsThreadLocal.get();
     return reusableObjects.gzipOutputStream;
   }
+
+  /**
+   * Retrieves a {@link ReusableGzipInflater}. Instances are pooled per thread.
+   */
+  public ReusableGzipInflater getReusableGzipInflater() {
+    return reusableObjectsThreadLocal.get().gzipInflater;
+  }
 }
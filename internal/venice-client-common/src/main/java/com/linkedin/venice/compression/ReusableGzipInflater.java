@@ -0,0 +1,145 @@
+package com.linkedin.venice.compression;
+
+import java.io.IOException;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+
+/**
+ * This class decompresses data in the GZIP file format. It's the counterpart of {@link ReusableGzipOutputStream}:
+ * <ul>
+ * <li>The inflater is reset and reused, instead of being created along with its native memory by each
+ * {@link java.util.zip.GZIPInputStream}</li>
+ * <li>The uncompressed data is inflated straight into an array of the size recorded in the GZIP trailer, as long as
+ * that size is within what the compressed data can possibly inflate to</li>
+ * </ul>
+ * Only data made of a single GZIP member, which is what {@link ReusableGzipOutputStream} writes, is supported; anything
+ * else is left to {@link java.util.zip.GZIPInputStream}.
+ */
+class ReusableGzipInflater implements AutoCloseable {
+  /*
+   * GZIP header magic number.
+   */
+  private static final int GZIP_MAGIC = 0x8b1f;
+
+  private static final int HEADER_SIZE = 10;
+  private static final int TRAILER_SIZE = 8;
+
+  /*
+   * The maximum compression ratio of the deflate format, which bounds the size that the trailer can honestly claim.
+   */
+  private static final long MAX_DEFLATE_RATIO = 1032;
+
+  /*
+   * File header flags.
+   */
+  private static final int FHCRC = 2;
+  private static final int FEXTRA = 4;
+  private static final int FNAME = 8;
+  private static final int FCOMMENT = 16;
+
+  private final Inflater inflater = new Inflater(true);
+  private final CRC32 crc = new CRC32();
+  private final byte[] overflow = new byte[1];
+
+  /**
+   * @return the uncompressed data, or null if the data is not made of a single GZIP member, or if its trailer claims an
+   *         uncompressed size that cannot be trusted.
+   * @exception ZipException if the compressed data is corrupt.
+   */
+  byte[] inflate(byte[] data, int offset, int length) throws IOException {
+    int end = offset + length;
+    if (length < HEADER_SIZE + TRAILER_SIZE || readUnsignedShort(data, offset) != GZIP_MAGIC
+        || data[offset + 2] != Deflater.DEFLATED) {
+      return null;
+    }
+    int flags = data[offset + 3] & 0xff;
+    int trailerOffset = end - TRAILER_SIZE;
+    int index = offset + HEADER_SIZE;
+    if ((flags & FEXTRA) != 0) {
+      if (index + 2 > trailerOffset) {
+        return null;
+      }
+      index += 2 + readUnsignedShort(data, index);
+    }
+    if ((flags & FNAME) != 0) {
+      index = skipZeroTerminatedString(data, index, trailerOffset);
+    }
+    if ((flags & FCOMMENT) != 0) {
+      index = skipZeroTerminatedString(data, index, trailerOffset);
+    }
+    if ((flags & FHCRC) != 0) {
+      index += 2;
+    }
+    int uncompressedSize = readInt(data, trailerOffset + 4);
+    if (index > trailerOffset || uncompressedSize < 0) {
+      return null;
+    }
+    // The trailer is only verified after inflating, so a corrupt or hostile one must not dictate the allocation
+    if (uncompressedSize > (trailerOffset - index) * MAX_DEFLATE_RATIO) {
+      return null;
+    }
+
+    byte[] output = new byte[uncompressedSize];
+    inflater.reset();
+    try {
+      inflater.setInput(data, index, trailerOffset - index);
+      int inflated = 0;
+      while (inflated < uncompressedSize) {
+        int count = inflater.inflate(output, inflated, uncompressedSize - inflated);
+        if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+        inflated += count;
+      }
+      // Make sure the end of the deflate stream has been reached, and that nothing is left after it
+      if (inflated != uncompressedSize || inflater.inflate(overflow, 0, 1) != 0 || !inflater.finished()
+          || inflater.getRemaining() != 0) {
+        return null;
+      }
+    } catch (DataFormatException e) {
+      String message = e.getMessage();
+      throw new ZipException(message != null ? message : "Invalid ZLIB data format");
+    }
+
+    crc.reset();
+    crc.update(output, 0, uncompressedSize);
+    if ((int) crc.getValue() != readInt(data, trailerOffset)) {
+      throw new ZipException("Corrupt GZIP trailer");
+    }
+    return output;
+  }
+
+  /**
+   * @return the index right after the end of the string, or an index past the limit if the string is not terminated.
+   */
+  private static int skipZeroTerminatedString(byte[] data, int index, int limit) {
+    int current = index;
+    while (current < limit && data[current] != 0) {
+      current++;
+    }
+    return current + 1;
+  }
+
+  /*
+   * Reads unsigned short in Intel byte order.
+   */
+  private static int readUnsignedShort(byte[] data, int offset) {
+    return (data[offset] & 0xff) | ((data[offset + 1] & 0xff) << 8);
+  }
+
+  /*
+   * Reads integer in Intel byte order.
+   */
+  private static int readInt(byte[] data, int offset) {
+    return readUnsignedShort(data, offset) | (readUnsignedShort(data, offset + 2) << 16);
+  }
+
+  @Override
+  public void close() {
+    inflater.end();
+  }
+}
@@ -53,8 +53,21 @@ public class DefaultVenicePartitioner extends VenicePartitioner {
   }
 
   public int getPartitionId(byte[] keyBytes, int offset, int length, int numPartitions) {
+    return getPartitionId(partitionerState.get(), keyBytes, offset, length, numPartitions);
+  }
+
+  /**
+   * Looks up the thread-local state once for the whole batch.
+   */
+  @Override
+  public void getPartitionIds(byte[][] keys, int numPartitions, int[] partitionIds) {
     PartitionerState ps = partitionerState.get();
+    for (int i = 0; i < keys.length; i++) {
+      partitionIds[i] = getPartitionId(ps, keys[i], 0, keys[i].length, numPartitions);
+    }
+  }
 
+  private static int getPartitionId(PartitionerState ps, byte[] keyBytes, int offset, int length, int numPartitions) {
     ps.md.update(keyBytes, offset, length);
     try {
       ps.digestSize = ps.md.digest(ps.digestOutput, 0, ps.digestOutput.length);
@@ -56,6 +56,20 @@ public abstract class VenicePartitioner {
 
   public abstract int getPartitionId(ByteBuffer keyByteBuffer, int numPartitions);
 
+  /**
+   * Computes the partitions of a batch of keys in one call. Implementors of this class can optionally override it to
+   * amortize their per-key overhead over the whole batch.
+   *
+   * @param keys          - The keys that will be mapped into partitions
+   * @param numPartitions - The number of total partitions available in Kafka/storage
+   * @param partitionIds  - The array to populate with the partition of each key, at the same index as the key
+   */
+  public void getPartitionIds(byte[][] keys, int numPartitions, int[] partitionIds) {
+    for (int i = 0; i < keys.length; i++) {
+      partitionIds[i] = getPartitionId(keys[i], numPartitions);
+    }
+  }
+
   /**
    * Implementors of this class can optionally provide an implementation of this function,
    * which can perform validation of schemas to be certain that they are compatible with the
@@ -0,0 +1,192 @@
+package com.linkedin.venice.read;
+
+import com.linkedin.venice.HttpConstants;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * The time spent by a storage node in each {@link Stage} of the read path of a request, which a client can ask for by
+ * sending the {@link HttpConstants#VENICE_READ_TRACE} header with any value.
+ *
+ * The storage node sends the trace back in the same response header, as "stage=latencyInMs" pairs separated by ';',
+ * e.g. "queue=0.012;lookup=0.3;serialize=0.021", in the order of the stages and only for the stages the request went
+ * through. The stages do not overlap. The router tags the trace of each storage node with a "host" pair, and joins the
+ * traces of the storage nodes a request was scattered to with ','. The unknown pairs are ignored when parsing, so that
+ * stages can be added without breaking the older clients.
+ *
+ * The latencies of a trace can be added concurrently, e.g. by the chunks of a batch get looked up in parallel.
+ */
+public class ReadTrace {
+  public enum Stage {
+    /** The wait in the queue of the read executor */
+    QUEUE("queue"),
+    /** The enforcement of the read quota */
+    QUOTA("quota"),
+    /** The lookups in the storage engine, except the ones of the chunks of large values */
+    LOOKUP("lookup"),
+    /** The lookups and the assembly of the chunks of large values */
+    CHUNK_ASSEMBLY("chunk"),
+    /** The decompression of the values read by compute requests */
+    DECOMPRESSION("decompress"),
+    /** The deserialization of the values read by compute requests */
+    DESERIALIZATION("deserialize"),
+    /** The computation of the results of compute requests */
+    COMPUTE("compute"),
+    /** The serialization of the results of compute requests and of the response */
+    SERIALIZATION("serialize");
+
+    private final String name;
+
+    Stage(String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+  }
+
+  public static final String HOST = "host";
+  private static final char PAIR_SEPARATOR = ';';
+  private static final char NAME_VALUE_SEPARATOR = '=';
+  private static final char TRACE_SEPARATOR = ',';
+  private static final Stage[] STAGES = Stage.values();
+  private static final double NOT_TRACED = -1;
+
+  private final double[] latenciesInMs = new double[STAGES.length];
+  private String host = null;
+
+  public ReadTrace() {
+    for (int i = 0; i < STAGES.length; i++) {
+      latenciesInMs[i] = NOT_TRACED;
+    }
+  }
+
+  /**
+   * Adds the given latency to the stage, so that the stages which run once per key add up over a multi-key request.
+   * Negative latencies are ignored.
+   */
+  public synchronized void add(Stage stage, double latencyInMs) {
+    if (latencyInMs < 0) {
+      return;
+    }
+    int i = stage.ordinal();
+    latenciesInMs[i] = latenciesInMs[i] == NOT_TRACED ? latencyInMs : latenciesInMs[i] + latencyInMs;
+  }
+
+  /**
+   * @return the latency of the stage, or a negative value if the request did not go through it.
+   */
+  public synchronized double get(Stage stage) {
+    return latenciesInMs[stage.ordinal()];
+  }
+
+  /**
+   * @return the storage node which sent the trace, if the trace went through a router, or null otherwise.
+   */
+  public String getHost() {
+    return host;
+  }
+
+  public synchronized String toHeaderValue() {
+    StringBuilder builder = new StringBuilder();
+    if (host != null) {
+      builder.append(HOST).append(NAME_VALUE_SEPARATOR).append(host);
+    }
+    for (Stage stage: STAGES) {
+      double latencyInMs = latenciesInMs[stage.ordinal()];
+      if (latencyInMs == NOT_TRACED) {
+        continue;
+      }
+      if (builder.length() > 0) {
+        builder.append(PAIR_SEPARATOR);
+      }
+      // Microsecond precision is plenty, and keeps the header short
+      builder.append(stage.getName()).append(NAME_VALUE_SEPARATOR).append(Math.round(latencyInMs * 1000) / 1000.0D);
+    }
+    return builder.toString();
+  }
+
+  @Override
+  public String toString() {
+    return toHeaderValue();
+  }
+
+  /**
+   * @return the header value of a storage node trace tagged with the storage node which sent it.
+   */
+  public static String tagWithHost(String headerValue, String host) {
+    if (headerValue.isEmpty()) {
+      return HOST + NAME_VALUE_SEPARATOR + host;
+    }
+    return HOST + NAME_VALUE_SEPARATOR + host + PAIR_SEPARATOR + headerValue;
+  }
+
+  /**
+   * @return the header value carrying all the given header values, e.g. the ones of the storage nodes a multi-key
+   *         request was scattered to.
+   */
+  public static String join(List<String> headerValues) {
+    StringBuilder builder = new StringBuilder();
+    for (String headerValue: headerValues) {
+      if (builder.length() > 0) {
+        builder.append(TRACE_SEPARATOR);
+      }
+      builder.append(headerValue);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * @return the traces carried by the given header value, in the order they were joined.
+   */
+  public static List<ReadTrace> parseAll(String headerValue) {
+    List<ReadTrace> traces = new ArrayList<>();
+    if (headerValue == null || headerValue.isEmpty()) {
+      return traces;
+    }
+    for (String trace: headerValue.split(String.valueOf(TRACE_SEPARATOR))) {
+      traces.add(parse(trace));
+    }
+    return traces;
+  }
+
+  /**
+   * @return the single trace carried by the given header value, ignoring the malformed and unknown pairs.
+   */
+  public static ReadTrace parse(String headerValue) {
+    ReadTrace trace = new ReadTrace();
+    for (String pair: headerValue.split(String.valueOf(PAIR_SEPARATOR))) {
+      int separatorIndex = pair.indexOf(NAME_VALUE_SEPARATOR);
+      if (separatorIndex < 0) {
+        continue;
+      }
+      String name = pair.substring(0, separatorIndex).trim();
+      String value = pair.substring(separatorIndex + 1).trim();
+      if (name.equals(HOST)) {
+        trace.host = value;
+        continue;
+      }
+      Stage stage = getStage(name);
+      if (stage == null) {
+        continue;
+      }
+      try {
+        trace.add(stage, Double.parseDouble(value));
+      } catch (NumberFormatException e) {
+        // The trace is only informational, so a malformed latency is not worth failing the request for
+      }
+    }
+    return trace;
+  }
+
+  private static Stage getStage(String name) {
+    for (Stage stage: STAGES) {
+      if (stage.getName().equals(name)) {
+        return stage;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,162 @@
+package com.linkedin.venice.schema;
+
+import com.linkedin.venice.schema.rmd.RmdSchemaEntry;
+import com.linkedin.venice.schema.rmd.RmdVersionId;
+import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * An immutable view of the schemas of a store, meant to be published through a single volatile reference, so that
+ * schema lookups on the read path need neither locks nor concurrent maps. Writers keep the mutable state, such as
+ * {@link SchemaData}, and publish a new snapshot whenever it changes.
+ *
+ * Value schemas and the latest update schemas are indexed by value schema id in arrays, since the ids are small and
+ * dense.
+ */
+public final class SchemaSnapshot {
+  public static final SchemaSnapshot EMPTY = new Builder().build();
+
+  private final SchemaEntry keySchema;
+  private final SchemaEntry[] valueSchemas;
+  private final SchemaEntry latestValueSchema;
+  private final DerivedSchemaEntry[] latestDerivedSchemas;
+  private final Map<GeneratedSchemaID, DerivedSchemaEntry> derivedSchemas;
+  private final Map<RmdVersionId, RmdSchemaEntry> rmdSchemas;
+
+  private SchemaSnapshot(
+      SchemaEntry keySchema,
+      SchemaEntry[] valueSchemas,
+      SchemaEntry latestValueSchema,
+      DerivedSchemaEntry[] latestDerivedSchemas,
+      Map<GeneratedSchemaID, DerivedSchemaEntry> derivedSchemas,
+      Map<RmdVersionId, RmdSchemaEntry> rmdSchemas) {
+    this.keySchema = keySchema;
+    this.valueSchemas = valueSchemas;
+    this.latestValueSchema = latestValueSchema;
+    this.latestDerivedSchemas = latestDerivedSchemas;
+    this.derivedSchemas = derivedSchemas;
+    this.rmdSchemas = rmdSchemas;
+  }
+
+  /**
+   * @return a snapshot of the current content of the given {@link SchemaData}, whose latest value schema is the one
+   *         with the highest id.
+   */
+  public static SchemaSnapshot of(SchemaData schemaData) {
+    Builder builder = new Builder().setKeySchema(schemaData.getKeySchema());
+    schemaData.getValueSchemas().forEach(builder::addValueSchema);
+    schemaData.getDerivedSchemas().forEach(builder::addDerivedSchema);
+    schemaData.getReplicationMetadataSchemas().forEach(builder::addRmdSchema);
+    return builder.build();
+  }
+
+  /**
+   * @return the key schema, or null if it is not known.
+   */
+  public SchemaEntry getKeySchema() {
+    return keySchema;
+  }
+
+  /**
+   * @return the value schema with the given id, or null if it is not known.
+   */
+  public SchemaEntry getValueSchema(int id) {
+    return id >= 0 && id < valueSchemas.length ? valueSchemas[id] : null;
+  }
+
+  /**
+   * @return the latest value schema, or null if no value schema is known.
+   */
+  public SchemaEntry getLatestValueSchema() {
+    return latestValueSchema;
+  }
+
+  public DerivedSchemaEntry getDerivedSchema(int valueSchemaId, int derivedSchemaId) {
+    return derivedSchemas.get(new GeneratedSchemaID(valueSchemaId, derivedSchemaId));
+  }
+
+  /**
+   * @return the update schema with the highest derived schema id for the given value schema, or null if there is none.
+   */
+  public DerivedSchemaEntry getLatestDerivedSchema(int valueSchemaId) {
+    return valueSchemaId >= 0 && valueSchemaId < latestDerivedSchemas.length
+        ? latestDerivedSchemas[valueSchemaId]
+        : null;
+  }
+
+  public RmdSchemaEntry getRmdSchema(int valueSchemaId, int rmdVersionId) {
+    return rmdSchemas.get(new RmdVersionId(valueSchemaId, rmdVersionId));
+  }
+
+  public static class Builder {
+    private SchemaEntry keySchema;
+    private SchemaEntry[] valueSchemas = new SchemaEntry[0];
+    private SchemaEntry latestValueSchema;
+    private DerivedSchemaEntry[] latestDerivedSchemas = new DerivedSchemaEntry[0];
+    private final Map<GeneratedSchemaID, DerivedSchemaEntry> derivedSchemas = new HashMap<>();
+    private final Map<RmdVersionId, RmdSchemaEntry> rmdSchemas = new HashMap<>();
+
+    public Builder setKeySchema(SchemaEntry keySchema) {
+      this.keySchema = keySchema;
+      return this;
+    }
+
+    public Builder addValueSchema(SchemaEntry valueSchema) {
+      int id = valueSchema.getId();
+      if (id < 0) {
+        return this;
+      }
+      if (id >= valueSchemas.length) {
+        valueSchemas = Arrays.copyOf(valueSchemas, id + 1);
+      }
+      valueSchemas[id] = valueSchema;
+      return this;
+    }
+
+    /**
+     * Overrides the latest value schema, which otherwise is the one with the highest id.
+     */
+    public Builder setLatestValueSchema(SchemaEntry latestValueSchema) {
+      this.latestValueSchema = latestValueSchema;
+      return this;
+    }
+
+    public Builder addDerivedSchema(DerivedSchemaEntry derivedSchema) {
+      int valueSchemaId = derivedSchema.getValueSchemaID();
+      if (valueSchemaId < 0) {
+        return this;
+      }
+      derivedSchemas.put(new GeneratedSchemaID(valueSchemaId, derivedSchema.getId()), derivedSchema);
+      if (valueSchemaId >= latestDerivedSchemas.length) {
+        latestDerivedSchemas = Arrays.copyOf(latestDerivedSchemas, valueSchemaId + 1);
+      }
+      DerivedSchemaEntry latestDerivedSchema = latestDerivedSchemas[valueSchemaId];
+      if (latestDerivedSchema == null || latestDerivedSchema.getId() < derivedSchema.getId()) {
+        latestDerivedSchemas[valueSchemaId] = derivedSchema;
+      }
+      return this;
+    }
+
+    public Builder addRmdSchema(RmdSchemaEntry rmdSchema) {
+      rmdSchemas.put(new RmdVersionId(rmdSchema.getValueSchemaID(), rmdSchema.getId()), rmdSchema);
+      return this;
+    }
+
+    public SchemaSnapshot build() {
+      SchemaEntry latest = latestValueSchema;
+      for (int id = valueSchemas.length - 1; latest == null && id >= 0; id--) {
+        latest = valueSchemas[id];
+      }
+      return new SchemaSnapshot(
+          keySchema,
+          valueSchemas.clone(),
+          latest,
+          latestDerivedSchemas.clone(),
+          new HashMap<>(derivedSchemas),
+          new HashMap<>(rmdSchemas));
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.linkedin.venice.stats;
 
 import static com.linkedin.venice.stats.AbstractVeniceAggStats.STORE_NAME_FOR_TOTAL_STAT;
 
+import com.linkedin.venice.utils.SystemTime;
 import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.metrics.MeasurableStat;
@@ -27,6 +28,7 @@ public class AbstractVeniceStats {
   private final MetricsRepository metricsRepository;
   private final String name;
   private final Map<String, Sensor> sensors;
+  private final Map<String, ConcurrentHistogram> concurrentHistograms;
   private final boolean isTotalStats;
 
   public AbstractVeniceStats(MetricsRepository metricsRepository, String name) {
@@ -35,6 +37,7 @@ public class AbstractVeniceStats {
     // name and attribute name, so they cause issues if we let them slip in...
     this.name = name.replace(':', '_').replace(".", "_");
     this.sensors = new VeniceConcurrentHashMap<>();
+    this.concurrentHistograms = new VeniceConcurrentHashMap<>();
     // the name of total stats is usually "total" but for kafka consumer service, it is
     // "total_kafka_consumer_service_for_<region>"
     this.isTotalStats = name.equals(STORE_NAME_FOR_TOTAL_STAT) || name.startsWith(STORE_NAME_FOR_TOTAL_STAT + "_");
@@ -223,6 +226,41 @@ public class AbstractVeniceStats {
     }
   }
 
+  protected ConcurrentHistogram registerConcurrentHistogram(String sensorName, double... percentiles) {
+    return registerConcurrentHistogram(sensorName, new SystemTime(), percentiles);
+  }
+
+  /**
+   * Register the avg, max and percentiles of a {@link ConcurrentHistogram}, under the same metric names as the ones of
+   * a sensor registered with {@link TehutiUtils#getPercentileStat(String, int, double, double...)}, {@link Avg} and
+   * {@link Max}, so that hot paths can move from recording the sensor to recording the histogram without altering the
+   * metrics. Registering the same sensor name again returns the histogram registered first, which backs the metrics.
+   *
+   * N.B.: Each thread recording a histogram holds ~5.6KB of buckets for it, see {@link ConcurrentHistogram}, so this is
+   * meant for a handful of hot path sensors recorded by a bounded number of threads, not for per-store sensors.
+   */
+  protected ConcurrentHistogram registerConcurrentHistogram(String sensorName, Time time, double... percentiles) {
+    String fullSensorName = getSensorFullName(sensorName);
+    return concurrentHistograms.computeIfAbsent(fullSensorName, ignored -> {
+      ConcurrentHistogram histogram = new ConcurrentHistogram(time);
+      registerSensorAttributeGauge(
+          sensorName,
+          Avg.class.getSimpleName(),
+          new AsyncGauge((ignored1, ignored2) -> histogram.getSnapshot().getAvg(), fullSensorName));
+      registerSensorAttributeGauge(
+          sensorName,
+          Max.class.getSimpleName(),
+          new AsyncGauge((ignored1, ignored2) -> histogram.getSnapshot().getMax(), fullSensorName));
+      for (double percentile: percentiles) {
+        registerSensorAttributeGauge(
+            sensorName,
+            TehutiUtils.getPercentileAttributeName(percentile),
+            new AsyncGauge((ignored1, ignored2) -> histogram.getSnapshot().getPercentile(percentile), fullSensorName));
+      }
+      return histogram;
+    });
+  }
+
   protected Sensor registerSensorIfAbsent(String sensorName, MeasurableStat... stats) {
     return registerSensorIfAbsent(getName(), sensorName, null, null, stats);
   }
@@ -0,0 +1,237 @@
+package com.linkedin.venice.stats;
+
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * A histogram optimized for high write throughput from many threads, as a cheaper alternative to a
+ * {@link io.tehuti.metrics.Sensor} with {@link io.tehuti.metrics.stats.Percentiles},
+ * {@link io.tehuti.metrics.stats.Avg} and {@link io.tehuti.metrics.stats.Max}, which synchronizes on every record.
+ *
+ * Each recording thread gets its own buckets, so that recording a value is a few uncontended writes, and the buckets of
+ * all the threads are only merged when the metrics are measured. Like in HdrHistogram, the buckets are log-linear:
+ * every power of two is split into {@link #SUB_BUCKET_COUNT} buckets, so the reported percentiles are within ~3% of
+ * the recorded values, from {@link #MIN_TRACKABLE_VALUE} up to {@link #MAX_TRACKABLE_VALUE}. Values below the range are
+ * reported as 0, and values above it as {@link #MAX_TRACKABLE_VALUE}. The average and the max are exact.
+ *
+ * Like {@link LongAdderRateGauge}, this is meant to be measured by the metric system ~1/minute: the stats cover the
+ * values recorded since the previous measurement, and the measurements done less than
+ * {@link LongAdderRateGauge#RATE_GAUGE_CACHE_DURATION_IN_SECONDS} apart return the same {@link Snapshot}.
+ *
+ * The buckets of a thread are kept for as long as the thread is alive, so this is meant to be recorded by long-lived
+ * threads, such as the ones of a thread pool. Each thread holds {@link #BUCKET_COUNT} (705) counters, i.e. ~5.6KB per
+ * histogram, so the memory used by a histogram is bounded by the number of threads recording it.
+ */
+public class ConcurrentHistogram {
+  private static final int SUB_BUCKET_BITS = 4;
+  static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  static final double MIN_TRACKABLE_VALUE = Math.scalb(1.0D, -10);
+  static final double MAX_TRACKABLE_VALUE = Math.scalb(1.0D, 34);
+
+  /**
+   * The bucket of a value is given by the exponent and the highest {@link #SUB_BUCKET_BITS} bits of the mantissa of the
+   * double, which grow monotonically with positive values.
+   */
+  private static final int BUCKET_KEY_SHIFT = 52 - SUB_BUCKET_BITS;
+  private static final long MIN_BUCKET_KEY = Double.doubleToRawLongBits(MIN_TRACKABLE_VALUE) >>> BUCKET_KEY_SHIFT;
+  private static final double MAX_RECORDED_VALUE = Math.nextDown(MAX_TRACKABLE_VALUE);
+  // Bucket 0 holds the values below the trackable range
+  static final int BUCKET_COUNT = getBucketIndex(MAX_RECORDED_VALUE) + 1;
+
+  private final Time time;
+  private final List<Recorder> recorders = new CopyOnWriteArrayList<>();
+  private final ThreadLocal<Recorder> threadLocalRecorder = ThreadLocal.withInitial(this::createRecorder);
+
+  // The state below is only accessed while holding the lock of this histogram, when measuring
+  private final long[] retiredCounts = new long[BUCKET_COUNT];
+  private double retiredSum = 0.0D;
+  private long[] lastCounts = new long[BUCKET_COUNT];
+  private double lastSum = 0.0D;
+  private long lastMeasurementTime;
+  private Snapshot lastSnapshot = Snapshot.EMPTY;
+
+  public ConcurrentHistogram() {
+    this(new SystemTime());
+  }
+
+  public ConcurrentHistogram(Time time) {
+    this.time = time;
+    this.lastMeasurementTime = time.getMilliseconds();
+  }
+
+  public void record(double value) {
+    threadLocalRecorder.get().record(value);
+  }
+
+  public Snapshot getSnapshot() {
+    return getSnapshot(time.getMilliseconds());
+  }
+
+  /**
+   * N.B.: We are not looking for great precision at a very short timescale, see {@link LongAdderRateGauge}.
+   */
+  public synchronized Snapshot getSnapshot(long currentTimeMs) {
+    if (currentTimeMs - lastMeasurementTime < LongAdderRateGauge.RATE_GAUGE_CACHE_DURATION_IN_SECONDS
+        * Time.MS_PER_SECOND) {
+      return lastSnapshot;
+    }
+    lastMeasurementTime = currentTimeMs;
+
+    long[] counts = retiredCounts.clone();
+    double sum = retiredSum;
+    double max = Double.NEGATIVE_INFINITY;
+    for (Recorder recorder: recorders) {
+      boolean retired = !recorder.owner.isAlive();
+      double recorderSum = recorder.getSum();
+      sum += recorderSum;
+      max = Math.max(max, recorder.resetMax());
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        long count = recorder.counts.get(i);
+        counts[i] += count;
+        if (retired) {
+          retiredCounts[i] += count;
+        }
+      }
+      if (retired) {
+        // The owner thread is gone, so the buckets of the recorder will not change anymore
+        retiredSum += recorderSum;
+        recorders.remove(recorder);
+      }
+    }
+
+    long[] intervalCounts = new long[BUCKET_COUNT];
+    long intervalCount = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      intervalCounts[i] = counts[i] - lastCounts[i];
+      intervalCount += intervalCounts[i];
+    }
+    double intervalSum = sum - lastSum;
+    lastCounts = counts;
+    lastSum = sum;
+    lastSnapshot = intervalCount == 0 ? Snapshot.EMPTY : new Snapshot(intervalCounts, intervalCount, intervalSum, max);
+    return lastSnapshot;
+  }
+
+  private Recorder createRecorder() {
+    Recorder recorder = new Recorder(Thread.currentThread());
+    recorders.add(recorder);
+    return recorder;
+  }
+
+  static int getBucketIndex(double value) {
+    if (!(value >= MIN_TRACKABLE_VALUE)) {
+      // Also covers NaN
+      return 0;
+    }
+    long bucketKey = Double.doubleToRawLongBits(Math.min(value, MAX_RECORDED_VALUE)) >>> BUCKET_KEY_SHIFT;
+    return (int) (bucketKey - MIN_BUCKET_KEY) + 1;
+  }
+
+  /**
+   * @return the middle of the range of the values of the given bucket.
+   */
+  static double getBucketValue(int bucketIndex) {
+    if (bucketIndex == 0) {
+      return 0.0D;
+    }
+    long bucketKey = MIN_BUCKET_KEY + bucketIndex - 1;
+    double lowerBound = Double.longBitsToDouble(bucketKey << BUCKET_KEY_SHIFT);
+    double upperBound = Double.longBitsToDouble((bucketKey + 1) << BUCKET_KEY_SHIFT);
+    return (lowerBound + upperBound) / 2;
+  }
+
+  /**
+   * The buckets of a single thread. Only the owner thread writes them, so the updates need no CAS, and the lazy sets
+   * are enough for the measuring thread to eventually see them.
+   */
+  private static class Recorder {
+    private final Thread owner;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong sumBits = new AtomicLong(Double.doubleToRawLongBits(0.0D));
+    private final AtomicLong maxBits = new AtomicLong(Double.doubleToRawLongBits(Double.NEGATIVE_INFINITY));
+    // Only accessed by the owner thread
+    private double sum = 0.0D;
+
+    Recorder(Thread owner) {
+      this.owner = owner;
+    }
+
+    void record(double value) {
+      int bucketIndex = getBucketIndex(value);
+      counts.lazySet(bucketIndex, counts.get(bucketIndex) + 1);
+      sum += value;
+      sumBits.lazySet(Double.doubleToRawLongBits(sum));
+      /**
+       * The measuring thread may reset the max concurrently, in which case this value is either counted in the current
+       * or in the next measurement, but it is never lost, since only recorded values are written here.
+       */
+      if (value > Double.longBitsToDouble(maxBits.get())) {
+        maxBits.lazySet(Double.doubleToRawLongBits(value));
+      }
+    }
+
+    double getSum() {
+      return Double.longBitsToDouble(sumBits.get());
+    }
+
+    double resetMax() {
+      return Double.longBitsToDouble(maxBits.getAndSet(Double.doubleToRawLongBits(Double.NEGATIVE_INFINITY)));
+    }
+  }
+
+  /**
+   * The values recorded between two measurements of a {@link ConcurrentHistogram}. All the stats are NaN if there is
+   * none.
+   */
+  public static class Snapshot {
+    static final Snapshot EMPTY = new Snapshot(new long[BUCKET_COUNT], 0, Double.NaN, Double.NaN);
+
+    private final long[] counts;
+    private final long count;
+    private final double sum;
+    private final double max;
+
+    private Snapshot(long[] counts, long count, double sum, double max) {
+      this.counts = counts;
+      this.count = count;
+      this.sum = sum;
+      this.max = max;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public double getAvg() {
+      return count == 0 ? Double.NaN : sum / count;
+    }
+
+    public double getMax() {
+      return max;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     */
+    public double getPercentile(double percentile) {
+      if (count == 0) {
+        return Double.NaN;
+      }
+      long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+      long seen = 0;
+      for (int i = 0; i < counts.length; i++) {
+        seen += counts[i];
+        if (seen >= rank) {
+          // The middle of the bucket may be above the largest value in it
+          return Math.min(getBucketValue(i), max);
+        }
+      }
+      return max;
+    }
+  }
+}
@@ -105,6 +105,13 @@ public class TehutiUtils {
   }
 
   private static Percentile getPercentile(String name, double percentile) {
+    return new Percentile(name + "." + getPercentileAttributeName(percentile), percentile);
+  }
+
+  /**
+   * @return the attribute name of the metric of the given percentile, e.g. "99_9thPercentile" for the 99.9th one.
+   */
+  static String getPercentileAttributeName(double percentile) {
     String stringPercentile = Double.toString(percentile);
     // Clip decimals for round numbers.
     if (stringPercentile.endsWith(ROUND_NUMBER_SUFFIX)) {
@@ -115,7 +122,7 @@ public class TehutiUtils {
     if (stringPercentile.contains(".")) {
       stringPercentile = stringPercentile.replace(".", "_");
     }
-    return new Percentile(name + "." + stringPercentile + "thPercentile", percentile);
+    return stringPercentile + "thPercentile";
   }
 
   /**
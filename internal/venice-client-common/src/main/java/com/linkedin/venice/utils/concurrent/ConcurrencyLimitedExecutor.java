@@ -0,0 +1,167 @@
+package com.linkedin.venice.utils.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * An executor which runs at most a given number of tasks concurrently on a shared executor, and queues the other ones
+ * until a running task completes.
+ *
+ * Several of them can share a thread pool which grows on demand, e.g. the one of
+ * {@link ThreadPoolFactory#createCachedThreadPool(String)}, so that each kind of task is bounded by its own
+ * concurrency limit instead of by the size of its own thread pool, and the threads left idle by one kind of task can
+ * run the other ones.
+ *
+ * When the queue is full, the task is executed in the caller thread, like the thread pools of
+ * {@link ThreadPoolFactory#createThreadPool}, to propagate the back pressure to the caller. A queued task which the
+ * shared executor rejects is executed in the thread which dequeued it, since there is no caller to report it to.
+ *
+ * Shutting it down does not shut the shared executor down.
+ */
+public class ConcurrencyLimitedExecutor extends AbstractExecutorService {
+  private static final Logger LOGGER = LogManager.getLogger(ConcurrencyLimitedExecutor.class);
+
+  private final Executor executor;
+  private final int concurrencyLimit;
+  private final int capacity;
+  private final Semaphore permits;
+  private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingTaskCount = new AtomicInteger();
+  private volatile boolean shutdown = false;
+
+  public ConcurrencyLimitedExecutor(Executor executor, int concurrencyLimit, int capacity) {
+    if (concurrencyLimit <= 0) {
+      throw new IllegalArgumentException("Concurrency limit must be positive, but got: " + concurrencyLimit);
+    }
+    this.executor = executor;
+    this.concurrencyLimit = concurrencyLimit;
+    this.capacity = capacity;
+    this.permits = new Semaphore(concurrencyLimit);
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    if (shutdown) {
+      throw new RejectedExecutionException("Executor has been shut down");
+    }
+    if (permits.tryAcquire()) {
+      dispatch(task);
+      return;
+    }
+    if (pendingTaskCount.incrementAndGet() > capacity) {
+      pendingTaskCount.decrementAndGet();
+      task.run();
+      return;
+    }
+    pendingTasks.offer(task);
+    // The running tasks might have all completed since the permit could not be acquired.
+    dispatchPendingTasks();
+  }
+
+  private void dispatch(Runnable task) {
+    try {
+      executor.execute(() -> {
+        try {
+          task.run();
+        } finally {
+          permits.release();
+          dispatchPendingTasks();
+        }
+      });
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  private void dispatchPendingTasks() {
+    /**
+     * The queue is checked again after releasing a permit that could not be used, since a task queued in the meantime
+     * might have failed to acquire that very permit.
+     */
+    while (!pendingTasks.isEmpty() && permits.tryAcquire()) {
+      Runnable task = pendingTasks.poll();
+      if (task == null) {
+        permits.release();
+        continue;
+      }
+      pendingTaskCount.decrementAndGet();
+      try {
+        dispatch(task);
+      } catch (RejectedExecutionException e) {
+        // Neither drop the task nor let the rejection escape, e.g. from a completed task, and strand the queued ones
+        runRejectedTask(task);
+      }
+    }
+  }
+
+  private static void runRejectedTask(Runnable task) {
+    try {
+      task.run();
+    } catch (RuntimeException e) {
+      LOGGER.error("Caught exception while running a task rejected by the shared executor", e);
+    }
+  }
+
+  public int getConcurrencyLimit() {
+    return concurrencyLimit;
+  }
+
+  public int getActiveTaskCount() {
+    return concurrencyLimit - permits.availablePermits();
+  }
+
+  public int getPendingTaskCount() {
+    return pendingTaskCount.get();
+  }
+
+  @Override
+  public void shutdown() {
+    shutdown = true;
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    shutdown = true;
+    List<Runnable> tasks = new ArrayList<>();
+    Runnable task;
+    while ((task = pendingTasks.poll()) != null) {
+      pendingTaskCount.decrementAndGet();
+      tasks.add(task);
+    }
+    return tasks;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return shutdown && pendingTasks.isEmpty() && permits.availablePermits() == concurrencyLimit;
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadlineInNS = System.nanoTime() + unit.toNanos(timeout);
+    while (!isTerminated()) {
+      if (System.nanoTime() >= deadlineInNS) {
+        return false;
+      }
+      Thread.sleep(1);
+    }
+    return true;
+  }
+}
@@ -0,0 +1,17 @@
+package com.linkedin.venice.utils.concurrent;
+
+/**
+ * How a storage node executes the read requests, check
+ * {@literal com.linkedin.venice.ConfigKeys#SERVER_READ_EXECUTION_MODE}.
+ */
+public enum ReadExecutionMode {
+  /**
+   * Each request type runs on its own fixed-size thread pool.
+   */
+  THREAD_POOL,
+  /**
+   * All the request types share a thread pool which grows on demand, and each request type is only limited in the
+   * number of requests it runs concurrently, check {@link ConcurrencyLimitedExecutor}.
+   */
+  CONCURRENCY_LIMITED
+}
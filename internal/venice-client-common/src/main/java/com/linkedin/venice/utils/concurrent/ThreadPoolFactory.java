@@ -7,6 +7,7 @@ import com.linkedin.venice.utils.DaemonThreadFactory;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -37,6 +38,21 @@ public final class ThreadPoolFactory {
     return executor;
   }
 
+  /**
+   * @return a thread pool which creates a thread whenever all of its threads are busy, and stops the threads idle for
+   *         a minute. The tasks submitted to it are expected to be bounded by their submitters, e.g. through
+   *         {@link ConcurrencyLimitedExecutor}.
+   */
+  public static ThreadPoolExecutor createCachedThreadPool(String threadNamePrefix) {
+    return new ThreadPoolExecutor(
+        0,
+        Integer.MAX_VALUE,
+        1,
+        TimeUnit.MINUTES,
+        new SynchronousQueue<>(),
+        new DaemonThreadFactory(threadNamePrefix));
+  }
+
   private static BlockingQueue<Runnable> getExecutionQueue(int capacity, BlockingQueueType blockingQueueType) {
     switch (blockingQueueType) {
       case LINKED_BLOCKING_QUEUE:
@@ -1,9 +1,15 @@
 package com.linkedin.venice.compression;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
 import org.testng.annotations.Test;
 
 
@@ -47,4 +53,70 @@ public class GzipCompressorTest {
       assertEquals("Hello World", new String(decompressed.array()));
     }
   }
+
+  @Test
+  public void testDecompressWithReusedInflater() throws IOException {
+    try (GzipCompressor compressor = new GzipCompressor()) {
+      Random random = new Random(1);
+      for (int size: new int[] { 0, 1, 100, 100000 }) {
+        byte[] input = new byte[size];
+        random.nextBytes(input);
+        byte[] compressed = compressor.compress(input);
+        byte[] padded = new byte[compressed.length + 5];
+        System.arraycopy(compressed, 0, padded, 2, compressed.length);
+        ByteBuffer decompressed = compressor.decompress(padded, 2, compressed.length);
+        assertEquals(decompressed.array(), input);
+        ByteBuffer withHeader = compressor.decompressAndPrependSchemaHeader(compressed, 0, compressed.length, 7);
+        assertEquals(withHeader.getInt(0), 7);
+        assertEquals(withHeader.remaining(), size);
+      }
+    }
+  }
+
+  @Test
+  public void testDecompressDataNotWrittenByCompressor() throws IOException {
+    try (GzipCompressor compressor = new GzipCompressor()) {
+      // Two concatenated members are left to GZIPInputStream
+      ByteArrayOutputStream concatenated = new ByteArrayOutputStream();
+      concatenated.write(compressor.compress("Hello ".getBytes()));
+      concatenated.write(compressor.compress("World".getBytes()));
+      byte[] data = concatenated.toByteArray();
+      assertEquals(compressor.decompress(data, 0, data.length).array(), "Hello World".getBytes());
+      try (ReusableGzipInflater inflater = new ReusableGzipInflater()) {
+        assertNull(inflater.inflate(data, 0, data.length));
+      }
+
+      // Optional header fields are skipped
+      byte[] plain = compressor.compress("Hello World".getBytes());
+      ByteArrayOutputStream withHeaderFields = new ByteArrayOutputStream();
+      withHeaderFields.write(plain, 0, 3);
+      withHeaderFields.write(plain[3] | 8);
+      withHeaderFields.write(plain, 4, 6);
+      withHeaderFields.write("file.txt\0".getBytes());
+      withHeaderFields.write(plain, 10, plain.length - 10);
+      data = withHeaderFields.toByteArray();
+      assertEquals(compressor.decompress(data, 0, data.length).array(), "Hello World".getBytes());
+
+      // Payloads written by GZIPOutputStream can be read as well
+      ByteArrayOutputStream stream = new ByteArrayOutputStream();
+      try (GZIPOutputStream gos = new GZIPOutputStream(stream)) {
+        gos.write("Hello World".getBytes());
+      }
+      data = stream.toByteArray();
+      assertEquals(compressor.decompress(data, 0, data.length).array(), "Hello World".getBytes());
+
+      // A trailer claiming more than the deflate data can inflate to is not trusted for the allocation
+      byte[] oversized = compressor.compress("Hello World".getBytes());
+      oversized[oversized.length - 1] = 0x7f;
+      try (ReusableGzipInflater inflater = new ReusableGzipInflater()) {
+        assertNull(inflater.inflate(oversized, 0, oversized.length));
+      }
+      assertThrows(ZipException.class, () -> compressor.decompress(oversized, 0, oversized.length));
+
+      // A corrupt checksum is detected
+      data[data.length - 8] ^= 1;
+      byte[] corrupt = data;
+      assertThrows(ZipException.class, () -> compressor.decompress(corrupt, 0, corrupt.length));
+    }
+  }
 }
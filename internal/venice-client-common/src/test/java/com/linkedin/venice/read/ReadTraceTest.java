@@ -0,0 +1,76 @@
+package com.linkedin.venice.read;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ReadTraceTest {
+  @Test
+  public void testHeaderValueRoundTrip() {
+    ReadTrace trace = new ReadTrace();
+    Assert.assertEquals(trace.toHeaderValue(), "");
+    trace.add(ReadTrace.Stage.SERIALIZATION, 0.02);
+    trace.add(ReadTrace.Stage.QUEUE, 0.0123456);
+    trace.add(ReadTrace.Stage.LOOKUP, 0.1);
+    trace.add(ReadTrace.Stage.LOOKUP, 0.2);
+    // Ignored
+    trace.add(ReadTrace.Stage.COMPUTE, -1);
+
+    String headerValue = trace.toHeaderValue();
+    Assert.assertEquals(headerValue, "queue=0.012;lookup=0.3;serialize=0.02");
+
+    ReadTrace parsedTrace = ReadTrace.parse(headerValue);
+    Assert.assertNull(parsedTrace.getHost());
+    Assert.assertEquals(parsedTrace.get(ReadTrace.Stage.QUEUE), 0.012);
+    Assert.assertEquals(parsedTrace.get(ReadTrace.Stage.LOOKUP), 0.3);
+    Assert.assertEquals(parsedTrace.get(ReadTrace.Stage.SERIALIZATION), 0.02);
+    Assert.assertTrue(parsedTrace.get(ReadTrace.Stage.COMPUTE) < 0);
+    Assert.assertEquals(parsedTrace.toHeaderValue(), headerValue);
+  }
+
+  @Test
+  public void testTaggedAndJoinedTraces() {
+    String headerValue = ReadTrace.join(
+        Arrays.asList(
+            ReadTrace.tagWithHost("queue=1.0;lookup=2.0", "host1_1234"),
+            ReadTrace.tagWithHost("", "host2_1234"),
+            // Unknown and malformed pairs are ignored
+            "host=host3_1234;queue=3.0;future_stage=4.0;lookup=abc;chunk"));
+    Assert.assertEquals(
+        headerValue,
+        "host=host1_1234;queue=1.0;lookup=2.0,host=host2_1234,"
+            + "host=host3_1234;queue=3.0;future_stage=4.0;lookup=abc;chunk");
+
+    List<ReadTrace> traces = ReadTrace.parseAll(headerValue);
+    Assert.assertEquals(traces.size(), 3);
+    Assert.assertEquals(traces.get(0).getHost(), "host1_1234");
+    Assert.assertEquals(traces.get(0).get(ReadTrace.Stage.LOOKUP), 2.0);
+    Assert.assertEquals(traces.get(1).getHost(), "host2_1234");
+    Assert.assertEquals(traces.get(1).toHeaderValue(), "host=host2_1234");
+    Assert.assertEquals(traces.get(2).toHeaderValue(), "host=host3_1234;queue=3.0");
+
+    Assert.assertTrue(ReadTrace.parseAll(null).isEmpty());
+    Assert.assertTrue(ReadTrace.parseAll("").isEmpty());
+  }
+
+  @Test(timeOut = 30 * 1000)
+  public void testConcurrentAdds() {
+    // Like the chunks of a batch get looked up in parallel
+    ReadTrace trace = new ReadTrace();
+    int threadCount = 4;
+    int addCount = 10000;
+    CompletableFuture[] futures = new CompletableFuture[threadCount];
+    for (int i = 0; i < threadCount; i++) {
+      futures[i] = CompletableFuture.runAsync(() -> {
+        for (int j = 0; j < addCount; j++) {
+          trace.add(ReadTrace.Stage.CHUNK_ASSEMBLY, 1);
+        }
+      });
+    }
+    CompletableFuture.allOf(futures).join();
+    Assert.assertEquals(trace.get(ReadTrace.Stage.CHUNK_ASSEMBLY), (double) threadCount * addCount);
+  }
+}
@@ -0,0 +1,74 @@
+package com.linkedin.venice.schema;
+
+import com.linkedin.venice.schema.rmd.RmdSchemaEntry;
+import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestSchemaSnapshot {
+  private static final String RECORD_SCHEMA_STR =
+      "{\"type\":\"record\",\"name\":\"TestRecord\",\"fields\":[{\"name\":\"f\",\"type\":\"int\",\"default\":0}]}";
+
+  @Test
+  public void testSnapshotOfSchemaData() {
+    SchemaEntry keySchema = new SchemaEntry(1, "\"string\"");
+    SchemaEntry valueSchema1 = new SchemaEntry(1, "\"long\"");
+    SchemaEntry valueSchema3 = new SchemaEntry(3, RECORD_SCHEMA_STR);
+    DerivedSchemaEntry derivedSchema1 = new DerivedSchemaEntry(3, 1, RECORD_SCHEMA_STR);
+    DerivedSchemaEntry derivedSchema2 = new DerivedSchemaEntry(3, 2, RECORD_SCHEMA_STR);
+    RmdSchemaEntry rmdSchema = new RmdSchemaEntry(3, 1, RECORD_SCHEMA_STR);
+    SchemaData schemaData = new SchemaData("test_store", keySchema);
+    schemaData.addValueSchema(valueSchema1);
+    schemaData.addValueSchema(valueSchema3);
+    schemaData.addDerivedSchema(derivedSchema2);
+    schemaData.addDerivedSchema(derivedSchema1);
+    schemaData.addReplicationMetadataSchema(rmdSchema);
+
+    SchemaSnapshot snapshot = SchemaSnapshot.of(schemaData);
+    Assert.assertEquals(snapshot.getKeySchema(), keySchema);
+    Assert.assertEquals(snapshot.getValueSchema(1), valueSchema1);
+    Assert.assertEquals(snapshot.getValueSchema(3), valueSchema3);
+    Assert.assertEquals(snapshot.getLatestValueSchema(), valueSchema3);
+    Assert.assertEquals(snapshot.getDerivedSchema(3, 1), derivedSchema1);
+    Assert.assertEquals(snapshot.getLatestDerivedSchema(3), derivedSchema2);
+    Assert.assertEquals(snapshot.getRmdSchema(3, 1), rmdSchema);
+
+    // Unknown ids, including the ones out of the range of the arrays
+    Assert.assertNull(snapshot.getValueSchema(2));
+    Assert.assertNull(snapshot.getValueSchema(-1));
+    Assert.assertNull(snapshot.getValueSchema(100));
+    Assert.assertNull(snapshot.getDerivedSchema(3, 3));
+    Assert.assertNull(snapshot.getLatestDerivedSchema(1));
+    Assert.assertNull(snapshot.getLatestDerivedSchema(100));
+    Assert.assertNull(snapshot.getRmdSchema(1, 1));
+
+    // The snapshot is not affected by later changes to the schema data
+    schemaData.addValueSchema(new SchemaEntry(4, RECORD_SCHEMA_STR));
+    Assert.assertNull(snapshot.getValueSchema(4));
+    Assert.assertEquals(snapshot.getLatestValueSchema(), valueSchema3);
+  }
+
+  @Test
+  public void testBuilder() {
+    Assert.assertNull(SchemaSnapshot.EMPTY.getKeySchema());
+    Assert.assertNull(SchemaSnapshot.EMPTY.getValueSchema(1));
+    Assert.assertNull(SchemaSnapshot.EMPTY.getLatestValueSchema());
+
+    SchemaEntry valueSchema1 = new SchemaEntry(1, "\"long\"");
+    SchemaEntry valueSchema2 = new SchemaEntry(2, "\"string\"");
+    SchemaSnapshot.Builder builder = new SchemaSnapshot.Builder().addValueSchema(valueSchema1)
+        .addValueSchema(valueSchema2)
+        .addValueSchema(new SchemaEntry(-1, "\"null\""))
+        .setLatestValueSchema(valueSchema1);
+    SchemaSnapshot snapshot = builder.build();
+    Assert.assertEquals(snapshot.getLatestValueSchema(), valueSchema1);
+    Assert.assertNull(snapshot.getValueSchema(-1));
+
+    // Building again does not share state with the previous snapshot
+    SchemaEntry valueSchema3 = new SchemaEntry(3, RECORD_SCHEMA_STR);
+    SchemaSnapshot newSnapshot = builder.addValueSchema(valueSchema3).setLatestValueSchema(null).build();
+    Assert.assertEquals(newSnapshot.getLatestValueSchema(), valueSchema3);
+    Assert.assertNull(snapshot.getValueSchema(3));
+  }
+}
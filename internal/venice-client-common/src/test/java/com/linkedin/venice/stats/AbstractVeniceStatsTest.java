@@ -13,6 +13,8 @@ import com.linkedin.venice.client.stats.ClientStats;
 import com.linkedin.venice.client.store.ClientConfig;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.TestMockTime;
+import com.linkedin.venice.utils.Time;
 import io.tehuti.Metric;
 import io.tehuti.metrics.MeasurableStat;
 import io.tehuti.metrics.MetricConfig;
@@ -102,6 +104,31 @@ public class AbstractVeniceStatsTest {
     Assert.assertEquals(metricsRepository.getMetric(".myMetric--foo.bar2").value(), 2.0);
   }
 
+  @Test
+  public void testRegisterConcurrentHistogram() {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    AbstractVeniceStats stats = new AbstractVeniceStats(metricsRepository, "myMetric");
+    TestMockTime time = new TestMockTime();
+    ConcurrentHistogram histogram = stats.registerConcurrentHistogram("foo", time, 50, 99.9);
+    Assert.assertEquals(metricsRepository.metrics().size(), 4);
+    Metric avgMetric = metricsRepository.getMetric(".myMetric--foo.Avg");
+    Metric maxMetric = metricsRepository.getMetric(".myMetric--foo.Max");
+    Metric percentileMetric = metricsRepository.getMetric(".myMetric--foo.50thPercentile");
+    Assert.assertNotNull(metricsRepository.getMetric(".myMetric--foo.99_9thPercentile"));
+    Assert.assertEquals(percentileMetric.value(), Double.NaN);
+
+    histogram.record(10.0);
+    histogram.record(20.0);
+    time.addMilliseconds(Time.MS_PER_SECOND * LongAdderRateGauge.RATE_GAUGE_CACHE_DURATION_IN_SECONDS);
+    Assert.assertEquals(avgMetric.value(), 15.0);
+    Assert.assertEquals(maxMetric.value(), 20.0);
+    Assert.assertEquals(percentileMetric.value(), 10.0, 0.5);
+
+    // Registering the same sensor again returns the histogram which backs the metrics
+    Assert.assertSame(stats.registerConcurrentHistogram("foo", time, 50, 99.9), histogram);
+    Assert.assertEquals(metricsRepository.metrics().size(), 4);
+  }
+
   @Test
   public void testMetricPrefix() {
     String storeName = "test_store";
@@ -0,0 +1,91 @@
+package com.linkedin.venice.stats;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.utils.TestMockTime;
+import com.linkedin.venice.utils.Time;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+
+
+public class ConcurrentHistogramTest {
+  private static final long MEASUREMENT_INTERVAL_MS =
+      Time.MS_PER_SECOND * LongAdderRateGauge.RATE_GAUGE_CACHE_DURATION_IN_SECONDS;
+
+  @Test
+  public void testBuckets() {
+    // 16 buckets per power of two from 2^-10 to 2^34, plus the one of the values below the range
+    assertEquals(ConcurrentHistogram.BUCKET_COUNT, 705);
+    assertEquals(ConcurrentHistogram.getBucketIndex(0), 0);
+    assertEquals(ConcurrentHistogram.getBucketIndex(-1), 0);
+    assertEquals(ConcurrentHistogram.getBucketIndex(Double.NaN), 0);
+    assertEquals(ConcurrentHistogram.getBucketIndex(ConcurrentHistogram.MIN_TRACKABLE_VALUE), 1);
+    assertEquals(
+        ConcurrentHistogram.getBucketIndex(ConcurrentHistogram.MAX_TRACKABLE_VALUE),
+        ConcurrentHistogram.BUCKET_COUNT - 1);
+    assertEquals(ConcurrentHistogram.getBucketIndex(Double.POSITIVE_INFINITY), ConcurrentHistogram.BUCKET_COUNT - 1);
+
+    int lastBucketIndex = 0;
+    for (double value = ConcurrentHistogram.MIN_TRACKABLE_VALUE; value < ConcurrentHistogram.MAX_TRACKABLE_VALUE;
+        value *= 1.01) {
+      int bucketIndex = ConcurrentHistogram.getBucketIndex(value);
+      assertTrue(bucketIndex >= lastBucketIndex, "Buckets must grow with the values");
+      lastBucketIndex = bucketIndex;
+      double error = Math.abs(ConcurrentHistogram.getBucketValue(bucketIndex) - value) / value;
+      assertTrue(error <= 1.0 / (2 * ConcurrentHistogram.SUB_BUCKET_COUNT), "Too large error for " + value);
+    }
+  }
+
+  @Test
+  public void testSnapshot() throws InterruptedException {
+    TestMockTime time = new TestMockTime();
+    ConcurrentHistogram histogram = new ConcurrentHistogram(time);
+    ConcurrentHistogram.Snapshot snapshot = histogram.getSnapshot();
+    assertEquals(snapshot.getCount(), 0);
+    assertEquals(snapshot.getAvg(), Double.NaN);
+    assertEquals(snapshot.getMax(), Double.NaN);
+    assertEquals(snapshot.getPercentile(50), Double.NaN);
+
+    int numberOfThreads = 8;
+    int recordCallsPerThread = 1000;
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+    for (int i = 0; i < numberOfThreads; i++) {
+      executor.execute(() -> {
+        for (int j = 1; j <= recordCallsPerThread; j++) {
+          histogram.record(j);
+        }
+      });
+    }
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+
+    // The snapshot is cached until the end of the measurement interval
+    assertEquals(histogram.getSnapshot().getCount(), 0);
+    time.addMilliseconds(MEASUREMENT_INTERVAL_MS);
+    snapshot = histogram.getSnapshot();
+    assertEquals(snapshot.getCount(), numberOfThreads * recordCallsPerThread);
+    assertEquals(snapshot.getAvg(), (recordCallsPerThread + 1) / 2.0);
+    assertEquals(snapshot.getMax(), (double) recordCallsPerThread);
+    assertEquals(snapshot.getPercentile(50), 500, 500 * 0.04);
+    assertEquals(snapshot.getPercentile(99), 990, 990 * 0.04);
+    assertEquals(snapshot.getPercentile(100), (double) recordCallsPerThread);
+    assertSame(histogram.getSnapshot(), snapshot);
+
+    // Only the values recorded since the previous measurement are counted, including after the threads are gone
+    histogram.record(5);
+    time.addMilliseconds(MEASUREMENT_INTERVAL_MS);
+    snapshot = histogram.getSnapshot();
+    assertEquals(snapshot.getCount(), 1);
+    assertEquals(snapshot.getAvg(), 5.0);
+    assertEquals(snapshot.getMax(), 5.0);
+    assertEquals(snapshot.getPercentile(50), 5.0, 5 * 0.04);
+
+    time.addMilliseconds(MEASUREMENT_INTERVAL_MS);
+    assertEquals(histogram.getSnapshot().getCount(), 0);
+    assertEquals(histogram.getSnapshot().getMax(), Double.NaN);
+  }
+}
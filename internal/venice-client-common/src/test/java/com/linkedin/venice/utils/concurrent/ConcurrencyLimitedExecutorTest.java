@@ -0,0 +1,125 @@
+package com.linkedin.venice.utils.concurrent;
+
+import com.linkedin.venice.utils.TestUtils;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ConcurrencyLimitedExecutorTest {
+  @Test(timeOut = 30 * 1000)
+  public void testConcurrencyLimit() throws InterruptedException {
+    ThreadPoolExecutor threadPool = ThreadPoolFactory.createCachedThreadPool("ConcurrencyLimitedExecutorTest");
+    try {
+      ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(threadPool, 2, Integer.MAX_VALUE);
+      CountDownLatch blockingLatch = new CountDownLatch(1);
+      AtomicInteger runningTaskCount = new AtomicInteger();
+      AtomicInteger maxRunningTaskCount = new AtomicInteger();
+      CountDownLatch completionLatch = new CountDownLatch(10);
+      for (int i = 0; i < 10; i++) {
+        executor.execute(() -> {
+          maxRunningTaskCount.accumulateAndGet(runningTaskCount.incrementAndGet(), Math::max);
+          try {
+            blockingLatch.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          runningTaskCount.decrementAndGet();
+          completionLatch.countDown();
+        });
+      }
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        Assert.assertEquals(executor.getActiveTaskCount(), 2);
+        Assert.assertEquals(runningTaskCount.get(), 2);
+      });
+      Assert.assertEquals(executor.getPendingTaskCount(), 8);
+
+      blockingLatch.countDown();
+      Assert.assertTrue(completionLatch.await(5, TimeUnit.SECONDS));
+      Assert.assertEquals(maxRunningTaskCount.get(), 2);
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        Assert.assertEquals(executor.getActiveTaskCount(), 0);
+      });
+      Assert.assertEquals(executor.getPendingTaskCount(), 0);
+
+      executor.shutdown();
+      Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+      Assert.assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+    } finally {
+      threadPool.shutdownNow();
+    }
+  }
+
+  @Test(timeOut = 30 * 1000)
+  public void testCallerRunsWhenQueueIsFull() throws InterruptedException {
+    ThreadPoolExecutor threadPool = ThreadPoolFactory.createCachedThreadPool("ConcurrencyLimitedExecutorTest");
+    try {
+      ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(threadPool, 1, 1);
+      CountDownLatch blockingLatch = new CountDownLatch(1);
+      Runnable blockingTask = () -> {
+        try {
+          blockingLatch.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      };
+      executor.execute(blockingTask);
+      executor.execute(blockingTask);
+      Assert.assertEquals(executor.getPendingTaskCount(), 1);
+
+      Thread callerThread = Thread.currentThread();
+      AtomicInteger callerRunsCount = new AtomicInteger();
+      executor.execute(() -> {
+        if (Thread.currentThread() == callerThread) {
+          callerRunsCount.incrementAndGet();
+        }
+      });
+      Assert.assertEquals(callerRunsCount.get(), 1);
+      Assert.assertEquals(executor.getPendingTaskCount(), 1);
+
+      List<Runnable> pendingTasks = executor.shutdownNow();
+      Assert.assertEquals(pendingTasks.size(), 1);
+      Assert.assertEquals(executor.getPendingTaskCount(), 0);
+      blockingLatch.countDown();
+      Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    } finally {
+      threadPool.shutdownNow();
+    }
+  }
+
+  @Test(timeOut = 30 * 1000)
+  public void testQueuedTasksRunWhenSharedExecutorRejectsThem() throws InterruptedException {
+    ThreadPoolExecutor threadPool = ThreadPoolFactory.createCachedThreadPool("ConcurrencyLimitedExecutorTest");
+    try {
+      ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(threadPool, 1, Integer.MAX_VALUE);
+      CountDownLatch blockingLatch = new CountDownLatch(1);
+      executor.execute(() -> {
+        try {
+          blockingLatch.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      CountDownLatch completionLatch = new CountDownLatch(2);
+      executor.execute(completionLatch::countDown);
+      executor.execute(completionLatch::countDown);
+      Assert.assertEquals(executor.getPendingTaskCount(), 2);
+
+      // The queued tasks get rejected by the shared executor once the running task completes
+      threadPool.shutdown();
+      blockingLatch.countDown();
+      Assert.assertTrue(completionLatch.await(5, TimeUnit.SECONDS));
+      Assert.assertEquals(executor.getPendingTaskCount(), 0);
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        Assert.assertEquals(executor.getActiveTaskCount(), 0);
+      });
+    } finally {
+      threadPool.shutdownNow();
+    }
+  }
+}
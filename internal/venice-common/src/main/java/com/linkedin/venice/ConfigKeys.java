@@ -98,6 +98,13 @@ public class ConfigKeys {
   public static final String PUBSUB_TOPIC_MANAGER_METADATA_FETCHER_THREAD_POOL_SIZE =
       "pubsub.topic.manager.metadata.fetcher.thread.pool.size";
 
+  /**
+   * Whether the topic manager refreshes the cached latest offsets of all the partitions of a PubSub cluster with a
+   * single metadata call on a shared schedule, instead of refreshing each partition with its own metadata call.
+   */
+  public static final String PUBSUB_TOPIC_MANAGER_BULK_OFFSET_REFRESH_ENABLED =
+      "pubsub.topic.manager.bulk.offset.refresh.enabled";
+
   // Cluster specific configs for controller
   public static final String CONTROLLER_NAME = "controller.name";
 
@@ -485,6 +492,14 @@ public class ConfigKeys {
    * This will be a best-effort since epoll support is only available in Linux, not Mac.
    */
   public static final String SERVER_REST_SERVICE_EPOLL_ENABLED = "server.rest.service.epoll.enabled";
+
+  /**
+   * Whether to enable io_uring in rest service layer, which takes precedence over
+   * {@link #SERVER_REST_SERVICE_EPOLL_ENABLED}.
+   * This will be a best-effort since io_uring is only supported by Linux 5.9 or above; the server falls back to epoll,
+   * and then to NIO, otherwise.
+   */
+  public static final String SERVER_REST_SERVICE_IO_URING_ENABLED = "server.rest.service.io.uring.enabled";
   /**
    * Database sync per bytes for transactional mode.
    * This parameter will impact the sync frequency of database after batch push.
@@ -634,6 +649,23 @@ public class ConfigKeys {
    */
   public static final String SERVER_BLOCKING_QUEUE_TYPE = "server.blocking.queue.type";
 
+  /**
+   * Check the available modes in {@literal com.linkedin.venice.utils.concurrent.ReadExecutionMode}.
+   * In the CONCURRENCY_LIMITED mode, the read requests share a thread pool which grows on demand instead of running
+   * on the fixed-size thread pools of {@link #SERVER_REST_SERVICE_STORAGE_THREAD_NUM} and
+   * {@link #SERVER_COMPUTE_THREAD_NUM}, and the number of requests running concurrently is limited per request type by
+   * the following configs, so that a burst of slow requests of one type cannot starve the other types. The queue
+   * capacities still apply.
+   *
+   * By default, the single get and multi get limits split {@link #SERVER_REST_SERVICE_STORAGE_THREAD_NUM} in half, and
+   * the compute limit is {@link #SERVER_COMPUTE_THREAD_NUM}, so that both modes run the same number of requests
+   * concurrently in total.
+   */
+  public static final String SERVER_READ_EXECUTION_MODE = "server.read.execution.mode";
+  public static final String SERVER_SINGLE_GET_CONCURRENCY_LIMIT = "server.single.get.concurrency.limit";
+  public static final String SERVER_MULTI_GET_CONCURRENCY_LIMIT = "server.multi.get.concurrency.limit";
+  public static final String SERVER_COMPUTE_CONCURRENCY_LIMIT = "server.compute.concurrency.limit";
+
   /**
    * This config is used to control how much time Server will wait for connection warming from Routers.
    * This is trying to avoid availability issue when router connection warming happens when Server restarts.
@@ -661,6 +693,19 @@ public class ConfigKeys {
    */
   public static final String SERVER_LEAKED_RESOURCE_CLEANUP_ENABLED = "server.leaked.resource.cleanup.enabled";
 
+  /**
+   * Whether the partitions of the in-memory storage engine keep their records sorted by key in off-heap memory instead
+   * of in an on-heap hash map. The sorted layout serves key prefix scans without visiting the whole partition, and
+   * keeps the records out of the reach of the garbage collector.
+   */
+  public static final String SERVER_IN_MEMORY_OFF_HEAP_STORAGE_ENABLED = "server.in.memory.off.heap.storage.enabled";
+
+  /**
+   * Size of the off-heap chunks the in-memory storage engine allocates its records from, when
+   * {@link #SERVER_IN_MEMORY_OFF_HEAP_STORAGE_ENABLED} is on. Records larger than a chunk get a chunk of their own.
+   */
+  public static final String SERVER_IN_MEMORY_OFF_HEAP_CHUNK_SIZE_BYTES = "server.in.memory.off.heap.chunk.size.bytes";
+
   /**
    * Ingestion mode in target storage instance.
    * This will be applied to Da Vinci and Storage Node.
@@ -747,6 +792,13 @@ public class ConfigKeys {
   public static final String SERVER_INGESTION_ISOLATION_METRIC_REQUEST_TIMEOUT_SECONDS =
       "server.ingestion.isolation.metric.request.timeout.seconds";
 
+  /**
+   * Whether the forked ingestion process publishes PROGRESS reports and partition readiness through a memory-mapped
+   * status file shared with the main process, instead of sending one HTTP request per report.
+   */
+  public static final String SERVER_INGESTION_ISOLATION_STATUS_FILE_ENABLED =
+      "server.ingestion.isolation.status.file.enabled";
+
   /**
    * whether to enable checksum verification in the ingestion path from kafka to database persistency. If enabled it will
    * keep a running checksum for all and only PUT kafka data message received in the ingestion task and periodically
@@ -919,6 +971,14 @@ public class ConfigKeys {
    * Config to control the Netty IO thread count for the Router Server
    */
   public static final String ROUTER_IO_WORKER_COUNT = "router.io.worker.count";
+
+  /**
+   * Whether to back the Netty event loops of the Router with io_uring, which covers both the inbound connections and
+   * the connections to the storage nodes of the NETTY_HTTP2_CLIENT {@link #ROUTER_STORAGE_NODE_CLIENT_TYPE}.
+   * This will be a best-effort since io_uring is only supported by Linux 5.9 or above; the Router falls back to epoll,
+   * and then to NIO, otherwise.
+   */
+  public static final String ROUTER_IO_URING_ENABLED = "router.io.uring.enabled";
   /**
    * The max connection number per route (to one storage node);
    */
@@ -991,6 +1051,27 @@ public class ConfigKeys {
 
   public static final String ROUTER_CLIENT_DECOMPRESSION_ENABLED = "router.client.decompression.enabled";
 
+  /**
+   * Whether the Router stitches the contents of the sub-responses of multi-get and compute requests together without
+   * copying them, and decompresses multi-get records by rewriting their framing instead of deserializing and
+   * serializing them again.
+   */
+  public static final String ROUTER_COMPOSITE_RESPONSE_AGGREGATION_ENABLED =
+      "router.composite.response.aggregation.enabled";
+
+  /**
+   * Number of threads the Router decompresses the responses of the storage nodes on, when the client cannot take the
+   * compressed responses. When it is 0, the responses are decompressed on the threads which receive them.
+   */
+  public static final String ROUTER_DECOMPRESSION_THREAD_POOL_SIZE = "router.decompression.thread.pool.size";
+
+  /**
+   * Config to control the queue capacity for the thread pool executor used for decompression. Once the queue is full,
+   * the responses are decompressed on the threads which receive them, which slows down the intake of new responses.
+   */
+  public static final String ROUTER_DECOMPRESSION_THREAD_POOL_QUEUE_CAPACITY =
+      "router.decompression.thread.pool.queue.capacity";
+
   /**
    * Whether to enable fast-avro in router;
    */
@@ -2016,6 +2097,20 @@ public class ConfigKeys {
   public static final String CLIENT_PRODUCER_SCHEMA_REFRESH_INTERVAL_SECONDS =
       "client.producer.schema.refresh.interval.seconds";
 
+  /**
+   * The maximum amount of time that the online producer waits for more records to accumulate before sending a batch.
+   * Batching is disabled when this config is <= 0, which is the default, and every write is then processed
+   * individually on the producer thread pool.
+   */
+  public static final String CLIENT_PRODUCER_BATCH_LINGER_MS = "client.producer.batch.linger.ms";
+
+  /**
+   * The number of records after which the online producer sends the accumulated batch without waiting for
+   * {@link #CLIENT_PRODUCER_BATCH_LINGER_MS} to elapse. Only used when batching is enabled. The records are only
+   * serialized once their batch is sent, so the batch cannot be bounded by its size in bytes.
+   */
+  public static final String CLIENT_PRODUCER_BATCH_MAX_RECORDS = "client.producer.batch.max.records";
+
   /*
    * The memory up-limit for the ingestion path while using RocksDB Plaintable format.
    * Currently, this option is only meaningful for DaVinci use cases.
@@ -2133,6 +2228,13 @@ public class ConfigKeys {
   public static final String SERVER_DEDICATED_CONSUMER_POOL_SIZE_FOR_AA_WC_LEADER =
       "server.dedicated.consumer.pool.size.for.aa.wc.leader";
 
+  /**
+   * Whether the leader of an Active/Active store should look up the values and RMDs of all the keys of a poll batch
+   * from the real-time topic with a single batched lookup against the storage engine, before resolving the conflicts
+   * of the batch record by record, instead of issuing two lookups per record.
+   */
+  public static final String SERVER_AA_BATCH_DCR_PREFETCH_ENABLED = "server.aa.batch.dcr.prefetch.enabled";
+
   /**
    * Whether to enable record-level metrics when bootstrapping current version.
    * This feature will be mainly used by DaVinci to speed up bootstrapping.
@@ -10,6 +10,7 @@ import com.linkedin.venice.meta.StoreDataChangedListener;
 import com.linkedin.venice.schema.GeneratedSchemaID;
 import com.linkedin.venice.schema.SchemaData;
 import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.schema.SchemaSnapshot;
 import com.linkedin.venice.schema.rmd.RmdSchemaEntry;
 import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
 import com.linkedin.venice.utils.RetryUtils;
@@ -17,11 +18,9 @@ import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -57,6 +56,12 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
    */
   private final Map<String, SchemaData> schemaMap = new VeniceConcurrentHashMap<>();
 
+  /**
+   * Immutable snapshots of the entries of {@link #schemaMap}, which get republished whenever an entry changes, so that
+   * the read path can look up schemas without taking {@link #schemaLock}.
+   */
+  private final Map<String, SchemaSnapshot> schemaSnapshotMap = new VeniceConcurrentHashMap<>();
+
   private final ZkClient zkClient;
   private final HelixSchemaAccessor accessor;
   private final CachedResourceZkStateListener zkStateListener;
@@ -138,6 +143,46 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
     }
   }
 
+  /**
+   * Lock-free counterpart of {@link #getSchemaDataFromCacheOrFetch(String)}, which only falls back to it when the
+   * schemas of the store have not been cached yet.
+   */
+  private SchemaSnapshot getSchemaSnapshot(String storeName, Store store) {
+    SchemaSnapshot schemaSnapshot = schemaSnapshotMap.get(storeName);
+    if (schemaSnapshot != null) {
+      return schemaSnapshot;
+    }
+    getSchemaLock().readLock().lock();
+    try {
+      SchemaData schemaData = populateSchemaMap(storeName, store);
+      if (schemaData == null) {
+        throw new VeniceNoStoreException(storeName);
+      }
+      return publishSchemaSnapshot(storeName, schemaData);
+    } finally {
+      getSchemaLock().readLock().unlock();
+    }
+  }
+
+  private SchemaSnapshot getSchemaSnapshot(String storeName) {
+    return getSchemaSnapshot(storeName, getStoreRepository().getStoreOrThrow(storeName));
+  }
+
+  /**
+   * Publishes a snapshot of the given schema data, unless it has been removed from {@link #schemaMap} in the meantime.
+   * This must be called while holding {@link #schemaLock}, after every change to the schema data.
+   */
+  SchemaSnapshot publishSchemaSnapshot(String storeName, SchemaData schemaData) {
+    // Serialize the publications so that a stale snapshot never overwrites a newer one
+    synchronized (schemaData) {
+      SchemaSnapshot schemaSnapshot = SchemaSnapshot.of(schemaData);
+      if (schemaMap.get(storeName) == schemaData) {
+        schemaSnapshotMap.put(storeName, schemaSnapshot);
+      }
+      return schemaSnapshot;
+    }
+  }
+
   private Object doSchemaOperation(String storeName, Function<SchemaData, Object> operation) {
     SchemaData schemaData = getSchemaDataFromCacheOrFetch(storeName);
     return operation.apply(schemaData);
@@ -171,6 +216,7 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
         getSchemaLock().writeLock().lock();
         SchemaData schemaData = getSchemaMap().get(storeName);
         forceRefreshSchemaData(store, schemaData);
+        publishSchemaSnapshot(storeName, schemaData);
         if (!isSupersetSchemaReadyToServe(store, schemaData, supersetSchemaId)) {
           throw new InvalidVeniceSchemaException(
               "Unable to refresh superset schema id: " + supersetSchemaId + " for store: " + store.getName());
@@ -237,8 +283,7 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
    */
   @Override
   public SchemaEntry getKeySchema(String storeName) {
-    SchemaData schemaData = getSchemaDataFromCacheOrFetch(storeName);
-    return schemaData.getKeySchema();
+    return getSchemaSnapshot(storeName).getKeySchema();
   }
 
   /**
@@ -257,8 +302,7 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
   }
 
   private SchemaEntry getValueSchemaInternally(String storeName, int id) {
-    SchemaData schemaData = getSchemaDataFromCacheOrFetch(storeName);
-    return schemaData.getValueSchema(id);
+    return getSchemaSnapshot(storeName).getValueSchema(id);
   }
 
   /**
@@ -298,8 +342,7 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
 
   @Override
   public DerivedSchemaEntry getDerivedSchema(String storeName, int valueSchemaId, int derivedSchemaId) {
-    SchemaData schemaData = getSchemaDataFromCacheOrFetch(storeName);
-    return schemaData.getDerivedSchema(valueSchemaId, derivedSchemaId);
+    return getSchemaSnapshot(storeName).getDerivedSchema(valueSchemaId, derivedSchemaId);
   }
 
   /**
@@ -327,16 +370,17 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
    */
   @Override
   public SchemaEntry getSupersetOrLatestValueSchema(String storeName) {
-    SchemaData schemaData = getSchemaDataFromCacheOrFetch(storeName);
-    Integer supersetSchemaID = getSupersetSchemaID(storeName);
-    int latestValueSchemaId = supersetSchemaID;
-    if (latestValueSchemaId == SchemaData.INVALID_VALUE_SCHEMA_ID) {
-      latestValueSchemaId = schemaData.getMaxValueSchemaId();
-      if (latestValueSchemaId == SchemaData.INVALID_VALUE_SCHEMA_ID) {
-        throw new VeniceException(storeName + " doesn't have latest schema!");
-      }
+    Store store = getStoreRepository().getStoreOrThrow(storeName);
+    SchemaSnapshot schemaSnapshot = getSchemaSnapshot(storeName, store);
+    int supersetSchemaId = store.getLatestSuperSetValueSchemaId();
+    if (supersetSchemaId != SchemaData.INVALID_VALUE_SCHEMA_ID) {
+      return schemaSnapshot.getValueSchema(supersetSchemaId);
     }
-    return schemaData.getValueSchema(latestValueSchemaId);
+    SchemaEntry latestValueSchema = schemaSnapshot.getLatestValueSchema();
+    if (latestValueSchema == null) {
+      throw new VeniceException(storeName + " doesn't have latest schema!");
+    }
+    return latestValueSchema;
   }
 
   @Override
@@ -361,19 +405,12 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
 
   @Override
   public DerivedSchemaEntry getLatestDerivedSchema(String storeName, int valueSchemaId) {
-    return (DerivedSchemaEntry) doSchemaOperation(storeName, (schemaData -> {
-      Optional<DerivedSchemaEntry> latestDerivedSchemaEntry = schemaData.getDerivedSchemas()
-          .stream()
-          .filter(entry -> entry.getValueSchemaID() == valueSchemaId)
-          .max(Comparator.comparing(DerivedSchemaEntry::getId));
-
-      if (!latestDerivedSchemaEntry.isPresent()) {
-        throw new VeniceException(
-            "Cannot find latest schema for store: " + storeName + ", value schema id: " + valueSchemaId);
-      }
-
-      return latestDerivedSchemaEntry.get();
-    }));
+    DerivedSchemaEntry latestDerivedSchemaEntry = getSchemaSnapshot(storeName).getLatestDerivedSchema(valueSchemaId);
+    if (latestDerivedSchemaEntry == null) {
+      throw new VeniceException(
+          "Cannot find latest schema for store: " + storeName + ", value schema id: " + valueSchemaId);
+    }
+    return latestDerivedSchemaEntry;
   }
 
   @Override
@@ -381,9 +418,7 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
       String storeName,
       int valueSchemaId,
       int replicationMetadataVersionId) {
-    return (RmdSchemaEntry) doSchemaOperation(
-        storeName,
-        ((schemaData) -> schemaData.getReplicationMetadataSchema(valueSchemaId, replicationMetadataVersionId)));
+    return getSchemaSnapshot(storeName).getRmdSchema(valueSchemaId, replicationMetadataVersionId);
   }
 
   @Override
@@ -408,10 +443,11 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
       Set<String> storeNameSet = schemaMap.keySet();
       storeNameSet.forEach(this::removeStoreSchemaFromLocal);
       schemaMap.clear();
+      schemaSnapshotMap.clear();
       zkClient.subscribeStateChanges(zkStateListener);
       List<Store> stores = storeRepository.getAllStores();
       for (Store store: stores) {
-        populateSchemaMap(store.getName(), store);
+        publishSchemaSnapshot(store.getName(), populateSchemaMap(store.getName(), store));
       }
     } finally {
       schemaLock.writeLock().unlock();
@@ -474,6 +510,7 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
     schemaLock.writeLock().lock();
     try {
       SchemaData previous = schemaMap.remove(storeName);
+      schemaSnapshotMap.remove(storeName);
       if (previous == null) {
         return;
       }
@@ -528,6 +565,12 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
     }
     maybeRegisterAndPopulateUpdateSchema(store, schemaData);
     maybeRegisterAndPopulateRmdSchema(store, schemaData);
+    schemaLock.readLock().lock();
+    try {
+      publishSchemaSnapshot(storeName, schemaData);
+    } finally {
+      schemaLock.readLock().unlock();
+    }
   }
 
   private class KeySchemaChildListener extends SchemaChildListener {
@@ -621,8 +664,10 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
 
       schemaLock.writeLock().lock();
       try {
-        if (schemaMap.containsKey(storeName)) {
+        SchemaData schemaData = schemaMap.get(storeName);
+        if (schemaData != null) {
           handleSchemaChanges(storeName, currentChildren);
+          publishSchemaSnapshot(storeName, schemaData);
         } else {
           // Should not happen, since we will add the store entry locally when subscribe its child change
           logger.error("Local schemaMap is missing store entry: {}, which should not happen.", storeName);
@@ -41,6 +41,11 @@ public abstract class CheckSum {
 
   private byte[] finalCheckSum;
 
+  /**
+   * Reused to add numbers to the checksum without allocating, since a checksum is never updated concurrently.
+   */
+  private final byte[] numberBuffer = new byte[ByteUtils.SIZE_OF_INT];
+
   /**
    * Update the checksum buffer to include input with startIndex and length.
    * Following calls to multiple 'update's you need to call 'getCheckSum'
@@ -97,9 +102,8 @@ public abstract class CheckSum {
    * @param number number to be stored in checksum buffer
    */
   public void update(int number) {
-    byte[] numberInBytes = new byte[ByteUtils.SIZE_OF_INT];
-    ByteUtils.writeInt(numberInBytes, number, 0);
-    update(numberInBytes);
+    ByteUtils.writeInt(numberBuffer, number, 0);
+    update(numberBuffer, 0, ByteUtils.SIZE_OF_INT);
   }
 
   /**
@@ -108,9 +112,8 @@ public abstract class CheckSum {
    * @param number number to be stored in checksum buffer
    */
   public void update(short number) {
-    byte[] numberInBytes = new byte[ByteUtils.SIZE_OF_SHORT];
-    ByteUtils.writeShort(numberInBytes, number, 0);
-    update(numberInBytes);
+    ByteUtils.writeShort(numberBuffer, number, 0);
+    update(numberBuffer, 0, ByteUtils.SIZE_OF_SHORT);
   }
 
   /**
@@ -1,7 +1,8 @@
 package com.linkedin.venice.meta;
 
 public enum ServerAdminAction {
-  DUMP_INGESTION_STATE(0), DUMP_SERVER_CONFIGS(1);
+  DUMP_INGESTION_STATE(0), DUMP_SERVER_CONFIGS(1), ENABLE_INGESTION_STAGE_SAMPLING(2),
+  DISABLE_INGESTION_STAGE_SAMPLING(3);
 
   private final int value;
 
@@ -0,0 +1,138 @@
+package com.linkedin.venice.pubsub.adapter.inprocess;
+
+import com.linkedin.venice.pubsub.PubSubConstants;
+import com.linkedin.venice.pubsub.PubSubTopicConfiguration;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubAdminAdapter;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicDoesNotExistException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link PubSubAdminAdapter} which manages the topics of an {@link InProcessPubSubBroker}. Operations take effect
+ * immediately, and since the broker has no replication, the replication factor of new topics is ignored.
+ */
+public class InProcessPubSubAdminAdapter implements PubSubAdminAdapter {
+  private static final Logger LOGGER = LogManager.getLogger(InProcessPubSubAdminAdapter.class);
+
+  private final InProcessPubSubBroker broker;
+  private final PubSubTopicRepository pubSubTopicRepository;
+
+  public InProcessPubSubAdminAdapter(InProcessPubSubConfig config, PubSubTopicRepository pubSubTopicRepository) {
+    this(InProcessPubSubBroker.getOrCreate(config), pubSubTopicRepository);
+  }
+
+  InProcessPubSubAdminAdapter(InProcessPubSubBroker broker, PubSubTopicRepository pubSubTopicRepository) {
+    this.broker = broker;
+    this.pubSubTopicRepository = pubSubTopicRepository;
+  }
+
+  @Override
+  public void createTopic(
+      PubSubTopic pubSubTopic,
+      int numPartitions,
+      int replicationFactor,
+      PubSubTopicConfiguration pubSubTopicConfiguration) {
+    if (replicationFactor < 1) {
+      throw new IllegalArgumentException("Replication factor cannot be < 1");
+    }
+    broker.createTopic(pubSubTopic, numPartitions, pubSubTopicConfiguration);
+    LOGGER.info(
+        "Created topic: {} with numPartitions: {} and config: {} in in-process broker: {}",
+        pubSubTopic,
+        numPartitions,
+        pubSubTopicConfiguration,
+        broker.getBrokerAddress());
+  }
+
+  @Override
+  public void deleteTopic(PubSubTopic pubSubTopic, Duration timeout) {
+    broker.deleteTopic(pubSubTopic);
+    LOGGER.info("Deleted topic: {} from in-process broker: {}", pubSubTopic, broker.getBrokerAddress());
+  }
+
+  @Override
+  public PubSubTopicConfiguration getTopicConfig(PubSubTopic pubSubTopic) {
+    PubSubTopicConfiguration topicConfiguration = broker.getTopicConfig(pubSubTopic.getName());
+    if (topicConfiguration == null) {
+      throw new PubSubTopicDoesNotExistException(pubSubTopic);
+    }
+    return topicConfiguration;
+  }
+
+  @Override
+  public Set<PubSubTopic> listAllTopics() {
+    Set<PubSubTopic> topics = new HashSet<>();
+    for (String topicName: broker.getTopicNames()) {
+      topics.add(pubSubTopicRepository.getTopic(topicName));
+    }
+    return topics;
+  }
+
+  @Override
+  public void setTopicConfig(PubSubTopic pubSubTopic, PubSubTopicConfiguration pubSubTopicConfiguration)
+      throws PubSubTopicDoesNotExistException {
+    broker.setTopicConfig(pubSubTopic, pubSubTopicConfiguration);
+  }
+
+  @Override
+  public boolean containsTopic(PubSubTopic pubSubTopic) {
+    return broker.containsTopic(pubSubTopic.getName());
+  }
+
+  @Override
+  public boolean containsTopicWithPartitionCheck(PubSubTopicPartition pubSubTopicPartition) {
+    return broker.getPartition(
+        pubSubTopicPartition.getPubSubTopic().getName(),
+        pubSubTopicPartition.getPartitionNumber()) != null;
+  }
+
+  @Override
+  public Map<PubSubTopic, Long> getAllTopicRetentions() {
+    Map<PubSubTopic, Long> retentions = new HashMap<>();
+    for (String topicName: broker.getTopicNames()) {
+      PubSubTopicConfiguration topicConfiguration = broker.getTopicConfig(topicName);
+      if (topicConfiguration != null) {
+        retentions.put(
+            pubSubTopicRepository.getTopic(topicName),
+            topicConfiguration.retentionInMs().orElse(PubSubConstants.PUBSUB_TOPIC_UNKNOWN_RETENTION));
+      }
+    }
+    return retentions;
+  }
+
+  @Override
+  public String getClassName() {
+    return InProcessPubSubAdminAdapter.class.getName();
+  }
+
+  /**
+   * Topics which do not exist are left out of the result.
+   */
+  @Override
+  public Map<PubSubTopic, PubSubTopicConfiguration> getSomeTopicConfigs(Set<PubSubTopic> pubSubTopics) {
+    Map<PubSubTopic, PubSubTopicConfiguration> topicConfigs = new HashMap<>(pubSubTopics.size());
+    for (PubSubTopic pubSubTopic: pubSubTopics) {
+      PubSubTopicConfiguration topicConfiguration = broker.getTopicConfig(pubSubTopic.getName());
+      if (topicConfiguration != null) {
+        topicConfigs.put(pubSubTopic, topicConfiguration);
+      }
+    }
+    return topicConfigs;
+  }
+
+  /**
+   * The broker is shared by all the adapters of the process, so it outlives its admin adapters.
+   */
+  @Override
+  public void close() {
+  }
+}
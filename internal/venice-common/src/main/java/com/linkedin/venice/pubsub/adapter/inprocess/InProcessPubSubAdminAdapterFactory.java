@@ -0,0 +1,29 @@
+package com.linkedin.venice.pubsub.adapter.inprocess;
+
+import com.linkedin.venice.pubsub.PubSubAdminAdapterFactory;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.utils.VeniceProperties;
+
+
+/**
+ * Implementation of {@link PubSubAdminAdapterFactory} used to create admin clients of an {@link InProcessPubSubBroker}.
+ */
+public class InProcessPubSubAdminAdapterFactory implements PubSubAdminAdapterFactory<InProcessPubSubAdminAdapter> {
+  private static final String NAME = "InProcessPubSubAdmin";
+
+  @Override
+  public InProcessPubSubAdminAdapter create(
+      VeniceProperties veniceProperties,
+      PubSubTopicRepository pubSubTopicRepository) {
+    return new InProcessPubSubAdminAdapter(new InProcessPubSubConfig(veniceProperties, null), pubSubTopicRepository);
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public void close() {
+  }
+}
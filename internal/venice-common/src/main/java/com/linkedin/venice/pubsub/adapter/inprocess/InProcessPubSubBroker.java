@@ -0,0 +1,250 @@
+package com.linkedin.venice.pubsub.adapter.inprocess;
+
+import com.linkedin.venice.pubsub.PubSubTopicConfiguration;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubClientException;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicDoesNotExistException;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicExistsException;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A PubSub broker which lives within the current process, and which the in-process producer, consumer and admin
+ * adapters share through a registry keyed by broker address. It keeps each partition in an
+ * {@link InProcessPubSubPartitionLog}, and the topics it holds survive a restart of the process since they are
+ * recovered from its data directory.
+ *
+ * The broker is meant for benchmarks and single-node deployments: there is no replication, and retention and log
+ * compaction settings of the topics are kept but not enforced.
+ */
+public class InProcessPubSubBroker implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(InProcessPubSubBroker.class);
+  private static final Map<String, InProcessPubSubBroker> BROKERS = new VeniceConcurrentHashMap<>();
+  private static final String TOPIC_CONFIG_FILE_NAME = "topic.properties";
+  private static final String PARTITION_COUNT = "partition.count";
+  private static final String RETENTION_MS = "retention.ms";
+  private static final String LOG_COMPACTED = "log.compacted";
+  private static final String MIN_IN_SYNC_REPLICAS = "min.insync.replicas";
+  private static final String MIN_LOG_COMPACTION_LAG_MS = "min.compaction.lag.ms";
+  private static final String MAX_LOG_COMPACTION_LAG_MS = "max.compaction.lag.ms";
+
+  private final String brokerAddress;
+  private final File dataDirectory;
+  private final int segmentSizeBytes;
+  private final Map<String, Topic> topics = new VeniceConcurrentHashMap<>();
+
+  private InProcessPubSubBroker(String brokerAddress, File dataDirectory, int segmentSizeBytes) {
+    this.brokerAddress = brokerAddress;
+    this.dataDirectory = dataDirectory;
+    this.segmentSizeBytes = segmentSizeBytes;
+    if (!dataDirectory.isDirectory() && !dataDirectory.mkdirs()) {
+      throw new PubSubClientException("Unable to create in-process broker data directory: " + dataDirectory);
+    }
+    File[] topicDirectories = dataDirectory.listFiles(File::isDirectory);
+    if (topicDirectories != null) {
+      for (File topicDirectory: topicDirectories) {
+        File configFile = new File(topicDirectory, TOPIC_CONFIG_FILE_NAME);
+        if (configFile.isFile()) {
+          topics.put(topicDirectory.getName(), loadTopic(topicDirectory, configFile));
+        }
+      }
+    }
+    LOGGER.info("Started in-process broker: {} in: {} with {} topics", brokerAddress, dataDirectory, topics.size());
+  }
+
+  /**
+   * @return the broker of {@param brokerAddress}, which is started with its data in a sub-directory of
+   *         {@param parentDataDirectory} if it is not running yet.
+   */
+  public static InProcessPubSubBroker getOrCreate(
+      String brokerAddress,
+      File parentDataDirectory,
+      int segmentSizeBytes) {
+    return BROKERS.computeIfAbsent(
+        brokerAddress,
+        address -> new InProcessPubSubBroker(
+            address,
+            new File(parentDataDirectory, address.replaceAll("[^A-Za-z0-9._-]", "_")),
+            segmentSizeBytes));
+  }
+
+  static InProcessPubSubBroker getOrCreate(InProcessPubSubConfig config) {
+    return getOrCreate(config.getBrokerAddress(), config.getDataDirectory(), config.getSegmentSizeBytes());
+  }
+
+  public String getBrokerAddress() {
+    return brokerAddress;
+  }
+
+  void createTopic(PubSubTopic pubSubTopic, int partitionCount, PubSubTopicConfiguration topicConfiguration) {
+    if (partitionCount < 1) {
+      throw new IllegalArgumentException("Partition count must be positive, got: " + partitionCount);
+    }
+    String topicName = pubSubTopic.getName();
+    topics.compute(topicName, (name, existingTopic) -> {
+      if (existingTopic != null) {
+        throw new PubSubTopicExistsException(pubSubTopic, null);
+      }
+      File topicDirectory = new File(dataDirectory, name);
+      Topic topic = new Topic(openPartitions(topicDirectory, partitionCount), topicConfiguration);
+      storeTopicConfig(topicDirectory, topic);
+      return topic;
+    });
+  }
+
+  void deleteTopic(PubSubTopic pubSubTopic) {
+    Topic topic = topics.remove(pubSubTopic.getName());
+    if (topic == null) {
+      throw new PubSubTopicDoesNotExistException(pubSubTopic);
+    }
+    for (InProcessPubSubPartitionLog partition: topic.partitions) {
+      partition.close();
+    }
+    try {
+      FileUtils.deleteDirectory(new File(dataDirectory, pubSubTopic.getName()));
+    } catch (IOException e) {
+      LOGGER.warn("Unable to delete the files of topic: {} in in-process broker: {}", pubSubTopic, brokerAddress, e);
+    }
+  }
+
+  boolean containsTopic(String topicName) {
+    return topics.containsKey(topicName);
+  }
+
+  Set<String> getTopicNames() {
+    return topics.keySet();
+  }
+
+  /**
+   * @return the partitions of the topic, or null if the topic does not exist.
+   */
+  InProcessPubSubPartitionLog[] getPartitions(String topicName) {
+    Topic topic = topics.get(topicName);
+    return topic == null ? null : topic.partitions;
+  }
+
+  /**
+   * @return the partition of the topic, or null if the topic or the partition does not exist.
+   */
+  InProcessPubSubPartitionLog getPartition(String topicName, int partition) {
+    InProcessPubSubPartitionLog[] partitions = getPartitions(topicName);
+    return partitions == null || partition < 0 || partition >= partitions.length ? null : partitions[partition];
+  }
+
+  /**
+   * @return the configuration of the topic, or null if the topic does not exist.
+   */
+  PubSubTopicConfiguration getTopicConfig(String topicName) {
+    Topic topic = topics.get(topicName);
+    return topic == null ? null : copyOf(topic.configuration);
+  }
+
+  void setTopicConfig(PubSubTopic pubSubTopic, PubSubTopicConfiguration topicConfiguration) {
+    Topic topic = topics.computeIfPresent(pubSubTopic.getName(), (name, existingTopic) -> {
+      Topic updatedTopic = new Topic(existingTopic.partitions, topicConfiguration);
+      storeTopicConfig(new File(dataDirectory, name), updatedTopic);
+      return updatedTopic;
+    });
+    if (topic == null) {
+      throw new PubSubTopicDoesNotExistException(pubSubTopic);
+    }
+  }
+
+  /**
+   * Stops the broker, whose topics can be recovered by starting it again with the same data directory.
+   */
+  @Override
+  public void close() {
+    BROKERS.remove(brokerAddress, this);
+    for (Topic topic: topics.values()) {
+      for (InProcessPubSubPartitionLog partition: topic.partitions) {
+        Utils.closeQuietlyWithErrorLogged(partition);
+      }
+    }
+    topics.clear();
+    LOGGER.info("Stopped in-process broker: {}", brokerAddress);
+  }
+
+  private Topic loadTopic(File topicDirectory, File configFile) {
+    Properties properties = new Properties();
+    try (InputStream inputStream = new FileInputStream(configFile)) {
+      properties.load(inputStream);
+    } catch (IOException e) {
+      throw new PubSubClientException("Unable to load topic config file: " + configFile, e);
+    }
+    PubSubTopicConfiguration configuration = new PubSubTopicConfiguration(
+        Optional.ofNullable(properties.getProperty(RETENTION_MS)).map(Long::parseLong),
+        Boolean.parseBoolean(properties.getProperty(LOG_COMPACTED)),
+        Optional.ofNullable(properties.getProperty(MIN_IN_SYNC_REPLICAS)).map(Integer::parseInt),
+        Optional.ofNullable(properties.getProperty(MIN_LOG_COMPACTION_LAG_MS)).map(Long::parseLong).orElse(null),
+        Optional.ofNullable(properties.getProperty(MAX_LOG_COMPACTION_LAG_MS)).map(Long::parseLong));
+    int partitionCount = Integer.parseInt(properties.getProperty(PARTITION_COUNT));
+    return new Topic(openPartitions(topicDirectory, partitionCount), configuration);
+  }
+
+  private InProcessPubSubPartitionLog[] openPartitions(File topicDirectory, int partitionCount) {
+    InProcessPubSubPartitionLog[] partitions = new InProcessPubSubPartitionLog[partitionCount];
+    for (int i = 0; i < partitionCount; i++) {
+      partitions[i] = new InProcessPubSubPartitionLog(new File(topicDirectory, Integer.toString(i)), segmentSizeBytes);
+    }
+    return partitions;
+  }
+
+  private static void storeTopicConfig(File topicDirectory, Topic topic) {
+    Properties properties = new Properties();
+    properties.setProperty(PARTITION_COUNT, Integer.toString(topic.partitions.length));
+    PubSubTopicConfiguration configuration = topic.configuration;
+    properties.setProperty(LOG_COMPACTED, Boolean.toString(configuration.isLogCompacted()));
+    configuration.retentionInMs().ifPresent(value -> properties.setProperty(RETENTION_MS, value.toString()));
+    configuration.minInSyncReplicas()
+        .ifPresent(value -> properties.setProperty(MIN_IN_SYNC_REPLICAS, value.toString()));
+    if (configuration.minLogCompactionLagMs() != null) {
+      properties.setProperty(MIN_LOG_COMPACTION_LAG_MS, configuration.minLogCompactionLagMs().toString());
+    }
+    configuration.getMaxLogCompactionLagMs()
+        .ifPresent(value -> properties.setProperty(MAX_LOG_COMPACTION_LAG_MS, value.toString()));
+    File configFile = new File(topicDirectory, TOPIC_CONFIG_FILE_NAME);
+    try (OutputStream outputStream = new FileOutputStream(configFile)) {
+      properties.store(outputStream, null);
+    } catch (IOException e) {
+      throw new PubSubClientException("Unable to store topic config file: " + configFile, e);
+    }
+  }
+
+  /**
+   * {@link PubSubTopicConfiguration} is mutable, so callers get their own copy.
+   */
+  private static PubSubTopicConfiguration copyOf(PubSubTopicConfiguration configuration) {
+    return new PubSubTopicConfiguration(
+        configuration.retentionInMs(),
+        configuration.isLogCompacted(),
+        configuration.minInSyncReplicas(),
+        configuration.minLogCompactionLagMs(),
+        configuration.getMaxLogCompactionLagMs());
+  }
+
+  private static final class Topic {
+    private final InProcessPubSubPartitionLog[] partitions;
+    private final PubSubTopicConfiguration configuration;
+
+    private Topic(InProcessPubSubPartitionLog[] partitions, PubSubTopicConfiguration configuration) {
+      this.partitions = partitions;
+      this.configuration = copyOf(configuration);
+    }
+  }
+}
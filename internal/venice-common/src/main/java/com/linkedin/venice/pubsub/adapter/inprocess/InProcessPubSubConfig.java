@@ -0,0 +1,71 @@
+package com.linkedin.venice.pubsub.adapter.inprocess;
+
+import com.linkedin.venice.pubsub.adapter.kafka.producer.ApacheKafkaProducerConfig;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.io.File;
+
+
+/**
+ * Configs of the in-process PubSub adapters. The broker address is taken from the usual PubSub bootstrap servers
+ * config, and only identifies the {@link InProcessPubSubBroker} to use within the current process.
+ */
+public class InProcessPubSubConfig {
+  /**
+   * Directory under which each in-process broker keeps the segment files of its topics.
+   */
+  public static final String IN_PROCESS_PUBSUB_DATA_DIR = "pubsub.in.process.data.dir";
+
+  /**
+   * Size of the segment files of a partition log. Records larger than a segment get a segment of their own.
+   */
+  public static final String IN_PROCESS_PUBSUB_SEGMENT_SIZE_BYTES = "pubsub.in.process.segment.size.bytes";
+
+  /**
+   * Maximum number of records returned by a single poll of an in-process consumer.
+   */
+  public static final String IN_PROCESS_PUBSUB_CONSUMER_MAX_POLL_RECORDS =
+      "pubsub.in.process.consumer.max.poll.records";
+
+  public static final int DEFAULT_SEGMENT_SIZE_BYTES = 64 * 1024 * 1024;
+  private static final int DEFAULT_CONSUMER_MAX_POLL_RECORDS = 500;
+
+  private final String brokerAddress;
+  private final File dataDirectory;
+  private final int segmentSizeBytes;
+  private final int consumerMaxPollRecords;
+
+  public InProcessPubSubConfig(VeniceProperties veniceProperties, String brokerAddressToOverride) {
+    this.brokerAddress = brokerAddressToOverride != null
+        ? brokerAddressToOverride
+        : veniceProperties.getString(ApacheKafkaProducerConfig.KAFKA_BOOTSTRAP_SERVERS);
+    this.dataDirectory = new File(
+        veniceProperties.getString(
+            IN_PROCESS_PUBSUB_DATA_DIR,
+            new File(System.getProperty("java.io.tmpdir"), "venice-in-process-pubsub").getAbsolutePath()));
+    this.segmentSizeBytes = veniceProperties.getInt(IN_PROCESS_PUBSUB_SEGMENT_SIZE_BYTES, DEFAULT_SEGMENT_SIZE_BYTES);
+    this.consumerMaxPollRecords =
+        veniceProperties.getInt(IN_PROCESS_PUBSUB_CONSUMER_MAX_POLL_RECORDS, DEFAULT_CONSUMER_MAX_POLL_RECORDS);
+  }
+
+  public String getBrokerAddress() {
+    return brokerAddress;
+  }
+
+  public File getDataDirectory() {
+    return dataDirectory;
+  }
+
+  public int getSegmentSizeBytes() {
+    return segmentSizeBytes;
+  }
+
+  public int getConsumerMaxPollRecords() {
+    return consumerMaxPollRecords;
+  }
+
+  @Override
+  public String toString() {
+    return "InProcessPubSubConfig{brokerAddress=" + brokerAddress + ", dataDirectory=" + dataDirectory
+        + ", segmentSizeBytes=" + segmentSizeBytes + ", consumerMaxPollRecords=" + consumerMaxPollRecords + '}';
+  }
+}
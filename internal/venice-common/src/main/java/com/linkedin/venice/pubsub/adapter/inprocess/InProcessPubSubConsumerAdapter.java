@@ -0,0 +1,317 @@
+package com.linkedin.venice.pubsub.adapter.inprocess;
+
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.offsets.OffsetRecord;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionInfo;
+import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubMessageDeserializer;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicDoesNotExistException;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubUnsubscribedTopicPartitionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link PubSubConsumerAdapter} which reads messages straight from the memory-mapped logs of an
+ * {@link InProcessPubSubBroker}, without any fetch round trip.
+ *
+ * Each poll serves the subscribed partitions which are not paused in a round-robin fashion, starting from a different
+ * partition every time so that a busy partition cannot starve the others, and returns at most
+ * {@link InProcessPubSubConfig#IN_PROCESS_PUBSUB_CONSUMER_MAX_POLL_RECORDS} messages. When no message is available, the
+ * poll waits for new ones until its timeout.
+ */
+public class InProcessPubSubConsumerAdapter implements PubSubConsumerAdapter {
+  private static final Logger LOGGER = LogManager.getLogger(InProcessPubSubConsumerAdapter.class);
+  private static final long POLL_WAIT_INTERVAL_NS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final InProcessPubSubBroker broker;
+  private final PubSubMessageDeserializer pubSubMessageDeserializer;
+  private final int maxPollRecords;
+  private final Map<PubSubTopicPartition, Subscription> subscriptions = new LinkedHashMap<>();
+  /**
+   * The entries of {@link #subscriptions} in an indexable form for the round-robin of the polls, only rebuilt when the
+   * subscriptions change rather than on every (possibly idle) poll. Null when it needs to be rebuilt.
+   */
+  private List<Map.Entry<PubSubTopicPartition, Subscription>> subscriptionEntries = null;
+  private int pollStartIndex = 0;
+
+  public InProcessPubSubConsumerAdapter(
+      InProcessPubSubConfig config,
+      PubSubMessageDeserializer pubSubMessageDeserializer) {
+    this(InProcessPubSubBroker.getOrCreate(config), pubSubMessageDeserializer, config.getConsumerMaxPollRecords());
+  }
+
+  InProcessPubSubConsumerAdapter(
+      InProcessPubSubBroker broker,
+      PubSubMessageDeserializer pubSubMessageDeserializer,
+      int maxPollRecords) {
+    this.broker = broker;
+    this.pubSubMessageDeserializer = pubSubMessageDeserializer;
+    this.maxPollRecords = maxPollRecords;
+  }
+
+  @Override
+  public void subscribe(PubSubTopicPartition pubSubTopicPartition, long lastReadOffset) {
+    Objects.requireNonNull(pubSubTopicPartition, "PubSubTopicPartition cannot be null");
+    if (pubSubTopicPartition.getPartitionNumber() < 0) {
+      throw new IllegalArgumentException("Partition number cannot be negative");
+    }
+    if (subscriptions.containsKey(pubSubTopicPartition)) {
+      LOGGER.warn("Already subscribed to topic-partition:{}, ignoring subscription request", pubSubTopicPartition);
+      return;
+    }
+    InProcessPubSubPartitionLog partitionLog = getPartitionLog(pubSubTopicPartition);
+    if (partitionLog == null) {
+      LOGGER.error("Cannot subscribe to topic-partition: {} because it does not exist", pubSubTopicPartition);
+      throw new PubSubTopicDoesNotExistException(pubSubTopicPartition.getPubSubTopic());
+    }
+    long nextOffset =
+        lastReadOffset <= OffsetRecord.LOWEST_OFFSET ? partitionLog.getBeginningOffset() : lastReadOffset + 1;
+    subscriptions.put(pubSubTopicPartition, new Subscription(nextOffset));
+    subscriptionEntries = null;
+    LOGGER.info(
+        "Subscribed to topic-partition: {} at offset: {} and last read offset was: {}",
+        pubSubTopicPartition,
+        nextOffset,
+        lastReadOffset);
+  }
+
+  @Override
+  public void unSubscribe(PubSubTopicPartition pubSubTopicPartition) {
+    subscriptions.remove(pubSubTopicPartition);
+    subscriptionEntries = null;
+  }
+
+  @Override
+  public void batchUnsubscribe(Set<PubSubTopicPartition> pubSubTopicPartitionSet) {
+    subscriptions.keySet().removeAll(pubSubTopicPartitionSet);
+    subscriptionEntries = null;
+  }
+
+  @Override
+  public void resetOffset(PubSubTopicPartition pubSubTopicPartition) {
+    Subscription subscription = subscriptions.get(pubSubTopicPartition);
+    if (subscription == null) {
+      throw new PubSubUnsubscribedTopicPartitionException(pubSubTopicPartition);
+    }
+    InProcessPubSubPartitionLog partitionLog = getPartitionLog(pubSubTopicPartition);
+    subscription.nextOffset = partitionLog == null ? 0 : partitionLog.getBeginningOffset();
+  }
+
+  @Override
+  public Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> poll(long timeoutMs) {
+    long deadlineNs = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+    while (true) {
+      Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> polledMessages =
+          pollAvailableMessages();
+      if (!polledMessages.isEmpty()) {
+        return polledMessages;
+      }
+      long remainingNs = deadlineNs - System.nanoTime();
+      if (remainingNs <= 0 || Thread.currentThread().isInterrupted()) {
+        return polledMessages;
+      }
+      LockSupport.parkNanos(Math.min(remainingNs, POLL_WAIT_INTERVAL_NS));
+    }
+  }
+
+  private Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> pollAvailableMessages() {
+    if (subscriptions.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    if (subscriptionEntries == null) {
+      subscriptionEntries = new ArrayList<>(subscriptions.entrySet());
+    }
+    List<Map.Entry<PubSubTopicPartition, Subscription>> entries = subscriptionEntries;
+    // Kept within the bounds of the entries, so that it never overflows
+    int startIndex = pollStartIndex % entries.size();
+    pollStartIndex = (startIndex + 1) % entries.size();
+    Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> polledMessages =
+        new HashMap<>();
+    int remainingRecords = maxPollRecords;
+    for (int i = 0; i < entries.size() && remainingRecords > 0; i++) {
+      Map.Entry<PubSubTopicPartition, Subscription> entry = entries.get((startIndex + i) % entries.size());
+      Subscription subscription = entry.getValue();
+      if (subscription.paused) {
+        continue;
+      }
+      PubSubTopicPartition pubSubTopicPartition = entry.getKey();
+      InProcessPubSubPartitionLog partitionLog = getPartitionLog(pubSubTopicPartition);
+      if (partitionLog == null) {
+        continue;
+      }
+      long available = partitionLog.getEndOffset() - subscription.nextOffset;
+      if (available <= 0) {
+        continue;
+      }
+      int recordsToRead = (int) Math.min(available, remainingRecords);
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> messages = new ArrayList<>(recordsToRead);
+      for (int j = 0; j < recordsToRead; j++) {
+        long offset = subscription.nextOffset;
+        InProcessPubSubRecord record = partitionLog.read(offset);
+        if (record == null) {
+          break;
+        }
+        messages.add(
+            pubSubMessageDeserializer.deserialize(
+                pubSubTopicPartition,
+                record.getKey(),
+                record.getValue(),
+                record.getHeaders(),
+                offset,
+                record.getTimestampMs()));
+        subscription.nextOffset = offset + 1;
+      }
+      if (!messages.isEmpty()) {
+        polledMessages.put(pubSubTopicPartition, messages);
+        remainingRecords -= messages.size();
+      }
+    }
+    return polledMessages;
+  }
+
+  @Override
+  public boolean hasAnySubscription() {
+    return !subscriptions.isEmpty();
+  }
+
+  @Override
+  public boolean hasSubscription(PubSubTopicPartition pubSubTopicPartition) {
+    pubSubTopicPartition = Objects.requireNonNull(pubSubTopicPartition, "PubSubTopicPartition cannot be null");
+    return subscriptions.containsKey(pubSubTopicPartition);
+  }
+
+  /**
+   * If the partitions were not previously subscribed, this method is a no-op.
+   */
+  @Override
+  public void pause(PubSubTopicPartition pubSubTopicPartition) {
+    Subscription subscription = subscriptions.get(pubSubTopicPartition);
+    if (subscription != null) {
+      subscription.paused = true;
+    }
+  }
+
+  /**
+   * If the partitions were not previously paused or if they were not subscribed at all, this method is a no-op.
+   */
+  @Override
+  public void resume(PubSubTopicPartition pubSubTopicPartition) {
+    Subscription subscription = subscriptions.get(pubSubTopicPartition);
+    if (subscription != null) {
+      subscription.paused = false;
+    }
+  }
+
+  @Override
+  public Set<PubSubTopicPartition> getAssignment() {
+    return new HashSet<>(subscriptions.keySet());
+  }
+
+  @Override
+  public void close() {
+    subscriptions.clear();
+    subscriptionEntries = null;
+    if (pubSubMessageDeserializer != null) {
+      pubSubMessageDeserializer.close();
+    }
+  }
+
+  @Override
+  public long getOffsetLag(PubSubTopicPartition pubSubTopicPartition) {
+    Subscription subscription = subscriptions.get(pubSubTopicPartition);
+    InProcessPubSubPartitionLog partitionLog = getPartitionLog(pubSubTopicPartition);
+    if (subscription == null || partitionLog == null) {
+      return -1;
+    }
+    return Math.max(0, partitionLog.getEndOffset() - subscription.nextOffset);
+  }
+
+  @Override
+  public long getLatestOffset(PubSubTopicPartition pubSubTopicPartition) {
+    InProcessPubSubPartitionLog partitionLog = getPartitionLog(pubSubTopicPartition);
+    return partitionLog == null ? -1 : partitionLog.getEndOffset();
+  }
+
+  @Override
+  public Long offsetForTime(PubSubTopicPartition pubSubTopicPartition, long timestamp, Duration timeout) {
+    return offsetForTime(pubSubTopicPartition, timestamp);
+  }
+
+  @Override
+  public Long offsetForTime(PubSubTopicPartition pubSubTopicPartition, long timestamp) {
+    return getExistingPartitionLog(pubSubTopicPartition).getOffsetForTime(timestamp);
+  }
+
+  @Override
+  public Long beginningOffset(PubSubTopicPartition pubSubTopicPartition, Duration timeout) {
+    return getExistingPartitionLog(pubSubTopicPartition).getBeginningOffset();
+  }
+
+  @Override
+  public Map<PubSubTopicPartition, Long> endOffsets(Collection<PubSubTopicPartition> partitions, Duration timeout) {
+    Map<PubSubTopicPartition, Long> endOffsets = new HashMap<>(partitions.size());
+    for (PubSubTopicPartition pubSubTopicPartition: partitions) {
+      endOffsets.put(pubSubTopicPartition, getExistingPartitionLog(pubSubTopicPartition).getEndOffset());
+    }
+    return endOffsets;
+  }
+
+  @Override
+  public Long endOffset(PubSubTopicPartition pubSubTopicPartition) {
+    return getExistingPartitionLog(pubSubTopicPartition).getEndOffset();
+  }
+
+  @Override
+  public List<PubSubTopicPartitionInfo> partitionsFor(PubSubTopic pubSubTopic) {
+    InProcessPubSubPartitionLog[] partitions = broker.getPartitions(pubSubTopic.getName());
+    if (partitions == null) {
+      return null;
+    }
+    List<PubSubTopicPartitionInfo> partitionInfos = new ArrayList<>(partitions.length);
+    for (int i = 0; i < partitions.length; i++) {
+      partitionInfos.add(new PubSubTopicPartitionInfo(pubSubTopic, i, true));
+    }
+    return partitionInfos;
+  }
+
+  private InProcessPubSubPartitionLog getPartitionLog(PubSubTopicPartition pubSubTopicPartition) {
+    return broker.getPartition(
+        pubSubTopicPartition.getPubSubTopic().getName(),
+        pubSubTopicPartition.getPartitionNumber());
+  }
+
+  private InProcessPubSubPartitionLog getExistingPartitionLog(PubSubTopicPartition pubSubTopicPartition) {
+    InProcessPubSubPartitionLog partitionLog = getPartitionLog(pubSubTopicPartition);
+    if (partitionLog == null) {
+      throw new PubSubTopicDoesNotExistException(pubSubTopicPartition.getPubSubTopic());
+    }
+    return partitionLog;
+  }
+
+  private static final class Subscription {
+    private long nextOffset;
+    private boolean paused = false;
+
+    private Subscription(long nextOffset) {
+      this.nextOffset = nextOffset;
+    }
+  }
+}
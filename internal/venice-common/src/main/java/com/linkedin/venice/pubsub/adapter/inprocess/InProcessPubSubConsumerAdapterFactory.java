@@ -0,0 +1,34 @@
+package com.linkedin.venice.pubsub.adapter.inprocess;
+
+import com.linkedin.venice.pubsub.PubSubConsumerAdapterFactory;
+import com.linkedin.venice.pubsub.api.PubSubMessageDeserializer;
+import com.linkedin.venice.utils.VeniceProperties;
+
+
+/**
+ * Implementation of {@link PubSubConsumerAdapterFactory} used to create consumers of an {@link InProcessPubSubBroker}.
+ */
+public class InProcessPubSubConsumerAdapterFactory
+    implements PubSubConsumerAdapterFactory<InProcessPubSubConsumerAdapter> {
+  private static final String NAME = "InProcessPubSubConsumer";
+
+  @Override
+  public InProcessPubSubConsumerAdapter create(
+      VeniceProperties veniceProperties,
+      boolean isOffsetCollectionEnabled,
+      PubSubMessageDeserializer pubSubMessageDeserializer,
+      String consumerName) {
+    return new InProcessPubSubConsumerAdapter(
+        new InProcessPubSubConfig(veniceProperties, null),
+        pubSubMessageDeserializer);
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public void close() {
+  }
+}
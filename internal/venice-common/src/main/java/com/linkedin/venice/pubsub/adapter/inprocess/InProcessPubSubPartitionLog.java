@@ -0,0 +1,347 @@
+package com.linkedin.venice.pubsub.adapter.inprocess;
+
+import com.linkedin.venice.pubsub.api.PubSubMessageHeader;
+import com.linkedin.venice.pubsub.api.PubSubMessageHeaders;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubClientException;
+import io.netty.util.internal.PlatformDependent;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * The log of one partition of an {@link InProcessPubSubBroker} topic, made of append-only segment files which are
+ * memory-mapped.
+ *
+ * Each segment is named after the offset of its first record, and holds records back to back, each of them laid out
+ * as: size (int), log append time (long), key length (int), key, value length (int), value, header count (int) and for
+ * each header: key length (int), key, value length (int), value. The size of a record is written last, and a size of 0
+ * marks the end of a segment, so that the log can be recovered by scanning its segments after a restart. Trailing
+ * segments without any record, left behind by a crash right after a segment roll, are dropped during the recovery.
+ *
+ * Appends are serialized, while reads only share a read lock with {@link #close()}, which unmaps the segments: a record
+ * becomes visible to readers once the end offset, which is volatile, is bumped after the record has been fully written.
+ */
+class InProcessPubSubPartitionLog implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(InProcessPubSubPartitionLog.class);
+  private static final String SEGMENT_FILE_SUFFIX = ".log";
+  private static final int INITIAL_INDEX_CAPACITY = 1024;
+
+  private final File directory;
+  private final int segmentSizeBytes;
+  private final ReentrantReadWriteLock closeLock = new ReentrantReadWriteLock();
+  private volatile Segment[] segments;
+  private volatile long endOffset;
+  private long lastAppendTimeMs = 0;
+  private boolean closed = false;
+
+  InProcessPubSubPartitionLog(File directory, int segmentSizeBytes) {
+    this.directory = directory;
+    this.segmentSizeBytes = segmentSizeBytes;
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new PubSubClientException("Unable to create partition log directory: " + directory);
+    }
+    List<Segment> recoveredSegments = new ArrayList<>();
+    File[] segmentFiles = directory.listFiles((dir, name) -> name.endsWith(SEGMENT_FILE_SUFFIX));
+    if (segmentFiles != null) {
+      Arrays.sort(segmentFiles);
+      for (File segmentFile: segmentFiles) {
+        String name = segmentFile.getName();
+        long baseOffset = Long.parseLong(name.substring(0, name.length() - SEGMENT_FILE_SUFFIX.length()));
+        Segment segment = Segment.open(segmentFile, baseOffset, segmentFile.length());
+        if (!recoveredSegments.isEmpty()) {
+          Segment previous = recoveredSegments.get(recoveredSegments.size() - 1);
+          if (previous.baseOffset + previous.recordCount != baseOffset) {
+            throw new PubSubClientException("Found a gap in the offsets of partition log: " + directory);
+          }
+        }
+        recoveredSegments.add(segment);
+      }
+    }
+    long recoveredEndOffset = 0;
+    while (!recoveredSegments.isEmpty() && recoveredSegments.get(recoveredSegments.size() - 1).recordCount == 0) {
+      Segment emptySegment = recoveredSegments.remove(recoveredSegments.size() - 1);
+      recoveredEndOffset = emptySegment.baseOffset;
+      emptySegment.release();
+      File emptySegmentFile = segmentFile(emptySegment.baseOffset);
+      if (!emptySegmentFile.delete()) {
+        throw new PubSubClientException("Unable to delete empty segment file: " + emptySegmentFile);
+      }
+      LOGGER.info("Dropped empty segment file: {}", emptySegmentFile);
+    }
+    if (recoveredSegments.isEmpty()) {
+      recoveredSegments.add(Segment.open(segmentFile(recoveredEndOffset), recoveredEndOffset, segmentSizeBytes));
+    }
+    this.segments = recoveredSegments.toArray(new Segment[0]);
+    Segment last = segments[segments.length - 1];
+    this.endOffset = last.baseOffset + last.recordCount;
+    if (last.recordCount > 0) {
+      this.lastAppendTimeMs = last.readTimestamp(last.recordCount - 1);
+      LOGGER.info("Recovered partition log: {} with {} records", directory, endOffset);
+    }
+  }
+
+  /**
+   * @return the offset of the appended record.
+   */
+  synchronized long append(byte[] key, byte[] value, PubSubMessageHeaders headers) {
+    if (closed) {
+      throw new PubSubClientException("Partition log is closed: " + directory);
+    }
+    List<PubSubMessageHeader> headerList = headers == null ? null : headers.toList();
+    int recordSize = getRecordSize(key, value, headerList);
+    // The log append time never goes backward, which allows binary searches by timestamp.
+    lastAppendTimeMs = Math.max(lastAppendTimeMs, System.currentTimeMillis());
+    Segment activeSegment = segments[segments.length - 1];
+    if (!activeSegment.hasRoomFor(recordSize)) {
+      activeSegment = rollSegment(recordSize);
+    }
+    activeSegment.append(lastAppendTimeMs, key, value, headerList, recordSize);
+    long offset = endOffset;
+    endOffset = offset + 1;
+    return offset;
+  }
+
+  /**
+   * @return the record at {@param offset}, or null if there is no such record.
+   */
+  InProcessPubSubRecord read(long offset) {
+    if (offset < 0 || offset >= endOffset) {
+      return null;
+    }
+    closeLock.readLock().lock();
+    try {
+      Segment segment = findSegment(offset);
+      return segment == null ? null : segment.read((int) (offset - segment.baseOffset));
+    } finally {
+      closeLock.readLock().unlock();
+    }
+  }
+
+  long getBeginningOffset() {
+    Segment[] currentSegments = segments;
+    return currentSegments.length == 0 ? endOffset : currentSegments[0].baseOffset;
+  }
+
+  long getEndOffset() {
+    return endOffset;
+  }
+
+  /**
+   * @return the offset of the first record whose log append time is greater than or equal to {@param timestampMs}, or
+   *         null if there is no such record.
+   */
+  Long getOffsetForTime(long timestampMs) {
+    closeLock.readLock().lock();
+    try {
+      long low = getBeginningOffset();
+      long high = endOffset;
+      while (low < high) {
+        long mid = (low + high) >>> 1;
+        Segment segment = findSegment(mid);
+        if (segment == null) {
+          return null;
+        }
+        if (segment.readTimestamp((int) (mid - segment.baseOffset)) < timestampMs) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low < endOffset ? low : null;
+    } finally {
+      closeLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Flushes the segments to disk and unmaps them, once the reads in progress are done. Records cannot be read or
+   * appended anymore.
+   */
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    closeLock.writeLock().lock();
+    try {
+      for (Segment segment: segments) {
+        segment.buffer.force();
+        segment.release();
+      }
+      segments = new Segment[0];
+    } finally {
+      closeLock.writeLock().unlock();
+    }
+  }
+
+  private Segment rollSegment(int recordSize) {
+    Segment newSegment =
+        Segment.open(segmentFile(endOffset), endOffset, Math.max(segmentSizeBytes, Integer.BYTES + recordSize));
+    Segment[] newSegments = Arrays.copyOf(segments, segments.length + 1);
+    newSegments[segments.length] = newSegment;
+    segments = newSegments;
+    return newSegment;
+  }
+
+  private Segment findSegment(long offset) {
+    Segment[] currentSegments = segments;
+    int low = 0;
+    int high = currentSegments.length - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (currentSegments[mid].baseOffset <= offset) {
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return high < 0 ? null : currentSegments[high];
+  }
+
+  private File segmentFile(long baseOffset) {
+    return new File(directory, String.format("%020d", baseOffset) + SEGMENT_FILE_SUFFIX);
+  }
+
+  private static int getRecordSize(byte[] key, byte[] value, List<PubSubMessageHeader> headers) {
+    long size = Long.BYTES + Integer.BYTES + key.length + Integer.BYTES + value.length + Integer.BYTES;
+    if (headers != null) {
+      for (PubSubMessageHeader header: headers) {
+        size += Integer.BYTES + header.key().getBytes(StandardCharsets.UTF_8).length + Integer.BYTES
+            + header.value().length;
+      }
+    }
+    if (size > Integer.MAX_VALUE - Integer.BYTES) {
+      throw new PubSubClientException("Record of " + size + " bytes is too large for an in-process partition log");
+    }
+    return (int) size;
+  }
+
+  private static final class Segment {
+    private final long baseOffset;
+    private final MappedByteBuffer buffer;
+    /**
+     * Only used by the appender, which is serialized by the log.
+     */
+    private final ByteBuffer writeBuffer;
+    private volatile int[] positions;
+    private int recordCount;
+
+    private Segment(long baseOffset, MappedByteBuffer buffer) {
+      this.baseOffset = baseOffset;
+      this.buffer = buffer;
+      this.writeBuffer = buffer.duplicate();
+      this.positions = new int[INITIAL_INDEX_CAPACITY];
+    }
+
+    /**
+     * Maps the segment file, creating it if needed, and rebuilds the index of the records found in it.
+     */
+    static Segment open(File file, long baseOffset, long sizeBytes) {
+      MappedByteBuffer buffer;
+      // The mapping stays valid after the file is closed.
+      try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+        if (randomAccessFile.length() < sizeBytes) {
+          randomAccessFile.setLength(sizeBytes);
+        }
+        buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, randomAccessFile.length());
+      } catch (IOException e) {
+        throw new PubSubClientException("Unable to map segment file: " + file, e);
+      }
+      Segment segment = new Segment(baseOffset, buffer);
+      int position = 0;
+      while (position + Integer.BYTES <= buffer.capacity()) {
+        int recordSize = buffer.getInt(position);
+        if (recordSize <= 0 || recordSize > buffer.capacity() - position - Integer.BYTES) {
+          break;
+        }
+        segment.addPosition(position);
+        position += Integer.BYTES + recordSize;
+      }
+      segment.writeBuffer.position(position);
+      return segment;
+    }
+
+    boolean hasRoomFor(int recordSize) {
+      return writeBuffer.remaining() >= Integer.BYTES + recordSize;
+    }
+
+    void append(long timestampMs, byte[] key, byte[] value, List<PubSubMessageHeader> headers, int recordSize) {
+      int position = writeBuffer.position();
+      writeBuffer.position(position + Integer.BYTES);
+      writeBuffer.putLong(timestampMs);
+      writeBuffer.putInt(key.length);
+      writeBuffer.put(key);
+      writeBuffer.putInt(value.length);
+      writeBuffer.put(value);
+      if (headers == null) {
+        writeBuffer.putInt(0);
+      } else {
+        writeBuffer.putInt(headers.size());
+        for (PubSubMessageHeader header: headers) {
+          byte[] headerKey = header.key().getBytes(StandardCharsets.UTF_8);
+          writeBuffer.putInt(headerKey.length);
+          writeBuffer.put(headerKey);
+          writeBuffer.putInt(header.value().length);
+          writeBuffer.put(header.value());
+        }
+      }
+      // The size is written last, so that a partially written record is never recovered.
+      writeBuffer.putInt(position, recordSize);
+      addPosition(position);
+    }
+
+    InProcessPubSubRecord read(int index) {
+      ByteBuffer readBuffer = buffer.duplicate();
+      readBuffer.position(positions[index] + Integer.BYTES);
+      long timestampMs = readBuffer.getLong();
+      byte[] key = new byte[readBuffer.getInt()];
+      readBuffer.get(key);
+      byte[] value = new byte[readBuffer.getInt()];
+      readBuffer.get(value);
+      int headerCount = readBuffer.getInt();
+      PubSubMessageHeaders headers = new PubSubMessageHeaders();
+      for (int i = 0; i < headerCount; i++) {
+        byte[] headerKey = new byte[readBuffer.getInt()];
+        readBuffer.get(headerKey);
+        byte[] headerValue = new byte[readBuffer.getInt()];
+        readBuffer.get(headerValue);
+        headers.add(new String(headerKey, StandardCharsets.UTF_8), headerValue);
+      }
+      return new InProcessPubSubRecord(key, value, headers, timestampMs);
+    }
+
+    long readTimestamp(int index) {
+      return buffer.getLong(positions[index] + Integer.BYTES);
+    }
+
+    /**
+     * Unmaps the segment file rather than waiting for the buffer to be garbage collected. The segment must not be
+     * accessed anymore.
+     */
+    void release() {
+      PlatformDependent.freeDirectBuffer(buffer);
+    }
+
+    private void addPosition(int position) {
+      int[] currentPositions = positions;
+      if (recordCount == currentPositions.length) {
+        currentPositions = Arrays.copyOf(currentPositions, currentPositions.length * 2);
+      }
+      currentPositions[recordCount++] = position;
+      positions = currentPositions;
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.linkedin.venice.pubsub.adapter.inprocess;
+
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.adapter.SimplePubSubProduceResultImpl;
+import com.linkedin.venice.pubsub.api.PubSubMessageHeaders;
+import com.linkedin.venice.pubsub.api.PubSubProduceResult;
+import com.linkedin.venice.pubsub.api.PubSubProducerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubClientException;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicDoesNotExistException;
+import com.linkedin.venice.serialization.KafkaKeySerializer;
+import com.linkedin.venice.serialization.avro.KafkaValueSerializer;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMaps;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * A {@link PubSubProducerAdapter} which appends messages to the logs of an {@link InProcessPubSubBroker}.
+ *
+ * Appends are synchronous: by the time {@link #sendMessage} returns, the message has been assigned its offset and is
+ * visible to consumers, and the callback has been completed on the calling thread. Hence, {@link #flush()} has nothing
+ * to do.
+ */
+public class InProcessPubSubProducerAdapter implements PubSubProducerAdapter {
+  private final InProcessPubSubBroker broker;
+  private final KafkaKeySerializer keySerializer = new KafkaKeySerializer();
+  private final KafkaValueSerializer valueSerializer = new KafkaValueSerializer();
+  private volatile boolean closed = false;
+
+  public InProcessPubSubProducerAdapter(InProcessPubSubConfig config) {
+    this(InProcessPubSubBroker.getOrCreate(config));
+  }
+
+  InProcessPubSubProducerAdapter(InProcessPubSubBroker broker) {
+    this.broker = broker;
+  }
+
+  @Deprecated
+  @Override
+  public int getNumberOfPartitions(String topic) {
+    InProcessPubSubPartitionLog[] partitions = broker.getPartitions(topic);
+    if (partitions == null) {
+      throw new PubSubTopicDoesNotExistException("Topic " + topic + " does not exist");
+    }
+    return partitions.length;
+  }
+
+  /**
+   * When {@param partition} is null, the partition is picked by hashing the serialized key.
+   */
+  @Override
+  public CompletableFuture<PubSubProduceResult> sendMessage(
+      String topic,
+      Integer partition,
+      KafkaKey key,
+      KafkaMessageEnvelope value,
+      PubSubMessageHeaders pubSubMessageHeaders,
+      PubSubProducerCallback pubSubProducerCallback) {
+    CompletableFuture<PubSubProduceResult> produceResultFuture = new CompletableFuture<>();
+    PubSubProduceResult produceResult = null;
+    Exception exception = null;
+    try {
+      if (closed) {
+        throw new PubSubClientException("Producer of in-process broker: " + broker.getBrokerAddress() + " is closed");
+      }
+      InProcessPubSubPartitionLog[] partitions = broker.getPartitions(topic);
+      if (partitions == null) {
+        throw new PubSubTopicDoesNotExistException("Topic " + topic + " does not exist");
+      }
+      byte[] keyBytes = keySerializer.serialize(topic, key);
+      byte[] valueBytes = valueSerializer.serialize(topic, value);
+      int partitionNumber =
+          partition != null ? partition : Math.floorMod(Arrays.hashCode(keyBytes), partitions.length);
+      if (partitionNumber < 0 || partitionNumber >= partitions.length) {
+        throw new PubSubClientException("Partition: " + partitionNumber + " does not exist in topic: " + topic);
+      }
+      long offset = partitions[partitionNumber].append(keyBytes, valueBytes, pubSubMessageHeaders);
+      produceResult =
+          new SimplePubSubProduceResultImpl(topic, partitionNumber, offset, keyBytes.length + valueBytes.length);
+    } catch (Exception e) {
+      exception = e;
+    }
+    if (pubSubProducerCallback != null) {
+      pubSubProducerCallback.onCompletion(produceResult, exception);
+    }
+    if (exception == null) {
+      produceResultFuture.complete(produceResult);
+    } else {
+      produceResultFuture.completeExceptionally(exception);
+    }
+    return produceResultFuture;
+  }
+
+  @Override
+  public void flush() {
+  }
+
+  @Override
+  public void close(int closeTimeOutMs, boolean doFlush) {
+    closed = true;
+  }
+
+  @Override
+  public Object2DoubleMap<String> getMeasurableProducerMetrics() {
+    return Object2DoubleMaps.emptyMap();
+  }
+
+  @Override
+  public String getBrokerAddress() {
+    return broker.getBrokerAddress();
+  }
+}
@@ -0,0 +1,30 @@
+package com.linkedin.venice.pubsub.adapter.inprocess;
+
+import com.linkedin.venice.pubsub.PubSubProducerAdapterFactory;
+import com.linkedin.venice.utils.VeniceProperties;
+
+
+/**
+ * Implementation of {@link PubSubProducerAdapterFactory} used to create producers of an {@link InProcessPubSubBroker}.
+ */
+public class InProcessPubSubProducerAdapterFactory
+    implements PubSubProducerAdapterFactory<InProcessPubSubProducerAdapter> {
+  private static final String NAME = "InProcessPubSubProducer";
+
+  @Override
+  public InProcessPubSubProducerAdapter create(
+      VeniceProperties veniceProperties,
+      String producerName,
+      String brokerAddressToOverride) {
+    return new InProcessPubSubProducerAdapter(new InProcessPubSubConfig(veniceProperties, brokerAddressToOverride));
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public void close() {
+  }
+}
@@ -0,0 +1,37 @@
+package com.linkedin.venice.pubsub.adapter.inprocess;
+
+import com.linkedin.venice.pubsub.api.PubSubMessageHeaders;
+
+
+/**
+ * A serialized record read from an {@link InProcessPubSubPartitionLog}.
+ */
+class InProcessPubSubRecord {
+  private final byte[] key;
+  private final byte[] value;
+  private final PubSubMessageHeaders headers;
+  private final long timestampMs;
+
+  InProcessPubSubRecord(byte[] key, byte[] value, PubSubMessageHeaders headers, long timestampMs) {
+    this.key = key;
+    this.value = value;
+    this.headers = headers;
+    this.timestampMs = timestampMs;
+  }
+
+  byte[] getKey() {
+    return key;
+  }
+
+  byte[] getValue() {
+    return value;
+  }
+
+  PubSubMessageHeaders getHeaders() {
+    return headers;
+  }
+
+  long getTimestampMs() {
+    return timestampMs;
+  }
+}
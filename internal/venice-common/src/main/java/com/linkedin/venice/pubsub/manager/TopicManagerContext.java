@@ -28,6 +28,7 @@ public class TopicManagerContext {
   private final long topicOffsetCheckIntervalMs;
   private final int topicMetadataFetcherConsumerPoolSize;
   private final int topicMetadataFetcherThreadPoolSize;
+  private final boolean topicOffsetBulkRefreshEnabled;
 
   private TopicManagerContext(Builder builder) {
     this.pubSubOperationTimeoutMs = builder.pubSubOperationTimeoutMs;
@@ -41,6 +42,7 @@ public class TopicManagerContext {
     this.topicOffsetCheckIntervalMs = builder.topicOffsetCheckIntervalMs;
     this.topicMetadataFetcherConsumerPoolSize = builder.topicMetadataFetcherConsumerPoolSize;
     this.topicMetadataFetcherThreadPoolSize = builder.topicMetadataFetcherThreadPoolSize;
+    this.topicOffsetBulkRefreshEnabled = builder.topicOffsetBulkRefreshEnabled;
   }
 
   public long getPubSubOperationTimeoutMs() {
@@ -91,6 +93,10 @@ public class TopicManagerContext {
     return topicMetadataFetcherThreadPoolSize;
   }
 
+  public boolean isTopicOffsetBulkRefreshEnabled() {
+    return topicOffsetBulkRefreshEnabled;
+  }
+
   public interface PubSubPropertiesSupplier {
     VeniceProperties get(String pubSubBootstrapServers);
   }
@@ -101,7 +107,8 @@ public class TopicManagerContext {
         + ", topicDeletionStatusPollIntervalMs=" + topicDeletionStatusPollIntervalMs + ", topicMinLogCompactionLagMs="
         + topicMinLogCompactionLagMs + ", topicOffsetCheckIntervalMs=" + topicOffsetCheckIntervalMs
         + ", topicMetadataFetcherConsumerPoolSize=" + topicMetadataFetcherConsumerPoolSize
-        + ", topicMetadataFetcherThreadPoolSize=" + topicMetadataFetcherThreadPoolSize + ", pubSubAdminAdapterFactory="
+        + ", topicMetadataFetcherThreadPoolSize=" + topicMetadataFetcherThreadPoolSize
+        + ", topicOffsetBulkRefreshEnabled=" + topicOffsetBulkRefreshEnabled + ", pubSubAdminAdapterFactory="
         + pubSubAdminAdapterFactory.getClass().getSimpleName() + ", pubSubConsumerAdapterFactory="
         + pubSubConsumerAdapterFactory.getClass().getSimpleName() + '}';
   }
@@ -118,6 +125,7 @@ public class TopicManagerContext {
     private long topicOffsetCheckIntervalMs = 60_000L; // 1 minute
     private int topicMetadataFetcherConsumerPoolSize = 1;
     private int topicMetadataFetcherThreadPoolSize = 2;
+    private boolean topicOffsetBulkRefreshEnabled = false;
 
     public Builder setPubSubOperationTimeoutMs(long pubSubOperationTimeoutMs) {
       this.pubSubOperationTimeoutMs = pubSubOperationTimeoutMs;
@@ -176,6 +184,11 @@ public class TopicManagerContext {
       return this;
     }
 
+    public Builder setTopicOffsetBulkRefreshEnabled(boolean topicOffsetBulkRefreshEnabled) {
+      this.topicOffsetBulkRefreshEnabled = topicOffsetBulkRefreshEnabled;
+      return this;
+    }
+
     public void verify() {
       if (pubSubAdminAdapterFactory == null) {
         throw new IllegalArgumentException("pubSubAdminAdapterFactory cannot be null");
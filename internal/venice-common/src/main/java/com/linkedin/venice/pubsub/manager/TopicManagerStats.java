@@ -10,6 +10,8 @@ import io.tehuti.metrics.stats.Avg;
 import io.tehuti.metrics.stats.Max;
 import io.tehuti.metrics.stats.Min;
 import io.tehuti.metrics.stats.OccurrenceRate;
+import io.tehuti.metrics.stats.Rate;
+import io.tehuti.metrics.stats.Total;
 import java.util.EnumMap;
 
 
@@ -20,12 +22,14 @@ class TopicManagerStats extends AbstractVeniceStats {
   private static final String TOPIC_MANAGER_STATS_PREFIX = "TopicManagerStats_";
   private EnumMap<SENSOR_TYPE, Sensor> sensorsByTypes = null;
   private final MetricsRepository metricsRepository;
+  // Number of per-partition metadata calls avoided by refreshing the latest offsets in bulk.
+  private Sensor bulkOffsetRefreshMetadataCallsSavedSensor = null;
 
   enum SENSOR_TYPE {
     CREATE_TOPIC, DELETE_TOPIC, LIST_ALL_TOPICS, SET_TOPIC_CONFIG, GET_ALL_TOPIC_RETENTIONS, GET_TOPIC_CONFIG,
     GET_TOPIC_CONFIG_WITH_RETRY, CONTAINS_TOPIC, GET_SOME_TOPIC_CONFIGS, CONTAINS_TOPIC_WITH_RETRY,
     GET_TOPIC_LATEST_OFFSETS, GET_PARTITION_LATEST_OFFSETS, PARTITIONS_FOR, GET_OFFSET_FOR_TIME,
-    GET_PRODUCER_TIMESTAMP_OF_LAST_DATA_MESSAGE, CONSUMER_ACQUISITION_WAIT_TIME
+    GET_PRODUCER_TIMESTAMP_OF_LAST_DATA_MESSAGE, CONSUMER_ACQUISITION_WAIT_TIME, GET_LATEST_OFFSETS_IN_BULK
   }
 
   TopicManagerStats(MetricsRepository metricsRepository, String pubSubAddress) {
@@ -47,6 +51,8 @@ class TopicManagerStats extends AbstractVeniceStats {
               new Avg(),
               TehutiUtils.getPercentileStat(getName() + AbstractVeniceStats.DELIMITER + sensorName)));
     }
+    bulkOffsetRefreshMetadataCallsSavedSensor =
+        registerSensorIfAbsent("bulk_offset_refresh_metadata_calls_saved", new Rate(), new Total());
   }
 
   EnumMap<SENSOR_TYPE, Sensor> getSensorsByTypes() {
@@ -61,6 +67,13 @@ class TopicManagerStats extends AbstractVeniceStats {
     sensorsByTypes.get(sensorType).record(LatencyUtils.getLatencyInMS(startTimeInNs));
   }
 
+  void recordBulkOffsetRefreshMetadataCallsSaved(int metadataCallsSaved) {
+    if (bulkOffsetRefreshMetadataCallsSavedSensor == null) {
+      return;
+    }
+    bulkOffsetRefreshMetadataCallsSavedSensor.record(metadataCallsSaved);
+  }
+
   final void registerTopicMetadataFetcherSensors(TopicMetadataFetcher topicMetadataFetcher) {
     if (metricsRepository == null) {
       return;
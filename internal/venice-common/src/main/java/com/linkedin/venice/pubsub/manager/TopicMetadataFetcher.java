@@ -3,6 +3,7 @@ package com.linkedin.venice.pubsub.manager;
 import static com.linkedin.venice.pubsub.PubSubConstants.PUBSUB_OFFSET_API_TIMEOUT_DURATION_DEFAULT_VALUE;
 import static com.linkedin.venice.pubsub.manager.TopicManagerStats.SENSOR_TYPE.CONSUMER_ACQUISITION_WAIT_TIME;
 import static com.linkedin.venice.pubsub.manager.TopicManagerStats.SENSOR_TYPE.CONTAINS_TOPIC;
+import static com.linkedin.venice.pubsub.manager.TopicManagerStats.SENSOR_TYPE.GET_LATEST_OFFSETS_IN_BULK;
 import static com.linkedin.venice.pubsub.manager.TopicManagerStats.SENSOR_TYPE.GET_OFFSET_FOR_TIME;
 import static com.linkedin.venice.pubsub.manager.TopicManagerStats.SENSOR_TYPE.GET_PARTITION_LATEST_OFFSETS;
 import static com.linkedin.venice.pubsub.manager.TopicManagerStats.SENSOR_TYPE.GET_PRODUCER_TIMESTAMP_OF_LAST_DATA_MESSAGE;
@@ -46,7 +47,9 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -71,6 +74,11 @@ class TopicMetadataFetcher implements Closeable {
   private final BlockingQueue<PubSubConsumerAdapter> pubSubConsumerPool;
   private final List<Closeable> closeables;
   private final ThreadPoolExecutor threadPoolExecutor;
+  /**
+   * Refreshes the latest offsets of all the cached partitions at once, see {@link #refreshLatestOffsetsInBulk()}.
+   * Null when bulk refresh is disabled.
+   */
+  private final ScheduledExecutorService bulkOffsetRefreshExecutor;
   private final PubSubAdminAdapter pubSubAdminAdapter;
   private final TopicManagerStats stats;
   private final String pubSubClusterAddress;
@@ -128,6 +136,20 @@ class TopicMetadataFetcher implements Closeable {
         new DaemonThreadFactory("TopicMetadataFetcherThreadPool"));
     threadPoolExecutor.allowCoreThreadTimeOut(true);
 
+    if (topicManagerContext.isTopicOffsetBulkRefreshEnabled() && cachedEntryTtlInNs > 0) {
+      /**
+       * Refresh twice per TTL, so that the cached entries are refreshed before they expire, and reads never fall back
+       * to the per-partition refresh as long as the bulk refresh succeeds.
+       */
+      long refreshIntervalMs = Math.max(1, topicManagerContext.getTopicOffsetCheckIntervalMs() / 2);
+      bulkOffsetRefreshExecutor = Executors
+          .newSingleThreadScheduledExecutor(new DaemonThreadFactory("TopicMetadataFetcherBulkOffsetRefresh"));
+      bulkOffsetRefreshExecutor
+          .scheduleWithFixedDelay(this::refreshLatestOffsetsInBulk, refreshIntervalMs, refreshIntervalMs, MILLISECONDS);
+    } else {
+      bulkOffsetRefreshExecutor = null;
+    }
+
     stats.registerTopicMetadataFetcherSensors(this);
 
     LOGGER.info(
@@ -150,6 +172,7 @@ class TopicMetadataFetcher implements Closeable {
     this.pubSubAdminAdapter = pubSubAdminAdapter;
     this.pubSubConsumerPool = pubSubConsumerPool;
     this.threadPoolExecutor = threadPoolExecutor;
+    this.bulkOffsetRefreshExecutor = null;
     this.cachedEntryTtlInNs = cachedEntryTtlInNs;
     this.closeables = new ArrayList<>(pubSubConsumerPool);
   }
@@ -202,6 +225,9 @@ class TopicMetadataFetcher implements Closeable {
         "Closing TopicMetadataFetcher for pubSubClusterAddress: {} with num of consumers: {}",
         pubSubClusterAddress,
         closeables.size());
+    if (bulkOffsetRefreshExecutor != null) {
+      bulkOffsetRefreshExecutor.shutdownNow();
+    }
     threadPoolExecutor.shutdown();
     try {
       if (!threadPoolExecutor.awaitTermination(50, MILLISECONDS)) {
@@ -378,6 +404,56 @@ class TopicMetadataFetcher implements Closeable {
     return cachedValue.getValue();
   }
 
+  /**
+   * Refreshes the latest offsets of all the partitions in {@link #latestOffsetCache} with a single metadata call,
+   * instead of one metadata call per partition when each entry expires. The PubSub client groups the partitions by
+   * their leader broker, so this results in one request per broker no matter how many partitions and topics are cached.
+   *
+   * Only the entries still in the cache are refreshed, so that invalidated entries are not brought back. Partitions
+   * missing from the response, or all of them if the call fails, keep being refreshed one by one once they expire.
+   */
+  void refreshLatestOffsetsInBulk() {
+    if (latestOffsetCache.isEmpty()) {
+      return;
+    }
+    Set<PubSubTopicPartition> topicPartitions = new HashSet<>(latestOffsetCache.keySet());
+    Map<PubSubTopicPartition, Long> offsetMap;
+    PubSubConsumerAdapter pubSubConsumerAdapter = acquireConsumer();
+    try {
+      long startTime = System.nanoTime();
+      offsetMap = pubSubConsumerAdapter.endOffsets(topicPartitions, PUBSUB_OFFSET_API_TIMEOUT_DURATION_DEFAULT_VALUE);
+      stats.recordLatency(GET_LATEST_OFFSETS_IN_BULK, startTime);
+    } catch (Exception e) {
+      LOGGER.warn(
+          "Failed to refresh the latest offsets of {} topic-partitions in bulk for pubSubClusterAddress: {}",
+          topicPartitions.size(),
+          pubSubClusterAddress,
+          e);
+      return;
+    } finally {
+      releaseConsumer(pubSubConsumerAdapter);
+    }
+    if (offsetMap == null) {
+      return;
+    }
+    int refreshedCount = 0;
+    for (Map.Entry<PubSubTopicPartition, Long> entry: offsetMap.entrySet()) {
+      Long latestOffset = entry.getValue();
+      if (latestOffset == null) {
+        continue;
+      }
+      if (latestOffsetCache.computeIfPresent(entry.getKey(), (k, v) -> {
+        v.refreshValue(latestOffset);
+        return v;
+      }) != null) {
+        refreshedCount++;
+      }
+    }
+    if (refreshedCount > 1) {
+      stats.recordBulkOffsetRefreshMetadataCallsSaved(refreshedCount - 1);
+    }
+  }
+
   // load the cache with the latest offset
   void populateCacheWithLatestOffset(PubSubTopicPartition pubSubTopicPartition) {
     CompletableFuture.runAsync(() -> {
@@ -747,6 +823,14 @@ class TopicMetadataFetcher implements Closeable {
       this.isUpdateInProgress.set(false); // release the lock
     }
 
+    /**
+     * Same as {@link #updateValue}, except that the lock of an update in progress is left for it to release.
+     */
+    void refreshValue(T value) {
+      this.value = value;
+      this.expiryTimeNs = System.nanoTime() + cachedEntryTtlInNs;
+    }
+
     // test only methods
     void setExpiryTimeNs(long expiryTimeNs) {
       this.expiryTimeNs = expiryTimeNs;
@@ -0,0 +1,112 @@
+package com.linkedin.venice.utils;
+
+import io.netty.channel.Channel;
+import io.netty.channel.MultithreadEventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
+import io.netty.incubator.channel.uring.IOUringServerSocketChannel;
+import io.netty.incubator.channel.uring.IOUringSocketChannel;
+import java.util.concurrent.Executor;
+
+
+/**
+ * The transports which can back the Netty event loops of the router and the server. Use
+ * {@link NettyUtils#resolveTransport(boolean, boolean)} to pick one which is supported by the current platform.
+ *
+ * The event loop groups and the channels of a pipeline must all come from the same transport.
+ */
+public enum NettyTransport {
+  /**
+   * Batches the reads and writes of each event loop iteration into a single submission to the kernel, which requires
+   * Linux 5.9 or above. Its library is only shipped with the router and the server, so it is unavailable elsewhere.
+   */
+  IO_URING {
+    @Override
+    Throwable getUnavailabilityCause() {
+      return IOUring.unavailabilityCause();
+    }
+
+    @Override
+    public MultithreadEventLoopGroup newEventLoopGroup(int threadCount, Executor executor) {
+      return new IOUringEventLoopGroup(threadCount, executor);
+    }
+
+    @Override
+    public Class<? extends ServerChannel> getServerSocketChannelClass() {
+      return IOUringServerSocketChannel.class;
+    }
+
+    @Override
+    public Class<? extends Channel> getSocketChannelClass() {
+      return IOUringSocketChannel.class;
+    }
+  },
+
+  EPOLL {
+    @Override
+    Throwable getUnavailabilityCause() {
+      return Epoll.unavailabilityCause();
+    }
+
+    @Override
+    public MultithreadEventLoopGroup newEventLoopGroup(int threadCount, Executor executor) {
+      return new EpollEventLoopGroup(threadCount, executor);
+    }
+
+    @Override
+    public Class<? extends ServerChannel> getServerSocketChannelClass() {
+      return EpollServerSocketChannel.class;
+    }
+
+    @Override
+    public Class<? extends Channel> getSocketChannelClass() {
+      return EpollSocketChannel.class;
+    }
+  },
+
+  NIO {
+    @Override
+    Throwable getUnavailabilityCause() {
+      return null;
+    }
+
+    @Override
+    public MultithreadEventLoopGroup newEventLoopGroup(int threadCount, Executor executor) {
+      return new NioEventLoopGroup(threadCount, executor);
+    }
+
+    @Override
+    public Class<? extends ServerChannel> getServerSocketChannelClass() {
+      return NioServerSocketChannel.class;
+    }
+
+    @Override
+    public Class<? extends Channel> getSocketChannelClass() {
+      return NioSocketChannel.class;
+    }
+  };
+
+  /**
+   * @return why the native library of the transport cannot be loaded or is not supported by the kernel, or null if the
+   *         transport is available.
+   */
+  abstract Throwable getUnavailabilityCause();
+
+  /**
+   * @param threadCount the number of event loops, or 0 for twice the number of cores.
+   * @param executor the executor running the event loops, or null to start a thread per event loop.
+   */
+  public abstract MultithreadEventLoopGroup newEventLoopGroup(int threadCount, Executor executor);
+
+  public abstract Class<? extends ServerChannel> getServerSocketChannelClass();
+
+  public abstract Class<? extends Channel> getSocketChannelClass();
+}
@@ -38,4 +38,36 @@ public class NettyUtils {
     response.headers().set(CONTENT_LENGTH, response.content().readableBytes());
     ctx.writeAndFlush(response);
   }
+
+  /**
+   * @return the first transport, in the order io_uring, epoll and NIO, which is enabled and supported by the current
+   *         platform. io_uring falls back to epoll when it is not supported, e.g. on kernels older than 5.9, and epoll
+   *         falls back to NIO on platforms other than Linux.
+   */
+  public static NettyTransport resolveTransport(boolean ioUringEnabled, boolean epollEnabled) {
+    if (ioUringEnabled) {
+      if (isAvailable(NettyTransport.IO_URING)) {
+        return NettyTransport.IO_URING;
+      }
+      epollEnabled = true;
+    }
+    if (epollEnabled && isAvailable(NettyTransport.EPOLL)) {
+      return NettyTransport.EPOLL;
+    }
+    return NettyTransport.NIO;
+  }
+
+  private static boolean isAvailable(NettyTransport transport) {
+    Throwable unavailabilityCause;
+    try {
+      unavailabilityCause = transport.getUnavailabilityCause();
+    } catch (LinkageError e) {
+      unavailabilityCause = e;
+    }
+    if (unavailabilityCause != null) {
+      LOGGER.info("Netty transport {} is not supported on this platform", transport, unavailabilityCause);
+      return false;
+    }
+    return true;
+  }
 }
@@ -1,6 +1,8 @@
 package com.linkedin.venice.partitioner;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -68,4 +70,54 @@ public class TestVenicePartitioner {
     partition2 = sumPartitioner.getPartitionId(keyBytes2, 16);
     Assert.assertEquals(partition1, partition2);
   }
+
+  @Test
+  public void testXXHashPartitioner() {
+    // Reference values of 64-bit xxHash with a seed of 0
+    Assert.assertEquals(XXHashVenicePartitioner.hash(new byte[0], 0, 0, 0), 0xEF46DB3751D8E999L);
+    byte[] abc = "abc".getBytes(StandardCharsets.UTF_8);
+    Assert.assertEquals(XXHashVenicePartitioner.hash(abc, 0, abc.length, 0), 0x44BC2CF5AD770999L);
+    byte[] longKey = "Nobody inspects the spammish repetition".getBytes(StandardCharsets.UTF_8);
+    Assert.assertEquals(XXHashVenicePartitioner.hash(longKey, 0, longKey.length, 0), 0xFBCEA83C8A378BF1L);
+
+    VenicePartitioner vp = new XXHashVenicePartitioner();
+    int numPartitions = 7;
+    int[] partitionCounts = new int[numPartitions];
+    Random random = new Random(1);
+    for (int i = 0; i < 7000; i++) {
+      byte[] keyBytes = new byte[random.nextInt(64) + 1];
+      random.nextBytes(keyBytes);
+      int partition = vp.getPartitionId(keyBytes, numPartitions);
+      partitionCounts[partition]++;
+
+      // All the variants agree
+      byte[] paddedKeyBytes = new byte[keyBytes.length + 4];
+      System.arraycopy(keyBytes, 0, paddedKeyBytes, 2, keyBytes.length);
+      Assert.assertEquals(vp.getPartitionId(paddedKeyBytes, 2, keyBytes.length, numPartitions), partition);
+      Assert.assertEquals(
+          vp.getPartitionId(ByteBuffer.wrap(paddedKeyBytes, 2, keyBytes.length).slice(), numPartitions),
+          partition);
+    }
+    for (int count: partitionCounts) {
+      Assert.assertTrue(count > 800 && count < 1200, "count: " + count);
+    }
+  }
+
+  @Test
+  public void testBatchPartitioning() {
+    byte[][] keys = new byte[100][];
+    Random random = new Random(1);
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = new byte[random.nextInt(64) + 1];
+      random.nextBytes(keys[i]);
+    }
+    for (VenicePartitioner vp: new VenicePartitioner[] { new DefaultVenicePartitioner(),
+        new XXHashVenicePartitioner() }) {
+      int[] partitionIds = new int[keys.length];
+      vp.getPartitionIds(keys, 16, partitionIds);
+      for (int i = 0; i < keys.length; i++) {
+        Assert.assertEquals(partitionIds[i], vp.getPartitionId(keys[i], 16));
+      }
+    }
+  }
 }
@@ -0,0 +1,225 @@
+package com.linkedin.venice.pubsub.adapter.inprocess;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.kafka.protocol.GUID;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.ProducerMetadata;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.PubSubConstants;
+import com.linkedin.venice.pubsub.PubSubTopicConfiguration;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubMessageDeserializer;
+import com.linkedin.venice.pubsub.api.PubSubProduceResult;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicDoesNotExistException;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicExistsException;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubUnsubscribedTopicPartitionException;
+import com.linkedin.venice.serialization.avro.OptimizedKafkaValueSerializer;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.pools.LandFillObjectPool;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class InProcessPubSubAdaptersTest {
+  private static final int PARTITION_COUNT = 2;
+
+  private final PubSubTopicRepository topicRepository = new PubSubTopicRepository();
+  private File dataDirectory;
+  private InProcessPubSubBroker broker;
+  private InProcessPubSubAdminAdapter adminAdapter;
+  private InProcessPubSubProducerAdapter producerAdapter;
+  private InProcessPubSubConsumerAdapter consumerAdapter;
+  private PubSubTopic topic;
+
+  @BeforeMethod
+  public void setUp() {
+    dataDirectory = Utils.getTempDataDirectory("in-process-pubsub");
+    broker = InProcessPubSubBroker
+        .getOrCreate("localhost:" + System.nanoTime(), dataDirectory, InProcessPubSubConfig.DEFAULT_SEGMENT_SIZE_BYTES);
+    adminAdapter = new InProcessPubSubAdminAdapter(broker, topicRepository);
+    producerAdapter = new InProcessPubSubProducerAdapter(broker);
+    consumerAdapter = new InProcessPubSubConsumerAdapter(broker, createDeserializer(), 3);
+    topic = topicRepository.getTopic(Utils.getUniqueString("test-topic"));
+    adminAdapter.createTopic(topic, PARTITION_COUNT, 1, getTopicConfiguration(Optional.of(1000L)));
+  }
+
+  @AfterMethod
+  public void cleanUp() throws Exception {
+    consumerAdapter.close();
+    producerAdapter.close(0, false);
+    adminAdapter.close();
+    broker.close();
+    FileUtils.deleteDirectory(dataDirectory);
+  }
+
+  @Test
+  public void testAdminOperations() {
+    assertTrue(adminAdapter.containsTopic(topic));
+    assertTrue(adminAdapter.listAllTopics().contains(topic));
+    assertTrue(adminAdapter.containsTopicWithPartitionCheck(new PubSubTopicPartitionImpl(topic, 1)));
+    assertFalse(adminAdapter.containsTopicWithPartitionCheck(new PubSubTopicPartitionImpl(topic, PARTITION_COUNT)));
+    assertEquals(adminAdapter.getTopicConfig(topic).retentionInMs(), Optional.of(1000L));
+    assertThrows(
+        PubSubTopicExistsException.class,
+        () -> adminAdapter.createTopic(topic, PARTITION_COUNT, 1, getTopicConfiguration(Optional.empty())));
+
+    adminAdapter.setTopicConfig(topic, getTopicConfiguration(Optional.empty()));
+    assertEquals(
+        adminAdapter.getAllTopicRetentions().get(topic),
+        Long.valueOf(PubSubConstants.PUBSUB_TOPIC_UNKNOWN_RETENTION));
+
+    adminAdapter.deleteTopic(topic, Duration.ofSeconds(1));
+    assertFalse(adminAdapter.containsTopic(topic));
+    assertTrue(adminAdapter.getSomeTopicConfigs(Collections.singleton(topic)).isEmpty());
+    assertThrows(PubSubTopicDoesNotExistException.class, () -> adminAdapter.getTopicConfig(topic));
+    assertThrows(
+        PubSubTopicDoesNotExistException.class,
+        () -> adminAdapter.deleteTopic(topic, Duration.ofSeconds(1)));
+  }
+
+  @Test
+  public void testProduceAndConsume() throws Exception {
+    PubSubTopicPartition partition0 = new PubSubTopicPartitionImpl(topic, 0);
+    PubSubTopicPartition partition1 = new PubSubTopicPartitionImpl(topic, 1);
+    List<PubSubProduceResult> callbackResults = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      CompletableFuture<PubSubProduceResult> future = producerAdapter.sendMessage(
+          topic.getName(),
+          i % PARTITION_COUNT,
+          new KafkaKey(MessageType.PUT, ("key" + i).getBytes()),
+          getDummyValue(),
+          null,
+          (result, exception) -> callbackResults.add(result));
+      assertTrue(future.isDone());
+      assertEquals(future.get().getOffset(), i / PARTITION_COUNT);
+      assertEquals(future.get().getPartition(), i % PARTITION_COUNT);
+    }
+    assertEquals(callbackResults.size(), 4);
+    assertEquals(producerAdapter.getNumberOfPartitions(topic.getName()), PARTITION_COUNT);
+    assertEquals(consumerAdapter.endOffset(partition0), Long.valueOf(2));
+    assertEquals(consumerAdapter.beginningOffset(partition0, Duration.ofSeconds(1)), Long.valueOf(0));
+    Map<PubSubTopicPartition, Long> endOffsets =
+        consumerAdapter.endOffsets(Arrays.asList(partition0, partition1), Duration.ofSeconds(1));
+    assertEquals(endOffsets.get(partition1), Long.valueOf(2));
+    assertEquals(consumerAdapter.partitionsFor(topic).size(), PARTITION_COUNT);
+    assertNull(consumerAdapter.partitionsFor(topicRepository.getTopic("missing-topic")));
+
+    consumerAdapter.subscribe(partition0, -1);
+    consumerAdapter.subscribe(partition1, 0);
+    assertEquals(consumerAdapter.getAssignment().size(), PARTITION_COUNT);
+    Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> messages =
+        consumerAdapter.poll(100);
+    assertEquals(messages.get(partition0).size(), 2);
+    assertEquals(messages.get(partition0).get(0).getKey().getKey(), "key0".getBytes());
+    assertEquals(messages.get(partition0).get(1).getOffset(), Long.valueOf(1));
+    assertEquals(messages.get(partition1).size(), 1);
+    assertEquals(messages.get(partition1).get(0).getKey().getKey(), "key3".getBytes());
+    assertTrue(consumerAdapter.poll(10).isEmpty());
+
+    consumerAdapter.pause(partition0);
+    consumerAdapter.resetOffset(partition0);
+    assertTrue(consumerAdapter.poll(10).isEmpty());
+    consumerAdapter.resume(partition0);
+    assertEquals(consumerAdapter.poll(10).get(partition0).size(), 2);
+
+    consumerAdapter.unSubscribe(partition0);
+    assertFalse(consumerAdapter.hasSubscription(partition0));
+    assertThrows(PubSubUnsubscribedTopicPartitionException.class, () -> consumerAdapter.resetOffset(partition0));
+    assertThrows(
+        PubSubTopicDoesNotExistException.class,
+        () -> consumerAdapter.subscribe(new PubSubTopicPartitionImpl(topic, PARTITION_COUNT), -1));
+
+    // A poll which has to wait gets messages produced in the meantime.
+    Thread producerThread = new Thread(() -> {
+      Utils.sleep(50);
+      producerAdapter.sendMessage(
+          topic.getName(),
+          1,
+          new KafkaKey(MessageType.PUT, "key4".getBytes()),
+          getDummyValue(),
+          null,
+          null);
+    });
+    producerThread.start();
+    messages = consumerAdapter.poll(10000);
+    producerThread.join();
+    assertEquals(messages.get(partition1).get(0).getOffset(), Long.valueOf(2));
+
+    long timestamp = messages.get(partition1).get(0).getPubSubMessageTime();
+    assertNotNull(consumerAdapter.offsetForTime(partition1, timestamp));
+    assertNull(consumerAdapter.offsetForTime(partition1, timestamp + 1));
+  }
+
+  @Test
+  public void testTopicsAreRecoveredAfterRestart() throws Exception {
+    PubSubTopicPartition partition = new PubSubTopicPartitionImpl(topic, 1);
+    producerAdapter
+        .sendMessage(topic.getName(), 1, new KafkaKey(MessageType.PUT, "key".getBytes()), getDummyValue(), null, null)
+        .get();
+    String brokerAddress = broker.getBrokerAddress();
+    broker.close();
+
+    broker = InProcessPubSubBroker
+        .getOrCreate(brokerAddress, dataDirectory, InProcessPubSubConfig.DEFAULT_SEGMENT_SIZE_BYTES);
+    InProcessPubSubConsumerAdapter recoveredConsumerAdapter =
+        new InProcessPubSubConsumerAdapter(broker, createDeserializer(), 3);
+    try {
+      InProcessPubSubAdminAdapter recoveredAdminAdapter = new InProcessPubSubAdminAdapter(broker, topicRepository);
+      assertEquals(recoveredAdminAdapter.getTopicConfig(topic).retentionInMs(), Optional.of(1000L));
+      recoveredConsumerAdapter.subscribe(partition, -1);
+      assertEquals(recoveredConsumerAdapter.poll(100).get(partition).get(0).getKey().getKey(), "key".getBytes());
+    } finally {
+      recoveredConsumerAdapter.close();
+    }
+  }
+
+  private static PubSubMessageDeserializer createDeserializer() {
+    return new PubSubMessageDeserializer(
+        new OptimizedKafkaValueSerializer(),
+        new LandFillObjectPool<>(KafkaMessageEnvelope::new),
+        new LandFillObjectPool<>(KafkaMessageEnvelope::new));
+  }
+
+  private static PubSubTopicConfiguration getTopicConfiguration(Optional<Long> retentionInMs) {
+    return new PubSubTopicConfiguration(retentionInMs, false, Optional.empty(), 0L, Optional.empty());
+  }
+
+  private static KafkaMessageEnvelope getDummyValue() {
+    KafkaMessageEnvelope value = new KafkaMessageEnvelope();
+    value.messageType = MessageType.PUT.getValue();
+    value.producerMetadata = new ProducerMetadata();
+    value.producerMetadata.messageTimestamp = 0;
+    value.producerMetadata.messageSequenceNumber = 0;
+    value.producerMetadata.segmentNumber = 0;
+    value.producerMetadata.producerGUID = new GUID();
+    Put put = new Put();
+    put.putValue = ByteBuffer.allocate(16);
+    put.replicationMetadataPayload = ByteBuffer.allocate(0);
+    value.payloadUnion = put;
+    return value;
+  }
+}
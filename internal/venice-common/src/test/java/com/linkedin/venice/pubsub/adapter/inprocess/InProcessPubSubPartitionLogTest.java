@@ -0,0 +1,151 @@
+package com.linkedin.venice.pubsub.adapter.inprocess;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.pubsub.api.PubSubMessageHeader;
+import com.linkedin.venice.pubsub.api.PubSubMessageHeaders;
+import com.linkedin.venice.utils.Utils;
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.List;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class InProcessPubSubPartitionLogTest {
+  private static final int SEGMENT_SIZE_BYTES = 256;
+
+  private File directory;
+
+  @BeforeMethod
+  public void setUp() {
+    directory = Utils.getTempDataDirectory("in-process-partition-log");
+  }
+
+  @AfterMethod
+  public void cleanUp() throws Exception {
+    FileUtils.deleteDirectory(directory);
+  }
+
+  @Test
+  public void testAppendAndRead() {
+    try (InProcessPubSubPartitionLog log = new InProcessPubSubPartitionLog(directory, SEGMENT_SIZE_BYTES)) {
+      assertEquals(log.getBeginningOffset(), 0);
+      assertEquals(log.getEndOffset(), 0);
+      assertNull(log.read(0));
+
+      PubSubMessageHeaders headers = new PubSubMessageHeaders().add("header", "header-value".getBytes());
+      assertEquals(log.append("key0".getBytes(), "value0".getBytes(), headers), 0);
+      assertEquals(log.append("key1".getBytes(), "value1".getBytes(), null), 1);
+      assertEquals(log.getEndOffset(), 2);
+
+      InProcessPubSubRecord record = log.read(0);
+      assertEquals(record.getKey(), "key0".getBytes());
+      assertEquals(record.getValue(), "value0".getBytes());
+      List<PubSubMessageHeader> headerList = record.getHeaders().toList();
+      assertEquals(headerList.size(), 1);
+      assertEquals(headerList.get(0).key(), "header");
+      assertEquals(headerList.get(0).value(), "header-value".getBytes());
+
+      record = log.read(1);
+      assertEquals(record.getKey(), "key1".getBytes());
+      assertEquals(record.getValue(), "value1".getBytes());
+      assertTrue(record.getHeaders().toList().isEmpty());
+      assertTrue(record.getTimestampMs() >= log.read(0).getTimestampMs());
+      assertNull(log.read(2));
+      assertNull(log.read(-1));
+    }
+  }
+
+  @Test
+  public void testSegmentRollAndRecovery() {
+    int recordCount = 100;
+    try (InProcessPubSubPartitionLog log = new InProcessPubSubPartitionLog(directory, SEGMENT_SIZE_BYTES)) {
+      for (int i = 0; i < recordCount; i++) {
+        log.append(("key" + i).getBytes(), ("value" + i).getBytes(), null);
+      }
+      // A record larger than a segment gets a segment of its own.
+      log.append("large-key".getBytes(), new byte[SEGMENT_SIZE_BYTES * 2], null);
+    }
+    assertTrue(directory.listFiles((dir, name) -> name.endsWith(".log")).length > 2);
+
+    try (InProcessPubSubPartitionLog log = new InProcessPubSubPartitionLog(directory, SEGMENT_SIZE_BYTES)) {
+      assertEquals(log.getEndOffset(), recordCount + 1);
+      for (int i = 0; i < recordCount; i++) {
+        InProcessPubSubRecord record = log.read(i);
+        assertEquals(record.getKey(), ("key" + i).getBytes());
+        assertEquals(record.getValue(), ("value" + i).getBytes());
+      }
+      assertEquals(log.read(recordCount).getValue().length, SEGMENT_SIZE_BYTES * 2);
+      assertEquals(log.append("key".getBytes(), "value".getBytes(), null), recordCount + 1);
+      assertEquals(log.read(recordCount + 1).getKey(), "key".getBytes());
+    }
+  }
+
+  @Test
+  public void testRecoveryWithEmptyTrailingSegment() throws Exception {
+    int recordCount = 20;
+    try (InProcessPubSubPartitionLog log = new InProcessPubSubPartitionLog(directory, SEGMENT_SIZE_BYTES)) {
+      for (int i = 0; i < recordCount; i++) {
+        log.append(("key" + i).getBytes(), ("value" + i).getBytes(), null);
+      }
+    }
+    // A crash right after a segment roll leaves a trailing segment without any record.
+    File emptySegmentFile = new File(directory, String.format("%020d", recordCount) + ".log");
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(emptySegmentFile, "rw")) {
+      randomAccessFile.setLength(SEGMENT_SIZE_BYTES);
+    }
+
+    long lastTimestampMs;
+    try (InProcessPubSubPartitionLog log = new InProcessPubSubPartitionLog(directory, SEGMENT_SIZE_BYTES)) {
+      assertFalse(emptySegmentFile.exists());
+      assertEquals(log.getEndOffset(), recordCount);
+      lastTimestampMs = log.read(recordCount - 1).getTimestampMs();
+      assertEquals(log.append("key".getBytes(), "value".getBytes(), null), recordCount);
+      assertEquals(log.read(recordCount).getKey(), "key".getBytes());
+      assertTrue(log.read(recordCount).getTimestampMs() >= lastTimestampMs);
+    }
+
+    // The same goes for a log whose only segment is empty, even if the segment file was not even sized yet.
+    FileUtils.cleanDirectory(directory);
+    assertTrue(new File(directory, String.format("%020d", 0) + ".log").createNewFile());
+    try (InProcessPubSubPartitionLog log = new InProcessPubSubPartitionLog(directory, SEGMENT_SIZE_BYTES)) {
+      assertEquals(log.getEndOffset(), 0);
+      assertEquals(log.append("key".getBytes(), "value".getBytes(), null), 0);
+      assertEquals(log.read(0).getValue(), "value".getBytes());
+    }
+  }
+
+  @Test
+  public void testReadAfterClose() {
+    InProcessPubSubPartitionLog log = new InProcessPubSubPartitionLog(directory, SEGMENT_SIZE_BYTES);
+    log.append("key".getBytes(), "value".getBytes(), null);
+    log.close();
+    // The segments are unmapped, so nothing can be read from them anymore.
+    assertNull(log.read(0));
+    assertNull(log.getOffsetForTime(0));
+  }
+
+  @Test
+  public void testGetOffsetForTime() {
+    try (InProcessPubSubPartitionLog log = new InProcessPubSubPartitionLog(directory, SEGMENT_SIZE_BYTES)) {
+      assertNull(log.getOffsetForTime(0));
+      for (int i = 0; i < 20; i++) {
+        log.append(("key" + i).getBytes(), ("value" + i).getBytes(), null);
+      }
+      assertEquals(log.getOffsetForTime(0), Long.valueOf(0));
+      for (int i = 0; i < 20; i++) {
+        long timestampMs = log.read(i).getTimestampMs();
+        long offset = log.getOffsetForTime(timestampMs);
+        assertTrue(offset <= i);
+        assertEquals(log.read(offset).getTimestampMs(), timestampMs);
+      }
+      assertNull(log.getOffsetForTime(log.read(19).getTimestampMs() + 1));
+    }
+  }
+}
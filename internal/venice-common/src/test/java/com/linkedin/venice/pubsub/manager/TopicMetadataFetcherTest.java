@@ -50,6 +50,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
@@ -444,6 +445,43 @@ public class TopicMetadataFetcherTest {
     assertEquals(pubSubConsumerPool.size(), 1);
   }
 
+  @Test
+  public void testRefreshLatestOffsetsInBulk() {
+    PubSubTopicPartition tp0 = new PubSubTopicPartitionImpl(pubSubTopic, 0);
+    PubSubTopicPartition tp1 = new PubSubTopicPartitionImpl(pubSubTopic, 1);
+    PubSubTopicPartition tp2 = new PubSubTopicPartitionImpl(pubSubTopic, 2);
+    when(adminMock.containsTopic(pubSubTopic)).thenReturn(true);
+    for (PubSubTopicPartition tp: Arrays.asList(tp0, tp1, tp2)) {
+      when(consumerMock.endOffsets(eq(Collections.singleton(tp)), any(Duration.class)))
+          .thenReturn(Collections.singletonMap(tp, 100L + tp.getPartitionNumber()));
+      assertEquals(topicMetadataFetcher.getLatestOffsetCached(tp), 100L + tp.getPartitionNumber());
+    }
+
+    // All the cached partitions are refreshed by a single call, and partitions missing from the response are kept.
+    Map<PubSubTopicPartition, Long> offsetMap = new HashMap<>();
+    offsetMap.put(tp0, 200L);
+    offsetMap.put(tp1, 201L);
+    when(consumerMock.endOffsets(eq(new HashSet<>(Arrays.asList(tp0, tp1, tp2))), any(Duration.class)))
+        .thenReturn(offsetMap);
+    topicMetadataFetcher.refreshLatestOffsetsInBulk();
+    assertEquals(topicMetadataFetcher.getLatestOffsetCached(tp0), 200L);
+    assertEquals(topicMetadataFetcher.getLatestOffsetCached(tp1), 201L);
+    assertEquals(topicMetadataFetcher.getLatestOffsetCached(tp2), 102L);
+    verify(stats).recordBulkOffsetRefreshMetadataCallsSaved(1);
+
+    // A failed refresh keeps the cached values, and releases the consumer.
+    when(consumerMock.endOffsets(eq(new HashSet<>(Arrays.asList(tp0, tp1, tp2))), any(Duration.class)))
+        .thenThrow(new PubSubOpTimeoutException("Test"));
+    topicMetadataFetcher.refreshLatestOffsetsInBulk();
+    assertEquals(topicMetadataFetcher.getLatestOffsetCached(tp0), 200L);
+    assertEquals(pubSubConsumerPool.size(), 1);
+
+    // Invalidated partitions are not brought back.
+    topicMetadataFetcher.invalidateKey(pubSubTopic);
+    topicMetadataFetcher.refreshLatestOffsetsInBulk();
+    verify(stats, times(1)).recordBulkOffsetRefreshMetadataCallsSaved(anyInt());
+  }
+
   @Test(timeOut = 60 * Time.MS_PER_SECOND)
   public void testGetLatestOffsetWithRetries() throws ExecutionException, InterruptedException {
     PubSubTopicPartition tp0 = new PubSubTopicPartitionImpl(pubSubTopic, 0);
@@ -0,0 +1,97 @@
+package com.linkedin.venice.utils;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class NettyUtilsTest {
+  @Test
+  public void testResolveTransportWithoutNativeTransports() {
+    Assert.assertEquals(NettyUtils.resolveTransport(false, false), NettyTransport.NIO);
+  }
+
+  @DataProvider(name = "transportFlags")
+  public static Object[][] transportFlags() {
+    return new Object[][] { { false, false }, { false, true }, { true, false }, { true, true } };
+  }
+
+  /**
+   * Whichever transport gets picked on the current platform, including the fallbacks, must be able to serve
+   * connections.
+   */
+  @Test(dataProvider = "transportFlags", timeOut = 30 * Time.MS_PER_SECOND)
+  public void testResolvedTransportServesConnections(boolean ioUringEnabled, boolean epollEnabled) throws Exception {
+    NettyTransport transport = NettyUtils.resolveTransport(ioUringEnabled, epollEnabled);
+    if (!ioUringEnabled && !epollEnabled) {
+      Assert.assertEquals(transport, NettyTransport.NIO);
+    }
+    if (!ioUringEnabled) {
+      Assert.assertNotEquals(transport, NettyTransport.IO_URING);
+    }
+
+    EventLoopGroup eventLoopGroup = transport.newEventLoopGroup(2, null);
+    try {
+      Channel serverChannel = new ServerBootstrap().group(eventLoopGroup)
+          .channel(transport.getServerSocketChannelClass())
+          .childHandler(new ChannelInboundHandlerAdapter() {
+            @Override
+            public void channelRead(ChannelHandlerContext ctx, Object msg) {
+              ctx.writeAndFlush(msg);
+            }
+
+            @Override
+            public boolean isSharable() {
+              return true;
+            }
+          })
+          .bind(new InetSocketAddress("127.0.0.1", 0))
+          .sync()
+          .channel();
+
+      String message = "ping";
+      CompletableFuture<String> echoFuture = new CompletableFuture<>();
+      StringBuilder echoed = new StringBuilder();
+      Channel clientChannel = new Bootstrap().group(eventLoopGroup)
+          .channel(transport.getSocketChannelClass())
+          .handler(new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(Channel ch) {
+              ch.pipeline().addLast(new SimpleChannelInboundHandler<ByteBuf>() {
+                @Override
+                protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
+                  echoed.append(msg.toString(StandardCharsets.UTF_8));
+                  if (echoed.length() >= message.length()) {
+                    echoFuture.complete(echoed.toString());
+                  }
+                }
+              });
+            }
+          })
+          .connect(serverChannel.localAddress())
+          .sync()
+          .channel();
+      clientChannel.writeAndFlush(Unpooled.copiedBuffer(message, StandardCharsets.UTF_8)).sync();
+
+      Assert.assertEquals(echoFuture.get(10, TimeUnit.SECONDS), message);
+      clientChannel.close().sync();
+      serverChannel.close().sync();
+    } finally {
+      eventLoopGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS).sync();
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package com.linkedin.venice.integration.utils;
+
+import static com.linkedin.venice.integration.utils.ProcessWrapper.DEFAULT_HOST_NAME;
+
+import com.linkedin.venice.pubsub.PubSubClientsFactory;
+import com.linkedin.venice.pubsub.adapter.inprocess.InProcessPubSubAdminAdapterFactory;
+import com.linkedin.venice.pubsub.adapter.inprocess.InProcessPubSubBroker;
+import com.linkedin.venice.pubsub.adapter.inprocess.InProcessPubSubConfig;
+import com.linkedin.venice.pubsub.adapter.inprocess.InProcessPubSubConsumerAdapterFactory;
+import com.linkedin.venice.pubsub.adapter.inprocess.InProcessPubSubProducerAdapterFactory;
+import com.linkedin.venice.utils.SslUtils;
+import com.linkedin.venice.utils.SslUtils.VeniceTlsConfiguration;
+import com.linkedin.venice.utils.TestUtils;
+import java.io.File;
+import java.util.Collections;
+import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Starts {@link InProcessPubSubBroker}s instead of Kafka brokers, e.g. for the JMH benchmarks, when the
+ * {@code pubSubBrokerFactory} system property is set to the name of this class.
+ */
+class InProcessPubSubBrokerFactory
+    implements PubSubBrokerFactory<InProcessPubSubBrokerFactory.InProcessPubSubBrokerWrapper> {
+  public static final String SERVICE_NAME = "InProcessPubSub";
+  // anchor for creating clients for this broker
+  private static final PubSubClientsFactory IN_PROCESS_CLIENTS_FACTORY = new PubSubClientsFactory(
+      new InProcessPubSubProducerAdapterFactory(),
+      new InProcessPubSubConsumerAdapterFactory(),
+      new InProcessPubSubAdminAdapterFactory());
+
+  /**
+   * @return a function which yields a {@link InProcessPubSubBrokerWrapper} instance
+   */
+  @Override
+  public StatefulServiceProvider<InProcessPubSubBrokerWrapper> generateService(PubSubBrokerConfigs configs) {
+    return (String serviceName, File dir) -> new InProcessPubSubBrokerWrapper(
+        TestUtils.getFreePort(),
+        dir,
+        configs.getRegionName(),
+        configs.getClusterName(),
+        SslUtils.getTlsConfiguration());
+  }
+
+  @Override
+  public String getServiceName() {
+    return SERVICE_NAME;
+  }
+
+  @Override
+  public PubSubClientsFactory getClientsFactory() {
+    return IN_PROCESS_CLIENTS_FACTORY;
+  }
+
+  /**
+   * The port of the broker does not get bound, it only makes its address unique. The broker has no SSL listener, so
+   * its SSL address is the same as its plain address, which lets clients configured for SSL reach the same broker.
+   */
+  protected static class InProcessPubSubBrokerWrapper extends PubSubBrokerWrapper {
+    private static final Logger LOGGER = LogManager.getLogger(InProcessPubSubBrokerWrapper.class);
+    private final int port;
+    private final File dataDirectory;
+    private final String regionName;
+    private final String pubSubClusterName;
+    private final VeniceTlsConfiguration tlsConfiguration;
+    private InProcessPubSubBroker broker;
+
+    InProcessPubSubBrokerWrapper(
+        int port,
+        File dataDirectory,
+        String regionName,
+        String pubSubClusterName,
+        VeniceTlsConfiguration tlsConfiguration) {
+      super(SERVICE_NAME + "-" + regionName, dataDirectory);
+      this.port = port;
+      this.dataDirectory = dataDirectory;
+      this.regionName = regionName;
+      this.pubSubClusterName = pubSubClusterName;
+      this.tlsConfiguration = tlsConfiguration;
+    }
+
+    @Override
+    public String getHost() {
+      return DEFAULT_HOST_NAME;
+    }
+
+    @Override
+    public int getPort() {
+      return port;
+    }
+
+    @Override
+    public int getSslPort() {
+      return port;
+    }
+
+    @Override
+    public VeniceTlsConfiguration getTlsConfiguration() {
+      return tlsConfiguration;
+    }
+
+    @Override
+    protected void internalStart() {
+      broker = InProcessPubSubBroker
+          .getOrCreate(getAddress(), dataDirectory, InProcessPubSubConfig.DEFAULT_SEGMENT_SIZE_BYTES);
+      LOGGER.info("In-process PubSub broker started at: {}", getAddress());
+    }
+
+    @Override
+    protected void internalStop() {
+      if (broker != null) {
+        broker.close();
+        broker = null;
+      }
+    }
+
+    @Override
+    protected void newProcess() {
+    }
+
+    /**
+     * Lets the clients start the broker with the same data directory if they happen to need it after a restart.
+     */
+    @Override
+    public Map<String, String> getAdditionalConfig() {
+      return Collections
+          .singletonMap(InProcessPubSubConfig.IN_PROCESS_PUBSUB_DATA_DIR, dataDirectory.getAbsolutePath());
+    }
+
+    @Override
+    public PubSubClientsFactory getPubSubClientsFactory() {
+      return IN_PROCESS_CLIENTS_FACTORY;
+    }
+
+    @Override
+    public String getRegionName() {
+      return regionName;
+    }
+
+    @Override
+    public String getPubSubClusterName() {
+      return pubSubClusterName;
+    }
+
+    @Override
+    public String toString() {
+      return "InProcessPubSubBrokerWrapper{address: '" + getAddress() + "'}";
+    }
+  }
+}
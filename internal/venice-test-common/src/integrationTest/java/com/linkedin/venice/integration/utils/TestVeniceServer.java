@@ -21,7 +21,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
 
 
@@ -70,8 +70,9 @@ public class TestVeniceServer extends VeniceServer {
         resourceReadUsageTracker) {
       @Override
       protected StorageReadRequestHandler createRequestHandler(
-          ThreadPoolExecutor executor,
-          ThreadPoolExecutor computeExecutor,
+          ExecutorService executor,
+          ExecutorService multiGetExecutor,
+          ExecutorService computeExecutor,
           StorageEngineRepository storageEngineRepository,
           ReadOnlyStoreRepository metadataRepository,
           ReadOnlySchemaRepository schemaRepository,
@@ -86,6 +87,7 @@ public class TestVeniceServer extends VeniceServer {
 
         return new StorageReadRequestHandler(
             executor,
+            multiGetExecutor,
             computeExecutor,
             storageEngineRepository,
             metadataRepository,
@@ -0,0 +1,95 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.ConcurrentHistogram;
+import com.linkedin.venice.stats.LongAdderRateGauge;
+import com.linkedin.venice.stats.TehutiUtils;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.OccurrenceRate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the cost of recording a latency and counting a request from 32 threads, with Tehuti {@link Sensor}s as
+ * registered by the hot path stats, and with {@link ConcurrentHistogram} and {@link LongAdderRateGauge}.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(32)
+public class MetricsRecordingBenchmark {
+  private Sensor latencySensor;
+  private Sensor requestSensor;
+  private ConcurrentHistogram latencyHistogram;
+  private LongAdderRateGauge requestRate;
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(MetricsRecordingBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() {
+    BenchmarkStats stats = new BenchmarkStats(new MetricsRepository());
+    latencySensor = stats.latencySensor;
+    requestSensor = stats.requestSensor;
+    latencyHistogram = stats.latencyHistogram;
+    requestRate = stats.requestRate;
+  }
+
+  @Benchmark
+  public void recordSensor() {
+    latencySensor.record(ThreadLocalRandom.current().nextDouble(100));
+  }
+
+  @Benchmark
+  public void recordConcurrentHistogram() {
+    latencyHistogram.record(ThreadLocalRandom.current().nextDouble(100));
+  }
+
+  @Benchmark
+  public void countSensor() {
+    requestSensor.record();
+  }
+
+  @Benchmark
+  public void countLongAdderRateGauge() {
+    requestRate.record();
+  }
+
+  private static class BenchmarkStats extends AbstractVeniceStats {
+    private final Sensor latencySensor;
+    private final Sensor requestSensor;
+    private final ConcurrentHistogram latencyHistogram;
+    private final LongAdderRateGauge requestRate = new LongAdderRateGauge();
+
+    BenchmarkStats(MetricsRepository metricsRepository) {
+      super(metricsRepository, "benchmark");
+      latencySensor = registerSensor(
+          "sensor_latency",
+          TehutiUtils.getPercentileStatWithAvgAndMax(getName(), "sensor_latency"));
+      requestSensor = registerSensor("sensor_request", new OccurrenceRate());
+      latencyHistogram = registerConcurrentHistogram("histogram_latency", 50, 95, 99);
+      registerSensor("histogram_request", requestRate);
+    }
+  }
+}
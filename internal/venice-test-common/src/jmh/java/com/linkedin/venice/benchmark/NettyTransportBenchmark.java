@@ -0,0 +1,180 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.utils.NettyTransport;
+import com.linkedin.venice.utils.NettyUtils;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpVersion;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the Netty transports the router and the server can run on, with small HTTP requests sent over loopback
+ * connections to a server answering them straight from its event loops, so that the cost of the transport dominates.
+ * Each benchmark thread has a connection of its own and waits for each response before sending the next request.
+ *
+ * {@link #main} reports the syscalls per request along with the throughput with the perfnorm profiler, which needs
+ * Linux perf; the same can be done with the jar built by the jmhJar task:
+ *
+ *   java -jar venice-test-common-jmh.jar NettyTransportBenchmark -prof "perfnorm:events=raw_syscalls:sys_enter"
+ *
+ * A transport which is not supported by the current platform fails its trials instead of silently falling back.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class NettyTransportBenchmark {
+  private static final byte[] RESPONSE_BODY = new byte[256];
+
+  @State(Scope.Benchmark)
+  public static class Server {
+    @Param({ "IO_URING", "EPOLL", "NIO" })
+    protected NettyTransport transport;
+
+    @Param({ "4" })
+    protected int eventLoopCount;
+
+    EventLoopGroup serverEventLoopGroup;
+    EventLoopGroup clientEventLoopGroup;
+    Channel serverChannel;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+      NettyTransport resolvedTransport = NettyUtils
+          .resolveTransport(transport == NettyTransport.IO_URING, transport == NettyTransport.EPOLL);
+      if (resolvedTransport != transport) {
+        throw new IllegalStateException("Netty transport " + transport + " is not supported on this platform");
+      }
+      serverEventLoopGroup = transport.newEventLoopGroup(eventLoopCount, null);
+      clientEventLoopGroup = transport.newEventLoopGroup(eventLoopCount, null);
+      serverChannel = new ServerBootstrap().group(serverEventLoopGroup)
+          .channel(transport.getServerSocketChannelClass())
+          .childOption(ChannelOption.TCP_NODELAY, true)
+          .childHandler(new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(Channel ch) {
+              ch.pipeline()
+                  .addLast(new HttpServerCodec())
+                  .addLast(new HttpObjectAggregator(1024 * 1024))
+                  .addLast(new ResponseWriter());
+            }
+          })
+          .bind(new InetSocketAddress("127.0.0.1", 0))
+          .sync()
+          .channel();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+      serverChannel.close().sync();
+      clientEventLoopGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS).sync();
+      serverEventLoopGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS).sync();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Connection {
+    Channel channel;
+    volatile CompletableFuture<Integer> responseFuture;
+
+    @Setup(Level.Trial)
+    public void setUp(Server server) throws InterruptedException {
+      channel = new Bootstrap().group(server.clientEventLoopGroup)
+          .channel(server.transport.getSocketChannelClass())
+          .option(ChannelOption.TCP_NODELAY, true)
+          .handler(new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(Channel ch) {
+              ch.pipeline()
+                  .addLast(new HttpClientCodec())
+                  .addLast(new HttpObjectAggregator(1024 * 1024))
+                  .addLast(new SimpleChannelInboundHandler<FullHttpResponse>() {
+                    @Override
+                    protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse response) {
+                      responseFuture.complete(response.content().readableBytes());
+                    }
+                  });
+            }
+          })
+          .connect(server.serverChannel.localAddress())
+          .sync()
+          .channel();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+      channel.close().sync();
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(NettyTransportBenchmark.class.getSimpleName())
+        .addProfiler("perfnorm", "events=raw_syscalls:sys_enter")
+        .build();
+    new Runner(options).run();
+  }
+
+  @Benchmark
+  public int request(Connection connection) throws Exception {
+    CompletableFuture<Integer> responseFuture = new CompletableFuture<>();
+    connection.responseFuture = responseFuture;
+    FullHttpRequest request =
+        new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/storage/store_v1/1?f=b64");
+    request.headers().set(HttpHeaderNames.HOST, "localhost").setInt(HttpHeaderNames.CONTENT_LENGTH, 0);
+    connection.channel.writeAndFlush(request);
+    return responseFuture.get(10, TimeUnit.SECONDS);
+  }
+
+  @ChannelHandler.Sharable
+  private static class ResponseWriter extends SimpleChannelInboundHandler<FullHttpRequest> {
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest request) {
+      FullHttpResponse response = new DefaultFullHttpResponse(
+          HttpVersion.HTTP_1_1,
+          HttpResponseStatus.OK,
+          Unpooled.wrappedBuffer(RESPONSE_BODY));
+      response.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, RESPONSE_BODY.length);
+      ctx.writeAndFlush(response);
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.utils.concurrent.BlockingQueueType;
+import com.linkedin.venice.utils.concurrent.ConcurrencyLimitedExecutor;
+import com.linkedin.venice.utils.concurrent.ReadExecutionMode;
+import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the latency distribution of the read requests of a storage node under mixed single get, batch get and
+ * compute traffic, with the executors of each {@link ReadExecutionMode}, as configured by the listener service.
+ *
+ * The requests are simulated by blocking for the time of typical storage engine lookups, and there are more clients
+ * sending batch gets and computes than the executors can run concurrently, so that they queue up. With the fixed-size
+ * thread pools, the single gets queue up behind the batch gets sharing their thread pool, while with the concurrency
+ * limited executors, they only queue up behind the other single gets. Both modes run at most the same number of
+ * requests concurrently in total: the storage threads are split between the single get and batch get limits. The p99
+ * and p99.9 reported for each request type are the ones to compare.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadExecutionModeBenchmark {
+  private static final int THREAD_NUM = 16;
+  private static final long SINGLE_GET_LATENCY_NS = TimeUnit.MICROSECONDS.toNanos(50);
+  private static final long BATCH_GET_LATENCY_NS = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final long COMPUTE_LATENCY_NS = TimeUnit.MILLISECONDS.toNanos(5);
+
+  @Param({ "THREAD_POOL", "CONCURRENCY_LIMITED" })
+  protected ReadExecutionMode mode;
+
+  private ThreadPoolExecutor[] threadPools;
+  private ExecutorService singleGetExecutor;
+  private ExecutorService batchGetExecutor;
+  private ExecutorService computeExecutor;
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(ReadExecutionModeBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() {
+    if (mode == ReadExecutionMode.CONCURRENCY_LIMITED) {
+      ThreadPoolExecutor readExecutor = ThreadPoolFactory.createCachedThreadPool("StorageReadThread");
+      threadPools = new ThreadPoolExecutor[] { readExecutor };
+      // Split the storage threads between single gets and batch gets, as the default concurrency limits do
+      singleGetExecutor = new ConcurrencyLimitedExecutor(readExecutor, THREAD_NUM / 2, Integer.MAX_VALUE);
+      batchGetExecutor = new ConcurrencyLimitedExecutor(readExecutor, THREAD_NUM / 2, Integer.MAX_VALUE);
+      computeExecutor = new ConcurrencyLimitedExecutor(readExecutor, THREAD_NUM, Integer.MAX_VALUE);
+    } else {
+      ThreadPoolExecutor storageExecutor = ThreadPoolFactory.createThreadPool(
+          THREAD_NUM,
+          "StorageExecutionThread",
+          Integer.MAX_VALUE,
+          BlockingQueueType.LINKED_BLOCKING_QUEUE);
+      ThreadPoolExecutor storageComputeExecutor = ThreadPoolFactory.createThreadPool(
+          THREAD_NUM,
+          "StorageComputeThread",
+          Integer.MAX_VALUE,
+          BlockingQueueType.LINKED_BLOCKING_QUEUE);
+      threadPools = new ThreadPoolExecutor[] { storageExecutor, storageComputeExecutor };
+      singleGetExecutor = storageExecutor;
+      batchGetExecutor = storageExecutor;
+      computeExecutor = storageComputeExecutor;
+    }
+  }
+
+  @TearDown
+  public void cleanUp() {
+    for (ThreadPoolExecutor threadPool: threadPools) {
+      threadPool.shutdownNow();
+    }
+  }
+
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(8)
+  public void singleGet() throws Exception {
+    read(singleGetExecutor, SINGLE_GET_LATENCY_NS);
+  }
+
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(32)
+  public void batchGet() throws Exception {
+    read(batchGetExecutor, BATCH_GET_LATENCY_NS);
+  }
+
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(32)
+  public void compute() throws Exception {
+    read(computeExecutor, COMPUTE_LATENCY_NS);
+  }
+
+  private static void read(ExecutorService executor, long latencyInNS) throws Exception {
+    executor.submit(() -> LockSupport.parkNanos(latencyInNS)).get();
+  }
+}
@@ -0,0 +1,195 @@
+package com.linkedin.venice.benchmark;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import com.linkedin.alpini.router.api.HostHealthMonitor;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.LiveInstanceChangedListener;
+import com.linkedin.venice.meta.LiveInstanceMonitor;
+import com.linkedin.venice.meta.OnlineInstanceFinder;
+import com.linkedin.venice.meta.PartitionAssignment;
+import com.linkedin.venice.pushmonitor.ExecutionStatus;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.VeniceHostFinder;
+import com.linkedin.venice.router.api.VeniceHostHealth;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.httpclient.StorageNodeClient;
+import com.linkedin.venice.router.stats.AggHostHealthStats;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouteHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the time and, with the GC profiler, the allocation per request of the host selection done by
+ * {@link VeniceHostFinder}, compared to {@link #fullHealthCheckFindHosts(Blackhole)} which checks the full health of
+ * every ready-to-serve host for every request, like the host finder used to.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(Threads.MAX)
+public class VeniceHostFinderBenchmark {
+  private static final String RESOURCE_NAME = "store_v1";
+  private static final int PARTITION_ID = 0;
+  private static final HostHealthMonitor<Instance> NO_RETRY_HOST_HEALTH_MONITOR = (instance, partitionName) -> true;
+
+  @Param({ "3", "6" })
+  private int replicationFactor;
+
+  private List<Instance> readyToServeInstances;
+  private VeniceHostHealth hostHealth;
+  private VeniceHostFinder hostFinder;
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(VeniceHostFinderBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() {
+    List<Instance> instances = new ArrayList<>(replicationFactor);
+    for (int i = 0; i < replicationFactor; i++) {
+      instances.add(Instance.fromNodeId("host" + i + "_1234"));
+    }
+    readyToServeInstances = Collections.unmodifiableList(instances);
+    Set<Instance> liveInstances = new HashSet<>(instances);
+
+    MetricsRepository metricsRepository = new MetricsRepository();
+    StorageNodeClient storageNodeClient = new NoOpStorageNodeClient();
+    hostHealth = new VeniceHostHealth(
+        new StaticLiveInstanceMonitor(liveInstances),
+        storageNodeClient,
+        mock(VeniceRouterConfig.class, withSettings().stubOnly()),
+        new RouteHttpRequestStats(metricsRepository, storageNodeClient),
+        new AggHostHealthStats(metricsRepository));
+    RouterStats<AggRouterHttpRequestStats> routerStats =
+        new RouterStats<>(requestType -> mock(AggRouterHttpRequestStats.class, withSettings().stubOnly()));
+    hostFinder = new VeniceHostFinder(new StaticOnlineInstanceFinder(readyToServeInstances), routerStats, hostHealth);
+  }
+
+  @Benchmark
+  public void findHosts(Blackhole blackhole) {
+    blackhole.consume(hostFinder.findHosts("GET", RESOURCE_NAME, "store", PARTITION_ID, NO_RETRY_HOST_HEALTH_MONITOR));
+  }
+
+  @Benchmark
+  public void fullHealthCheckFindHosts(Blackhole blackhole) {
+    List<Instance> hosts = new ArrayList<>(readyToServeInstances.size());
+    for (Instance instance: readyToServeInstances) {
+      if (hostHealth.isHostHealthy(instance, null) && NO_RETRY_HOST_HEALTH_MONITOR.isHostHealthy(instance, null)) {
+        hosts.add(instance);
+      }
+    }
+    Collections.shuffle(hosts);
+    blackhole.consume(hosts);
+  }
+
+  private static class StaticLiveInstanceMonitor implements LiveInstanceMonitor {
+    private final Set<Instance> liveInstances;
+
+    StaticLiveInstanceMonitor(Set<Instance> liveInstances) {
+      this.liveInstances = liveInstances;
+    }
+
+    @Override
+    public boolean isInstanceAlive(Instance instance) {
+      return liveInstances.contains(instance);
+    }
+
+    @Override
+    public Set<Instance> getAllLiveInstances() {
+      return liveInstances;
+    }
+
+    @Override
+    public void registerLiveInstanceChangedListener(LiveInstanceChangedListener listener) {
+    }
+  }
+
+  private static class StaticOnlineInstanceFinder implements OnlineInstanceFinder {
+    private final List<Instance> readyToServeInstances;
+
+    StaticOnlineInstanceFinder(List<Instance> readyToServeInstances) {
+      this.readyToServeInstances = readyToServeInstances;
+    }
+
+    @Override
+    public List<Instance> getReadyToServeInstances(String kafkaTopic, int partitionId) {
+      return readyToServeInstances;
+    }
+
+    @Override
+    public List<Instance> getReadyToServeInstances(PartitionAssignment partitionAssignment, int partitionId) {
+      return readyToServeInstances;
+    }
+
+    @Override
+    public List<Instance> getWorkingInstances(String kafkaTopic, int partitionId) {
+      return readyToServeInstances;
+    }
+
+    @Override
+    public Map<ExecutionStatus, List<Instance>> getAllInstances(String kafkaTopic, int partitionId) {
+      return Collections.singletonMap(ExecutionStatus.COMPLETED, readyToServeInstances);
+    }
+
+    @Override
+    public int getNumberOfPartitions(String kafkaTopic) {
+      return 1;
+    }
+  }
+
+  private static class NoOpStorageNodeClient implements StorageNodeClient {
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void query(
+        Instance host,
+        VenicePath path,
+        Consumer<PortableHttpResponse> completedCallBack,
+        Consumer<Throwable> failedCallBack,
+        BooleanSupplier cancelledCallBack) {
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.partitioner.XXHashVenicePartitioner;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares how many keys per second {@link DefaultVenicePartitioner} and {@link XXHashVenicePartitioner} can map to
+ * partitions, one key at a time and in batches.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class VenicePartitionerBenchmark {
+  private static final int NUMBER_OF_KEYS = 10_000;
+  private static final int NUMBER_OF_PARTITIONS = 1024;
+
+  @Param({ "DEFAULT", "XXHASH" })
+  private String partitionerType;
+
+  @Param({ "16", "128" })
+  private int keySize;
+
+  private VenicePartitioner partitioner;
+  private byte[][] keys;
+  private int[] partitionIds;
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(VenicePartitionerBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() {
+    partitioner = partitionerType.equals("DEFAULT") ? new DefaultVenicePartitioner() : new XXHashVenicePartitioner();
+    Random random = new Random();
+    keys = new byte[NUMBER_OF_KEYS][];
+    for (int i = 0; i < NUMBER_OF_KEYS; i++) {
+      keys[i] = new byte[keySize];
+      random.nextBytes(keys[i]);
+    }
+    partitionIds = new int[NUMBER_OF_KEYS];
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_KEYS)
+  public void getPartitionId(Blackhole blackhole) {
+    for (int i = 0; i < NUMBER_OF_KEYS; i++) {
+      blackhole.consume(partitioner.getPartitionId(keys[i], NUMBER_OF_PARTITIONS));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_KEYS)
+  public void getPartitionIds(Blackhole blackhole) {
+    partitioner.getPartitionIds(keys, NUMBER_OF_PARTITIONS, partitionIds);
+    blackhole.consume(partitionIds);
+  }
+}
@@ -57,6 +57,7 @@ import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
 import com.linkedin.venice.router.httpclient.ApacheHttpAsyncStorageNodeClient;
 import com.linkedin.venice.router.httpclient.HttpClient5StorageNodeClient;
+import com.linkedin.venice.router.httpclient.NettyHttp2StorageNodeClient;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AdminOperationsStats;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
@@ -81,20 +82,18 @@ import com.linkedin.venice.stats.VeniceJVMStats;
 import com.linkedin.venice.stats.ZkClientStatusStats;
 import com.linkedin.venice.throttle.EventThrottler;
 import com.linkedin.venice.utils.HelixUtils;
+import com.linkedin.venice.utils.NettyTransport;
+import com.linkedin.venice.utils.NettyUtils;
 import com.linkedin.venice.utils.ReflectUtils;
 import com.linkedin.venice.utils.SslUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
-import io.netty.channel.AbstractChannel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.MultithreadEventLoopGroup;
-import io.netty.channel.epoll.EpollEventLoopGroup;
-import io.netty.channel.epoll.EpollServerSocketChannel;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.ServerChannel;
 import io.netty.util.concurrent.DefaultThreadFactory;
 import io.tehuti.metrics.MetricsRepository;
 import java.net.InetSocketAddress;
@@ -426,19 +425,11 @@ public class RouterServer extends AbstractVeniceService {
       }
     }
     VenicePartitionFinder partitionFinder = new VenicePartitionFinder(routingDataRepository, metadataRepository);
-    Class<? extends AbstractChannel> serverSocketChannelClass;
-    boolean useEpoll = true;
-    try {
-      serverEventLoopGroup = new EpollEventLoopGroup(ROUTER_BOSS_THREAD_NUM);
-      workerEventLoopGroup = new EpollEventLoopGroup(config.getRouterIOWorkerCount(), workerExecutor);
-      serverSocketChannelClass = EpollServerSocketChannel.class;
-    } catch (LinkageError error) {
-      useEpoll = false;
-      LOGGER.info("Epoll is only supported on Linux; switching to NIO");
-      serverEventLoopGroup = new NioEventLoopGroup(ROUTER_BOSS_THREAD_NUM);
-      workerEventLoopGroup = new NioEventLoopGroup(config.getRouterIOWorkerCount(), workerExecutor);
-      serverSocketChannelClass = NioServerSocketChannel.class;
-    }
+    NettyTransport transport = NettyUtils.resolveTransport(config.isIoUringEnabled(), true);
+    LOGGER.info("Router will use Netty transport: {}", transport);
+    serverEventLoopGroup = transport.newEventLoopGroup(ROUTER_BOSS_THREAD_NUM, null);
+    workerEventLoopGroup = transport.newEventLoopGroup(config.getRouterIOWorkerCount(), workerExecutor);
+    Class<? extends ServerChannel> serverSocketChannelClass = transport.getServerSocketChannelClass();
 
     switch (config.getStorageNodeClientType()) {
       case APACHE_HTTP_ASYNC_CLIENT:
@@ -450,6 +441,15 @@ public class RouterServer extends AbstractVeniceService {
         LOGGER.info("Router will use HTTP CLIENT5");
         storageNodeClient = new HttpClient5StorageNodeClient(sslFactoryForRequests, config);
         break;
+      case NETTY_HTTP2_CLIENT:
+        LOGGER.info("Router will use Netty HTTP/2 client");
+        storageNodeClient =
+            new NettyHttp2StorageNodeClient(
+                config,
+                sslFactoryForRequests,
+                workerEventLoopGroup,
+                transport.getSocketChannelClass());
+        break;
       default:
         throw new VeniceException(
             "Router client type " + config.getStorageNodeClientType().toString() + " is not supported!");
@@ -581,7 +581,8 @@ public class RouterServer extends AbstractVeniceService {
             responseAggregator
                 .withSingleGetTardyThreshold(config.getSingleGetTardyLatencyThresholdMs(), TimeUnit.MILLISECONDS)
                 .withMultiGetTardyThreshold(config.getMultiGetTardyLatencyThresholdMs(), TimeUnit.MILLISECONDS)
-                .withComputeTardyThreshold(config.getComputeTardyLatencyThresholdMs(), TimeUnit.MILLISECONDS))
+                .withComputeTardyThreshold(config.getComputeTardyLatencyThresholdMs(), TimeUnit.MILLISECONDS)
+                .withCompositeResponseAggregation(config.isCompositeResponseAggregationEnabled()))
         .metricsProvider(new VeniceMetricsProvider())
         .longTailRetrySupplier(retrySupplier)
         .scatterGatherStatsProvider(new LongTailRetryStatsProvider(routerStats))
@@ -651,11 +652,7 @@ public class RouterServer extends AbstractVeniceService {
           int maxConcurrentResolution = config.getMaxConcurrentResolutions();
           int clientResolutionRetryAttempts = config.getClientResolutionRetryAttempts();
           long clientResolutionRetryBackoffMs = config.getClientResolutionRetryBackoffMs();
-          if (useEpoll) {
-            sslResolverEventLoopGroup = new EpollEventLoopGroup(clientSslHandshakeThreads, sslHandshakeExecutor);
-          } else {
-            sslResolverEventLoopGroup = new NioEventLoopGroup(clientSslHandshakeThreads, sslHandshakeExecutor);
-          }
+          sslResolverEventLoopGroup = transport.newEventLoopGroup(clientSslHandshakeThreads, sslHandshakeExecutor);
           sslInitializer.enableResolveBeforeSSL(
               sslResolverEventLoopGroup,
               clientResolutionRetryAttempts,
@@ -23,10 +23,13 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_RESOLUTION_RETRY_ATTE
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_RESOLUTION_RETRY_BACKOFF_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_SSL_HANDSHAKE_QUEUE_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_SSL_HANDSHAKE_THREADS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_COMPOSITE_RESPONSE_AGGREGATION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_COMPUTE_FAST_AVRO_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_COMPUTE_TARDY_LATENCY_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CONNECTION_LIMIT;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CONNECTION_TIMEOUT;
+import static com.linkedin.venice.ConfigKeys.ROUTER_DECOMPRESSION_THREAD_POOL_QUEUE_CAPACITY;
+import static com.linkedin.venice.ConfigKeys.ROUTER_DECOMPRESSION_THREAD_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_DICTIONARY_PROCESSING_THREADS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_DICTIONARY_RETRIEVAL_TIME_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_DNS_CACHE_ENABLED;
@@ -57,6 +60,7 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP_CLIENT_OPENSSL_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP_CLIENT_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_IDLE_CONNECTION_TO_SERVER_CLEANUP_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_IDLE_CONNECTION_TO_SERVER_CLEANUP_THRESHOLD_MINS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_IO_URING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_IO_WORKER_COUNT;
 import static com.linkedin.venice.ConfigKeys.ROUTER_LEAKED_FUTURE_CLEANUP_POLL_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_LEAKED_FUTURE_CLEANUP_THRESHOLD_MS;
@@ -157,6 +161,9 @@ public class VeniceRouterConfig {
   private long maxPendingRequest;
   private StorageNodeClientType storageNodeClientType;
   private boolean decompressOnClient;
+  private boolean compositeResponseAggregationEnabled;
+  private int decompressionThreadPoolSize;
+  private int decompressionThreadPoolQueueCapacity;
   private boolean computeFastAvroEnabled;
   private int socketTimeout;
   private int connectionTimeout;
@@ -211,6 +218,7 @@ public class VeniceRouterConfig {
   private boolean metaStoreShadowReadEnabled;
   private boolean unregisterMetricForDeletedStoreEnabled;
   private int routerIOWorkerCount;
+  private boolean ioUringEnabled;
   private double perStoreRouterQuotaBuffer;
   private boolean httpClientOpensslEnabled;
   private String identityParserClassName;
@@ -279,6 +287,9 @@ public class VeniceRouterConfig {
     storageNodeClientType = StorageNodeClientType
         .valueOf(props.getString(ROUTER_STORAGE_NODE_CLIENT_TYPE, StorageNodeClientType.HTTP_CLIENT_5_CLIENT.name()));
     decompressOnClient = props.getBoolean(ROUTER_CLIENT_DECOMPRESSION_ENABLED, true);
+    compositeResponseAggregationEnabled = props.getBoolean(ROUTER_COMPOSITE_RESPONSE_AGGREGATION_ENABLED, false);
+    decompressionThreadPoolSize = props.getInt(ROUTER_DECOMPRESSION_THREAD_POOL_SIZE, 0);
+    decompressionThreadPoolQueueCapacity = props.getInt(ROUTER_DECOMPRESSION_THREAD_POOL_QUEUE_CAPACITY, 1000);
     computeFastAvroEnabled = props.getBoolean(ROUTER_COMPUTE_FAST_AVRO_ENABLED, false);
 
     socketTimeout = props.getInt(ROUTER_SOCKET_TIMEOUT, 5000); // 5s
@@ -390,6 +401,7 @@ public class VeniceRouterConfig {
      * should consider to use some number, which is proportional to the available cores.
      */
     routerIOWorkerCount = props.getInt(ROUTER_IO_WORKER_COUNT, 24);
+    ioUringEnabled = props.getBoolean(ROUTER_IO_URING_ENABLED, false);
     perStoreRouterQuotaBuffer = props.getDouble(ROUTER_PER_STORE_ROUTER_QUOTA_BUFFER, 1.5);
     httpClientOpensslEnabled = props.getBoolean(ROUTER_HTTP_CLIENT_OPENSSL_ENABLED, true);
     identityParserClassName = props.getString(IDENTITY_PARSER_CLASS, DefaultIdentityParser.class.getName());
@@ -543,6 +555,18 @@ public class VeniceRouterConfig {
     return decompressOnClient;
   }
 
+  public boolean isCompositeResponseAggregationEnabled() {
+    return compositeResponseAggregationEnabled;
+  }
+
+  public int getDecompressionThreadPoolSize() {
+    return decompressionThreadPoolSize;
+  }
+
+  public int getDecompressionThreadPoolQueueCapacity() {
+    return decompressionThreadPoolQueueCapacity;
+  }
+
   public boolean isComputeFastAvroEnabled() {
     return computeFastAvroEnabled;
   }
@@ -836,6 +860,10 @@ public class VeniceRouterConfig {
     return routerIOWorkerCount;
   }
 
+  public boolean isIoUringEnabled() {
+    return ioUringEnabled;
+  }
+
   public boolean isHttpClientOpensslEnabled() {
     return httpClientOpensslEnabled;
   }
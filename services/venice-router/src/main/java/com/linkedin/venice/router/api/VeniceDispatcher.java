@@ -2,6 +2,7 @@ package com.linkedin.venice.router.api;
 
 import static com.linkedin.venice.HttpConstants.VENICE_COMPRESSION_STRATEGY;
 import static com.linkedin.venice.HttpConstants.VENICE_REQUEST_RCU;
+import static com.linkedin.venice.utils.concurrent.BlockingQueueType.ARRAY_BLOCKING_QUEUE;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 import static io.netty.handler.codec.http.HttpResponseStatus.TOO_MANY_REQUESTS;
@@ -18,6 +19,7 @@ import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.read.ReadTrace;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.api.path.VenicePath;
@@ -30,9 +32,11 @@ import com.linkedin.venice.router.stats.RouteHttpStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.router.streaming.VeniceChunkedResponse;
 import com.linkedin.venice.router.throttle.PendingRequestThrottler;
+import com.linkedin.venice.stats.ThreadPoolStats;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
@@ -48,6 +52,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import javax.annotation.Nonnull;
@@ -91,6 +96,14 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
 
+  /**
+   * The responses which need to be decompressed in Router are handed over to this executor, if any, so that the
+   * threads receiving the responses of the storage nodes are not held up by them. Since the executor runs the tasks
+   * which do not fit into its queue in the calling thread, it pushes back on the intake of new responses when it
+   * cannot keep up. Its threads also keep reusing the same thread-local decompression contexts.
+   */
+  private final Optional<ThreadPoolExecutor> decompressionExecutor;
+
   public VeniceDispatcher(
       VeniceRouterConfig config,
       ReadOnlyStoreRepository storeRepository,
@@ -114,6 +127,24 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     this.leakedCompletableFutureCleanupService = new LeakedCompletableFutureCleanupService();
     this.leakedCompletableFutureCleanupService.start();
     this.routerStats = routerStats;
+
+    if (config.getDecompressionThreadPoolSize() > 0) {
+      ThreadPoolExecutor executor = ThreadPoolFactory.createThreadPool(
+          config.getDecompressionThreadPoolSize(),
+          "RouterDecompressionThread",
+          config.getDecompressionThreadPoolQueueCapacity(),
+          ARRAY_BLOCKING_QUEUE);
+      /**
+       * Unlike {@link ThreadPoolExecutor.CallerRunsPolicy}, which silently discards the rejected tasks once the
+       * executor is shut down by {@link #stop()}, always decompress the rejected responses in the calling thread, so
+       * that their response futures still get completed.
+       */
+      executor.setRejectedExecutionHandler((task, rejectingExecutor) -> task.run());
+      new ThreadPoolStats(metricsRepository, executor, "decompression_thread_pool");
+      this.decompressionExecutor = Optional.of(executor);
+    } else {
+      this.decompressionExecutor = Optional.empty();
+    }
   }
 
   @Override
@@ -161,13 +192,56 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
           path.markStorageNodeAsFast(storageNode.getNodeId());
         }
 
-        responseFuture.setSuccess(Collections.singletonList(buildResponse(path, response)));
+        if (decompressionExecutor.isPresent() && needsDecompression(path, response)) {
+          decompressionExecutor.get()
+              .execute(() -> completeResponseFuture(storageNode, path, response, responseFuture));
+        } else {
+          completeResponseFuture(storageNode, path, response, responseFuture);
+        }
       } catch (Throwable e) {
         responseFuture.setFailure(e);
       }
     });
   }
 
+  private void completeResponseFuture(
+      Instance storageNode,
+      VenicePath path,
+      PortableHttpResponse response,
+      AsyncPromise<List<FullHttpResponse>> responseFuture) {
+    try {
+      VeniceFullHttpResponse fullHttpResponse = buildResponse(path, response);
+      if (path.isReadTraceRequested() && response.containsHeader(HttpConstants.VENICE_READ_TRACE)) {
+        // Tag the trace with the storage node, to tell apart the ones of the sub-requests of a multi-key request
+        String readTrace = response.getFirstHeader(HttpConstants.VENICE_READ_TRACE);
+        fullHttpResponse.headers()
+            .set(HttpConstants.VENICE_READ_TRACE, ReadTrace.tagWithHost(readTrace, storageNode.getNodeId()));
+      }
+      responseFuture.setSuccess(Collections.singletonList(fullHttpResponse));
+    } catch (Throwable e) {
+      responseFuture.setFailure(e);
+    }
+  }
+
+  /**
+   * @return whether {@link #buildResponse} is going to decompress the response, as the client cannot take it as is.
+   */
+  private static boolean needsDecompression(VenicePath path, PortableHttpResponse response) {
+    if (response.getStatusCode() != HttpStatus.SC_OK) {
+      return false;
+    }
+    switch (path.getRequestType()) {
+      case SINGLE_GET:
+      case MULTI_GET:
+      case MULTI_GET_STREAMING:
+        CompressionStrategy contentCompression =
+            VeniceResponseDecompressor.getCompressionStrategy(response.getFirstHeader(VENICE_COMPRESSION_STRATEGY));
+        return !path.getResponseDecompressor().canPassThroughResponse(contentCompression);
+      default:
+        return false;
+    }
+  }
+
   protected CompletableFuture<PortableHttpResponse> sendRequest(
       Instance storageNode,
       VenicePath path,
@@ -354,6 +428,7 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   public void stop() {
     this.leakedCompletableFutureCleanupService.interrupt();
+    decompressionExecutor.ifPresent(ThreadPoolExecutor::shutdown);
   }
 
   /**
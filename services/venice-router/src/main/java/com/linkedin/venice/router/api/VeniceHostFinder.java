@@ -7,20 +7,32 @@ import com.linkedin.alpini.router.api.HostFinder;
 import com.linkedin.alpini.router.api.HostHealthMonitor;
 import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.OnlineInstanceFinder;
+import com.linkedin.venice.meta.PartitionAssignment;
+import com.linkedin.venice.meta.RoutingDataRepository;
 import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.pushmonitor.ReadOnlyPartitionStatus;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.router.utils.VeniceRouterUtils;
 import com.linkedin.venice.utils.HelixUtils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 
 /**
  * {code VeniceHostFinder} finds a set of hosts that can serve the given Venice resource partition.
+ *
+ * The ready-to-serve replicas of each partition are kept in an immutable {@link PartitionReplicas} snapshot, which
+ * splits them into available and unavailable hosts according to {@link VeniceHostHealth#isHostAvailable(Instance)}.
+ * The snapshots are rebuilt when the routing data or the availability of a host changes, so that requests only need
+ * to check the health of the hosts which depends on their load.
  */
 public class VeniceHostFinder implements HostFinder<Instance, VeniceRole> {
   private static final Logger LOGGER = LogManager.getLogger(VeniceHostFinder.class);
@@ -28,6 +40,14 @@ public class VeniceHostFinder implements HostFinder<Instance, VeniceRole> {
   private final OnlineInstanceFinder onlineInstanceFinder;
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
   private final HostHealthMonitor<Instance> instanceHealthMonitor;
+  /**
+   * Only set when {@link #instanceHealthMonitor} is a {@link VeniceHostHealth}, otherwise all the hosts are considered
+   * available, and their health gets fully checked for every request.
+   */
+  private final VeniceHostHealth veniceHostHealth;
+  private final Map<String, ResourceSnapshot> resourceSnapshots = new VeniceConcurrentHashMap<>();
+  private final RoutingDataRepository.RoutingDataChangedListener routingDataChangedListener =
+      new SnapshotRefreshingListener();
 
   public VeniceHostFinder(
       OnlineInstanceFinder onlineInstanceFinder,
@@ -37,6 +57,12 @@ public class VeniceHostFinder implements HostFinder<Instance, VeniceRole> {
 
     this.routerStats = routerStats;
     this.instanceHealthMonitor = instanceHealthMonitor;
+    if (instanceHealthMonitor instanceof VeniceHostHealth) {
+      this.veniceHostHealth = (VeniceHostHealth) instanceHealthMonitor;
+      this.veniceHostHealth.registerAvailabilityChangedListener(this::refreshAllSnapshots);
+    } else {
+      this.veniceHostHealth = null;
+    }
   }
 
   /***
@@ -81,7 +107,7 @@ public class VeniceHostFinder implements HostFinder<Instance, VeniceRole> {
      * request, and here are the reasons:
      * Health check will always happen here {@link VeniceHostFinder}
      */
-    // hosts is an unmodifiable list
+    PartitionReplicas replicas = getPartitionReplicas(resourceName, partitionNumber, hosts);
     List<Instance> newHosts = new ArrayList<>(hosts.size());
     boolean isSingleGet = VeniceRouterUtils.isHttpGet(requestMethod);
     /**
@@ -92,13 +118,25 @@ public class VeniceHostFinder implements HostFinder<Instance, VeniceRole> {
      * of {@link HostFinder}.
      */
     AggRouterHttpRequestStats currentStats = routerStats.getStatsByType(isSingleGet ? SINGLE_GET : MULTI_GET);
-    for (Instance instance: hosts) {
-      // Filter out unhealthy hosts
+    /**
+     * Right now, partition-level health check by measuring offset lag is not enabled.
+     * Router won't record unhealthy metric when {@link hostHealthMonitor} is returning unhealthy since
+     * it is only being used for retry purpose, which means when {@link hostHealthMonitor} is returning false,
+     * the current request is a retry request.
+     */
+    for (Instance instance: replicas.availableReplicas) {
+      if (!isHostReadyToServeRequest(instance)) {
+        currentStats.recordFindUnhealthyHostRequest(storeName);
+        continue;
+      }
+      if (hostHealthMonitor.isHostHealthy(instance, null)) {
+        newHosts.add(instance);
+      }
+    }
+    for (Instance instance: replicas.unavailableReplicas) {
       /**
-       * Right now, partition-level health check by measuring offset lag is not enabled.
-       * Router won't record unhealthy metric when {@link hostHealthMonitor} is returning unhealthy since
-       * it is only being used for retry purpose, which means when {@link hostHealthMonitor} is returning false,
-       * the current request is a retry request.
+       * The full health check is still done on the unavailable hosts, which are rare, so that their unhealthy metrics
+       * keep being recorded per request.
        */
       if (!instanceHealthMonitor.isHostHealthy(instance, null)) {
         currentStats.recordFindUnhealthyHostRequest(storeName);
@@ -128,8 +166,162 @@ public class VeniceHostFinder implements HostFinder<Instance, VeniceRole> {
      * Randomize order so that multiget using {@link VeniceMultiKeyRoutingStrategy.GROUP_BY_PRIMARY_HOST_ROUTING} or
      * {@link VeniceMultiKeyRoutingStrategy.LEAST_LOADED_ROUTING} results in an even distribution of partitions to hosts.
      */
-    Collections.shuffle(newHosts);
+    Collections.shuffle(newHosts, ThreadLocalRandom.current());
 
     return newHosts;
   }
+
+  private boolean isHostReadyToServeRequest(Instance instance) {
+    if (veniceHostHealth != null) {
+      return veniceHostHealth.isHostReadyToServeRequest(instance);
+    }
+    return instanceHealthMonitor.isHostHealthy(instance, null);
+  }
+
+  /**
+   * @return the snapshot of the given ready-to-serve hosts, which is only rebuilt here if it has not been yet by the
+   *         routing data or availability change listeners.
+   */
+  private PartitionReplicas getPartitionReplicas(String resourceName, int partitionNumber, List<Instance> hosts) {
+    ResourceSnapshot resourceSnapshot = resourceSnapshots.get(resourceName);
+    if (resourceSnapshot == null) {
+      resourceSnapshot = resourceSnapshots.computeIfAbsent(resourceName, this::createResourceSnapshot);
+    }
+    PartitionReplicas replicas = resourceSnapshot.get(partitionNumber);
+    if (replicas == null || replicas.readyToServeInstances != hosts
+        || replicas.availabilityVersion != getAvailabilityVersion()) {
+      replicas = buildPartitionReplicas(hosts);
+      resourceSnapshot.put(partitionNumber, replicas);
+    }
+    return replicas;
+  }
+
+  private ResourceSnapshot createResourceSnapshot(String resourceName) {
+    if (onlineInstanceFinder instanceof RoutingDataRepository) {
+      RoutingDataRepository routingDataRepository = (RoutingDataRepository) onlineInstanceFinder;
+      routingDataRepository.subscribeRoutingDataChange(resourceName, routingDataChangedListener);
+    }
+    return new ResourceSnapshot();
+  }
+
+  private PartitionReplicas buildPartitionReplicas(List<Instance> hosts) {
+    // Read the version first, so that a concurrent change makes the snapshot stale rather than silently wrong
+    long availabilityVersion = getAvailabilityVersion();
+    List<Instance> availableReplicas = new ArrayList<>(hosts.size());
+    List<Instance> unavailableReplicas = new ArrayList<>(0);
+    for (Instance instance: hosts) {
+      if (veniceHostHealth == null || veniceHostHealth.isHostAvailable(instance)) {
+        availableReplicas.add(instance);
+      } else {
+        unavailableReplicas.add(instance);
+      }
+    }
+    return new PartitionReplicas(
+        hosts,
+        availableReplicas.toArray(new Instance[0]),
+        unavailableReplicas.toArray(new Instance[0]),
+        availabilityVersion);
+  }
+
+  private long getAvailabilityVersion() {
+    return veniceHostHealth != null ? veniceHostHealth.getAvailabilityVersion() : 0;
+  }
+
+  private void refreshSnapshot(String resourceName, ResourceSnapshot resourceSnapshot) {
+    PartitionReplicas[] partitions = resourceSnapshot.partitions;
+    for (int partitionNumber = 0; partitionNumber < partitions.length; partitionNumber++) {
+      if (partitions[partitionNumber] != null) {
+        List<Instance> hosts = onlineInstanceFinder.getReadyToServeInstances(resourceName, partitionNumber);
+        resourceSnapshot.put(partitionNumber, buildPartitionReplicas(hosts));
+      }
+    }
+  }
+
+  private void refreshAllSnapshots() {
+    try {
+      resourceSnapshots.forEach(this::refreshSnapshot);
+    } catch (Exception e) {
+      // The snapshots will be rebuilt on the request path instead
+      LOGGER.warn("Failed to refresh the routing snapshots after a host availability change", e);
+    }
+  }
+
+  /**
+   * Immutable snapshot of the ready-to-serve hosts of a partition.
+   */
+  private static class PartitionReplicas {
+    /**
+     * The list returned by {@link OnlineInstanceFinder#getReadyToServeInstances(String, int)}, which gets replaced
+     * rather than modified when the routing data changes, so it is compared by identity to detect stale snapshots.
+     */
+    private final List<Instance> readyToServeInstances;
+    private final Instance[] availableReplicas;
+    private final Instance[] unavailableReplicas;
+    private final long availabilityVersion;
+
+    private PartitionReplicas(
+        List<Instance> readyToServeInstances,
+        Instance[] availableReplicas,
+        Instance[] unavailableReplicas,
+        long availabilityVersion) {
+      this.readyToServeInstances = readyToServeInstances;
+      this.availableReplicas = availableReplicas;
+      this.unavailableReplicas = unavailableReplicas;
+      this.availabilityVersion = availabilityVersion;
+    }
+  }
+
+  private static class ResourceSnapshot {
+    private volatile PartitionReplicas[] partitions = new PartitionReplicas[0];
+
+    PartitionReplicas get(int partitionNumber) {
+      PartitionReplicas[] currentPartitions = partitions;
+      return partitionNumber < currentPartitions.length ? currentPartitions[partitionNumber] : null;
+    }
+
+    synchronized void put(int partitionNumber, PartitionReplicas replicas) {
+      PartitionReplicas[] currentPartitions = partitions;
+      if (partitionNumber >= currentPartitions.length) {
+        currentPartitions = Arrays.copyOf(currentPartitions, partitionNumber + 1);
+      }
+      currentPartitions[partitionNumber] = replicas;
+      partitions = currentPartitions;
+    }
+  }
+
+  private class SnapshotRefreshingListener implements RoutingDataRepository.RoutingDataChangedListener {
+    @Override
+    public void onExternalViewChange(PartitionAssignment partitionAssignment) {
+      refreshResource(partitionAssignment.getTopic());
+    }
+
+    @Override
+    public void onCustomizedViewChange(PartitionAssignment partitionAssignment) {
+      refreshResource(partitionAssignment.getTopic());
+    }
+
+    @Override
+    public void onCustomizedViewAdded(PartitionAssignment partitionAssignment) {
+      refreshResource(partitionAssignment.getTopic());
+    }
+
+    @Override
+    public void onPartitionStatusChange(String topic, ReadOnlyPartitionStatus partitionStatus) {
+      // The snapshots are rebuilt from the routing data instead
+    }
+
+    @Override
+    public void onRoutingDataDeleted(String kafkaTopic) {
+      if (resourceSnapshots.remove(kafkaTopic) != null) {
+        ((RoutingDataRepository) onlineInstanceFinder).unSubscribeRoutingDataChange(kafkaTopic, this);
+      }
+    }
+
+    private void refreshResource(String resourceName) {
+      ResourceSnapshot resourceSnapshot = resourceSnapshots.get(resourceName);
+      if (resourceSnapshot != null) {
+        refreshSnapshot(resourceName, resourceSnapshot);
+      }
+    }
+  }
 }
@@ -2,6 +2,7 @@ package com.linkedin.venice.router.api;
 
 import com.linkedin.alpini.router.api.HostHealthMonitor;
 import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.LiveInstanceChangedListener;
 import com.linkedin.venice.meta.LiveInstanceMonitor;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
@@ -9,9 +10,12 @@ import com.linkedin.venice.router.stats.AggHostHealthStats;
 import com.linkedin.venice.router.stats.HostHealthStats;
 import com.linkedin.venice.router.stats.RouteHttpRequestStats;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -28,6 +32,11 @@ public class VeniceHostHealth implements HostHealthMonitor<Instance> {
   private final long fullPendingQueueServerOORMs;
   protected Set<String> unhealthyHosts = new ConcurrentSkipListSet<>();
   private final Map<String, Long> pendingRequestUnhealthyTimeMap = new VeniceConcurrentHashMap<>();
+  /**
+   * Bumped whenever a host becomes available or unavailable, see {@link #isHostAvailable(Instance)}.
+   */
+  private final AtomicLong availabilityVersion = new AtomicLong();
+  private final List<Runnable> availabilityChangedListeners = new CopyOnWriteArrayList<>();
 
   private final LiveInstanceMonitor liveInstanceMonitor;
   private final StorageNodeClient storageNodeClient;
@@ -48,6 +57,17 @@ public class VeniceHostHealth implements HostHealthMonitor<Instance> {
     this.liveInstanceMonitor = liveInstanceMonitor;
     this.storageNodeClient = storageNodeClient;
     this.aggHostHealthStats = aggHostHealthStats;
+    this.liveInstanceMonitor.registerLiveInstanceChangedListener(new LiveInstanceChangedListener() {
+      @Override
+      public void handleNewInstances(Set<Instance> newInstances) {
+        onAvailabilityChanged();
+      }
+
+      @Override
+      public void handleDeletedInstances(Set<Instance> deletedInstances) {
+        onAvailabilityChanged();
+      }
+    });
   }
 
   /**
@@ -57,7 +77,10 @@ public class VeniceHostHealth implements HostHealthMonitor<Instance> {
    */
   public void setHostAsUnhealthy(Instance instance) {
     String identifier = instance.getNodeId();
-    unhealthyHosts.add(identifier);
+    // The router heartbeat keeps marking a failing host as unhealthy, so only the first mark changes its availability
+    if (unhealthyHosts.add(identifier)) {
+      onAvailabilityChanged();
+    }
     LOGGER.warn("Marking {} as unhealthy until it passes the next health check.", identifier);
     aggHostHealthStats.recordUnhealthyHostCountCausedByRouterHeartBeat(unhealthyHosts.size());
   }
@@ -72,6 +95,7 @@ public class VeniceHostHealth implements HostHealthMonitor<Instance> {
     String identifier = hostname.getNodeId();
     if (unhealthyHosts.contains(identifier)) {
       unhealthyHosts.remove(identifier);
+      onAvailabilityChanged();
       LOGGER.info("Marking {} back to healthy host", identifier);
     }
     aggHostHealthStats.recordUnhealthyHostCountCausedByRouterHeartBeat(unhealthyHosts.size());
@@ -90,6 +114,24 @@ public class VeniceHostHealth implements HostHealthMonitor<Instance> {
       return false;
     }
 
+    return isHostReadyToServeRequest(instance);
+  }
+
+  /**
+   * Checks whether the host is alive and passes the router heartbeat. Unlike the other checks done by
+   * {@link #isHostHealthy(Instance, String)}, these ones only change when {@link #getAvailabilityVersion()} is bumped,
+   * so their result can be cached until then.
+   */
+  boolean isHostAvailable(Instance instance) {
+    return liveInstanceMonitor.isInstanceAlive(instance) && !unhealthyHosts.contains(instance.getNodeId());
+  }
+
+  /**
+   * Checks the health of an available host, which depends on the load of the host and thus needs to be done for every
+   * request.
+   */
+  boolean isHostReadyToServeRequest(Instance instance) {
+    String nodeId = instance.getNodeId();
     if (!storageNodeClient.isInstanceReadyToServe(nodeId)) {
       aggHostHealthStats.recordUnhealthyHostDelayJoin(nodeId);
       return false;
@@ -105,6 +147,24 @@ public class VeniceHostHealth implements HostHealthMonitor<Instance> {
     return true;
   }
 
+  long getAvailabilityVersion() {
+    return availabilityVersion.get();
+  }
+
+  /**
+   * Registers a callback to be invoked, on the thread making the change, whenever the availability of a host changes.
+   */
+  void registerAvailabilityChangedListener(Runnable listener) {
+    availabilityChangedListeners.add(listener);
+  }
+
+  private void onAvailabilityChanged() {
+    availabilityVersion.incrementAndGet();
+    for (Runnable listener: availabilityChangedListeners) {
+      listener.run();
+    }
+  }
+
   private boolean isPendingRequestQueueUnhealthy(String nodeId) {
     long pendingRequestCount = routeHttpRequestStats.getPendingRequestCount(nodeId);
     aggHostHealthStats.recordPendingRequestCount(nodeId, pendingRequestCount);
@@ -220,6 +220,9 @@ public class VenicePathParser<HTTP_REQUEST extends BasicHttpRequest>
             BAD_REQUEST,
             "Method: " + method + " is not allowed");
       }
+      if (request.headers().contains(HttpConstants.VENICE_READ_TRACE)) {
+        path.setReadTraceRequested();
+      }
       RequestType requestType = path.getRequestType();
       if (StreamingUtils.isStreamingEnabled(request)) {
         if (requestType.equals(RequestType.MULTI_GET) || requestType.equals(RequestType.COMPUTE)) {
@@ -262,7 +265,8 @@ public class VenicePathParser<HTTP_REQUEST extends BasicHttpRequest>
           fullHttpRequest,
           storeName,
           version,
-          compressorFactory);
+          compressorFactory,
+          routerConfig.isCompositeResponseAggregationEnabled());
       path.setResponseDecompressor(responseDecompressor);
 
       AggRouterHttpRequestStats aggRouterHttpRequestStats = routerStats.getStatsByType(requestType);
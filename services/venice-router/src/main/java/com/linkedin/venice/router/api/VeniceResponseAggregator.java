@@ -5,6 +5,7 @@ import static com.linkedin.alpini.base.misc.MetricNames.ROUTER_RESPONSE_WAIT_TIM
 import static com.linkedin.alpini.base.misc.MetricNames.ROUTER_ROUTING_TIME;
 import static com.linkedin.alpini.base.misc.MetricNames.ROUTER_SERVER_TIME;
 import static com.linkedin.venice.HttpConstants.VENICE_COMPRESSION_STRATEGY;
+import static com.linkedin.venice.HttpConstants.VENICE_READ_TRACE;
 import static com.linkedin.venice.HttpConstants.VENICE_REQUEST_RCU;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_GATEWAY;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
@@ -25,6 +26,7 @@ import com.linkedin.venice.common.VeniceSystemStoreType;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceStoreIsMigratedException;
+import com.linkedin.venice.read.ReadTrace;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
@@ -33,6 +35,7 @@ import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.router.streaming.SuccessfulStreamingResponse;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.utils.LatencyUtils;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
@@ -43,6 +46,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -73,6 +77,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
   private long singleGetTardyThresholdInMs = TimeUnit.MILLISECONDS.convert(10, TimeUnit.SECONDS);
   private long multiGetTardyThresholdInMs = TimeUnit.MILLISECONDS.convert(10, TimeUnit.SECONDS);
   private long computeTardyThresholdInMs = TimeUnit.MILLISECONDS.convert(10, TimeUnit.SECONDS);
+  private boolean compositeResponseAggregationEnabled = false;
 
   // Headers expected in each storage node multi-get response
   public static final Map<CharSequence, String> MULTI_GET_VALID_HEADER_MAP = new HashMap<>();
@@ -117,6 +122,15 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     return this;
   }
 
+  /**
+   * When enabled, the contents of the sub-responses of multi-get and compute requests are stitched together without
+   * ever being copied, whatever the fan-out, see {@link #newAggregatedContent()}.
+   */
+  public VeniceResponseAggregator withCompositeResponseAggregation(boolean enabled) {
+    this.compositeResponseAggregationEnabled = enabled;
+    return this;
+  }
+
   public void initHelixGroupSelector(HelixGroupSelector helixGroupSelector) {
     if (this.helixGroupSelector != null) {
       throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
@@ -217,6 +231,9 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
               INTERNAL_SERVER_ERROR,
               "Unknown request type: " + requestType);
       }
+      if (venicePath.isReadTraceRequested() && requestType != RequestType.SINGLE_GET) {
+        setReadTraces(gatheredResponses, finalResponse);
+      }
     }
     stats.recordFanoutRequestCount(storeName, gatheredResponses.size());
 
@@ -304,6 +321,23 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     return new SuccessfulStreamingResponse();
   }
 
+  /**
+   * Carries the read traces of the storage nodes which a multi-key request was scattered to over to the aggregated
+   * response. The streaming responses do not carry them, as their headers are sent before the storage nodes respond.
+   */
+  private static void setReadTraces(List<FullHttpResponse> gatheredResponses, FullHttpResponse finalResponse) {
+    List<String> readTraces = new ArrayList<>(gatheredResponses.size());
+    for (FullHttpResponse response: gatheredResponses) {
+      String readTrace = response.headers().get(VENICE_READ_TRACE);
+      if (readTrace != null) {
+        readTraces.add(readTrace);
+      }
+    }
+    if (!readTraces.isEmpty()) {
+      finalResponse.headers().set(VENICE_READ_TRACE, ReadTrace.join(readTraces));
+    }
+  }
+
   private boolean isFastRequest(double requestLatencyMs, RequestType requestType) {
     switch (requestType) {
       case SINGLE_GET:
@@ -365,7 +399,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
      * 1. {@link HttpHeaderNames.CONTENT_TYPE}
      * 2. {@link HttpConstants.VENICE_SCHEMA_ID}
      */
-    CompositeByteBuf content = Unpooled.compositeBuffer();
+    CompositeByteBuf content = newAggregatedContent();
     int totalRequestRcu = 0;
     for (FullHttpResponse response: responses) {
       if (response.status() != OK) {
@@ -391,7 +425,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
       });
 
       totalRequestRcu += getRCU(response);
-      content.addComponent(true, response.content());
+      addAggregatedContent(content, response.content());
     }
 
     FullHttpResponse computeResponse = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, OK, content);
@@ -403,6 +437,31 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     return computeResponse;
   }
 
+  /**
+   * The aggregation runs on the event loop of the inbound channel, once all the sub-responses are gathered, and the
+   * sub-responses only hold the record-level framing of multi-get and compute responses, which can be concatenated
+   * as is.
+   *
+   * By default, the aggregated content consolidates its components into a single copy once there are more than 16 of
+   * them, which large batch gets with a high fan-out always hit. In the composite mode, the content never
+   * consolidates, and the sub-responses which are composite themselves, e.g. when made of several HTTP/2 data frames,
+   * are flattened into it instead of being nested.
+   */
+  private CompositeByteBuf newAggregatedContent() {
+    if (compositeResponseAggregationEnabled) {
+      return Unpooled.compositeBuffer(Integer.MAX_VALUE);
+    }
+    return Unpooled.compositeBuffer();
+  }
+
+  private void addAggregatedContent(CompositeByteBuf content, ByteBuf responseContent) {
+    if (compositeResponseAggregationEnabled) {
+      content.addFlattenedComponents(true, responseContent);
+    } else {
+      content.addComponent(true, responseContent);
+    }
+  }
+
   private int getRCU(FullHttpResponse response) {
     String rcuHeader = response.headers().get(VENICE_REQUEST_RCU);
     if (NumberUtils.isCreatable(rcuHeader)) {
@@ -425,7 +484,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     long decompressedSize = 0;
     long decompressionTimeInNs = 0;
     int totalRequestRcu = 0;
-    CompositeByteBuf content = Unpooled.compositeBuffer();
+    CompositeByteBuf content = newAggregatedContent();
     CompressionStrategy compressionStrategy = null;
 
     for (FullHttpResponse response: responses) {
@@ -436,7 +495,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
       }
       compressionStrategy = validateAndExtractCompressionStrategy(storeName, version, compressionStrategy, response);
 
-      content.addComponent(true, response.content());
+      addAggregatedContent(content, response.content());
 
       /**
        * Here we will check the consistency of the following headers among all the responses:
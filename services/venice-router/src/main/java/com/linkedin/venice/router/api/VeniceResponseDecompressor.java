@@ -7,6 +7,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_GATEWAY;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
 import com.linkedin.venice.compression.VeniceCompressor;
@@ -21,12 +22,16 @@ import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Pair;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
-import io.netty.handler.codec.http.HttpRequest;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.nio.ByteBuffer;
+import java.util.EnumSet;
 import java.util.Optional;
+import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.OptimizedBinaryDecoderFactory;
 
 
@@ -41,12 +46,19 @@ public class VeniceResponseDecompressor {
       FastSerializerDeserializerFactory
           .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.getClassSchema(), MultiGetResponseRecordV1.class);
 
-  private final CompressionStrategy clientCompression;
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+  /**
+   * Empty when responses are always decompressed in Router, otherwise it holds the compression strategies the client
+   * advertised, so that a response compressed with any of them can be passed through as is.
+   */
+  private final EnumSet<CompressionStrategy> clientSupportedCompressions;
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
   private final String storeName;
   private final int version;
   private final String kafkaTopic;
   private final CompressorFactory compressorFactory;
+  private final boolean rewriteRecordFraming;
 
   public VeniceResponseDecompressor(
       boolean decompressOnClient,
@@ -55,16 +67,53 @@ public class VeniceResponseDecompressor {
       String storeName,
       int version,
       CompressorFactory compressorFactory) {
+    this(decompressOnClient, routerStats, request, storeName, version, compressorFactory, false);
+  }
+
+  /**
+   * @param rewriteRecordFraming whether multi-get records get decompressed by rewriting their framing in place of
+   *                             deserializing and serializing them again, see {@link #rewriteMultiGetRecords}.
+   */
+  public VeniceResponseDecompressor(
+      boolean decompressOnClient,
+      RouterStats<AggRouterHttpRequestStats> routerStats,
+      BasicFullHttpRequest request,
+      String storeName,
+      int version,
+      CompressorFactory compressorFactory,
+      boolean rewriteRecordFraming) {
     this.routerStats = routerStats;
-    this.clientCompression = decompressOnClient ? getClientSupportedCompression(request) : CompressionStrategy.NO_OP;
+    this.clientSupportedCompressions = decompressOnClient
+        ? getClientSupportedCompressions(request.headers().get(VENICE_SUPPORTED_COMPRESSION_STRATEGY))
+        : EnumSet.noneOf(CompressionStrategy.class);
     this.storeName = storeName;
     this.version = version;
     this.kafkaTopic = Version.composeKafkaTopic(storeName, version);
     this.compressorFactory = compressorFactory;
+    this.rewriteRecordFraming = rewriteRecordFraming;
   }
 
-  private static CompressionStrategy getClientSupportedCompression(HttpRequest request) {
-    return getCompressionStrategy(request.headers().get(VENICE_SUPPORTED_COMPRESSION_STRATEGY));
+  /**
+   * @param compressionHeader a comma-separated list of compression strategy values, see
+   *                          {@link com.linkedin.venice.HttpConstants#VENICE_SUPPORTED_COMPRESSION_STRATEGY}.
+   *                          Values this Router does not know about are ignored.
+   */
+  static EnumSet<CompressionStrategy> getClientSupportedCompressions(String compressionHeader) {
+    EnumSet<CompressionStrategy> compressions = EnumSet.noneOf(CompressionStrategy.class);
+    if (compressionHeader == null) {
+      return compressions;
+    }
+    for (String value: compressionHeader.split(",")) {
+      try {
+        int strategy = Integer.parseInt(value.trim());
+        if (strategy >= 0 && strategy < CompressionStrategy.getCompressionStrategyTypesArrayLength()) {
+          compressions.add(CompressionStrategy.valueOf(strategy));
+        }
+      } catch (NumberFormatException e) {
+        // Not a strategy which could be negotiated
+      }
+    }
+    return compressions;
   }
 
   public static CompressionStrategy getCompressionStrategy(String compressionHeader) {
@@ -75,7 +124,8 @@ public class VeniceResponseDecompressor {
   }
 
   public boolean canPassThroughResponse(CompressionStrategy responseCompression) {
-    return responseCompression == clientCompression || responseCompression == CompressionStrategy.NO_OP;
+    return responseCompression == CompressionStrategy.NO_OP
+        || clientSupportedCompressions.contains(responseCompression);
   }
 
   public ContentDecompressResult decompressSingleGetContent(CompressionStrategy compressionStrategy, ByteBuf content) {
@@ -87,11 +137,13 @@ public class VeniceResponseDecompressor {
     AggRouterHttpRequestStats stats = routerStats.getStatsByType(RequestType.SINGLE_GET);
     stats.recordCompressedResponseSize(storeName, content.readableBytes());
     long startTimeInNs = System.nanoTime();
+    long startCpuTimeInNs = THREAD_MX_BEAN.getCurrentThreadCpuTime();
     ByteBuf copy = content.isReadOnly() ? content.copy() : content;
     ByteBuf decompressedData =
         Unpooled.wrappedBuffer(decompressRecord(compressionStrategy, copy.nioBuffer(), RequestType.SINGLE_GET));
     final long decompressionTimeInNs = System.nanoTime() - startTimeInNs;
     stats.recordDecompressionTime(storeName, LatencyUtils.getLatencyInMS(startTimeInNs));
+    recordDecompressionCpuTime(stats, startCpuTimeInNs);
 
     /**
      * When using compression, the data in response is already copied to `decompressedData`, so we can explicitly
@@ -117,6 +169,7 @@ public class VeniceResponseDecompressor {
     } else {
       ByteBuf output;
       long startTimeInNs = System.nanoTime();
+      long startCpuTimeInNs = THREAD_MX_BEAN.getCurrentThreadCpuTime();
       if (content instanceof CompositeByteBuf) {
         CompositeByteBuf compositeInput = (CompositeByteBuf) content;
         switch (compositeInput.numComponents()) {
@@ -127,16 +180,17 @@ public class VeniceResponseDecompressor {
             output = decompressMultiGetRecords(compressionStrategy, compositeInput.component(0), MULTI_GET);
             break;
           default:
-            output = Unpooled.compositeBuffer(compositeInput.numComponents());
-            CompositeByteBuf compositeOutput = (CompositeByteBuf) output;
-            for (ByteBuf buffer: compositeInput) {
-              compositeOutput.addComponent(true, decompressMultiGetRecords(compressionStrategy, buffer, MULTI_GET));
-            }
+            /**
+             * The components, e.g. the HTTP/2 data frames of the response, are not aligned with the records, so the
+             * records are decoded across them out of the whole content.
+             */
+            output = decompressMultiGetRecords(compressionStrategy, compositeInput, MULTI_GET);
         }
       } else {
         output = decompressMultiGetRecords(compressionStrategy, content, MULTI_GET);
       }
       final long decompressionTimeInNs = System.nanoTime() - startTimeInNs;
+      recordDecompressionCpuTime(routerStats.getStatsByType(MULTI_GET), startCpuTimeInNs);
       /**
        * When using compression, the data in response is already copied during decompression, so we can explicitly
        * release the ByteBuf in the response immediately to avoid any memory leak.
@@ -161,31 +215,52 @@ public class VeniceResponseDecompressor {
     AggRouterHttpRequestStats stats = routerStats.getStatsByType(MULTI_GET_STREAMING);
     stats.recordCompressedResponseSize(storeName, content.readableBytes());
     long startTimeInNs = System.nanoTime();
+    long startCpuTimeInNs = THREAD_MX_BEAN.getCurrentThreadCpuTime();
     ByteBuf copy = content.isReadOnly() ? content.copy() : content;
     ByteBuf decompressedContent = decompressMultiGetRecords(responseCompression, copy, MULTI_GET_STREAMING);
     stats.recordDecompressionTime(storeName, LatencyUtils.getLatencyInMS(startTimeInNs));
+    recordDecompressionCpuTime(stats, startCpuTimeInNs);
     content.release();
     return new Pair<>(decompressedContent, CompressionStrategy.NO_OP);
   }
 
+  /**
+   * The CPU time is tracked apart from the wall-clock decompression time, since the latter also covers the time the
+   * thread was descheduled, and it is split by whether the client advertised any compression support, to tell the
+   * legacy clients which cannot take compressed responses apart from the ones which could not negotiate the
+   * compression of the version.
+   */
+  private void recordDecompressionCpuTime(AggRouterHttpRequestStats stats, long startCpuTimeInNs) {
+    if (startCpuTimeInNs < 0) {
+      // Thread CPU time measurement is not supported or is disabled
+      return;
+    }
+    double cpuTimeInMs =
+        LatencyUtils.convertLatencyFromNSToMS(THREAD_MX_BEAN.getCurrentThreadCpuTime() - startCpuTimeInNs);
+    stats.recordDecompressionCpuTime(storeName, cpuTimeInMs, !clientSupportedCompressions.isEmpty());
+  }
+
+  private VeniceCompressor getCompressor(CompressionStrategy compressionStrategy, RequestType requestType) {
+    if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
+      VeniceCompressor compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
+      if (compressor == null) {
+        throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+            Optional.of(storeName),
+            Optional.of(requestType),
+            SERVICE_UNAVAILABLE,
+            "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
+      }
+      return compressor;
+    }
+    return compressorFactory.getCompressor(compressionStrategy);
+  }
+
   private ByteBuffer decompressRecord(
       CompressionStrategy compressionStrategy,
       ByteBuffer compressedData,
       RequestType requestType) {
     try {
-      VeniceCompressor compressor;
-      if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
-        compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
-        if (compressor == null) {
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(requestType),
-              SERVICE_UNAVAILABLE,
-              "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
-        }
-      } else {
-        compressor = compressorFactory.getCompressor(compressionStrategy);
-      }
+      VeniceCompressor compressor = getCompressor(compressionStrategy, requestType);
       ByteBuffer decompressed = compressor.decompress(compressedData);
       return decompressed;
     } catch (IOException e) {
@@ -200,25 +275,23 @@ public class VeniceResponseDecompressor {
       CompressionStrategy compressionStrategy,
       ByteBuf data,
       RequestType requestType) {
-    ByteBuf copy = data.isReadOnly() ? data.copy() : data;
-    Iterable<MultiGetResponseRecordV1> records = recordDeserializer.deserializeObjects(
-        OptimizedBinaryDecoderFactory.defaultFactory()
-            .createOptimizedBinaryDecoder(copy.array(), 0, copy.readableBytes()));
+    if (rewriteRecordFraming) {
+      return rewriteMultiGetRecords(compressionStrategy, data, requestType);
+    }
+    /**
+     * The records are decoded out of the backing array when there is one. Otherwise, e.g. when the content is made of
+     * several HTTP/2 data frames, they are decoded from the content in place through a stream, rather than copying the
+     * whole content into a new array first.
+     */
+    BinaryDecoder decoder = data.hasArray()
+        ? OptimizedBinaryDecoderFactory.defaultFactory()
+            .createOptimizedBinaryDecoder(data.array(), data.arrayOffset() + data.readerIndex(), data.readableBytes())
+        : AvroCompatibilityHelper
+            .newBinaryDecoder(new ByteBufInputStream(data.duplicate()), false, null);
+    Iterable<MultiGetResponseRecordV1> records = recordDeserializer.deserializeObjects(decoder);
 
     try {
-      VeniceCompressor compressor;
-      if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
-        compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
-        if (compressor == null) {
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(requestType),
-              SERVICE_UNAVAILABLE,
-              "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
-        }
-      } else {
-        compressor = compressorFactory.getCompressor(compressionStrategy);
-      }
+      VeniceCompressor compressor = getCompressor(compressionStrategy, requestType);
       for (MultiGetResponseRecordV1 record: records) {
         record.value = compressor.decompress(record.value);
       }
@@ -231,4 +304,109 @@ public class VeniceResponseDecompressor {
 
     return Unpooled.wrappedBuffer(recordSerializer.serializeObjects(records));
   }
+
+  /**
+   * Decompresses the values of the concatenated {@link MultiGetResponseRecordV1}s of a multi-get response without
+   * deserializing the records: the key index and the schema id of each record are copied as they are, and only the
+   * length prefix of the value gets re-encoded along with the decompressed value.
+   */
+  private ByteBuf rewriteMultiGetRecords(
+      CompressionStrategy compressionStrategy,
+      ByteBuf data,
+      RequestType requestType) {
+    VeniceCompressor compressor = getCompressor(compressionStrategy, requestType);
+    ByteBuf output = Unpooled.buffer(data.readableBytes());
+    int index = data.readerIndex();
+    int end = data.writerIndex();
+    try {
+      while (index < end) {
+        int recordStart = index;
+        // Key index
+        index = skipVarInt(data, index);
+        int valueLengthStart = index;
+        long valueLength = 0;
+        int shift = 0;
+        byte b;
+        do {
+          b = data.getByte(index++);
+          valueLength |= (long) (b & 0x7f) << shift;
+          shift += 7;
+        } while ((b & 0x80) != 0);
+        valueLength = (valueLength >>> 1) ^ -(valueLength & 1);
+        int valueStart = index;
+        if (valueLength < 0 || valueLength > end - valueStart) {
+          throw new IOException(
+              "Invalid length " + valueLength + " of the value of the multi-get record at index " + recordStart);
+        }
+        int schemaIdStart = valueStart + (int) valueLength;
+        // Schema id
+        index = skipVarInt(data, schemaIdStart);
+
+        ByteBuffer value = decompressValue(compressor, data, valueStart, (int) valueLength);
+        output.writeBytes(data, recordStart, valueLengthStart - recordStart);
+        writeVarLong(output, value.remaining());
+        output.writeBytes(value);
+        output.writeBytes(data, schemaIdStart, index - schemaIdStart);
+      }
+    } catch (IOException | IndexOutOfBoundsException e) {
+      output.release();
+      String errorMsg = String
+          .format("Failed to decompress data. Store: %s; Version: %d, error: %s", storeName, version, e.getMessage());
+      throw RouterExceptionAndTrackingUtils
+          .newVeniceExceptionAndTracking(Optional.of(storeName), Optional.of(requestType), BAD_GATEWAY, errorMsg);
+    }
+    return output;
+  }
+
+  /**
+   * Decompresses a value out of the array backing the content, or out of the array backing the component holding it
+   * when the content is composite, e.g. made of several HTTP/2 data frames. Only a value which spans components, or
+   * which has no accessible backing array, gets copied first.
+   */
+  private static ByteBuffer decompressValue(VeniceCompressor compressor, ByteBuf data, int index, int length)
+      throws IOException {
+    if (length == 0) {
+      return ByteBuffer.allocate(0);
+    }
+    if (data.hasArray()) {
+      return compressor.decompress(data.array(), data.arrayOffset() + index, length);
+    }
+    if (data instanceof CompositeByteBuf) {
+      CompositeByteBuf compositeData = (CompositeByteBuf) data;
+      int componentIndex = compositeData.toComponentIndex(index);
+      int componentStart = compositeData.toByteIndex(componentIndex);
+      ByteBuf component = compositeData.internalComponent(componentIndex);
+      if (index + length <= componentStart + component.readableBytes()) {
+        return decompressValue(compressor, component, component.readerIndex() + index - componentStart, length);
+      }
+    }
+    byte[] value = new byte[length];
+    data.getBytes(index, value);
+    return compressor.decompress(value, 0, length);
+  }
+
+  /**
+   * @return the index right after the Avro varint starting at the given index, whose bytes all have their high bit
+   *         set but the last one.
+   */
+  private static int skipVarInt(ByteBuf buffer, int index) {
+    int next = index;
+    byte b;
+    do {
+      b = buffer.getByte(next++);
+    } while ((b & 0x80) != 0);
+    return next;
+  }
+
+  /**
+   * Writes the zig-zag varint encoding of the given value, as Avro does for the lengths of bytes.
+   */
+  private static void writeVarLong(ByteBuf buffer, long value) {
+    long n = (value << 1) ^ (value >> 63);
+    while ((n & ~0x7FL) != 0) {
+      buffer.writeByte((int) ((n & 0x7f) | 0x80));
+      n >>>= 7;
+    }
+    buffer.writeByte((int) n);
+  }
 }
@@ -51,6 +51,8 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
    */
   private Set<String> slowStorageNodeSet = new ConcurrentSkipListSet<>();
   private boolean ignoreSlowStorageNodes = false;
+  // Whether the client asked for the read trace of the storage nodes
+  private boolean readTraceRequested = false;
 
   // Whether the request supports streaming or not
   private VeniceChunkedResponse chunkedResponse = null;
@@ -175,6 +177,7 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
 
     this.chunkedResponse = originalPath.chunkedResponse;
     this.responseDecompressor = originalPath.responseDecompressor;
+    this.readTraceRequested = originalPath.readTraceRequested;
 
     this.requestId = originalPath.getRequestId();
     this.helixGroupId = originalPath.getHelixGroupId();
@@ -271,6 +274,18 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
     if (chunkedResponse != null) {
       setupHeaderFunc.accept(HttpConstants.VENICE_STREAMING, "1");
     }
+    // Read trace
+    if (readTraceRequested) {
+      setupHeaderFunc.accept(HttpConstants.VENICE_READ_TRACE, "1");
+    }
+  }
+
+  public void setReadTraceRequested() {
+    this.readTraceRequested = true;
+  }
+
+  public boolean isReadTraceRequested() {
+    return readTraceRequested;
   }
 
   public HttpUriRequest composeRouterRequest(String storageNodeUri) {
@@ -0,0 +1,340 @@
+package com.linkedin.venice.router.httpclient;
+
+import com.linkedin.alpini.base.monitoring.NullCallTracker;
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.alpini.netty4.pool.BasicDnsResolver;
+import com.linkedin.alpini.netty4.pool.ChannelPoolFactory;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManager;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManagerImpl;
+import com.linkedin.alpini.netty4.pool.FixedChannelPoolFactory;
+import com.linkedin.alpini.netty4.pool.Http2AwareChannelPool;
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.MultithreadEventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2Error;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2ResetFrame;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.util.concurrent.Future;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link StorageNodeClient} which talks HTTP/2 to the storage nodes with Netty, on top of the alpini
+ * {@link ChannelPoolManagerImpl} and {@link Http2AwareChannelPool}.
+ *
+ * Compared to {@link HttpClient5StorageNodeClient}, there are no I/O threads of its own: the connections to the
+ * storage nodes are registered on the worker event loop group of the router, and each event loop has its own sub-pool,
+ * so that a request dispatched from an event loop is sent and completed on that same event loop without any thread
+ * hand-off. Each request is a stream of a multiplexed HTTP/2 connection, and the content of the response is handed to
+ * the response aggregation as the {@link ByteBuf} it was received in, without being copied into a byte array first.
+ *
+ * The connections use unpooled heap buffers, so that the content of a response which gets dropped, e.g. when the
+ * request is retried, is simply reclaimed by the garbage collector, and so that the content remains array-backed.
+ *
+ * The storage nodes need to have {@link com.linkedin.venice.ConfigKeys#SERVER_HTTP2_INBOUND_ENABLED} on, since the
+ * connections only advertise HTTP/2 through ALPN.
+ */
+public class NettyHttp2StorageNodeClient implements StorageNodeClient {
+  private static final Logger LOGGER = LogManager.getLogger(NettyHttp2StorageNodeClient.class);
+
+  private final ChannelPoolManager channelPoolManager;
+  private final Map<String, Boolean> hostNameAndPorts = new VeniceConcurrentHashMap<>();
+  private final int socketTimeoutMs;
+
+  public NettyHttp2StorageNodeClient(
+      VeniceRouterConfig routerConfig,
+      Optional<SSLFactory> sslFactory,
+      MultithreadEventLoopGroup workerEventLoopGroup,
+      Class<? extends Channel> socketChannelClass) {
+    SSLFactory factory = sslFactory.orElseThrow(
+        () -> new VeniceException("Param 'sslFactory' must be present while using " + this.getClass().getSimpleName()));
+    SslContext sslContext = new JdkSslContext(
+        factory.getSSLContext(),
+        true,
+        null,
+        IdentityCipherSuiteFilter.INSTANCE,
+        new ApplicationProtocolConfig(
+            ApplicationProtocolConfig.Protocol.ALPN,
+            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+            ApplicationProtocolNames.HTTP_2),
+        ClientAuth.NONE,
+        null,
+        false);
+    Http2Settings http2Settings = Http2Settings.defaultSettings()
+        .pushEnabled(false)
+        .initialWindowSize(routerConfig.getHttp2InitialWindowSize())
+        .maxFrameSize(routerConfig.getHttp2MaxFrameSize())
+        .headerTableSize(routerConfig.getHttp2HeaderTableSize())
+        .maxHeaderListSize(routerConfig.getHttp2MaxHeaderListSize());
+    this.socketTimeoutMs = routerConfig.getSocketTimeout();
+
+    Bootstrap bootstrap = new Bootstrap().channel(socketChannelClass)
+        .option(ChannelOption.ALLOCATOR, new UnpooledByteBufAllocator(false))
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, routerConfig.getConnectionTimeout())
+        .option(ChannelOption.TCP_NODELAY, true)
+        .handler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel ch) {
+            ch.pipeline()
+                .addLast(sslContext.newHandler(ch.alloc()))
+                .addLast(Http2FrameCodecBuilder.forClient().initialSettings(http2Settings).build())
+                // The storage nodes never initiate streams since push is disabled.
+                .addLast(new Http2MultiplexHandler(new ChannelInboundHandlerAdapter()));
+          }
+        });
+    FixedChannelPoolFactory connectionPoolFactory = new FixedChannelPoolFactory(
+        bootstrap,
+        routerConfig.getConnectionTimeout(),
+        routerConfig.getMaxOutgoingConnPerRoute(),
+        routerConfig.getMaxOutgoingConn(),
+        false,
+        TimeUnit.MINUTES.toMillis(1),
+        ChannelHealthChecker.ACTIVE,
+        NullCallTracker.INSTANCE);
+    ChannelPoolFactory streamPoolFactory = (manager, handler, eventLoop, address) -> {
+      Http2AwareChannelPool pool = new Http2AwareChannelPool(
+          connectionPoolFactory.construct(manager, handler, eventLoop, address),
+          ignored -> {},
+          streamChannel -> streamChannel.pipeline().addLast(new HttpObjectAggregator(Integer.MAX_VALUE)),
+          false);
+      pool.setMaxConcurrentStreams(routerConfig.getHttp2MaxConcurrentStreams());
+      return pool;
+    };
+    this.channelPoolManager = new ChannelPoolManagerImpl(
+        workerEventLoopGroup,
+        streamPoolFactory,
+        new BasicDnsResolver(),
+        routerConfig.getMaxOutgoingConn(),
+        false,
+        true,
+        false);
+    LOGGER.info(
+        "Constructing NettyHttp2StorageNodeClient with max connections per route: {}, max concurrent streams: {}",
+        routerConfig.getMaxOutgoingConnPerRoute(),
+        routerConfig.getHttp2MaxConcurrentStreams());
+  }
+
+  @Override
+  public void start() {
+
+  }
+
+  @Override
+  public void close() {
+    hostNameAndPorts.keySet().forEach(channelPoolManager::close);
+  }
+
+  @Override
+  public void query(
+      Instance host,
+      VenicePath path,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      BooleanSupplier cancelledCallBack) throws RouterException {
+    byte[] body = path.getBody();
+    FullHttpRequest request = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.valueOf(path.getHttpMethod().name()),
+        "/" + path.getLocation(),
+        body == null ? Unpooled.EMPTY_BUFFER : Unpooled.wrappedBuffer(body));
+    path.setupVeniceHeaders((k, v) -> request.headers().add(k, v));
+    send(host, request, socketTimeoutMs, completedCallBack, failedCallBack, cancelledCallBack);
+  }
+
+  @Override
+  public void sendRequest(VeniceMetaDataRequest request, CompletableFuture<PortableHttpResponse> responseFuture) {
+    send(
+        request.getHost(),
+        new DefaultFullHttpRequest(
+            HttpVersion.HTTP_1_1,
+            HttpMethod.valueOf(request.getMethod()),
+            "/" + request.getQuery(),
+            Unpooled.EMPTY_BUFFER),
+        request.hasTimeout() ? request.getTimeout() : socketTimeoutMs,
+        responseFuture::complete,
+        responseFuture::completeExceptionally,
+        () -> responseFuture.cancel(false));
+  }
+
+  private void send(
+      Instance host,
+      FullHttpRequest request,
+      int timeoutMs,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      BooleanSupplier cancelledCallBack) {
+    String hostNameAndPort = host.getHost() + ":" + host.getSslPort();
+    hostNameAndPorts.putIfAbsent(hostNameAndPort, Boolean.TRUE);
+    request.headers()
+        .set(HttpHeaderNames.HOST, hostNameAndPort)
+        .setInt(HttpHeaderNames.CONTENT_LENGTH, request.content().readableBytes());
+    channelPoolManager.acquire(hostNameAndPort, ChannelPoolManagerImpl.DEFAULT_DB_QUEUE, QOS.NORMAL)
+        .addListener((Future<Channel> future) -> {
+          if (future.isCancelled()) {
+            cancelledCallBack.getAsBoolean();
+            return;
+          }
+          if (!future.isSuccess()) {
+            failedCallBack.accept(future.cause());
+            return;
+          }
+          Channel streamChannel = future.getNow();
+          streamChannel.pipeline()
+              .addLast(new ReadTimeoutHandler(timeoutMs, TimeUnit.MILLISECONDS))
+              .addLast(new ResponseHandler(completedCallBack, failedCallBack, cancelledCallBack));
+          streamChannel.writeAndFlush(request).addListener(writeFuture -> {
+            if (!writeFuture.isSuccess()) {
+              streamChannel.pipeline().fireExceptionCaught(writeFuture.cause());
+            }
+          });
+        });
+  }
+
+  /**
+   * Completes a single request, and gives the stream back to the pool once it is done with it. A stream which the
+   * storage node resets with the CANCEL error code, e.g. when it is shutting down, completes the request as cancelled.
+   */
+  private final class ResponseHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+    private final Consumer<PortableHttpResponse> completedCallBack;
+    private final Consumer<Throwable> failedCallBack;
+    private final BooleanSupplier cancelledCallBack;
+    private boolean done = false;
+
+    private ResponseHandler(
+        Consumer<PortableHttpResponse> completedCallBack,
+        Consumer<Throwable> failedCallBack,
+        BooleanSupplier cancelledCallBack) {
+      this.completedCallBack = completedCallBack;
+      this.failedCallBack = failedCallBack;
+      this.cancelledCallBack = cancelledCallBack;
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse response) {
+      if (!markDone(ctx)) {
+        return;
+      }
+      // The content is released along with the response, so it is retained for the callback.
+      completedCallBack.accept(
+          new NettyHttp2Response(response.status().code(), response.headers(), response.content().retain()));
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      fail(ctx, cause instanceof ReadTimeoutException ? new VeniceException("Request timed out", cause) : cause);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+      fail(ctx, new VeniceException("Stream to storage node closed before the response was received"));
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+      // Stream resets are not flow-controlled, so they are fired as user events rather than read
+      if (evt instanceof Http2ResetFrame) {
+        long errorCode = ((Http2ResetFrame) evt).errorCode();
+        if (errorCode == Http2Error.CANCEL.code()) {
+          if (markDone(ctx)) {
+            cancelledCallBack.getAsBoolean();
+          }
+        } else {
+          fail(ctx, new VeniceException("Stream to storage node was reset with error code: " + errorCode));
+        }
+      }
+      super.userEventTriggered(ctx, evt);
+    }
+
+    private void fail(ChannelHandlerContext ctx, Throwable cause) {
+      if (markDone(ctx)) {
+        failedCallBack.accept(cause);
+      }
+    }
+
+    /**
+     * @return whether the request was still in flight, in which case the stream is given back to the pool.
+     */
+    private boolean markDone(ChannelHandlerContext ctx) {
+      if (done) {
+        return false;
+      }
+      done = true;
+      channelPoolManager.release(ctx.channel());
+      return true;
+    }
+  }
+
+  private static final class NettyHttp2Response implements PortableHttpResponse {
+    private final int statusCode;
+    private final HttpHeaders headers;
+    private final ByteBuf content;
+
+    private NettyHttp2Response(int statusCode, HttpHeaders headers, ByteBuf content) {
+      this.statusCode = statusCode;
+      this.headers = headers;
+      this.content = content;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return statusCode;
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      return content;
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return headers.contains(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return headers.get(headerName);
+    }
+  }
+}
@@ -174,6 +174,14 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     getStoreStats(storeName).recordDecompressionTime(decompressionTime);
   }
 
+  public void recordDecompressionCpuTime(
+      String storeName,
+      double decompressionCpuTime,
+      boolean compressionCapableClient) {
+    totalStats.recordDecompressionCpuTime(decompressionCpuTime, compressionCapableClient);
+    getStoreStats(storeName).recordDecompressionCpuTime(decompressionCpuTime, compressionCapableClient);
+  }
+
   public void recordQuota(String storeName, double quota) {
     getStoreStats(storeName).recordQuota(quota);
   }
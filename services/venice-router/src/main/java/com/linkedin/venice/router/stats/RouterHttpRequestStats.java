@@ -44,6 +44,9 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor badRequestKeyCountSensor;
   private final Sensor requestThrottledByRouterCapacitySensor;
   private final Sensor decompressionTimeSensor;
+  private final Sensor decompressionCpuTimeSensor;
+  private final Sensor compressionCapableClientDecompressionCpuTimeSensor;
+  private final Sensor uncompressedClientDecompressionCpuTimeSensor;
   private final Sensor routerResponseWaitingTimeSensor;
   private final Sensor fanoutRequestCountSensor;
   private final Sensor quotaSensor;
@@ -123,6 +126,15 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
         "decompression_time",
         TehutiUtils.getPercentileStat(getName(), getFullMetricName("decompression_time")),
         new Avg());
+    decompressionCpuTimeSensor = registerSensor("decompression_cpu_time", new Avg(), new Max(), new Total());
+    /**
+     * Clients which advertised compression support only get their responses decompressed when the version uses a
+     * compression they do not support, while uncompressed clients get all of them decompressed.
+     */
+    compressionCapableClientDecompressionCpuTimeSensor =
+        registerSensor("compression_capable_client_decompression_cpu_time", new Total());
+    uncompressedClientDecompressionCpuTimeSensor =
+        registerSensor("uncompressed_client_decompression_cpu_time", new Total());
     quotaSensor = registerSensor("read_quota_per_router", new Gauge());
     findUnhealthyHostRequestSensor = registerSensor("find_unhealthy_host_request", new OccurrenceRate());
 
@@ -294,6 +306,15 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     decompressionTimeSensor.record(decompressionTime);
   }
 
+  public void recordDecompressionCpuTime(double decompressionCpuTime, boolean compressionCapableClient) {
+    decompressionCpuTimeSensor.record(decompressionCpuTime);
+    if (compressionCapableClient) {
+      compressionCapableClientDecompressionCpuTimeSensor.record(decompressionCpuTime);
+    } else {
+      uncompressedClientDecompressionCpuTimeSensor.record(decompressionCpuTime);
+    }
+  }
+
   public void recordQuota(double quota) {
     quotaSensor.record(quota);
   }
@@ -0,0 +1,149 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.alpini.base.concurrency.AsyncFuture;
+import com.linkedin.alpini.base.concurrency.AsyncPromise;
+import com.linkedin.alpini.netty4.misc.BasicHttpRequest;
+import com.linkedin.alpini.router.api.Scatter;
+import com.linkedin.alpini.router.api.ScatterGatherRequest;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.read.ReadTrace;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.httpclient.StorageNodeClient;
+import com.linkedin.venice.router.stats.AggHostHealthStats;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouteHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.utils.DataProviderUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestVeniceDispatcher {
+  private static final String STORE_NAME = "test_store";
+  private static final Instance STORAGE_NODE = new Instance("host1_1234", "host1", 1234);
+  private static final byte[] VALUE = "value".getBytes();
+
+  private VeniceDispatcher getDispatcher(boolean decompressionExecutorEnabled, String readTrace) throws Exception {
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(Integer.MAX_VALUE).when(config).getRouterUnhealthyPendingConnThresholdPerRoute();
+    doReturn(1000L).when(config).getMaxPendingRequest();
+    doReturn(1000L).when(config).getLeakedFutureCleanupPollIntervalMs();
+    doReturn(TimeUnit.MINUTES.toMillis(1)).when(config).getLeakedFutureCleanupThresholdMs();
+    doReturn(decompressionExecutorEnabled ? 1 : 0).when(config).getDecompressionThreadPoolSize();
+    doReturn(10).when(config).getDecompressionThreadPoolQueueCapacity();
+
+    PortableHttpResponse response = mock(PortableHttpResponse.class);
+    doReturn(HttpStatus.SC_OK).when(response).getStatusCode();
+    doAnswer(invocation -> Unpooled.wrappedBuffer(VALUE)).when(response).getContentInByteBuf();
+    doReturn(HttpConstants.AVRO_BINARY).when(response).getFirstHeader(HttpHeaders.CONTENT_TYPE);
+    doReturn("1").when(response).getFirstHeader(HttpConstants.VENICE_SCHEMA_ID);
+    doReturn(String.valueOf(CompressionStrategy.GZIP.getValue())).when(response)
+        .getFirstHeader(HttpConstants.VENICE_COMPRESSION_STRATEGY);
+    doReturn(readTrace != null).when(response).containsHeader(HttpConstants.VENICE_READ_TRACE);
+    doReturn(readTrace).when(response).getFirstHeader(HttpConstants.VENICE_READ_TRACE);
+
+    StorageNodeClient storageNodeClient = mock(StorageNodeClient.class);
+    doAnswer(invocation -> {
+      Consumer<PortableHttpResponse> completedCallBack = invocation.getArgument(2);
+      completedCallBack.accept(response);
+      return null;
+    }).when(storageNodeClient).query(any(), any(), any(), any(), any());
+
+    RouterStats<AggRouterHttpRequestStats> routerStats =
+        new RouterStats<>(requestType -> mock(AggRouterHttpRequestStats.class));
+    return new VeniceDispatcher(
+        config,
+        mock(ReadOnlyStoreRepository.class),
+        routerStats,
+        new MetricsRepository(),
+        storageNodeClient,
+        mock(RouteHttpRequestStats.class),
+        mock(AggHostHealthStats.class),
+        routerStats);
+  }
+
+  private VenicePath getPath(boolean readTraceRequested) {
+    VenicePath path = mock(VenicePath.class);
+    doReturn(STORE_NAME).when(path).getStoreName();
+    doReturn(RequestType.SINGLE_GET).when(path).getRequestType();
+    doReturn(readTraceRequested).when(path).isReadTraceRequested();
+    VeniceResponseDecompressor responseDecompressor = mock(VeniceResponseDecompressor.class);
+    doReturn(false).when(responseDecompressor).canPassThroughResponse(any());
+    doAnswer(invocation -> {
+      ByteBuf content = invocation.getArgument(1);
+      return new ContentDecompressResult(content, CompressionStrategy.NO_OP, 0);
+    }).when(responseDecompressor).decompressSingleGetContent(any(), any());
+    doReturn(responseDecompressor).when(path).getResponseDecompressor();
+    return path;
+  }
+
+  private FullHttpResponse dispatch(VeniceDispatcher dispatcher, VenicePath path) throws Exception {
+    ScatterGatherRequest<Instance, RouterKey> part = mock(ScatterGatherRequest.class);
+    doReturn(Collections.singletonList(STORAGE_NODE)).when(part).getHosts();
+    AsyncPromise<List<FullHttpResponse>> responseFuture = AsyncFuture.deferred(false);
+    dispatcher.dispatch(
+        mock(Scatter.class),
+        part,
+        path,
+        mock(BasicHttpRequest.class),
+        AsyncFuture.deferred(false),
+        responseFuture,
+        AsyncFuture.deferred(false),
+        AsyncFuture.deferred(false),
+        Runnable::run);
+    List<FullHttpResponse> responses = responseFuture.get(10, TimeUnit.SECONDS);
+    Assert.assertEquals(responses.size(), 1);
+    FullHttpResponse response = responses.get(0);
+    Assert.assertEquals(response.status(), HttpResponseStatus.OK);
+    Assert.assertEquals(response.content().readableBytes(), VALUE.length);
+    return response;
+  }
+
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testReadTraceIsTaggedWithStorageNode(boolean decompressionExecutorEnabled) throws Exception {
+    VeniceDispatcher dispatcher = getDispatcher(decompressionExecutorEnabled, "queue=0.1;lookup=0.2");
+    try {
+      FullHttpResponse response = dispatch(dispatcher, getPath(true));
+      String readTrace = response.headers().get(HttpConstants.VENICE_READ_TRACE);
+      Assert.assertEquals(readTrace, "host=" + STORAGE_NODE.getNodeId() + ";queue=0.1;lookup=0.2");
+      Assert.assertEquals(ReadTrace.parse(readTrace).getHost(), STORAGE_NODE.getNodeId());
+
+      // The trace is only passed on if the client asked for it
+      response = dispatch(dispatcher, getPath(false));
+      Assert.assertNull(response.headers().get(HttpConstants.VENICE_READ_TRACE));
+    } finally {
+      dispatcher.stop();
+    }
+  }
+
+  @Test
+  public void testResponsesAreDecompressedAfterStop() throws Exception {
+    VeniceDispatcher dispatcher = getDispatcher(true, null);
+    dispatcher.stop();
+    // The decompression executor is shut down, so the response is decompressed in the calling thread instead
+    FullHttpResponse response = dispatch(dispatcher, getPath(false));
+    Assert.assertNull(response.headers().get(HttpConstants.VENICE_READ_TRACE));
+  }
+}
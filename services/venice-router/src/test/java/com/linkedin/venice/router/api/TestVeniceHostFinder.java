@@ -0,0 +1,97 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.alpini.router.api.HostHealthMonitor;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.LiveInstanceMonitor;
+import com.linkedin.venice.meta.RoutingDataRepository;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.httpclient.StorageNodeClient;
+import com.linkedin.venice.router.stats.AggHostHealthStats;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouteHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestVeniceHostFinder {
+  private static final String RESOURCE_NAME = "store_v1";
+  private static final HostHealthMonitor<Instance> ALL_HEALTHY = (instance, partitionName) -> true;
+
+  @Test
+  public void testRoutingSnapshotIsReusedUntilRoutingDataChanges() {
+    Instance instance1 = Instance.fromNodeId("host1_123");
+    Instance instance2 = Instance.fromNodeId("host2_123");
+    Instance instance3 = Instance.fromNodeId("host3_123");
+    LiveInstanceMonitor liveInstanceMonitor = mock(LiveInstanceMonitor.class);
+    doReturn(true).when(liveInstanceMonitor).isInstanceAlive(any());
+    RoutingDataRepository routingDataRepository = mock(RoutingDataRepository.class);
+    doReturn(Arrays.asList(instance1, instance2)).when(routingDataRepository)
+        .getReadyToServeInstances(RESOURCE_NAME, 0);
+    VeniceHostFinder hostFinder =
+        new VeniceHostFinder(routingDataRepository, mockRouterStats(), createHostHealth(liveInstanceMonitor));
+
+    for (int i = 0; i < 10; i++) {
+      List<Instance> hosts = hostFinder.findHosts("GET", RESOURCE_NAME, "store", 0, ALL_HEALTHY);
+      Assert.assertEquals(new HashSet<>(hosts), new HashSet<>(Arrays.asList(instance1, instance2)));
+    }
+    // The availability of the hosts is only checked when building the snapshot
+    verify(liveInstanceMonitor, times(1)).isInstanceAlive(instance1);
+    verify(liveInstanceMonitor, times(1)).isInstanceAlive(instance2);
+    verify(routingDataRepository, times(1)).subscribeRoutingDataChange(any(), any());
+
+    doReturn(Arrays.asList(instance2, instance3)).when(routingDataRepository)
+        .getReadyToServeInstances(RESOURCE_NAME, 0);
+    List<Instance> hosts = hostFinder.findHosts("GET", RESOURCE_NAME, "store", 0, ALL_HEALTHY);
+    Assert.assertEquals(new HashSet<>(hosts), new HashSet<>(Arrays.asList(instance2, instance3)));
+  }
+
+  @Test
+  public void testRoutingSnapshotIsRebuiltWhenHostAvailabilityChanges() {
+    Instance instance1 = Instance.fromNodeId("host1_123");
+    Instance instance2 = Instance.fromNodeId("host2_123");
+    LiveInstanceMonitor liveInstanceMonitor = mock(LiveInstanceMonitor.class);
+    doReturn(true).when(liveInstanceMonitor).isInstanceAlive(any());
+    RoutingDataRepository routingDataRepository = mock(RoutingDataRepository.class);
+    doReturn(Arrays.asList(instance1, instance2)).when(routingDataRepository)
+        .getReadyToServeInstances(RESOURCE_NAME, 0);
+    VeniceHostHealth hostHealth = createHostHealth(liveInstanceMonitor);
+    VeniceHostFinder hostFinder = new VeniceHostFinder(routingDataRepository, mockRouterStats(), hostHealth);
+    Assert.assertEquals(hostFinder.findHosts("GET", RESOURCE_NAME, "store", 0, ALL_HEALTHY).size(), 2);
+
+    hostHealth.setHostAsUnhealthy(instance1);
+    List<Instance> hosts = hostFinder.findHosts("GET", RESOURCE_NAME, "store", 0, ALL_HEALTHY);
+    Assert.assertEquals(hosts, Arrays.asList(instance2));
+
+    hostHealth.setHostAsHealthy(instance1);
+    hosts = hostFinder.findHosts("GET", RESOURCE_NAME, "store", 0, ALL_HEALTHY);
+    Assert.assertEquals(new HashSet<>(hosts), new HashSet<>(Arrays.asList(instance1, instance2)));
+  }
+
+  private static VeniceHostHealth createHostHealth(LiveInstanceMonitor liveInstanceMonitor) {
+    StorageNodeClient storageNodeClient = mock(StorageNodeClient.class);
+    doReturn(true).when(storageNodeClient).isInstanceReadyToServe(anyString());
+    return new VeniceHostHealth(
+        liveInstanceMonitor,
+        storageNodeClient,
+        mock(VeniceRouterConfig.class),
+        mock(RouteHttpRequestStats.class),
+        mock(AggHostHealthStats.class));
+  }
+
+  private static RouterStats<AggRouterHttpRequestStats> mockRouterStats() {
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    doReturn(mock(AggRouterHttpRequestStats.class)).when(routerStats).getStatsByType(any());
+    return routerStats;
+  }
+}
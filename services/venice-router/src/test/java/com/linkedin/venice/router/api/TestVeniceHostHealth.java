@@ -148,4 +148,38 @@ public class TestVeniceHostHealth {
         hostHealth.isHostHealthy(slowInstance, fakePartition),
         "Host should be unhealthy when the OOR period is not over yet.");
   }
+
+  @Test
+  public void testAvailabilityChangedOnlyWhenHostStatusChanges() {
+    Instance instance = Instance.fromNodeId("host_123");
+    LiveInstanceMonitor mockLiveInstanceMonitor = mock(LiveInstanceMonitor.class);
+    doReturn(true).when(mockLiveInstanceMonitor).isInstanceAlive(instance);
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    VeniceHostHealth hostHealth = new VeniceHostHealth(
+        mockLiveInstanceMonitor,
+        mockStorageNodeClient(true),
+        config,
+        mock(RouteHttpRequestStats.class),
+        mock(AggHostHealthStats.class));
+    Runnable listener = mock(Runnable.class);
+    hostHealth.registerAvailabilityChangedListener(listener);
+    long availabilityVersion = hostHealth.getAvailabilityVersion();
+
+    hostHealth.setHostAsUnhealthy(instance);
+    Assert.assertFalse(hostHealth.isHostAvailable(instance));
+    Assert.assertEquals(hostHealth.getAvailabilityVersion(), availabilityVersion + 1);
+    verify(listener, times(1)).run();
+
+    // The heartbeat marks a failing host as unhealthy on every cycle
+    hostHealth.setHostAsUnhealthy(instance);
+    hostHealth.setHostAsUnhealthy(instance);
+    Assert.assertEquals(hostHealth.getAvailabilityVersion(), availabilityVersion + 1);
+    verify(listener, times(1)).run();
+
+    hostHealth.setHostAsHealthy(instance);
+    hostHealth.setHostAsHealthy(instance);
+    Assert.assertTrue(hostHealth.isHostAvailable(instance));
+    Assert.assertEquals(hostHealth.getAvailabilityVersion(), availabilityVersion + 2);
+    verify(listener, times(2)).run();
+  }
 }
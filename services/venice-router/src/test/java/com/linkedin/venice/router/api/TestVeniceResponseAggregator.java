@@ -1,6 +1,7 @@
 package com.linkedin.venice.router.api;
 
 import static com.linkedin.venice.HttpConstants.VENICE_COMPRESSION_STRATEGY;
+import static com.linkedin.venice.HttpConstants.VENICE_READ_TRACE;
 import static com.linkedin.venice.HttpConstants.VENICE_SCHEMA_ID;
 import static com.linkedin.venice.HttpConstants.VENICE_SUPPORTED_COMPRESSION_STRATEGY;
 import static io.netty.handler.codec.http.HttpResponseStatus.MOVED_PERMANENTLY;
@@ -222,6 +223,123 @@ public class TestVeniceResponseAggregator {
     verify(mockStatsForMultiGet).recordThrottledRequest(storeName, 1.0);
   }
 
+  /**
+   * In the composite mode, the contents of the sub-responses must neither be consolidated into a copy, however many
+   * there are, nor nested when they are composite themselves.
+   */
+  @Test
+  public void testBuildResponseForMultiGetWithCompositeAggregation() {
+    String storeName = Utils.getUniqueString("test_store");
+    Map<String, String> headers = new HashMap<>();
+    headers.put(HttpHeaderNames.CONTENT_TYPE.toString(), "avro/binary");
+    headers.put(HttpConstants.VENICE_STORE_VERSION, "1");
+    headers.put(HttpConstants.VENICE_SCHEMA_ID, "1");
+
+    int responseCount = 40;
+    List<FullHttpResponse> gatheredResponses = new ArrayList<>();
+    List<String> expectedValues = new ArrayList<>();
+    for (int i = 0; i < responseCount; i++) {
+      String value = "value" + i;
+      expectedValues.add(value);
+      FullHttpResponse response = buildFullHttpResponse(OK, getResponseContentWithSchemaString(value), headers);
+      if (i % 2 == 0) {
+        // Made of several frames
+        ByteBuf content = response.content();
+        int half = content.readableBytes() / 2;
+        CompositeByteBuf frames = Unpooled.compositeBuffer()
+            .addComponent(true, content.retainedSlice(0, half))
+            .addComponent(true, content.retainedSlice(half, content.readableBytes() - half));
+        content.release();
+        response = response.replace(frames);
+      }
+      gatheredResponses.add(response);
+    }
+
+    BasicFullHttpRequest request =
+        new BasicFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/storage/test_store", -1, -1);
+    AggRouterHttpRequestStats mockStatsForMultiGet = mock(AggRouterHttpRequestStats.class);
+    RouterStats mockRouterStat = mock(RouterStats.class);
+    when(mockRouterStat.getStatsByType(RequestType.SINGLE_GET)).thenReturn(mock(AggRouterHttpRequestStats.class));
+    when(mockRouterStat.getStatsByType(RequestType.MULTI_GET)).thenReturn(mockStatsForMultiGet);
+
+    Metrics metrics = new Metrics();
+    VenicePath path =
+        getPath(storeName, RequestType.MULTI_GET, mockRouterStat, request, mock(CompressorFactory.class));
+    when(path.getResponseHeaders()).thenReturn(Optional.empty());
+    metrics.setPath(path);
+
+    VeniceResponseAggregator responseAggregator =
+        new VeniceResponseAggregator(mockRouterStat, Optional.empty()).withCompositeResponseAggregation(true);
+    FullHttpResponse finalResponse = responseAggregator.buildResponse(request, metrics, gatheredResponses);
+    Assert.assertEquals(finalResponse.status(), OK);
+
+    Assert.assertTrue(finalResponse.content() instanceof CompositeByteBuf);
+    CompositeByteBuf content = (CompositeByteBuf) finalResponse.content();
+    Assert.assertEquals(content.numComponents(), responseCount + responseCount / 2);
+    Assert.assertEquals(
+        Integer.parseInt(finalResponse.headers().get(HttpHeaderNames.CONTENT_LENGTH)),
+        content.readableBytes());
+
+    byte[] finalContent = new byte[content.readableBytes()];
+    content.readBytes(finalContent);
+    List<String> values = new ArrayList<>();
+    deserializeResponse(finalContent).forEach(value -> values.add(value.toString()));
+    Assert.assertEquals(values, expectedValues);
+    verify(mockStatsForMultiGet).recordFanoutRequestCount(storeName, responseCount);
+    finalResponse.release();
+  }
+
+  @Test
+  public void testReadTracesOfSubResponsesAreJoined() {
+    String storeName = Utils.getUniqueString("test_store");
+    Map<String, String> headers = new HashMap<>();
+    headers.put(HttpHeaderNames.CONTENT_TYPE.toString(), "avro/binary");
+    headers.put(HttpConstants.VENICE_STORE_VERSION, "1");
+    headers.put(HttpConstants.VENICE_SCHEMA_ID, "1");
+    String readTrace1 = "host=host1_1234;queue=0.1;lookup=0.2";
+    String readTrace2 = "host=host2_1234;queue=0.3;lookup=0.4";
+
+    BasicFullHttpRequest request =
+        new BasicFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/storage/test_store", -1, -1);
+    RouterStats mockRouterStat = mock(RouterStats.class);
+    when(mockRouterStat.getStatsByType(RequestType.SINGLE_GET)).thenReturn(mock(AggRouterHttpRequestStats.class));
+    when(mockRouterStat.getStatsByType(RequestType.MULTI_GET)).thenReturn(mock(AggRouterHttpRequestStats.class));
+    when(mockRouterStat.getStatsByType(RequestType.MULTI_GET_STREAMING))
+        .thenReturn(mock(AggRouterHttpRequestStats.class));
+    VeniceResponseAggregator responseAggregator = new VeniceResponseAggregator(mockRouterStat, Optional.empty());
+
+    // The traces of the storage nodes a multi-get was scattered to are joined
+    List<FullHttpResponse> gatheredResponses = new ArrayList<>();
+    for (String readTrace: Arrays.asList(readTrace1, readTrace2)) {
+      FullHttpResponse response = buildFullHttpResponse(OK, getResponseContentWithSchemaString("value"), headers);
+      response.headers().set(VENICE_READ_TRACE, readTrace);
+      gatheredResponses.add(response);
+    }
+    VenicePath path = getPath(storeName, RequestType.MULTI_GET, mockRouterStat, request, mock(CompressorFactory.class));
+    when(path.getResponseHeaders()).thenReturn(Optional.empty());
+    when(path.isReadTraceRequested()).thenReturn(true);
+    Metrics metrics = new Metrics();
+    metrics.setPath(path);
+    FullHttpResponse finalResponse = responseAggregator.buildResponse(request, metrics, gatheredResponses);
+    Assert.assertEquals(finalResponse.status(), OK);
+    Assert.assertEquals(finalResponse.headers().get(VENICE_READ_TRACE), readTrace1 + "," + readTrace2);
+
+    // The streaming responses do not carry any trace, as their headers are sent before the storage nodes respond
+    gatheredResponses.clear();
+    FullHttpResponse response = buildFullHttpResponse(OK, new byte[0], headers);
+    response.headers().set(VENICE_READ_TRACE, readTrace1);
+    gatheredResponses.add(response);
+    VenicePath streamingPath =
+        getPath(storeName, RequestType.MULTI_GET_STREAMING, mockRouterStat, request, mock(CompressorFactory.class));
+    when(streamingPath.isStreamingRequest()).thenReturn(true);
+    when(streamingPath.isReadTraceRequested()).thenReturn(true);
+    metrics = new Metrics();
+    metrics.setPath(streamingPath);
+    finalResponse = responseAggregator.buildResponse(request, metrics, gatheredResponses);
+    Assert.assertEquals(finalResponse.status(), OK);
+    Assert.assertNull(finalResponse.headers().get(VENICE_READ_TRACE));
+  }
+
   @Test
   public void testBuildResponseForMigratedStore() {
     RouterStats mockRouterStat = mock(RouterStats.class);
@@ -2,18 +2,36 @@ package com.linkedin.venice.router.api;
 
 import static com.linkedin.venice.HttpConstants.VENICE_SUPPORTED_COMPRESSION_STRATEGY;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyDouble;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.DataProviderUtils;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -120,4 +138,307 @@ public class TestVeniceResponseDecompressor {
       Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
     }
   }
+
+  /**
+   * Clients may advertise several compression strategies, and the responses compressed with any of them should be
+   * passed through.
+   */
+  @Test
+  public void testRouterPassesThroughAnyNegotiatedCompression() {
+    Assert.assertEquals(
+        VeniceResponseDecompressor.getClientSupportedCompressions("1, 3,42,unknown"),
+        EnumSet.of(CompressionStrategy.GZIP, CompressionStrategy.ZSTD_WITH_DICT));
+    Assert.assertTrue(VeniceResponseDecompressor.getClientSupportedCompressions(null).isEmpty());
+
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.GET,
+        "storage/ZstdThreeStringFieldWithPrefix/ApqFzqwN?f=b64",
+        System.currentTimeMillis(),
+        100000);
+    request.headers()
+        .add(
+            VENICE_SUPPORTED_COMPRESSION_STRATEGY,
+            CompressionStrategy.GZIP.getValue() + "," + CompressionStrategy.ZSTD_WITH_DICT.getValue());
+
+    VeniceResponseDecompressor responseDecompressor =
+        new VeniceResponseDecompressor(true, null, request, "test-store", 1, mock(CompressorFactory.class));
+    Assert.assertTrue(responseDecompressor.canPassThroughResponse(CompressionStrategy.NO_OP));
+    Assert.assertTrue(responseDecompressor.canPassThroughResponse(CompressionStrategy.GZIP));
+    Assert.assertTrue(responseDecompressor.canPassThroughResponse(CompressionStrategy.ZSTD_WITH_DICT));
+    Assert.assertFalse(responseDecompressor.canPassThroughResponse(CompressionStrategy.ZSTD));
+
+    CompositeByteBuf content = Unpooled.compositeBuffer();
+    ContentDecompressResult result =
+        responseDecompressor.decompressMultiGetContent(CompressionStrategy.ZSTD_WITH_DICT, content);
+    Assert.assertSame(result.getContent(), content);
+    Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.ZSTD_WITH_DICT);
+
+    // Nothing is passed through when the router is configured to always decompress
+    responseDecompressor =
+        new VeniceResponseDecompressor(false, null, request, "test-store", 1, mock(CompressorFactory.class));
+    Assert.assertFalse(responseDecompressor.canPassThroughResponse(CompressionStrategy.GZIP));
+    Assert.assertTrue(responseDecompressor.canPassThroughResponse(CompressionStrategy.NO_OP));
+  }
+
+  /**
+   * The CPU time spent on decompression should be attributed to clients which did not advertise any compression.
+   */
+  @Test
+  public void testRouterRecordsDecompressionCpuTimeByClientType() {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.GET,
+        "storage/ZstdThreeStringFieldWithPrefix/ApqFzqwN?f=b64",
+        System.currentTimeMillis(),
+        100000);
+
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(any());
+    RouterExceptionAndTrackingUtils.setRouterStats(routerStats);
+
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      compressorFactory.createVersionSpecificCompressorIfNotExist(
+          CompressionStrategy.ZSTD_WITH_DICT,
+          "test-store_v1",
+          new byte[] {});
+
+      VeniceResponseDecompressor responseDecompressor =
+          new VeniceResponseDecompressor(true, routerStats, request, "test-store", 1, compressorFactory);
+      ContentDecompressResult result = responseDecompressor
+          .decompressSingleGetContent(CompressionStrategy.ZSTD_WITH_DICT, Unpooled.compositeBuffer());
+      Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
+      verify(stats).recordDecompressionCpuTime(eq("test-store"), anyDouble(), eq(false));
+    }
+  }
+
+  /**
+   * The content of a multi-get response received over HTTP/2 may be made of several data frames, in which case it has
+   * no backing array, and the router should still be able to decompress the records.
+   */
+  @Test
+  public void testRouterDecompressesMultiGetContentMadeOfSeveralFrames() throws IOException {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "storage/test-store_v1",
+        System.currentTimeMillis(),
+        100000);
+
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(any());
+    RouterExceptionAndTrackingUtils.setRouterStats(routerStats);
+
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VeniceCompressor compressor = compressorFactory.getCompressor(CompressionStrategy.GZIP);
+      List<MultiGetResponseRecordV1> records = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+        record.keyIndex = i;
+        record.schemaId = 1;
+        record.value = ByteBuffer.wrap(compressor.compress(("value_" + i).getBytes(StandardCharsets.UTF_8)));
+        records.add(record);
+      }
+      byte[] serializedRecords = FastSerializerDeserializerFactory
+          .getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema())
+          .serializeObjects(records);
+      int half = serializedRecords.length / 2;
+      CompositeByteBuf content = Unpooled.compositeBuffer()
+          .addComponent(true, Unpooled.wrappedBuffer(serializedRecords, 0, half))
+          .addComponent(true, Unpooled.wrappedBuffer(serializedRecords, half, serializedRecords.length - half));
+
+      VeniceResponseDecompressor responseDecompressor =
+          new VeniceResponseDecompressor(true, routerStats, request, "test-store", 1, compressorFactory);
+      ContentDecompressResult result =
+          responseDecompressor.decompressMultiGetContent(CompressionStrategy.GZIP, content);
+      Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
+
+      byte[] decompressedRecords = new byte[result.getContent().readableBytes()];
+      result.getContent().readBytes(decompressedRecords);
+      int keyIndex = 0;
+      for (MultiGetResponseRecordV1 record: FastSerializerDeserializerFactory
+          .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.getClassSchema(), MultiGetResponseRecordV1.class)
+          .deserializeObjects(decompressedRecords)) {
+        Assert.assertEquals(record.keyIndex, keyIndex);
+        Assert.assertEquals(
+            new String(ByteUtils.extractByteArray(record.value), StandardCharsets.UTF_8),
+            "value_" + keyIndex);
+        keyIndex++;
+      }
+      Assert.assertEquals(keyIndex, 10);
+    }
+  }
+
+  /**
+   * Rewriting the framing of the multi-get records must produce the same bytes as deserializing, decompressing and
+   * serializing the records again, including for key indices and values whose varints span several bytes.
+   */
+  @Test
+  public void testRouterRewritesMultiGetRecordFraming() throws IOException {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "storage/test-store_v1",
+        System.currentTimeMillis(),
+        100000);
+
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(any());
+    RouterExceptionAndTrackingUtils.setRouterStats(routerStats);
+
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VeniceCompressor compressor = compressorFactory.getCompressor(CompressionStrategy.GZIP);
+      List<MultiGetResponseRecordV1> records = new ArrayList<>();
+      for (int i = 0; i < 200; i++) {
+        MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+        record.keyIndex = i * 1000;
+        record.schemaId = i % 3 + 1;
+        StringBuilder value = new StringBuilder();
+        for (int j = 0; j < i; j++) {
+          value.append("value_").append(i);
+        }
+        record.value = ByteBuffer.wrap(compressor.compress(value.toString().getBytes(StandardCharsets.UTF_8)));
+        records.add(record);
+      }
+      byte[] serializedRecords = FastSerializerDeserializerFactory
+          .getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema())
+          .serializeObjects(records);
+
+      VeniceResponseDecompressor deserializingDecompressor =
+          new VeniceResponseDecompressor(true, routerStats, request, "test-store", 1, compressorFactory);
+      VeniceResponseDecompressor rewritingDecompressor =
+          new VeniceResponseDecompressor(true, routerStats, request, "test-store", 1, compressorFactory, true);
+      ContentDecompressResult expected = deserializingDecompressor
+          .decompressMultiGetContent(CompressionStrategy.GZIP, Unpooled.wrappedBuffer(serializedRecords));
+      ContentDecompressResult result = rewritingDecompressor
+          .decompressMultiGetContent(CompressionStrategy.GZIP, Unpooled.wrappedBuffer(serializedRecords));
+
+      Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
+      Assert.assertEquals(result.getContent(), expected.getContent());
+
+      // Content made of several data frames is read in place, including the values which span frames
+      int frameSize = serializedRecords.length / 7;
+      CompositeByteBuf frames = Unpooled.compositeBuffer();
+      for (int offset = 0; offset < serializedRecords.length; offset += frameSize) {
+        int length = Math.min(frameSize, serializedRecords.length - offset);
+        frames.addComponent(true, Unpooled.wrappedBuffer(serializedRecords, offset, length));
+      }
+      result = rewritingDecompressor.decompressMultiGetContent(CompressionStrategy.GZIP, frames);
+      Assert.assertEquals(result.getContent(), expected.getContent());
+    }
+  }
+
+  /**
+   * A multi-get response aggregated out of several HTTP/2 data frames is a flat composite with one component per frame,
+   * which are not aligned with the records, so a record may span two components.
+   */
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testRouterDecompressesMultiGetRecordSpanningComponents(boolean rewriteRecordFraming) throws IOException {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "storage/test-store_v1",
+        System.currentTimeMillis(),
+        100000);
+
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(any());
+    RouterExceptionAndTrackingUtils.setRouterStats(routerStats);
+
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VeniceCompressor compressor = compressorFactory.getCompressor(CompressionStrategy.GZIP);
+      RecordSerializer<MultiGetResponseRecordV1> serializer =
+          FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
+      List<MultiGetResponseRecordV1> records = new ArrayList<>();
+      for (int i = 0; i < 2; i++) {
+        MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+        record.keyIndex = i;
+        record.schemaId = 1;
+        record.value = ByteBuffer.wrap(compressor.compress(("value_" + i).getBytes(StandardCharsets.UTF_8)));
+        records.add(record);
+      }
+      byte[] serializedRecords = serializer.serializeObjects(records);
+      // Split the content in the middle of the value of the second record
+      int firstRecordLength = serializer.serializeObjects(records.subList(0, 1)).length;
+      int split = firstRecordLength + (serializedRecords.length - firstRecordLength) / 2;
+      CompositeByteBuf content = Unpooled.compositeBuffer()
+          .addComponent(true, Unpooled.wrappedBuffer(serializedRecords, 0, split))
+          .addComponent(true, Unpooled.wrappedBuffer(serializedRecords, split, serializedRecords.length - split));
+      Assert.assertEquals(content.numComponents(), 2);
+
+      VeniceResponseDecompressor responseDecompressor = new VeniceResponseDecompressor(
+          true,
+          routerStats,
+          request,
+          "test-store",
+          1,
+          compressorFactory,
+          rewriteRecordFraming);
+      ContentDecompressResult result =
+          responseDecompressor.decompressMultiGetContent(CompressionStrategy.GZIP, content);
+      Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
+
+      byte[] decompressedRecords = new byte[result.getContent().readableBytes()];
+      result.getContent().readBytes(decompressedRecords);
+      int keyIndex = 0;
+      for (MultiGetResponseRecordV1 record: FastSerializerDeserializerFactory
+          .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.getClassSchema(), MultiGetResponseRecordV1.class)
+          .deserializeObjects(decompressedRecords)) {
+        Assert.assertEquals(record.keyIndex, keyIndex);
+        Assert.assertEquals(record.schemaId, 1);
+        Assert.assertEquals(
+            new String(ByteUtils.extractByteArray(record.value), StandardCharsets.UTF_8),
+            "value_" + keyIndex);
+        keyIndex++;
+      }
+      Assert.assertEquals(keyIndex, 2);
+    }
+  }
+
+  /**
+   * A multi-get record whose value length is negative, or goes past the end of the content, should fail the request
+   * with BAD_GATEWAY rather than an unchecked exception out of the decompression.
+   */
+  @Test
+  public void testRouterRejectsInvalidMultiGetValueLength() {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "storage/test-store_v1",
+        System.currentTimeMillis(),
+        100000);
+
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(any());
+    RouterExceptionAndTrackingUtils.setRouterStats(routerStats);
+
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VeniceResponseDecompressor responseDecompressor =
+          new VeniceResponseDecompressor(true, routerStats, request, "test-store", 1, compressorFactory, true);
+      for (long valueLength: new long[] { -5, 5, 1000, 1L << 32 }) {
+        ByteBuf content = Unpooled.buffer();
+        // Key index, value length, 3 value bytes and schema id
+        content.writeByte(0);
+        long n = (valueLength << 1) ^ (valueLength >> 63);
+        while ((n & ~0x7FL) != 0) {
+          content.writeByte((int) ((n & 0x7f) | 0x80));
+          n >>>= 7;
+        }
+        content.writeByte((int) n);
+        content.writeBytes(new byte[] { 1, 2, 3 });
+        content.writeByte(2);
+
+        VeniceException e = Assert.expectThrows(
+            VeniceException.class,
+            () -> responseDecompressor.decompressMultiGetContent(CompressionStrategy.GZIP, content));
+        Assert.assertTrue(e.getMessage().contains("Invalid length " + valueLength), e.getMessage());
+      }
+      verify(stats, times(4)).recordUnhealthyRequest(eq("test-store"));
+    }
+  }
 }
@@ -1,8 +1,10 @@
 package com.linkedin.venice.router.api.path;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
+import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.router.api.RouterKey;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
@@ -11,6 +13,8 @@ import com.linkedin.venice.utils.Time;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import javax.annotation.Nonnull;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.testng.annotations.Test;
@@ -159,4 +163,25 @@ public class TestVenicePath {
     assertFalse(retryPath2.isRetryRequestTooLate());
     assertTrue(retryPath2.canRequestStorageNode(STORAGE_NODE1));
   }
+
+  @Test
+  public void testReadTraceHeaderIsForwarded() {
+    TestMockTime time = new TestMockTime();
+    SmartRetryVenicePath path = new SmartRetryVenicePath(time);
+    Map<String, String> headers = new HashMap<>();
+    path.setupVeniceHeaders(headers::put);
+    assertFalse(headers.containsKey(HttpConstants.VENICE_READ_TRACE));
+
+    path.setReadTraceRequested();
+    path.setupVeniceHeaders(headers::put);
+    assertEquals(headers.get(HttpConstants.VENICE_READ_TRACE), "1");
+
+    // The sub-requests and the retries of a traced request are traced too
+    SmartRetryVenicePath retryPath = new SmartRetryVenicePath(time);
+    retryPath.setupRetryRelatedInfo(path);
+    assertTrue(retryPath.isReadTraceRequested());
+    Map<String, String> retryHeaders = new HashMap<>();
+    retryPath.setupVeniceHeaders(retryHeaders::put);
+    assertEquals(retryHeaders.get(HttpConstants.VENICE_READ_TRACE), "1");
+  }
 }
@@ -0,0 +1,215 @@
+package com.linkedin.venice.router.httpclient;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.utils.SslUtils;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
+import io.netty.handler.codec.http2.DefaultHttp2ResetFrame;
+import io.netty.handler.codec.http2.Http2Error;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2FrameStream;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.ReferenceCountUtil;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+
+public class TestNettyHttp2StorageNodeClient {
+  private static final String CANCELLED_LOCATION = "cancelled";
+
+  private NioEventLoopGroup serverEventLoopGroup;
+  private NioEventLoopGroup clientEventLoopGroup;
+  private Channel serverChannel;
+  private Instance storageNode;
+  private NettyHttp2StorageNodeClient client;
+
+  @BeforeClass
+  public void setUp() throws InterruptedException {
+    SSLFactory sslFactory = SslUtils.getVeniceLocalSslFactory();
+    SslContext serverSslContext = new JdkSslContext(
+        sslFactory.getSSLContext(),
+        false,
+        null,
+        IdentityCipherSuiteFilter.INSTANCE,
+        new ApplicationProtocolConfig(
+            ApplicationProtocolConfig.Protocol.ALPN,
+            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+            ApplicationProtocolNames.HTTP_2),
+        ClientAuth.NONE,
+        null,
+        false);
+    serverEventLoopGroup = new NioEventLoopGroup(1);
+    serverChannel = new ServerBootstrap().group(serverEventLoopGroup)
+        .channel(NioServerSocketChannel.class)
+        .childHandler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel ch) {
+            ch.pipeline()
+                .addLast(serverSslContext.newHandler(ch.alloc()))
+                .addLast(Http2FrameCodecBuilder.forServer().build())
+                .addLast(new StorageNodeHandler());
+          }
+        })
+        .bind("localhost", 0)
+        .sync()
+        .channel();
+    int port = ((InetSocketAddress) serverChannel.localAddress()).getPort();
+    storageNode = new Instance("localhost_" + port, "localhost", port);
+
+    VeniceRouterConfig routerConfig = mock(VeniceRouterConfig.class);
+    doReturn(10).when(routerConfig).getMaxOutgoingConn();
+    doReturn(2).when(routerConfig).getMaxOutgoingConnPerRoute();
+    doReturn(10000).when(routerConfig).getSocketTimeout();
+    doReturn(10000).when(routerConfig).getConnectionTimeout();
+    doReturn(100).when(routerConfig).getHttp2MaxConcurrentStreams();
+    doReturn(16384).when(routerConfig).getHttp2MaxFrameSize();
+    doReturn(8 * 1024 * 1024).when(routerConfig).getHttp2InitialWindowSize();
+    doReturn(4096).when(routerConfig).getHttp2HeaderTableSize();
+    doReturn(8192).when(routerConfig).getHttp2MaxHeaderListSize();
+    clientEventLoopGroup = new NioEventLoopGroup(2);
+    client = new NettyHttp2StorageNodeClient(
+        routerConfig,
+        Optional.of(sslFactory),
+        clientEventLoopGroup,
+        NioSocketChannel.class);
+    client.start();
+  }
+
+  @AfterClass
+  public void cleanUp() {
+    if (client != null) {
+      client.close();
+    }
+    if (serverChannel != null) {
+      serverChannel.close().syncUninterruptibly();
+    }
+    if (clientEventLoopGroup != null) {
+      clientEventLoopGroup.shutdownGracefully();
+    }
+    if (serverEventLoopGroup != null) {
+      serverEventLoopGroup.shutdownGracefully();
+    }
+  }
+
+  @Test(timeOut = 30 * 1000)
+  public void testQuery() throws Exception {
+    CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+    client.query(
+        storageNode,
+        getPath("storage/test_store_v1/0/key"),
+        responseFuture::complete,
+        responseFuture::completeExceptionally,
+        () -> responseFuture.cancel(false));
+    PortableHttpResponse response = responseFuture.get(10, TimeUnit.SECONDS);
+    Assert.assertEquals(response.getStatusCode(), HttpResponseStatus.OK.code());
+    // The content made of several data frames is handed over as it was received
+    ByteBuf content = response.getContentInByteBuf();
+    try {
+      Assert.assertEquals(content.toString(StandardCharsets.UTF_8), "/storage/test_store_v1/0/key");
+    } finally {
+      content.release();
+    }
+  }
+
+  @Test(timeOut = 30 * 1000)
+  public void testSendRequest() throws Exception {
+    CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+    client.sendRequest(
+        new VeniceMetaDataRequest(storageNode, "metadata/test_store", HttpMethod.GET.name(), true),
+        responseFuture);
+    PortableHttpResponse response = responseFuture.get(10, TimeUnit.SECONDS);
+    Assert.assertEquals(response.getStatusCode(), HttpResponseStatus.OK.code());
+    ByteBuf content = response.getContentInByteBuf();
+    try {
+      Assert.assertEquals(content.toString(StandardCharsets.UTF_8), "/metadata/test_store");
+    } finally {
+      content.release();
+    }
+  }
+
+  @Test(timeOut = 30 * 1000)
+  public void testQueryCancelledByStorageNode() throws Exception {
+    CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+    CompletableFuture<Boolean> cancelledFuture = new CompletableFuture<>();
+    client.query(
+        storageNode,
+        getPath(CANCELLED_LOCATION),
+        responseFuture::complete,
+        responseFuture::completeExceptionally,
+        () -> cancelledFuture.complete(true));
+    Assert.assertTrue(cancelledFuture.get(10, TimeUnit.SECONDS));
+    Assert.assertFalse(responseFuture.isDone());
+
+    // The connection remains usable for the following requests
+    testQuery();
+  }
+
+  private static VenicePath getPath(String location) {
+    VenicePath path = mock(VenicePath.class);
+    doReturn(location).when(path).getLocation();
+    doReturn(HttpMethod.GET).when(path).getHttpMethod();
+    return path;
+  }
+
+  /**
+   * Responds with the path of the request, split over two data frames, or resets the stream with the CANCEL error
+   * code when asked to.
+   */
+  private static class StorageNodeHandler extends ChannelInboundHandlerAdapter {
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+      if (!(msg instanceof Http2HeadersFrame)) {
+        ReferenceCountUtil.release(msg);
+        return;
+      }
+      Http2HeadersFrame request = (Http2HeadersFrame) msg;
+      Http2FrameStream stream = request.stream();
+      String path = request.headers().path().toString();
+      if (path.equals("/" + CANCELLED_LOCATION)) {
+        ctx.writeAndFlush(new DefaultHttp2ResetFrame(Http2Error.CANCEL).stream(stream));
+        return;
+      }
+      byte[] body = path.getBytes(StandardCharsets.UTF_8);
+      int half = body.length / 2;
+      ctx.write(
+          new DefaultHttp2HeadersFrame(new DefaultHttp2Headers().status(HttpResponseStatus.OK.codeAsText()))
+              .stream(stream));
+      ctx.write(new DefaultHttp2DataFrame(Unpooled.wrappedBuffer(body, 0, half), false).stream(stream));
+      ctx.writeAndFlush(
+          new DefaultHttp2DataFrame(Unpooled.wrappedBuffer(body, half, body.length - half), true).stream(stream));
+    }
+  }
+}
@@ -19,6 +19,10 @@ import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.service.AbstractVeniceService;
 import com.linkedin.venice.stats.ThreadPoolStats;
+import com.linkedin.venice.utils.NettyTransport;
+import com.linkedin.venice.utils.NettyUtils;
+import com.linkedin.venice.utils.concurrent.ConcurrencyLimitedExecutor;
+import com.linkedin.venice.utils.concurrent.ReadExecutionMode;
 import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
 import io.grpc.ServerInterceptor;
 import io.netty.bootstrap.ServerBootstrap;
@@ -26,14 +30,11 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
-import io.netty.channel.epoll.EpollEventLoopGroup;
-import io.netty.channel.epoll.EpollServerSocketChannel;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
@@ -55,8 +56,9 @@ public class ListenerService extends AbstractVeniceService {
   private VeniceGrpcServer grpcServer;
   private final boolean isGrpcEnabled;
   private final VeniceServerConfig serverConfig;
-  private final ThreadPoolExecutor executor;
-  private final ThreadPoolExecutor computeExecutor;
+  private final ExecutorService executor;
+  private final ExecutorService multiGetExecutor;
+  private final ExecutorService computeExecutor;
   private final ThreadPoolExecutor grpcExecutor;
   private ThreadPoolExecutor sslHandshakeExecutor;
 
@@ -88,17 +90,37 @@ public class ListenerService extends AbstractVeniceService {
     this.isGrpcEnabled = serverConfig.isGrpcEnabled();
     this.grpcPort = serverConfig.getGrpcPort();
 
-    executor = createThreadPool(
-        serverConfig.getRestServiceStorageThreadNum(),
-        "StorageExecutionThread",
-        serverConfig.getDatabaseLookupQueueCapacity());
-    new ThreadPoolStats(metricsRepository, executor, "storage_execution_thread_pool");
+    if (serverConfig.getReadExecutionMode() == ReadExecutionMode.CONCURRENCY_LIMITED) {
+      ThreadPoolExecutor readExecutor = ThreadPoolFactory.createCachedThreadPool("StorageReadThread");
+      new ThreadPoolStats(metricsRepository, readExecutor, "storage_read_thread_pool");
+      executor = new ConcurrencyLimitedExecutor(
+          readExecutor,
+          serverConfig.getSingleGetConcurrencyLimit(),
+          serverConfig.getDatabaseLookupQueueCapacity());
+      multiGetExecutor = new ConcurrencyLimitedExecutor(
+          readExecutor,
+          serverConfig.getMultiGetConcurrencyLimit(),
+          serverConfig.getDatabaseLookupQueueCapacity());
+      computeExecutor = new ConcurrencyLimitedExecutor(
+          readExecutor,
+          serverConfig.getComputeConcurrencyLimit(),
+          serverConfig.getComputeQueueCapacity());
+    } else {
+      ThreadPoolExecutor storageExecutor = createThreadPool(
+          serverConfig.getRestServiceStorageThreadNum(),
+          "StorageExecutionThread",
+          serverConfig.getDatabaseLookupQueueCapacity());
+      new ThreadPoolStats(metricsRepository, storageExecutor, "storage_execution_thread_pool");
+      executor = storageExecutor;
+      multiGetExecutor = storageExecutor;
 
-    computeExecutor = createThreadPool(
-        serverConfig.getServerComputeThreadNum(),
-        "StorageComputeThread",
-        serverConfig.getComputeQueueCapacity());
-    new ThreadPoolStats(metricsRepository, computeExecutor, "storage_compute_thread_pool");
+      ThreadPoolExecutor storageComputeExecutor = createThreadPool(
+          serverConfig.getServerComputeThreadNum(),
+          "StorageComputeThread",
+          serverConfig.getComputeQueueCapacity());
+      new ThreadPoolStats(metricsRepository, storageComputeExecutor, "storage_compute_thread_pool");
+      computeExecutor = storageComputeExecutor;
+    }
 
     if (sslFactory.isPresent() && serverConfig.getSslHandshakeThreadPoolSize() > 0) {
       this.sslHandshakeExecutor = createThreadPool(
@@ -110,6 +132,7 @@ public class ListenerService extends AbstractVeniceService {
 
     StorageReadRequestHandler requestHandler = createRequestHandler(
         executor,
+        multiGetExecutor,
         computeExecutor,
         storageEngineRepository,
         storeMetadataRepository,
@@ -136,25 +159,13 @@ public class ListenerService extends AbstractVeniceService {
         storeAccessController,
         requestHandler);
 
-    Class<? extends ServerChannel> serverSocketChannelClass = NioServerSocketChannel.class;
-    boolean epollEnabled = serverConfig.isRestServiceEpollEnabled();
-    if (epollEnabled) {
-      try {
-        bossGroup = new EpollEventLoopGroup(1);
-        workerGroup = new EpollEventLoopGroup(serverConfig.getNettyWorkerThreadCount()); // if 0, defaults to 2*cpu
-                                                                                         // count
-        serverSocketChannelClass = EpollServerSocketChannel.class;
-        LOGGER.info("Epoll is enabled in Server Rest Service");
-      } catch (LinkageError error) {
-        LOGGER.info("Epoll is only supported on Linux; switching to NIO for Server Rest Service", error);
-        epollEnabled = false;
-      }
-    }
-    if (!epollEnabled) {
-      bossGroup = new NioEventLoopGroup(1);
-      workerGroup = new NioEventLoopGroup(serverConfig.getNettyWorkerThreadCount()); // if 0, defaults to 2*cpu count
-      serverSocketChannelClass = NioServerSocketChannel.class;
-    }
+    NettyTransport transport = NettyUtils
+        .resolveTransport(serverConfig.isRestServiceIoUringEnabled(), serverConfig.isRestServiceEpollEnabled());
+    LOGGER.info("Server Rest Service will use Netty transport: {}", transport);
+    bossGroup = transport.newEventLoopGroup(1, null);
+    // if 0, defaults to 2*cpu count
+    workerGroup = transport.newEventLoopGroup(serverConfig.getNettyWorkerThreadCount(), null);
+    Class<? extends ServerChannel> serverSocketChannelClass = transport.getServerSocketChannelClass();
     bootstrap = new ServerBootstrap();
     bootstrap.group(bossGroup, workerGroup)
         .channel(serverSocketChannelClass)
@@ -224,8 +235,9 @@ public class ListenerService extends AbstractVeniceService {
   }
 
   protected StorageReadRequestHandler createRequestHandler(
-      ThreadPoolExecutor executor,
-      ThreadPoolExecutor computeExecutor,
+      ExecutorService executor,
+      ExecutorService multiGetExecutor,
+      ExecutorService computeExecutor,
       StorageEngineRepository storageEngineRepository,
       ReadOnlyStoreRepository metadataRepository,
       ReadOnlySchemaRepository schemaRepository,
@@ -239,6 +251,7 @@ public class ListenerService extends AbstractVeniceService {
       Optional<ResourceReadUsageTracker> resourceReadUsageTracker) {
     return new StorageReadRequestHandler(
         executor,
+        multiGetExecutor,
         computeExecutor,
         storageEngineRepository,
         metadataRepository,
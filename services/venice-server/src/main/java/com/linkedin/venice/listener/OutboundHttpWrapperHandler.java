@@ -17,7 +17,9 @@ import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.listener.response.BinaryResponse;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
+import com.linkedin.venice.read.ReadTrace;
 import com.linkedin.venice.utils.ExceptionUtils;
+import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.ObjectMapperFactory;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
@@ -52,6 +54,7 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
     int responseRcu = 1;
     CompressionStrategy compressionStrategy = CompressionStrategy.NO_OP;
     boolean isStreamingResponse = false;
+    ReadTrace readTrace = null;
     try {
       if (msg instanceof ReadResponse) {
         ReadResponse obj = (ReadResponse) msg;
@@ -59,15 +62,23 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
         setStats(statsContext, obj);
 
         compressionStrategy = obj.getCompressionStrategy();
+        readTrace = obj.getReadTrace();
         if (obj.isFound()) {
+          long serializationStartTimeInNS = (readTrace != null) ? System.nanoTime() : 0;
           body = obj.getResponseBody();
           schemaIdHeader = obj.getResponseSchemaIdHeader();
+          if (readTrace != null) {
+            readTrace.add(ReadTrace.Stage.SERIALIZATION, LatencyUtils.getLatencyInMS(serializationStartTimeInNS));
+          }
         } else {
           body = Unpooled.EMPTY_BUFFER;
           responseStatus = NOT_FOUND;
         }
         isStreamingResponse = obj.isStreamingResponse();
         responseRcu = obj.getRCU();
+        if (readTrace != null) {
+          completeReadTrace(readTrace, obj);
+        }
       } else if (msg instanceof HttpShortcutResponse) {
         // For Early terminated requests
         HttpShortcutResponse shortcutResponse = (HttpShortcutResponse) msg;
@@ -157,6 +168,7 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
       }
     } catch (Exception e) {
       responseStatus = INTERNAL_SERVER_ERROR;
+      readTrace = null;
       body = Unpooled.wrappedBuffer(
           ("Internal Server Error:\n\n" + ExceptionUtils.stackTraceToString(e) + "\n(End of server-side stacktrace)\n")
               .getBytes(StandardCharsets.UTF_8));
@@ -174,6 +186,9 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
     if (isStreamingResponse) {
       response.headers().set(HttpConstants.VENICE_STREAMING_RESPONSE, "1");
     }
+    if (readTrace != null) {
+      response.headers().set(HttpConstants.VENICE_READ_TRACE, readTrace.toHeaderValue());
+    }
 
     /** {@link io.netty.handler.timeout.IdleStateHandler} is in charge of detecting the state
      *  of connection, and {@link RouterRequestHttpHandler} will close the connection if necessary.
@@ -200,5 +215,30 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
     statsContext.setValueSizeList(obj.getValueSizeList());
     statsContext.setValueSize(obj.getValueSize());
     statsContext.setReadComputeOutputSize(obj.getReadComputeOutputSize());
+    statsContext.setReadTrace(obj.getReadTrace());
+  }
+
+  /**
+   * Adds to the trace of a request the stages which are measured for every request, as they are only broken down
+   * further for the traced ones: the chunk assembly is a part of the database lookup latency, and the decompression a
+   * part of the read compute deserialization latency.
+   */
+  static void completeReadTrace(ReadTrace readTrace, ReadResponse response) {
+    // Not measured for the batch gets whose chunks are submitted to the executor in parallel
+    if (response.getStorageExecutionHandlerSubmissionWaitTime() >= 0) {
+      readTrace.add(ReadTrace.Stage.QUEUE, response.getStorageExecutionHandlerSubmissionWaitTime());
+    }
+    if (response.getDatabaseLookupLatency() >= 0) {
+      double chunkAssemblyLatency = Math.max(readTrace.get(ReadTrace.Stage.CHUNK_ASSEMBLY), 0);
+      readTrace.add(ReadTrace.Stage.LOOKUP, Math.max(response.getDatabaseLookupLatency() - chunkAssemblyLatency, 0));
+    }
+    if (response.getReadComputeDeserializationLatency() >= 0) {
+      double decompressionLatency = Math.max(readTrace.get(ReadTrace.Stage.DECOMPRESSION), 0);
+      readTrace.add(
+          ReadTrace.Stage.DESERIALIZATION,
+          Math.max(response.getReadComputeDeserializationLatency() - decompressionLatency, 0));
+    }
+    readTrace.add(ReadTrace.Stage.COMPUTE, response.getReadComputeLatency());
+    readTrace.add(ReadTrace.Stage.SERIALIZATION, response.getReadComputeSerializationLatency());
   }
 }
@@ -190,6 +190,10 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
 
   @Override
   public void channelRead0(ChannelHandlerContext ctx, RouterRequest request) {
+    if (request.getReadTrace() != null) {
+      // The check ends when the request reaches the StorageReadRequestHandler, which runs in the same thread
+      request.setQuotaCheckStartTimeInNS(System.nanoTime());
+    }
     String storeName = request.getStoreName();
     Store store = storeRepository.getStore(storeName);
 
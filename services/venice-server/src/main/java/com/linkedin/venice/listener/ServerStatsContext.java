@@ -2,6 +2,7 @@ package com.linkedin.venice.listener;
 
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.listener.request.RouterRequest;
+import com.linkedin.venice.read.ReadTrace;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.stats.AggServerHttpRequestStats;
 import com.linkedin.venice.stats.ServerHttpRequestStats;
@@ -42,6 +43,7 @@ public class ServerStatsContext {
 
   private int valueSize = 0;
   private int readComputeOutputSize = 0;
+  private ReadTrace readTrace = null;
 
   private final AggServerHttpRequestStats singleGetStats;
   private final AggServerHttpRequestStats multiGetStats;
@@ -157,6 +159,7 @@ public class ServerStatsContext {
     isRequestTerminatedEarly = false;
     isComplete = false;
     isMisroutedStoreVersion = false;
+    readTrace = null;
 
     newRequest = false;
   }
@@ -380,6 +383,9 @@ public class ServerStatsContext {
       if (readComputeOutputSize > 0) {
         serverHttpRequestStats.recordReadComputeEfficiency((double) valueSize / readComputeOutputSize);
       }
+      if (readTrace != null) {
+        serverHttpRequestStats.recordReadTrace(readTrace);
+      }
     }
   }
 
@@ -420,6 +426,10 @@ public class ServerStatsContext {
     this.readComputeOutputSize = size;
   }
 
+  public void setReadTrace(ReadTrace readTrace) {
+    this.readTrace = readTrace;
+  }
+
   public int getRequestKeyCount() {
     return requestKeyCount;
   }
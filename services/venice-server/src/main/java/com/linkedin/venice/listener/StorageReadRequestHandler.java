@@ -47,9 +47,11 @@ import com.linkedin.venice.meta.PartitionerConfig;
 import com.linkedin.venice.meta.PartitionerConfigImpl;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.ServerAdminAction;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.read.ReadTrace;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
@@ -69,6 +71,7 @@ import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
 import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.concurrent.ConcurrencyLimitedExecutor;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
@@ -101,8 +104,10 @@ import org.apache.logging.log4j.Logger;
 
 /***
  * {@link StorageReadRequestHandler} will take the incoming read requests from router{@link RouterRequest}, and delegate
- * the lookup request to a thread pool {@link #executor}, which is being shared by all the requests. Especially, this
- * handler will execute parallel lookups for {@link MultiGetRouterRequestWrapper}.
+ * the lookup request to the executor of its request type, i.e. {@link #executor}, {@link #multiGetExecutor} or
+ * {@link #computeExecutor}, which are either fixed-size thread pools, with the single get and multi get requests
+ * sharing the same one, or {@link ConcurrencyLimitedExecutor}s sharing a thread pool. Especially, this handler will
+ * execute parallel lookups for {@link MultiGetRouterRequestWrapper}.
  */
 @ChannelHandler.Sharable
 public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
@@ -110,8 +115,9 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private static final RedundantExceptionFilter REDUNDANT_LOGGING_FILTER =
       RedundantExceptionFilter.getRedundantExceptionFilter();
   private final DiskHealthCheckService diskHealthCheckService;
-  private final ThreadPoolExecutor executor;
-  private final ThreadPoolExecutor computeExecutor;
+  private final ExecutorService executor;
+  private final ExecutorService multiGetExecutor;
+  private final ExecutorService computeExecutor;
   private final StorageEngineRepository storageEngineRepository;
   private final ReadOnlyStoreRepository metadataRepository;
   private final ReadOnlySchemaRepository schemaRepository;
@@ -186,8 +192,9 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private final ThreadLocal<ReusableObjects> threadLocalReusableObjects = ThreadLocal.withInitial(ReusableObjects::new);
 
   public StorageReadRequestHandler(
-      ThreadPoolExecutor executor,
-      ThreadPoolExecutor computeExecutor,
+      ExecutorService executor,
+      ExecutorService multiGetExecutor,
+      ExecutorService computeExecutor,
       StorageEngineRepository storageEngineRepository,
       ReadOnlyStoreRepository metadataStoreRepository,
       ReadOnlySchemaRepository schemaRepository,
@@ -201,6 +208,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       StorageEngineBackedCompressorFactory compressorFactory,
       Optional<ResourceReadUsageTracker> resourceReadUsageTracker) {
     this.executor = executor;
+    this.multiGetExecutor = multiGetExecutor;
     this.computeExecutor = computeExecutor;
     this.storageEngineRepository = storageEngineRepository;
     this.metadataRepository = metadataStoreRepository;
@@ -247,6 +255,12 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     if (message instanceof RouterRequest) {
       RouterRequest request = (RouterRequest) message;
       resourceReadUsageTracker.ifPresent(tracker -> tracker.recordReadUsage(request.getResourceName()));
+      ReadTrace readTrace = request.getReadTrace();
+      if (readTrace != null && request.getQuotaCheckStartTimeInNS() >= 0) {
+        readTrace.add(
+            ReadTrace.Stage.QUOTA,
+            LatencyUtils.convertLatencyFromNSToMS(preSubmissionTimeNs - request.getQuotaCheckStartTimeInNS()));
+      }
       // Check before putting the request to the intermediate queue
       if (request.shouldRequestBeTerminatedEarly()) {
         // Try to make the response short
@@ -294,14 +308,14 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         return;
       }
 
-      final ThreadPoolExecutor executor = getExecutor(request.getRequestType());
+      final ExecutorService executor = getExecutor(request.getRequestType());
       executor.submit(() -> {
         try {
           if (request.shouldRequestBeTerminatedEarly()) {
             throw new VeniceRequestEarlyTerminationException(request.getStoreName());
           }
           double submissionWaitTime = LatencyUtils.getLatencyInMS(preSubmissionTimeNs);
-          int queueLen = executor.getQueue().size();
+          int queueLen = getQueueLen(executor);
           ReadResponse response;
           switch (request.getRequestType()) {
             case SINGLE_GET:
@@ -416,11 +430,12 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     return misrouted;
   }
 
-  private ThreadPoolExecutor getExecutor(RequestType requestType) {
+  private ExecutorService getExecutor(RequestType requestType) {
     switch (requestType) {
       case SINGLE_GET:
-      case MULTI_GET:
         return executor;
+      case MULTI_GET:
+        return multiGetExecutor;
       case COMPUTE:
         return computeExecutor;
       default:
@@ -428,6 +443,16 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     }
   }
 
+  private static int getQueueLen(ExecutorService executor) {
+    if (executor instanceof ConcurrencyLimitedExecutor) {
+      return ((ConcurrencyLimitedExecutor) executor).getPendingTaskCount();
+    }
+    if (executor instanceof ThreadPoolExecutor) {
+      return ((ThreadPoolExecutor) executor).getQueue().size();
+    }
+    return 0;
+  }
+
   private int getSubPartitionId(int userPartition, byte[] keyBytes, PerStoreVersionState perStoreVersionState) {
     int ampFactor = perStoreVersionState.partitionerConfig.getAmplificationFactor();
     if (ampFactor == 1) {
@@ -524,6 +549,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     StorageResponseObject response = new StorageResponseObject();
     response.setCompressionStrategy(storageEngine.getCompressionStrategy());
     response.setDatabaseLookupLatency(0);
+    response.setReadTrace(request.getReadTrace());
 
     ValueRecord valueRecord = SingleGetChunkingAdapter.get(storageEngine, subPartition, key, isChunked, response);
     response.setValueRecord(valueRecord);
@@ -547,6 +573,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(request.getKeyCount());
     responseWrapper.setCompressionStrategy(storageEngine.getCompressionStrategy());
     responseWrapper.setDatabaseLookupLatency(0);
+    responseWrapper.setReadTrace(request.getReadTrace());
     boolean isChunked = storageEngine.isChunked();
 
     ExecutorService executorService = getExecutor(RequestType.MULTI_GET);
@@ -631,6 +658,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(request.getKeyCount());
     responseWrapper.setCompressionStrategy(storageEngine.getCompressionStrategy());
     responseWrapper.setDatabaseLookupLatency(0);
+    responseWrapper.setReadTrace(request.getReadTrace());
     boolean isChunked = storageEngine.isChunked();
     for (MultiGetRouterRequestKeyV1 key: keys) {
       int subPartitionId = getSubPartitionId(key.partitionId, key.keyBytes, perStoreVersionState);
@@ -680,6 +708,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     reusableObjects.computeContext.clear();
 
     ComputeResponseWrapper response = new ComputeResponseWrapper(request.getKeyCount());
+    response.setReadTrace(request.getReadTrace());
     List<ComputeOperation> operations = request.getComputeRequest().getOperations();
     List<Schema.Field> operationResultFields = ComputeUtils.getOperationResultFields(operations, resultSchema);
     int hits = 0;
@@ -848,6 +877,13 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         ComplementSet<Integer> partitions =
             (partitionId == null) ? ComplementSet.universalSet() : ComplementSet.of(partitionId);
         return ingestionMetadataRetriever.getConsumptionSnapshots(topicName, partitions);
+      case ENABLE_INGESTION_STAGE_SAMPLING:
+      case DISABLE_INGESTION_STAGE_SAMPLING:
+        Integer samplingPartitionId = adminRequest.getPartition();
+        return ingestionMetadataRetriever.setIngestionStageSampling(
+            adminRequest.getStoreVersion(),
+            (samplingPartitionId == null) ? ComplementSet.universalSet() : ComplementSet.of(samplingPartitionId),
+            adminRequest.getServerAdminAction() == ServerAdminAction.ENABLE_INGESTION_STAGE_SAMPLING);
       case DUMP_SERVER_CONFIGS:
         AdminResponse configResponse = new AdminResponse();
         if (this.serverConfig == null) {
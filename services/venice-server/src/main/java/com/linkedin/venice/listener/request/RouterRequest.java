@@ -2,6 +2,7 @@ package com.linkedin.venice.listener.request;
 
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.read.ReadTrace;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.streaming.StreamingUtils;
 import io.netty.handler.codec.http.HttpRequest;
@@ -21,9 +22,12 @@ public abstract class RouterRequest {
   private final String resourceName;
   private final String storeName;
   private final boolean isStreamingRequest;
+  private final ReadTrace readTrace;
+  private long quotaCheckStartTimeInNS = -1;
 
   public RouterRequest(String resourceName, HttpRequest request) {
     this.isRetryRequest = containRetryHeader(request);
+    this.readTrace = request.headers().contains(HttpConstants.VENICE_READ_TRACE) ? new ReadTrace() : null;
     this.isStreamingRequest = StreamingUtils.isStreamingEnabled(request);
     this.resourceName = resourceName;
     this.storeName = Version.parseStoreFromKafkaTopicName(resourceName);
@@ -34,6 +38,7 @@ public abstract class RouterRequest {
     this.storeName = Version.parseStoreFromKafkaTopicName(resourceName);
     this.isRetryRequest = isRetryRequest;
     this.isStreamingRequest = isStreamingRequest;
+    this.readTrace = null;
   }
 
   public void setRequestTimeoutInNS(long requestTimeoutInNS) {
@@ -60,6 +65,24 @@ public abstract class RouterRequest {
     return isStreamingRequest;
   }
 
+  /**
+   * @return the trace of the request if the router or the client asked for one, or null otherwise.
+   */
+  public ReadTrace getReadTrace() {
+    return readTrace;
+  }
+
+  public void setQuotaCheckStartTimeInNS(long quotaCheckStartTimeInNS) {
+    this.quotaCheckStartTimeInNS = quotaCheckStartTimeInNS;
+  }
+
+  /**
+   * @return when the read quota enforcement of a traced request started, or -1 if it did not go through it.
+   */
+  public long getQuotaCheckStartTimeInNS() {
+    return quotaCheckStartTimeInNS;
+  }
+
   private static boolean containRetryHeader(HttpRequest request) {
     return request.headers().contains(HttpConstants.VENICE_RETRY);
   }
@@ -1,5 +1,6 @@
 package com.linkedin.venice.stats;
 
+import com.linkedin.venice.read.ReadTrace;
 import com.linkedin.venice.read.RequestType;
 import io.tehuti.metrics.MeasurableStat;
 import io.tehuti.metrics.MetricsRepository;
@@ -59,6 +60,13 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor successRequestKeyRatioSensor, successRequestRatioSensor;
   private final Sensor misroutedStoreVersionSensor;
 
+  private final ServerHttpRequestStats totalStats;
+  /**
+   * The latency of each {@link ReadTrace.Stage} of the traced requests, indexed by stage ordinal. Since the requests
+   * only get traced when a client asks for it, the histograms are only registered once the first trace is recorded.
+   */
+  private volatile ConcurrentHistogram[] readTraceStageLatencyHistograms = null;
+
   private static final MetricsRepository dummySystemStoreMetricRepo = new MetricsRepository();
 
   public ServerHttpRequestStats(
@@ -69,6 +77,7 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
       ServerHttpRequestStats totalStats,
       boolean isDaVinciClient) {
     super(isDaVinciClient ? dummySystemStoreMetricRepo : metricsRepository, storeName, requestType);
+    this.totalStats = totalStats;
 
     /**
      * Check java doc of function: {@link TehutiUtils.RatioStat} to understand why choosing {@link Rate} instead of
@@ -442,4 +451,40 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   public void recordMisroutedStoreVersionRequest() {
     misroutedStoreVersionSensor.record();
   }
+
+  public void recordReadTrace(ReadTrace readTrace) {
+    recordReadTraceStageLatencies(readTrace);
+    if (totalStats != null) {
+      totalStats.recordReadTraceStageLatencies(readTrace);
+    }
+  }
+
+  private void recordReadTraceStageLatencies(ReadTrace readTrace) {
+    ConcurrentHistogram[] histograms = getReadTraceStageLatencyHistograms();
+    for (ReadTrace.Stage stage: ReadTrace.Stage.values()) {
+      double latency = readTrace.get(stage);
+      if (latency >= 0) {
+        histograms[stage.ordinal()].record(latency);
+      }
+    }
+  }
+
+  private ConcurrentHistogram[] getReadTraceStageLatencyHistograms() {
+    ConcurrentHistogram[] histograms = readTraceStageLatencyHistograms;
+    if (histograms == null) {
+      synchronized (this) {
+        histograms = readTraceStageLatencyHistograms;
+        if (histograms == null) {
+          ReadTrace.Stage[] stages = ReadTrace.Stage.values();
+          histograms = new ConcurrentHistogram[stages.length];
+          for (ReadTrace.Stage stage: stages) {
+            histograms[stage.ordinal()] =
+                registerConcurrentHistogram("read_trace_" + stage.getName() + "_latency", 50, 95, 99);
+          }
+          readTraceStageLatencyHistograms = histograms;
+        }
+      }
+    }
+    return histograms;
+  }
 }
@@ -18,9 +18,14 @@ import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.utils.concurrent.BlockingQueueType;
+import com.linkedin.venice.utils.concurrent.ConcurrencyLimitedExecutor;
+import com.linkedin.venice.utils.concurrent.ReadExecutionMode;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -90,4 +95,99 @@ public class ListenerServiceTest {
     // dummy method call
     listenerService.getName();
   }
+
+  @Test
+  public void testReadExecutionMode() {
+    ExecutorService[] executors = createReadExecutors();
+    try {
+      Assert.assertTrue(executors[0] instanceof ThreadPoolExecutor);
+      // Single gets and multi gets share the storage thread pool
+      Assert.assertSame(executors[1], executors[0]);
+      Assert.assertTrue(executors[2] instanceof ThreadPoolExecutor);
+      Assert.assertNotSame(executors[2], executors[0]);
+    } finally {
+      shutdown(executors);
+    }
+
+    doReturn(ReadExecutionMode.CONCURRENCY_LIMITED).when(serverConfig).getReadExecutionMode();
+    doReturn(5).when(serverConfig).getSingleGetConcurrencyLimit();
+    doReturn(5).when(serverConfig).getMultiGetConcurrencyLimit();
+    doReturn(10).when(serverConfig).getComputeConcurrencyLimit();
+    executors = createReadExecutors();
+    try {
+      for (ExecutorService executor: executors) {
+        Assert.assertTrue(executor instanceof ConcurrencyLimitedExecutor);
+      }
+      Assert.assertNotSame(executors[1], executors[0]);
+      Assert.assertNotSame(executors[2], executors[0]);
+      Assert.assertNotSame(executors[2], executors[1]);
+    } finally {
+      shutdown(executors);
+    }
+  }
+
+  /**
+   * @return the single get, multi get and compute executors which the listener service hands to the request handler.
+   */
+  private ExecutorService[] createReadExecutors() {
+    ExecutorService[] executors = new ExecutorService[3];
+    new ListenerService(
+        storageEngineRepository,
+        storeMetadataRepository,
+        schemaRepository,
+        cvRepository,
+        ingestionMetadataRetriever,
+        readMetadataRetriever,
+        serverConfig,
+        metricsRepository,
+        sslFactory,
+        routerAccessController,
+        storeAccessController,
+        diskHealthService,
+        compressorFactory,
+        resourceReadUsageTracker) {
+      @Override
+      protected StorageReadRequestHandler createRequestHandler(
+          ExecutorService executor,
+          ExecutorService multiGetExecutor,
+          ExecutorService computeExecutor,
+          StorageEngineRepository storageEngineRepository,
+          ReadOnlyStoreRepository metadataRepository,
+          ReadOnlySchemaRepository schemaRepository,
+          IngestionMetadataRetriever ingestionMetadataRetriever,
+          ReadMetadataRetriever readMetadataRetriever,
+          DiskHealthCheckService diskHealthService,
+          boolean fastAvroEnabled,
+          boolean parallelBatchGetEnabled,
+          int parallelBatchGetChunkSize,
+          StorageEngineBackedCompressorFactory compressorFactory,
+          Optional<ResourceReadUsageTracker> resourceReadUsageTracker) {
+        executors[0] = executor;
+        executors[1] = multiGetExecutor;
+        executors[2] = computeExecutor;
+        return super.createRequestHandler(
+            executor,
+            multiGetExecutor,
+            computeExecutor,
+            storageEngineRepository,
+            metadataRepository,
+            schemaRepository,
+            ingestionMetadataRetriever,
+            readMetadataRetriever,
+            diskHealthService,
+            fastAvroEnabled,
+            parallelBatchGetEnabled,
+            parallelBatchGetChunkSize,
+            compressorFactory,
+            resourceReadUsageTracker);
+      }
+    };
+    return executors;
+  }
+
+  private static void shutdown(ExecutorService[] executors) {
+    for (ExecutorService executor: executors) {
+      executor.shutdownNow();
+    }
+  }
 }
@@ -19,7 +19,10 @@ import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.listener.grpc.GrpcRequestContext;
 import com.linkedin.venice.listener.grpc.handlers.GrpcOutboundResponseHandler;
+import com.linkedin.venice.listener.response.ComputeResponseWrapper;
+import com.linkedin.venice.listener.response.MultiGetResponseWrapper;
 import com.linkedin.venice.protocols.VeniceServerResponse;
+import com.linkedin.venice.read.ReadTrace;
 import com.linkedin.venice.utils.ObjectMapperFactory;
 import io.grpc.stub.StreamObserver;
 import io.netty.buffer.ByteBuf;
@@ -216,6 +219,47 @@ public class OutboundHttpWrapperHandlerTest {
     outboundHttpWrapperHandler.write(mockCtx, msg, null);
   }
 
+  @Test
+  public void testCompleteReadTrace() {
+    ComputeResponseWrapper msg = new ComputeResponseWrapper(1);
+    ReadTrace readTrace = new ReadTrace();
+    msg.setReadTrace(readTrace);
+    msg.setStorageExecutionSubmissionWaitTime(1.0);
+    msg.setDatabaseLookupLatency(5.0);
+    msg.setReadComputeDeserializationLatency(3.0);
+    msg.setReadComputeLatency(4.0);
+    msg.setReadComputeSerializationLatency(0.5);
+    readTrace.add(ReadTrace.Stage.CHUNK_ASSEMBLY, 2.0);
+    readTrace.add(ReadTrace.Stage.DECOMPRESSION, 1.0);
+
+    OutboundHttpWrapperHandler.completeReadTrace(readTrace, msg);
+
+    // The chunk assembly and the decompression are carved out of the lookup and the deserialization
+    Assert.assertEquals(readTrace.get(ReadTrace.Stage.QUEUE), 1.0);
+    Assert.assertEquals(readTrace.get(ReadTrace.Stage.LOOKUP), 3.0);
+    Assert.assertEquals(readTrace.get(ReadTrace.Stage.CHUNK_ASSEMBLY), 2.0);
+    Assert.assertEquals(readTrace.get(ReadTrace.Stage.DECOMPRESSION), 1.0);
+    Assert.assertEquals(readTrace.get(ReadTrace.Stage.DESERIALIZATION), 2.0);
+    Assert.assertEquals(readTrace.get(ReadTrace.Stage.COMPUTE), 4.0);
+    Assert.assertEquals(readTrace.get(ReadTrace.Stage.SERIALIZATION), 0.5);
+    Assert.assertTrue(readTrace.get(ReadTrace.Stage.QUOTA) < 0);
+  }
+
+  @Test
+  public void testCompleteReadTraceWithoutQueueWaitTime() {
+    // The parallel batch get path does not measure the wait in the queue of the executor
+    MultiGetResponseWrapper msg = new MultiGetResponseWrapper(1);
+    ReadTrace readTrace = new ReadTrace();
+    msg.setReadTrace(readTrace);
+    msg.setDatabaseLookupLatency(5.0);
+
+    OutboundHttpWrapperHandler.completeReadTrace(readTrace, msg);
+
+    Assert.assertTrue(readTrace.get(ReadTrace.Stage.QUEUE) < 0);
+    Assert.assertEquals(readTrace.get(ReadTrace.Stage.LOOKUP), 5.0);
+    Assert.assertFalse(readTrace.toHeaderValue().contains(ReadTrace.Stage.QUEUE.getName()));
+  }
+
   private StreamObserver<VeniceServerResponse> getStreamObserver() {
     return new StreamObserver<VeniceServerResponse>() {
       @Override
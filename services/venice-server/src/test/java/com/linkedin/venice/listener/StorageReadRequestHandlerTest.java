@@ -6,6 +6,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyBoolean;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
@@ -74,6 +75,7 @@ import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.partitioner.VenicePartitioner;
 import com.linkedin.venice.protocols.VeniceClientRequest;
 import com.linkedin.venice.protocols.VeniceServerResponse;
+import com.linkedin.venice.read.ReadTrace;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
@@ -88,6 +90,7 @@ import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.streaming.StreamingUtils;
 import com.linkedin.venice.unit.kafka.SimplePartitioner;
+import com.linkedin.venice.utils.ComplementSet;
 import com.linkedin.venice.utils.DataProviderUtils;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
@@ -128,19 +131,23 @@ import org.testng.annotations.Test;
 
 public class StorageReadRequestHandlerTest {
   private static class InlineExecutor extends ThreadPoolExecutor {
+    private final AtomicInteger executedTaskCount = new AtomicInteger();
+
     public InlineExecutor() {
       super(0, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
     }
 
     @Override
     public void execute(Runnable runnable) {
+      executedTaskCount.incrementAndGet();
       runnable.run();
     }
   }
 
   private final ChannelHandlerContext context = mock(ChannelHandlerContext.class);
   private final ArgumentCaptor<Object> argumentCaptor = ArgumentCaptor.forClass(Object.class);
-  private final ThreadPoolExecutor executor = new InlineExecutor();
+  private final InlineExecutor executor = new InlineExecutor();
+  private final InlineExecutor multiGetExecutor = new InlineExecutor();
   private final Store store = mock(Store.class);
   private final Version version = mock(Version.class);
   private final AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
@@ -186,6 +193,8 @@ public class StorageReadRequestHandlerTest {
         readMetadataRetriever,
         serverConfig,
         context);
+    executor.executedTaskCount.set(0);
+    multiGetExecutor.executedTaskCount.set(0);
   }
 
   private StorageReadRequestHandler createStorageReadRequestHandler() {
@@ -197,6 +206,7 @@ public class StorageReadRequestHandlerTest {
       int parallelBatchGetChunkSize) {
     return new StorageReadRequestHandler(
         executor,
+        multiGetExecutor,
         executor,
         storageEngineRepository,
         storeRepository,
@@ -238,6 +248,40 @@ public class StorageReadRequestHandlerTest {
     StorageResponseObject responseObject = (StorageResponseObject) argumentCaptor.getValue();
     assertEquals(responseObject.getValueRecord().getDataInBytes(), valueString.getBytes());
     assertEquals(responseObject.getValueRecord().getSchemaId(), schemaId);
+    assertEquals(executor.executedTaskCount.get(), 1);
+    assertEquals(multiGetExecutor.executedTaskCount.get(), 0);
+  }
+
+  @Test
+  public void testReadTraceStages() throws Exception {
+    String keyString = "test-key";
+    int partition = 2;
+    byte[] valueBytes = ValueRecord.create(1, "test-value".getBytes()).serialize();
+    int subPartition = getSubPartitionId(partition, keyString.getBytes());
+    doReturn(valueBytes).when(storageEngine).get(subPartition, ByteBuffer.wrap(keyString.getBytes()));
+
+    String uri = "/" + TYPE_STORAGE + "/test-topic_v1/" + partition + "/" + keyString;
+    HttpRequest httpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+    httpRequest.headers().set(HttpConstants.VENICE_READ_TRACE, "1");
+    GetRouterRequest request = GetRouterRequest.parseGetHttpRequest(httpRequest);
+    ReadTrace readTrace = request.getReadTrace();
+    Assert.assertNotNull(readTrace);
+    // As set by the ReadQuotaEnforcementHandler
+    request.setQuotaCheckStartTimeInNS(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(1));
+
+    StorageReadRequestHandler requestHandler = createStorageReadRequestHandler();
+    requestHandler.channelRead(context, request);
+
+    verify(context, times(1)).writeAndFlush(argumentCaptor.capture());
+    StorageResponseObject responseObject = (StorageResponseObject) argumentCaptor.getValue();
+    Assert.assertSame(responseObject.getReadTrace(), readTrace);
+    Assert.assertTrue(readTrace.get(ReadTrace.Stage.QUOTA) >= 1, "Unexpected quota stage: " + readTrace);
+    Assert.assertTrue(responseObject.getStorageExecutionHandlerSubmissionWaitTime() >= 0);
+
+    // The stages measured for every request are added when the response is written out
+    OutboundHttpWrapperHandler.completeReadTrace(readTrace, responseObject);
+    Assert.assertTrue(readTrace.get(ReadTrace.Stage.QUEUE) >= 0, "Unexpected queue stage: " + readTrace);
+    Assert.assertTrue(readTrace.get(ReadTrace.Stage.LOOKUP) >= 0, "Unexpected lookup stage: " + readTrace);
   }
 
   @Test
@@ -316,6 +360,9 @@ public class StorageReadRequestHandlerTest {
     for (int i = 0; i < recordCount; i++) {
       assertEquals(results.get(i), allValueStrings.get(i));
     }
+    // Multi gets, and their chunks when they run in parallel, only run on the multi get executor
+    assertEquals(executor.executedTaskCount.get(), 0);
+    assertTrue(multiGetExecutor.executedTaskCount.get() > 0);
   }
 
   @Test
@@ -397,6 +444,40 @@ public class StorageReadRequestHandlerTest {
         AvroProtocolDefinition.SERVER_ADMIN_RESPONSE.getCurrentProtocolVersion());
   }
 
+  @Test
+  public void testIngestionStageSamplingAdminRequests() throws Exception {
+    String topic = "test_store_v1";
+    int partitionId = 3;
+    AdminResponse expectedAdminResponse = new AdminResponse();
+    doReturn(expectedAdminResponse).when(ingestionMetadataRetriever)
+        .setIngestionStageSampling(eq(topic), any(), anyBoolean());
+    StorageReadRequestHandler requestHandler = createStorageReadRequestHandler();
+
+    // [0]""/[1]"action"/[2]"store_version"/[3]"enable_ingestion_stage_sampling"/[4]"partition_id"
+    String uri = "/" + QueryAction.ADMIN.toString().toLowerCase() + "/" + topic + "/"
+        + ServerAdminAction.ENABLE_INGESTION_STAGE_SAMPLING.toString().toLowerCase() + "/" + partitionId;
+    requestHandler.channelRead(
+        context,
+        AdminRequest.parseAdminHttpRequest(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri)));
+    ArgumentCaptor<ComplementSet<Integer>> partitionsCaptor = ArgumentCaptor.forClass(ComplementSet.class);
+    verify(ingestionMetadataRetriever).setIngestionStageSampling(eq(topic), partitionsCaptor.capture(), eq(true));
+    assertTrue(partitionsCaptor.getValue().contains(partitionId));
+    Assert.assertFalse(partitionsCaptor.getValue().contains(partitionId + 1));
+
+    uri = "/" + QueryAction.ADMIN.toString().toLowerCase() + "/" + topic + "/"
+        + ServerAdminAction.DISABLE_INGESTION_STAGE_SAMPLING.toString().toLowerCase();
+    requestHandler.channelRead(
+        context,
+        AdminRequest.parseAdminHttpRequest(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri)));
+    verify(ingestionMetadataRetriever).setIngestionStageSampling(eq(topic), partitionsCaptor.capture(), eq(false));
+    assertTrue(partitionsCaptor.getValue().contains(partitionId + 1));
+
+    verify(context, times(2)).writeAndFlush(argumentCaptor.capture());
+    for (Object response: argumentCaptor.getAllValues()) {
+      Assert.assertSame(response, expectedAdminResponse);
+    }
+  }
+
   @Test
   public void testTopicPartitionIngestionContextRequestsPassInStorageExecutionHandler() throws Exception {
     String topic = "test_store_v1";